@@ -20,6 +20,7 @@ package com.hedera.services;
  * ‍
  */
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.hedera.services.context.ServicesContext;
 import com.hedera.services.context.properties.Profile;
 import com.hedera.services.legacy.proto.utils.CommonUtils;
@@ -43,6 +44,8 @@ import java.nio.charset.StandardCharsets;
 import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 
 import static com.hedera.services.context.SingletonContextsManager.CONTEXTS;
@@ -65,6 +68,13 @@ public class ServicesMain implements SwirldMain {
 	SystemExits systemExits = new JvmSystemExits();
 	Supplier<Charset> defaultCharset = Charset::defaultCharset;
 	ServicesContext ctx;
+	AtomicBoolean accountsExportPending = new AtomicBoolean(false);
+	Executor accountsExportExecutor = task -> new ThreadFactoryBuilder()
+			.setNameFormat("accountsExporter")
+			.setDaemon(true)
+			.build()
+			.newThread(task)
+			.start();
 
 	/**
 	 * Convenience launcher for dev env.
@@ -121,9 +131,15 @@ public class ServicesMain implements SwirldMain {
 
 	@Override
 	public void newSignedState(SwirldState signedState, Instant when, long round) {
-		if (ctx.platformStatus().get() == MAINTENANCE) {
+		ctx.signedStateViews().update((ServicesState) signedState, when);
+
+		var status = ctx.platformStatus().get();
+		if (status == MAINTENANCE) {
 			((ServicesState)signedState).printHashes();
 		}
+		if (status == ACTIVE && accountsExportPending.compareAndSet(true, false)) {
+			exportAccountsFrom((ServicesState) signedState);
+		}
 		if (ctx.globalDynamicProperties().shouldExportBalances() && ctx.balancesExporter().isTimeToExport(when)) {
 			try {
 				ctx.balancesExporter().exportBalancesFrom((ServicesState) signedState, when);
@@ -161,8 +177,8 @@ public class ServicesMain implements SwirldMain {
 		log.info("Platform callbacks registered.");
 		registerReconnectCompleteListener(NotificationFactory.getEngine());
 		log.info("ReconnectCompleteListener registered.");
-		exportAccountsIfDesired();
-		log.info("Accounts exported.");
+		scheduleAccountsExportIfDesired();
+		log.info("Accounts export scheduled (if desired).");
 		initializeStats();
 		log.info("Stats initialized.");
 		startNettyIfAppropriate();
@@ -172,13 +188,29 @@ public class ServicesMain implements SwirldMain {
 		log.info("Completed initialization of {} #{}", ctx.nodeType(), ctx.id());
 	}
 
-	private void exportAccountsIfDesired() {
-		try {
-			String path = ctx.properties().getStringProperty("hedera.accountsExportPath");
-			ctx.accountsExporter().toFile(ctx.accounts(), path);
-		} catch (Exception e) {
-			throw new IllegalStateException("Could not export accounts!", e);
-		}
+	private void scheduleAccountsExportIfDesired() {
+		accountsExportPending.set(ctx.properties().getBooleanProperty("hedera.exportAccountsOnStartup"));
+	}
+
+	/**
+	 * Exports the accounts of the first signed state received once the platform is {@code ACTIVE}.
+	 * The export reads the signed state rather than the mutable state used to handle transactions;
+	 * and runs on a background thread, holding a reference on the signed state until it is done,
+	 * so it delays neither startup nor the delivery of later signed states.
+	 */
+	private void exportAccountsFrom(ServicesState signedState) {
+		signedState.incrementReferenceCount();
+		accountsExportExecutor.execute(() -> {
+			try {
+				String path = ctx.properties().getStringProperty("hedera.accountsExportPath");
+				var format = ctx.nodeLocalProperties().accountsExportFormat();
+				ctx.accountsExporter().toFile(signedState.accounts(), path, format);
+			} catch (Exception e) {
+				log.error("HederaNode#{} could not export accounts from signed state!", ctx.id(), e);
+			} finally {
+				signedState.decrementReferenceCount();
+			}
+		});
 	}
 
 	private void initSystemFiles() {
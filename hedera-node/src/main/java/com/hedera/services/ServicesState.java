@@ -41,7 +41,6 @@ import com.hedera.services.state.merkle.MerkleTopic;
 import com.hedera.services.state.submerkle.ExchangeRates;
 import com.hedera.services.state.submerkle.SequenceNumber;
 import com.hedera.services.stream.RecordsRunningHashLeaf;
-import com.hedera.services.utils.PlatformTxnAccessor;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.swirlds.blob.BinaryObjectStore;
 import com.swirlds.common.AddressBook;
@@ -57,6 +56,7 @@ import com.swirlds.common.merkle.MerkleInternal;
 import com.swirlds.common.merkle.MerkleNode;
 import com.swirlds.common.merkle.utility.AbstractNaryMerkleInternal;
 import com.swirlds.fcmap.FCMap;
+import org.apache.commons.lang3.tuple.Triple;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -64,6 +64,7 @@ import java.io.File;
 import java.time.Instant;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -84,7 +85,8 @@ public class ServicesState extends AbstractNaryMerkleInternal implements SwirldS
 	static final int RELEASE_0100_VERSION = 4;
 	static final int RELEASE_0110_VERSION = 5;
 	static final int RELEASE_0120_VERSION = 6;
-	static final int MERKLE_VERSION = RELEASE_0120_VERSION;
+	public static final int RELEASE_0130_VERSION = 7;
+	static final int MERKLE_VERSION = RELEASE_0130_VERSION;
 	static final long RUNTIME_CONSTRUCTABLE_ID = 0x8e300b0dfdafbb1aL;
 
 	static final String UNSUPPORTED_VERSION_MSG_TPL = "Argument 'version=%d' is invalid!";
@@ -95,6 +97,8 @@ public class ServicesState extends AbstractNaryMerkleInternal implements SwirldS
 
 	NodeId nodeId = null;
 	boolean skipDiskFsHashCheck = false;
+	/* The version this state was read from disk with; copies keep it, so start-up migrations can see it. */
+	int deserializedVersion = MERKLE_VERSION;
 
 	/* Order of Merkle node children */
 	static class ChildIndices {
@@ -114,6 +118,7 @@ public class ServicesState extends AbstractNaryMerkleInternal implements SwirldS
 		static final int RECORD_STREAM_RUNNING_HASH = 9;
 		static final int NUM_0110_CHILDREN = 10;
 		static final int NUM_0120_CHILDREN = 10;
+		static final int NUM_0130_CHILDREN = 10;
 	}
 
 	ServicesContext ctx;
@@ -122,7 +127,7 @@ public class ServicesState extends AbstractNaryMerkleInternal implements SwirldS
 	}
 
 	public ServicesState(List<MerkleNode> children) {
-		super(ChildIndices.NUM_0120_CHILDREN);
+		super(ChildIndices.NUM_0130_CHILDREN);
 		addDeserializedChildren(children, MERKLE_VERSION);
 	}
 
@@ -149,6 +154,8 @@ public class ServicesState extends AbstractNaryMerkleInternal implements SwirldS
 	@Override
 	public int getMinimumChildCount(int version) {
 		switch (version) {
+			case RELEASE_0130_VERSION:
+				return ChildIndices.NUM_0130_CHILDREN;
 			case RELEASE_0120_VERSION:
 				return ChildIndices.NUM_0120_CHILDREN;
 			case RELEASE_0110_VERSION:
@@ -166,6 +173,16 @@ public class ServicesState extends AbstractNaryMerkleInternal implements SwirldS
 		}
 	}
 
+	@Override
+	public void addDeserializedChildren(List<MerkleNode> children, int version) {
+		super.addDeserializedChildren(children, version);
+		deserializedVersion = version;
+	}
+
+	public int getDeserializedVersion() {
+		return deserializedVersion;
+	}
+
 	@Override
 	public void initialize(MerkleInternal previous) {
 		if (tokens() == null) {
@@ -263,7 +280,8 @@ public class ServicesState extends AbstractNaryMerkleInternal implements SwirldS
 		ctx.setRecordsInitialHash(runningHashLeaf().getRunningHash().getHash());
 
 		if (initWithMerkle) {
-			// only digest when initialize with Merkle state
+			// only digest when initialize with Merkle state; the large independent children concurrently
+			ctx.childDigester().digest(independentChildren());
 			merkleDigest.accept(this);
 			printHashes();
 		}
@@ -318,12 +336,16 @@ public class ServicesState extends AbstractNaryMerkleInternal implements SwirldS
 	@Override
 	public void expandSignatures(Transaction platformTxn) {
 		try {
-			var accessor = new PlatformTxnAccessor(platformTxn);
+			long start = System.nanoTime();
+			var accessor = ctx.preparedTxns().prepare(platformTxn);
 			expandIn(
 					accessor,
 					ctx.lookupRetryingKeyOrder(),
 					new ScopedSigBytesProvider(accessor),
-					ctx.sigFactoryCreator()::createScopedFactory);
+					ctx.sigFactoryCreator()::createScopedFactory,
+					ctx.signingOrderPlans());
+			ctx.opLatencies().recordPreHandled(accessor.getFunction(), System.nanoTime() - start);
+			ctx.feeSchedulesManager().anticipate(accessor);
 		} catch (InvalidProtocolBufferException e) {
 			log.warn("expandSignatures called with non-gRPC txn!", e);
 		} catch (Exception race) {
@@ -339,7 +361,7 @@ public class ServicesState extends AbstractNaryMerkleInternal implements SwirldS
 	@Override
 	public synchronized ServicesState copy() {
 		setImmutable(true);
-		return new ServicesState(ctx, nodeId, List.of(
+		var copy = new ServicesState(ctx, nodeId, List.of(
 				addressBook().copy(),
 				networkCtx().copy(),
 				topics().copy(),
@@ -351,10 +373,23 @@ public class ServicesState extends AbstractNaryMerkleInternal implements SwirldS
 				scheduleTxs().copy(),
 				runningHashLeaf().copy()
 		));
+		copy.deserializedVersion = deserializedVersion;
+		return copy;
 	}
 
 	/* --------------- */
 
+	List<Triple<String, MerkleNode, DoubleConsumer>> independentChildren() {
+		var runningAvgs = ctx.runningAvgs();
+		return List.of(
+				Triple.of("accounts", accounts(), runningAvgs::recordAccountsHashMs),
+				Triple.of("storage", storage(), runningAvgs::recordStorageHashMs),
+				Triple.of("topics", topics(), runningAvgs::recordTopicsHashMs),
+				Triple.of("tokens", tokens(), runningAvgs::recordTokensHashMs),
+				Triple.of("tokenAssociations", tokenAssociations(), runningAvgs::recordTokenAssociationsHashMs),
+				Triple.of("scheduleTxs", scheduleTxs(), runningAvgs::recordScheduleTxsHashMs));
+	}
+
 	public AccountID getNodeAccountId() {
 		var address = addressBook().getAddress(nodeId.getId());
 		var memo = address.getMemo();
@@ -41,7 +41,6 @@ import com.hederahashgraph.api.proto.java.Transaction;
 import com.hederahashgraph.api.proto.java.TransactionReceipt;
 import com.hederahashgraph.api.proto.java.TransactionRecord;
 import com.hederahashgraph.api.proto.java.TransferList;
-import com.swirlds.common.Address;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -52,7 +51,6 @@ import java.util.List;
 import java.util.function.Consumer;
 
 import static com.hedera.services.state.merkle.MerkleEntityId.fromAccountId;
-import static com.hedera.services.utils.EntityIdUtils.accountParsedFromString;
 import static com.hedera.services.utils.MiscUtils.asFcKeyUnchecked;
 import static com.hedera.services.utils.MiscUtils.asTimestamp;
 import static com.hedera.services.utils.MiscUtils.canonicalDiffRepr;
@@ -143,9 +141,7 @@ public class AwareTransactionContext implements TransactionContext {
 	@Override
 	public AccountID submittingNodeAccount() {
 		try {
-			Address member = ctx.addressBook().getAddress(submittingMember);
-			String memo = member.getMemo();
-			return accountParsedFromString(memo);
+			return ctx.nodeInfo().accountOf(submittingMember);
 		} catch (Exception e) {
 			log.warn("No available Hedera account for member {}!", submittingMember, e);
 			throw new IllegalStateException(String.format("Member %d must have a Hedera account!", submittingMember));
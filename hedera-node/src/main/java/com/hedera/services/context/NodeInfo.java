@@ -0,0 +1,207 @@
+package com.hedera.services.context;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.swirlds.common.AddressBook;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static com.hedera.services.utils.EntityIdUtils.accountParsedFromString;
+
+/**
+ * Resolves, once per address book, everything the handle path needs to know about the
+ * nodes in the network: each member's Hedera account (parsed from its address book memo),
+ * its stake, and whether that account is known to exist in the ledger. After that, these
+ * per-transaction lookups are just array indexing.
+ *
+ * The table is rebuilt lazily after {@link NodeInfo#invalidate()}. That happens when the
+ * working state changes and when the address book or node details system files are updated.
+ */
+public class NodeInfo {
+	private static final Logger log = LogManager.getLogger(NodeInfo.class);
+
+	public static final long NO_MEMBER = -1L;
+
+	private static final byte VALID_ACCOUNT = 1;
+	private static final byte ACCOUNT_IN_LEDGER = 2;
+
+	private final Supplier<AddressBook> book;
+	private final Predicate<AccountID> accountExists;
+
+	private volatile Table table;
+
+	public NodeInfo(Supplier<AddressBook> book, Predicate<AccountID> accountExists) {
+		this.book = book;
+		this.accountExists = accountExists;
+	}
+
+	public void invalidate() {
+		table = null;
+	}
+
+	public int numberOfNodes() {
+		return table().stakes.length;
+	}
+
+	public long stakeOf(long memberId) {
+		var current = table();
+		return current.stakes[current.indexOf(memberId)];
+	}
+
+	public boolean isZeroStake(long memberId) {
+		return stakeOf(memberId) == 0L;
+	}
+
+	public boolean hasValidAccount(long memberId) {
+		var current = table();
+		return (current.statuses[current.indexOf(memberId)] & VALID_ACCOUNT) != 0;
+	}
+
+	/**
+	 * Returns the Hedera account of the given member.
+	 *
+	 * @param memberId the Swirlds member id
+	 * @return the member's account
+	 * @throws IllegalArgumentException if there is no such member, or its memo is not an account
+	 */
+	public AccountID accountOf(long memberId) {
+		var current = table();
+		int i = current.indexOf(memberId);
+		if ((current.statuses[i] & VALID_ACCOUNT) == 0) {
+			throw new IllegalArgumentException(String.format("Member %d has no valid Hedera account!", memberId));
+		}
+		return current.accounts[i];
+	}
+
+	/**
+	 * Node accounts are system accounts, which cannot be deleted; so once a member's account
+	 * has been seen in the ledger, that is remembered until the table is next rebuilt.
+	 *
+	 * @param memberId the Swirlds member id
+	 * @return whether the member's account exists in the ledger
+	 */
+	public boolean isAccountInLedger(long memberId) {
+		var current = table();
+		int i = current.indexOf(memberId);
+		if ((current.statuses[i] & ACCOUNT_IN_LEDGER) != 0) {
+			return true;
+		}
+		if ((current.statuses[i] & VALID_ACCOUNT) != 0 && accountExists.test(current.accounts[i])) {
+			current.statuses[i] |= ACCOUNT_IN_LEDGER;
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the member whose memo names the given account, or {@link NodeInfo#NO_MEMBER}.
+	 *
+	 * @param account the account to look up
+	 * @return the id of the member using this account
+	 */
+	public long memberIdOf(AccountID account) {
+		var current = table();
+		var nums = current.sortedAccountNums;
+		int lo = 0, hi = nums.length - 1;
+		long num = account.getAccountNum();
+		while (lo <= hi) {
+			int mid = (lo + hi) >>> 1;
+			if (nums[mid] < num) {
+				lo = mid + 1;
+			} else if (nums[mid] > num) {
+				hi = mid - 1;
+			} else {
+				int member = current.membersBySortedNum[mid];
+				return current.accounts[member].equals(account) ? member : NO_MEMBER;
+			}
+		}
+		return NO_MEMBER;
+	}
+
+	public boolean isNodeAccount(AccountID account) {
+		return memberIdOf(account) != NO_MEMBER;
+	}
+
+	private Table table() {
+		var current = table;
+		if (current == null) {
+			current = new Table(book.get());
+			table = current;
+		}
+		return current;
+	}
+
+	private static class Table {
+		private final long[] stakes;
+		private final byte[] statuses;
+		private final AccountID[] accounts;
+		private final long[] sortedAccountNums;
+		private final int[] membersBySortedNum;
+
+		Table(AddressBook book) {
+			int n = book.getSize();
+			stakes = new long[n];
+			statuses = new byte[n];
+			accounts = new AccountID[n];
+
+			int numValid = 0;
+			for (int i = 0; i < n; i++) {
+				var address = book.getAddress(i);
+				stakes[i] = address.getStake();
+				try {
+					accounts[i] = accountParsedFromString(address.getMemo());
+					statuses[i] = VALID_ACCOUNT;
+					numValid++;
+				} catch (Exception e) {
+					log.warn("Address book member {} has no Hedera account in memo '{}'", i, address.getMemo());
+				}
+			}
+
+			sortedAccountNums = new long[numValid];
+			membersBySortedNum = new int[numValid];
+			for (int i = 0, j = 0; i < n; i++) {
+				if (statuses[i] == VALID_ACCOUNT) {
+					/* Address books are small, so an insertion sort is fine */
+					int k = j++;
+					long num = accounts[i].getAccountNum();
+					while (k > 0 && sortedAccountNums[k - 1] > num) {
+						sortedAccountNums[k] = sortedAccountNums[k - 1];
+						membersBySortedNum[k] = membersBySortedNum[k - 1];
+						k--;
+					}
+					sortedAccountNums[k] = num;
+					membersBySortedNum[k] = i;
+				}
+			}
+		}
+
+		int indexOf(long memberId) {
+			if (memberId < 0 || memberId >= stakes.length) {
+				throw new IllegalArgumentException(String.format("No member %d in the address book!", memberId));
+			}
+			return (int) memberId;
+		}
+	}
+}
@@ -21,6 +21,7 @@ package com.hedera.services.context;
  */
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.hedera.services.ServicesState;
 import com.hedera.services.config.AccountNumbers;
 import com.hedera.services.config.EntityNumbers;
@@ -28,7 +29,9 @@ import com.hedera.services.config.FileNumbers;
 import com.hedera.services.config.HederaNumbers;
 import com.hedera.services.context.domain.trackers.ConsensusStatusCounts;
 import com.hedera.services.context.domain.trackers.IssEventInfo;
+import com.hedera.services.context.primitives.SignedStateViews;
 import com.hedera.services.context.primitives.StateView;
+import com.hedera.services.context.primitives.StateViewProjections;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.context.properties.NodeLocalProperties;
 import com.hedera.services.context.properties.PropertySource;
@@ -47,7 +50,9 @@ import com.hedera.services.fees.FeeExemptions;
 import com.hedera.services.fees.HbarCentExchange;
 import com.hedera.services.fees.StandardExemptions;
 import com.hedera.services.fees.calculation.AwareFcfsUsagePrices;
+import com.hedera.services.fees.calculation.CompiledUsagePrices;
 import com.hedera.services.fees.calculation.TxnResourceUsageEstimator;
+import com.hedera.services.fees.calculation.StateIndependentUsageCache;
 import com.hedera.services.fees.calculation.UsageBasedFeeCalculator;
 import com.hedera.services.fees.calculation.UsagePricesProvider;
 import com.hedera.services.fees.calculation.consensus.queries.GetTopicInfoResourceUsage;
@@ -106,12 +111,15 @@ import com.hedera.services.files.HederaFs;
 import com.hedera.services.files.MetadataMapFactory;
 import com.hedera.services.files.TieredHederaFs;
 import com.hedera.services.files.interceptors.ConfigListUtils;
+import com.hedera.services.files.interceptors.ContentsPrecompiler;
 import com.hedera.services.files.interceptors.FeeSchedulesManager;
 import com.hedera.services.files.interceptors.TxnAwareRatesManager;
 import com.hedera.services.files.interceptors.ValidatingCallbackInterceptor;
 import com.hedera.services.files.store.FcBlobsBytesStore;
+import com.hedera.services.grpc.AccountBalancesService;
 import com.hedera.services.grpc.GrpcServerManager;
 import com.hedera.services.grpc.NettyGrpcServerManager;
+import com.hedera.services.grpc.ReceiptSubscriptionService;
 import com.hedera.services.grpc.controllers.ConsensusController;
 import com.hedera.services.grpc.controllers.ContractController;
 import com.hedera.services.grpc.controllers.CryptoController;
@@ -141,9 +149,9 @@ import com.hedera.services.legacy.handler.SmartContractRequestHandler;
 import com.hedera.services.legacy.handler.TransactionHandler;
 import com.hedera.services.legacy.netty.NettyServerManager;
 import com.hedera.services.legacy.services.state.AwareProcessLogic;
-import com.hedera.services.legacy.services.utils.DefaultAccountsExporter;
 import com.hedera.services.queries.AnswerFlow;
 import com.hedera.services.queries.answering.AnswerFunctions;
+import com.hedera.services.queries.answering.QueryExecutors;
 import com.hedera.services.queries.answering.QueryResponseHelper;
 import com.hedera.services.queries.answering.StakedAnswerFlow;
 import com.hedera.services.queries.answering.ZeroStakeAnswerFlow;
@@ -157,6 +165,7 @@ import com.hedera.services.queries.contract.GetContractInfoAnswer;
 import com.hedera.services.queries.contract.GetContractRecordsAnswer;
 import com.hedera.services.queries.crypto.CryptoAnswers;
 import com.hedera.services.queries.crypto.GetAccountBalanceAnswer;
+import com.hedera.services.queries.crypto.GetAccountBalancesAnswer;
 import com.hedera.services.queries.crypto.GetAccountInfoAnswer;
 import com.hedera.services.queries.crypto.GetAccountRecordsAnswer;
 import com.hedera.services.queries.crypto.GetLiveHashAnswer;
@@ -175,6 +184,7 @@ import com.hedera.services.queries.token.GetTokenInfoAnswer;
 import com.hedera.services.queries.token.TokenAnswers;
 import com.hedera.services.queries.validation.QueryFeeCheck;
 import com.hedera.services.records.AccountRecordsHistorian;
+import com.hedera.services.records.ReceiptSubscriptions;
 import com.hedera.services.records.RecordCache;
 import com.hedera.services.records.RecordCacheFactory;
 import com.hedera.services.records.TxnAwareRecordsHistorian;
@@ -183,6 +193,7 @@ import com.hedera.services.security.ops.SystemOpPolicies;
 import com.hedera.services.sigs.factories.SigFactoryCreator;
 import com.hedera.services.sigs.metadata.DelegatingSigMetadataLookup;
 import com.hedera.services.sigs.order.HederaSigningOrder;
+import com.hedera.services.sigs.order.SigningOrderPlans;
 import com.hedera.services.sigs.sourcing.DefaultSigBytesProvider;
 import com.hedera.services.sigs.verification.PrecheckKeyReqs;
 import com.hedera.services.sigs.verification.PrecheckVerifier;
@@ -192,6 +203,8 @@ import com.hedera.services.state.expiry.ExpiryManager;
 import com.hedera.services.state.exports.AccountsExporter;
 import com.hedera.services.state.exports.BalancesExporter;
 import com.hedera.services.state.exports.SignedStateBalancesExporter;
+import com.hedera.services.state.exports.StreamingAccountsExporter;
+import com.hedera.services.state.hashing.ParallelChildDigester;
 import com.hedera.services.state.initialization.BackedSystemAccountsCreator;
 import com.hedera.services.state.initialization.HfsSystemFilesManager;
 import com.hedera.services.state.initialization.SystemAccountsCreator;
@@ -214,7 +227,9 @@ import com.hedera.services.state.submerkle.SequenceNumber;
 import com.hedera.services.state.validation.BasedLedgerValidator;
 import com.hedera.services.state.validation.LedgerValidator;
 import com.hedera.services.stats.CounterFactory;
+import com.hedera.services.stats.GaugeFactory;
 import com.hedera.services.stats.HapiOpCounters;
+import com.hedera.services.stats.HapiOpLatencies;
 import com.hedera.services.stats.HapiOpSpeedometers;
 import com.hedera.services.stats.MiscRunningAvgs;
 import com.hedera.services.stats.MiscSpeedometers;
@@ -222,8 +237,10 @@ import com.hedera.services.stats.RunningAvgFactory;
 import com.hedera.services.stats.ServicesStatsManager;
 import com.hedera.services.stats.SpeedometerFactory;
 import com.hedera.services.store.schedule.HederaScheduleStore;
+import com.hedera.services.store.schedule.ReadOnlyScheduleStore;
 import com.hedera.services.store.schedule.ScheduleStore;
 import com.hedera.services.store.tokens.HederaTokenStore;
+import com.hedera.services.store.tokens.ReadOnlyTokenStore;
 import com.hedera.services.store.tokens.TokenStore;
 import com.hedera.services.stream.RecordStreamManager;
 import com.hedera.services.throttling.BucketThrottling;
@@ -232,6 +249,8 @@ import com.hedera.services.throttling.TransactionThrottling;
 import com.hedera.services.txns.ProcessLogic;
 import com.hedera.services.txns.SubmissionFlow;
 import com.hedera.services.txns.TransitionLogic;
+import com.hedera.services.txns.ConflictFreeGroups;
+import com.hedera.services.txns.PreparedTxns;
 import com.hedera.services.txns.TransitionLogicLookup;
 import com.hedera.services.txns.consensus.SubmitMessageTransitionLogic;
 import com.hedera.services.txns.consensus.TopicCreateTransitionLogic;
@@ -311,7 +330,6 @@ import java.io.IOException;
 import java.io.PrintStream;
 import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -408,6 +426,7 @@ public class ServicesContext {
 	private Address address;
 	private Console console;
 	private HederaFs hfs;
+	private StateView queryView;
 	private StateView currentView;
 	private AccountID accountId;
 	private AnswerFlow answerFlow;
@@ -416,6 +435,7 @@ public class ServicesContext {
 	private FileAnswers fileAnswers;
 	private MetaAnswers metaAnswers;
 	private RecordCache recordCache;
+	private ReceiptSubscriptions receiptSubscriptions;
 	private TokenStore tokenStore;
 	private TokenAnswers tokenAnswers;
 	private HederaLedger ledger;
@@ -437,6 +457,7 @@ public class ServicesContext {
 	private EntityIdSource ids;
 	private FileController fileGrpc;
 	private HapiOpCounters opCounters;
+	private HapiOpLatencies opLatencies;
 	private AnswerFunctions answerFunctions;
 	private ContractAnswers contractAnswers;
 	private OptionValidator validator;
@@ -459,6 +480,8 @@ public class ServicesContext {
 	private ExpiringCreations creator;
 	private NetworkController networkGrpc;
 	private GrpcServerManager grpc;
+	private ReceiptSubscriptionService receiptSubscriptionService;
+	private AccountBalancesService accountBalancesService;
 	private TxnResponseHelper txnResponseHelper;
 	private SigFactoryCreator sigFactoryCreator;
 	private BlobStorageSource bytecodeDb;
@@ -468,12 +491,18 @@ public class ServicesContext {
 	private HederaSigningOrder keyOrder;
 	private HederaSigningOrder backedKeyOrder;
 	private HederaSigningOrder lookupRetryingKeyOrder;
+	private SigningOrderPlans signingOrderPlans;
 	private StoragePersistence storagePersistence;
 	private ScheduleController scheduleGrpc;
 	private ConsensusController consensusGrpc;
 	private QueryResponseHelper queryResponseHelper;
+	private QueryExecutors queryExecutors;
 	private UsagePricesProvider usagePrices;
 	private Supplier<StateView> stateViews;
+	private StateViewProjections stateViewProjections;
+	private SignedStateViews signedStateViews;
+	private ParallelChildDigester childDigester;
+	private NodeInfo nodeInfo;
 	private FeeSchedulesManager feeSchedulesManager;
 	private RecordStreamManager recordStreamManager;
 	private Map<String, byte[]> blobStore;
@@ -485,6 +514,8 @@ public class ServicesContext {
 	private LedgerAccountsSource accountSource;
 	private FCMapBackingAccounts backingAccounts;
 	private TransitionLogicLookup transitionLogic;
+	private PreparedTxns preparedTxns;
+	private ConflictFreeGroups conflictFreeGroups;
 	private TransactionThrottling txnThrottling;
 	private ConsensusStatusCounts statusCounts;
 	private HfsSystemFilesManager systemFilesManager;
@@ -500,6 +531,8 @@ public class ServicesContext {
 	private SmartContractRequestHandler contracts;
 	private TxnAwareSoliditySigsVerifier soliditySigsVerifier;
 	private ValidatingCallbackInterceptor apiPermissionsReloading;
+	private ValidatingCallbackInterceptor addressBookRefreshing;
+	private ValidatingCallbackInterceptor nodeDetailsRefreshing;
 	private ValidatingCallbackInterceptor applicationPropertiesReloading;
 	private Supplier<ServicesRepositoryRoot> newPureRepo;
 	private Map<TransactionID, TxnIdRecentHistory> txnHistories;
@@ -520,7 +553,7 @@ public class ServicesContext {
 		pause = SleepingPause.SLEEPING_PAUSE;
 		b64KeyReader = new LegacyEd25519KeyReader();
 		stateMigrations = new StdStateMigrations(SleepingPause.SLEEPING_PAUSE);
-		accountsExporter = new DefaultAccountsExporter();
+		accountsExporter = new StreamingAccountsExporter();
 	}
 
 	public ServicesContext(
@@ -544,6 +577,16 @@ public class ServicesContext {
 		queryableTokens().set(tokens());
 		queryableTokenAssociations().set(tokenAssociations());
 		queryableSchedules().set(schedules());
+
+		if (signingOrderPlans != null) {
+			signingOrderPlans.advanceVersion();
+		}
+		if (stateViewProjections != null) {
+			stateViewProjections.clear();
+		}
+		if (nodeInfo != null) {
+			nodeInfo.invalidate();
+		}
 	}
 
 	public void rebuildBackingStoresIfPresent() {
@@ -570,6 +613,14 @@ public class ServicesContext {
 		return opCounters;
 	}
 
+	public HapiOpLatencies opLatencies() {
+		if (opLatencies == null) {
+			opLatencies = new HapiOpLatencies(new GaugeFactory() {
+			}, MiscUtils::baseStatNameOf);
+		}
+		return opLatencies;
+	}
+
 	public MiscRunningAvgs runningAvgs() {
 		if (runningAvgs == null) {
 			runningAvgs = new MiscRunningAvgs(new RunningAvgFactory() {
@@ -606,6 +657,7 @@ public class ServicesContext {
 					runningAvgs(),
 					speedometers(),
 					opSpeedometers,
+					opLatencies(),
 					nodeLocalProperties());
 		}
 		return statsManager;
@@ -651,7 +703,14 @@ public class ServicesContext {
 
 	public Supplier<StateView> stateViews() {
 		if (stateViews == null) {
-			stateViews = () -> new StateView(
+			stateViews = this::queryView;
+		}
+		return stateViews;
+	}
+
+	StateView queryView() {
+		if (queryView == null) {
+			queryView = new StateView(
 					tokenStore(),
 					scheduleStore(),
 					() -> queryableTopics().get(),
@@ -659,9 +718,40 @@ public class ServicesContext {
 					() -> queryableStorage().get(),
 					() -> queryableTokenAssociations().get(),
 					this::diskFs,
-					nodeLocalProperties());
+					nodeLocalProperties(),
+					stateViewProjections());
 		}
-		return stateViews;
+		return queryView;
+	}
+
+	public SignedStateViews signedStateViews() {
+		if (signedStateViews == null) {
+			signedStateViews = new SignedStateViews(
+					nodeLocalProperties().shouldAnswerQueriesFromSignedState(),
+					runningAvgs(),
+					stateViewProjections(),
+					stateViews(),
+					signedState -> new StateView(
+							new ReadOnlyTokenStore(signedState::tokens),
+							new ReadOnlyScheduleStore(signedState::scheduleTxs),
+							signedState::topics,
+							signedState::accounts,
+							signedState::storage,
+							signedState::tokenAssociations,
+							signedState::diskFs,
+							nodeLocalProperties(),
+							stateViewProjections()));
+		}
+		return signedStateViews;
+	}
+
+	public StateViewProjections stateViewProjections() {
+		if (stateViewProjections == null) {
+			stateViewProjections = new StateViewProjections(
+					nodeLocalProperties().queryProjectionsMaxEntries(),
+					runningAvgs());
+		}
+		return stateViewProjections;
 	}
 
 	public StateView currentView() {
@@ -702,7 +792,7 @@ public class ServicesContext {
 
 	public TxnResponseHelper txnResponseHelper() {
 		if (txnResponseHelper == null) {
-			txnResponseHelper = new TxnResponseHelper(submissionFlow(), opCounters());
+			txnResponseHelper = new TxnResponseHelper(submissionFlow(), opCounters(), opLatencies());
 		}
 		return txnResponseHelper;
 	}
@@ -748,11 +838,18 @@ public class ServicesContext {
 
 	public QueryResponseHelper queryResponseHelper() {
 		if (queryResponseHelper == null) {
-			queryResponseHelper = new QueryResponseHelper(answerFlow(), opCounters());
+			queryResponseHelper = new QueryResponseHelper(answerFlow(), opCounters(), opLatencies(), queryExecutors());
 		}
 		return queryResponseHelper;
 	}
 
+	public QueryExecutors queryExecutors() {
+		if (queryExecutors == null) {
+			queryExecutors = new QueryExecutors(nodeLocalProperties(), runningAvgs());
+		}
+		return queryExecutors;
+	}
+
 	public FileAnswers fileAnswers() {
 		if (fileAnswers == null) {
 			fileAnswers = new FileAnswers(
@@ -883,7 +980,8 @@ public class ServicesContext {
 							/* Schedule */
 							new GetScheduleInfoResourceUsage()
 					),
-					txnUsageEstimators(cryptoOpsUsage, fileOpsUsage, fileFees, cryptoFees, contractFees)
+					txnUsageEstimators(cryptoOpsUsage, fileOpsUsage, fileFees, cryptoFees, contractFees),
+					new StateIndependentUsageCache(globalDynamicProperties())
 			);
 		}
 		return fees;
@@ -948,12 +1046,12 @@ public class ServicesContext {
 				answerFlow = new StakedAnswerFlow(
 						fees(),
 						txns(),
-						stateViews(),
+						signedStateViews(),
 						usagePrices(),
 						bucketThrottling(),
 						submissionManager());
 			} else {
-				answerFlow = new ZeroStakeAnswerFlow(txns(), stateViews(), bucketThrottling());
+				answerFlow = new ZeroStakeAnswerFlow(txns(), signedStateViews(), bucketThrottling());
 			}
 		}
 		return answerFlow;
@@ -1002,6 +1100,27 @@ public class ServicesContext {
 		return lookupRetryingKeyOrder;
 	}
 
+	public SigningOrderPlans signingOrderPlans() {
+		if (signingOrderPlans == null) {
+			signingOrderPlans = new SigningOrderPlans(nodeLocalProperties().sigsOrderPlansMaxEntries());
+		}
+		return signingOrderPlans;
+	}
+
+	public NodeInfo nodeInfo() {
+		if (nodeInfo == null) {
+			nodeInfo = new NodeInfo(this::addressBook, id -> backingAccounts().contains(id));
+		}
+		return nodeInfo;
+	}
+
+	public ParallelChildDigester childDigester() {
+		if (childDigester == null) {
+			childDigester = new ParallelChildDigester();
+		}
+		return childDigester;
+	}
+
 	public ServicesNodeType nodeType() {
 		if (nodeType == null) {
 			nodeType = (address().getStake() > 0) ? STAKED_NODE : ZERO_STAKE_NODE;
@@ -1077,6 +1196,8 @@ public class ServicesContext {
 			hfs.register(exchangeRatesManager());
 			hfs.register(apiPermissionsReloading());
 			hfs.register(applicationPropertiesReloading());
+			hfs.register(addressBookRefreshing());
+			hfs.register(nodeDetailsRefreshing());
 		}
 		return hfs;
 	}
@@ -1091,7 +1212,8 @@ public class ServicesContext {
 					syncVerifier(),
 					txnCtx(),
 					StandardSyncActivationCheck::allKeysAreActive,
-					this::accounts);
+					this::accounts,
+					runningAvgs());
 		}
 		return soliditySigsVerifier;
 	}
@@ -1127,6 +1249,32 @@ public class ServicesContext {
 		return apiPermissionsReloading;
 	}
 
+	public FileUpdateInterceptor addressBookRefreshing() {
+		if (addressBookRefreshing == null) {
+			addressBookRefreshing = new ValidatingCallbackInterceptor(
+					0,
+					"files.addressBook",
+					properties(),
+					contents -> nodeInfo().invalidate(),
+					contents -> true
+			);
+		}
+		return addressBookRefreshing;
+	}
+
+	public FileUpdateInterceptor nodeDetailsRefreshing() {
+		if (nodeDetailsRefreshing == null) {
+			nodeDetailsRefreshing = new ValidatingCallbackInterceptor(
+					0,
+					"files.nodeDetails",
+					properties(),
+					contents -> nodeInfo().invalidate(),
+					contents -> true
+			);
+		}
+		return nodeDetailsRefreshing;
+	}
+
 	public TransitionLogicLookup transitionLogic() {
 		if (transitionLogic == null) {
 			transitionLogic = new TransitionLogicLookup(transitions());
@@ -1134,6 +1282,21 @@ public class ServicesContext {
 		return transitionLogic;
 	}
 
+	public PreparedTxns preparedTxns() {
+		if (preparedTxns == null) {
+			preparedTxns = new PreparedTxns(
+					nodeLocalProperties().preparedTxnsMaxEntries(), transitionLogic(), globalDynamicProperties());
+		}
+		return preparedTxns;
+	}
+
+	public ConflictFreeGroups conflictFreeGroups() {
+		if (conflictFreeGroups == null) {
+			conflictFreeGroups = new ConflictFreeGroups(runningAvgs(), globalDynamicProperties(), tokenStore());
+		}
+		return conflictFreeGroups;
+	}
+
 	private Function<HederaFunctionality, List<TransitionLogic>> transitions() {
 		Map<HederaFunctionality, List<TransitionLogic>> transitionsMap = Map.ofEntries(
 				/* Crypto */
@@ -1263,11 +1426,19 @@ public class ServicesContext {
 			recordCache = new RecordCache(
 					this,
 					new RecordCacheFactory(properties()).getRecordCache(),
-					txnHistories());
+					txnHistories(),
+					txnId -> receiptSubscriptions().notifyPostConsensus(txnId));
 		}
 		return recordCache;
 	}
 
+	public ReceiptSubscriptions receiptSubscriptions() {
+		if (receiptSubscriptions == null) {
+			receiptSubscriptions = new ReceiptSubscriptions(nodeLocalProperties(), recordCache());
+		}
+		return receiptSubscriptions;
+	}
+
 	public CharacteristicsFactory characteristics() {
 		if (characteristics == null) {
 			characteristics = new CharacteristicsFactory(hfs());
@@ -1302,14 +1473,18 @@ public class ServicesContext {
 
 	public BackingStore<Pair<AccountID, TokenID>, MerkleTokenRelStatus> backingTokenRels() {
 		if (backingTokenRels == null) {
-			backingTokenRels = new BackingTokenRels(this::tokenAssociations);
+			backingTokenRels = new BackingTokenRels(
+					this::tokenAssociations,
+					stateViewProjections()::accountChanged);
 		}
 		return backingTokenRels;
 	}
 
 	public BackingStore<AccountID, MerkleAccount> backingAccounts() {
 		if (backingAccounts == null) {
-			backingAccounts = new FCMapBackingAccounts(this::accounts);
+			backingAccounts = new FCMapBackingAccounts(
+					this::accounts,
+					stateViewProjections()::accountChanged);
 		}
 		return backingAccounts;
 	}
@@ -1338,12 +1513,14 @@ public class ServicesContext {
 							new ChangeSummaryManager<>());
 			tokenRelsLedger.setKeyComparator(REL_CMP);
 			tokenRelsLedger.setKeyToString(BackingTokenRels::readableTokenRel);
-			tokenStore = new HederaTokenStore(
+			var hederaTokenStore = new HederaTokenStore(
 					ids(),
 					validator(),
 					globalDynamicProperties(),
 					this::tokens,
 					tokenRelsLedger);
+			hederaTokenStore.setChangeObserver(stateViewProjections()::tokenChanged);
+			tokenStore = hederaTokenStore;
 		}
 		return tokenStore;
 	}
@@ -1379,7 +1556,14 @@ public class ServicesContext {
 	public ExpiryManager expiries() {
 		if (expiries == null) {
 			var histories = txnHistories();
-			expiries = new ExpiryManager(recordCache(), histories, scheduleStore(), schedules());
+			expiries = new ExpiryManager(
+					recordCache(),
+					histories,
+					scheduleStore(),
+					schedules(),
+					this::accounts,
+					globalDynamicProperties(),
+					runningAvgs());
 		}
 		return expiries;
 	}
@@ -1463,9 +1647,18 @@ public class ServicesContext {
 		return exchangeRatesManager;
 	}
 
-	public FileUpdateInterceptor feeSchedulesManager() {
+	public FeeSchedulesManager feeSchedulesManager() {
 		if (feeSchedulesManager == null) {
-			feeSchedulesManager = new FeeSchedulesManager(fileNums(), fees());
+			feeSchedulesManager = new FeeSchedulesManager(
+					fileNums(),
+					usagePrices(),
+					new ContentsPrecompiler<>(
+							"fee schedules",
+							CompiledUsagePrices::from,
+							ContentsPrecompiler.newSpeculationExecutor(new ThreadFactoryBuilder()
+									.setNameFormat("feeSchedulesPrecompiler")
+									.setDaemon(true)
+									.build())));
 		}
 		return feeSchedulesManager;
 	}
@@ -1558,11 +1751,34 @@ public class ServicesContext {
 							networkGrpc(),
 							tokenGrpc(),
 							scheduleGrpc()),
-					Collections.emptyList());
+					List.of(
+							receiptSubscriptionService().definition(),
+							accountBalancesService().definition()));
 		}
 		return grpc;
 	}
 
+	public ReceiptSubscriptionService receiptSubscriptionService() {
+		if (receiptSubscriptionService == null) {
+			receiptSubscriptionService = new ReceiptSubscriptionService(receiptSubscriptions());
+		}
+		return receiptSubscriptionService;
+	}
+
+	public AccountBalancesService accountBalancesService() {
+		if (accountBalancesService == null) {
+			accountBalancesService = new AccountBalancesService(
+					nodeLocalProperties().queryBalancesMaxBatchSize(),
+					queryExecutors(),
+					signedStateViews(),
+					new GetAccountBalancesAnswer(validator()),
+					bucketThrottling(),
+					opCounters(),
+					opLatencies());
+		}
+		return accountBalancesService;
+	}
+
 	public SmartContractRequestHandler contracts() {
 		if (contracts == null) {
 			contracts = new SmartContractRequestHandler(
@@ -1583,7 +1799,7 @@ public class ServicesContext {
 
 	public SolidityLifecycle solidityLifecycle() {
 		if (solidityLifecycle == null) {
-			solidityLifecycle = new SolidityLifecycle(globalDynamicProperties());
+			solidityLifecycle = new SolidityLifecycle(globalDynamicProperties(), accountSource(), runningAvgs());
 		}
 		return solidityLifecycle;
 	}
@@ -1851,6 +2067,10 @@ public class ServicesContext {
 		return state.accounts();
 	}
 
+	public int savedStateVersion() {
+		return state.getDeserializedVersion();
+	}
+
 	public FCMap<MerkleEntityId, MerkleTopic> topics() {
 		return state.topics();
 	}
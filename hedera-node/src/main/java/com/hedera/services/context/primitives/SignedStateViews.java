@@ -0,0 +1,160 @@
+package com.hedera.services.context.primitives;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.ServicesState;
+import com.hedera.services.stats.MiscRunningAvgs;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Manages the {@link StateView}s that queries are answered from. Each time the platform
+ * signs a state, the view of the previous signed state is retired in favor of a view of
+ * the new one; so queries never read the FCMaps that {@code handleTransaction} is
+ * mutating, and the same query against the same snapshot always gets the same answer.
+ *
+ * <p>A snapshot holds one reference on its signed state for as long as it is the latest
+ * snapshot, and one more for each query that has reserved it and not yet closed it; the
+ * signed state reference is released only when all of these are gone.
+ *
+ * <p>Until the first signed state arrives (or when disabled), queries use the live view.
+ *
+ * <p>All views share one {@link StateViewProjections} cache, which is cleared whenever
+ * a new snapshot replaces the previous one; so cached projections never outlive the
+ * snapshot they were built from.
+ */
+public class SignedStateViews {
+	private final boolean isEnabled;
+	private final MiscRunningAvgs runningAvgs;
+	private final StateViewProjections projections;
+	private final Supplier<StateView> liveViews;
+	private final Function<ServicesState, StateView> viewFactory;
+
+	private Snapshot latest = null;
+
+	public SignedStateViews(
+			boolean isEnabled,
+			MiscRunningAvgs runningAvgs,
+			StateViewProjections projections,
+			Supplier<StateView> liveViews,
+			Function<ServicesState, StateView> viewFactory
+	) {
+		this.isEnabled = isEnabled;
+		this.projections = projections;
+		this.liveViews = liveViews;
+		this.runningAvgs = runningAvgs;
+		this.viewFactory = viewFactory;
+	}
+
+	/**
+	 * Makes the given signed state the one that queries are answered from.
+	 *
+	 * @param signedState the latest signed state
+	 * @param consensusTime the consensus time at which it was signed
+	 */
+	public void update(ServicesState signedState, Instant consensusTime) {
+		if (!isEnabled) {
+			return;
+		}
+		signedState.incrementReferenceCount();
+		var next = new Snapshot(signedState, viewFactory.apply(signedState), consensusTime);
+		Snapshot prev;
+		synchronized (this) {
+			prev = latest;
+			latest = next;
+		}
+		projections.clear();
+		if (prev != null) {
+			prev.close();
+		}
+	}
+
+	/**
+	 * Reserves the latest snapshot for a query; the caller must close it when done.
+	 *
+	 * @return the reserved snapshot
+	 */
+	public Snapshot reserveLatest() {
+		Snapshot reserved;
+		synchronized (this) {
+			reserved = latest;
+			if (reserved != null) {
+				reserved.reserve();
+			}
+		}
+		if (reserved == null) {
+			return new Snapshot(null, liveViews.get(), null);
+		}
+		runningAvgs.recordQuerySignedStateAgeMs(
+				Duration.between(reserved.consensusTime, Instant.now()).toMillis());
+		return reserved;
+	}
+
+	public static class Snapshot implements AutoCloseable {
+		private final StateView view;
+		private final Instant consensusTime;
+		private final ServicesState signedState;
+
+		private int refs = 1;
+
+		Snapshot(ServicesState signedState, StateView view, Instant consensusTime) {
+			this.view = view;
+			this.signedState = signedState;
+			this.consensusTime = consensusTime;
+		}
+
+		public StateView view() {
+			return view;
+		}
+
+		/**
+		 * The consensus time of the signed state behind this snapshot; empty if the
+		 * snapshot is of the live state.
+		 *
+		 * @return the consensus time, if any
+		 */
+		public Optional<Instant> consensusTime() {
+			return Optional.ofNullable(consensusTime);
+		}
+
+		synchronized void reserve() {
+			refs++;
+		}
+
+		@Override
+		public void close() {
+			if (signedState == null) {
+				return;
+			}
+			boolean isLastRef;
+			synchronized (this) {
+				isLastRef = (--refs == 0);
+			}
+			if (isLastRef) {
+				signedState.decrementReferenceCount();
+			}
+		}
+	}
+}
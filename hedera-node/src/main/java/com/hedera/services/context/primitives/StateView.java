@@ -136,6 +136,7 @@ public class StateView {
 	private final Supplier<FCMap<MerkleEntityAssociation, MerkleTokenRelStatus>> tokenAssociations;
 
 	private final NodeLocalProperties properties;
+	private final StateViewProjections projections;
 
 	public StateView(
 			Supplier<FCMap<MerkleEntityId, MerkleTopic>> topics,
@@ -169,6 +170,22 @@ public class StateView {
 			Supplier<MerkleDiskFs> diskFs,
 			NodeLocalProperties properties
 	) {
+		this(tokenStore, scheduleStore, topics, accounts, storage, tokenAssociations, diskFs, properties,
+				StateViewProjections.UNCACHED);
+	}
+
+	public StateView(
+			TokenStore tokenStore,
+			ScheduleStore scheduleStore,
+			Supplier<FCMap<MerkleEntityId, MerkleTopic>> topics,
+			Supplier<FCMap<MerkleEntityId, MerkleAccount>> accounts,
+			Supplier<FCMap<MerkleBlobMeta, MerkleOptionalBlob>> storage,
+			Supplier<FCMap<MerkleEntityAssociation, MerkleTokenRelStatus>> tokenAssociations,
+			Supplier<MerkleDiskFs> diskFs,
+			NodeLocalProperties properties,
+			StateViewProjections projections
+	) {
+		this.projections = projections;
 		this.topics = topics;
 		this.accounts = accounts;
 		this.tokenStore = tokenStore;
@@ -186,6 +203,10 @@ public class StateView {
 	}
 
 	public static List<TokenRelationship> tokenRels(StateView view, AccountID id) {
+		return view.projections.tokenRels(id, aId -> projectedTokenRels(view, aId));
+	}
+
+	private static List<TokenRelationship> projectedTokenRels(StateView view, AccountID id) {
 		var account = view.accounts().get(fromAccountId(id));
 		List<TokenRelationship> relationships = new ArrayList<>();
 		var tokenIds = account.tokens().asIds();
@@ -233,6 +254,10 @@ public class StateView {
 	}
 
 	public Optional<TokenInfo> infoForToken(TokenID tokenID) {
+		return projections.tokenInfo(tokenID, this::projectedInfoForToken);
+	}
+
+	private Optional<TokenInfo> projectedInfoForToken(TokenID tokenID) {
 		try {
 			var id = tokenStore.resolve(tokenID);
 			if (id == MISSING_TOKEN) {
@@ -369,6 +394,10 @@ public class StateView {
 	}
 
 	public Optional<CryptoGetInfoResponse.AccountInfo> infoForAccount(AccountID id) {
+		return projections.accountInfo(id, this::projectedInfoForAccount);
+	}
+
+	private Optional<CryptoGetInfoResponse.AccountInfo> projectedInfoForAccount(AccountID id) {
 		var account = accounts().get(fromAccountId(id));
 		if (account == null) {
 			return Optional.empty();
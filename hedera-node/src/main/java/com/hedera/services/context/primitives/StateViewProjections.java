@@ -0,0 +1,230 @@
+package com.hedera.services.context.primitives;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.stats.MiscRunningAvgs;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.CryptoGetInfoResponse;
+import com.hederahashgraph.api.proto.java.TokenID;
+import com.hederahashgraph.api.proto.java.TokenInfo;
+import com.hederahashgraph.api.proto.java.TokenRelationship;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * Caches the gRPC projections of accounts, tokens, and token relationships that
+ * {@link StateView} builds to answer info queries, so that repeated queries about
+ * the same entities do not rebuild their responses from the Merkle leaves.
+ *
+ * <p>Each cached projection is stamped with the version of the entities it was
+ * built from. Versions are striped by entity number, and advanced from
+ * {@code handleTransaction} whenever an account, token relationship, or token is
+ * changed; so a projection is re-built on the first lookup after any entity it
+ * depends on (or an entity sharing its stripe) has changed. An account-scoped
+ * projection depends on the account and the tokens of all its relationships.
+ *
+ * <p>Each kind of projection is held in an LRU map with a fixed maximum size.
+ */
+public class StateViewProjections {
+	static final int NUM_STRIPES = 1 << 12;
+
+	/* Projects each lookup afresh and caches nothing; for views that are not shared between queries. */
+	public static final StateViewProjections UNCACHED = new StateViewProjections(0, null) {
+		@Override
+		public Optional<CryptoGetInfoResponse.AccountInfo> accountInfo(
+				AccountID id,
+				Function<AccountID, Optional<CryptoGetInfoResponse.AccountInfo>> projection
+		) {
+			return projection.apply(id);
+		}
+
+		@Override
+		public List<TokenRelationship> tokenRels(AccountID id, Function<AccountID, List<TokenRelationship>> projection) {
+			return projection.apply(id);
+		}
+
+		@Override
+		public Optional<TokenInfo> tokenInfo(TokenID id, Function<TokenID, Optional<TokenInfo>> projection) {
+			return projection.apply(id);
+		}
+	};
+
+	private final MiscRunningAvgs runningAvgs;
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong epoch = new AtomicLong();
+	private final AtomicLong lookups = new AtomicLong();
+	private final AtomicLong tokenChanges = new AtomicLong();
+	private final AtomicLongArray tokenVersions = new AtomicLongArray(NUM_STRIPES);
+	private final AtomicLongArray accountVersions = new AtomicLongArray(NUM_STRIPES);
+
+	private final Map<TokenID, Projection<TokenInfo>> tokenInfos;
+	private final Map<AccountID, Projection<List<TokenRelationship>>> tokenRels;
+	private final Map<AccountID, Projection<CryptoGetInfoResponse.AccountInfo>> accountInfos;
+
+	public StateViewProjections(int maxEntries, MiscRunningAvgs runningAvgs) {
+		this.runningAvgs = runningAvgs;
+
+		tokenRels = boundedLru(maxEntries);
+		tokenInfos = boundedLru(maxEntries);
+		accountInfos = boundedLru(maxEntries);
+	}
+
+	public void accountChanged(AccountID id) {
+		accountVersions.incrementAndGet(stripeOf(id.getAccountNum()));
+	}
+
+	public void tokenChanged(TokenID id) {
+		tokenChanges.incrementAndGet();
+		tokenVersions.incrementAndGet(stripeOf(id.getTokenNum()));
+	}
+
+	public void clear() {
+		epoch.incrementAndGet();
+		tokenRels.clear();
+		tokenInfos.clear();
+		accountInfos.clear();
+	}
+
+	public Optional<CryptoGetInfoResponse.AccountInfo> accountInfo(
+			AccountID id,
+			Function<AccountID, Optional<CryptoGetInfoResponse.AccountInfo>> projection
+	) {
+		return Optional.ofNullable(accountScoped(
+				accountInfos,
+				id,
+				aId -> projection.apply(aId).orElse(null),
+				CryptoGetInfoResponse.AccountInfo::getTokenRelationshipsList));
+	}
+
+	public List<TokenRelationship> tokenRels(AccountID id, Function<AccountID, List<TokenRelationship>> projection) {
+		return accountScoped(tokenRels, id, projection, Function.identity());
+	}
+
+	public Optional<TokenInfo> tokenInfo(TokenID id, Function<TokenID, Optional<TokenInfo>> projection) {
+		long epochAtStart = epoch.get();
+		int stripe = stripeOf(id.getTokenNum());
+
+		var cached = tokenInfos.get(id);
+		if (cached != null && cached.epoch == epochAtStart && cached.version == tokenVersions.get(stripe)) {
+			return Optional.of(hit(cached.value));
+		}
+		recordLookup(false);
+
+		long versionAtStart = tokenVersions.get(stripe);
+		var info = projection.apply(id);
+		info.ifPresent(value ->
+				tokenInfos.put(id, new Projection<>(value, epochAtStart, versionAtStart, 0L, null)));
+		return info;
+	}
+
+	public double hitRate() {
+		long n = lookups.get();
+		return (n == 0L) ? 0.0 : (double) hits.get() / n;
+	}
+
+	private <T> T accountScoped(
+			Map<AccountID, Projection<T>> cache,
+			AccountID id,
+			Function<AccountID, T> projection,
+			Function<T, List<TokenRelationship>> relsOf
+	) {
+		long epochAtStart = epoch.get();
+		int stripe = stripeOf(id.getAccountNum());
+
+		var cached = cache.get(id);
+		if (cached != null
+				&& cached.epoch == epochAtStart
+				&& cached.version == accountVersions.get(stripe)
+				&& cached.tokensVersion == tokensVersionOf(cached.rels)) {
+			return hit(cached.value);
+		}
+		recordLookup(false);
+
+		long versionAtStart = accountVersions.get(stripe);
+		long tokenChangesAtStart = tokenChanges.get();
+		var value = projection.apply(id);
+		/* If any token changed while projecting, we can't know which token versions the projection reflects. */
+		if (value != null && tokenChanges.get() == tokenChangesAtStart) {
+			var rels = relsOf.apply(value);
+			cache.put(id, new Projection<>(value, epochAtStart, versionAtStart, tokensVersionOf(rels), rels));
+		}
+		return value;
+	}
+
+	private long tokensVersionOf(List<TokenRelationship> rels) {
+		long sum = 0L;
+		for (TokenRelationship rel : rels) {
+			sum += tokenVersions.get(stripeOf(rel.getTokenId().getTokenNum()));
+		}
+		return sum;
+	}
+
+	private <T> T hit(T value) {
+		hits.incrementAndGet();
+		recordLookup(true);
+		return value;
+	}
+
+	private void recordLookup(boolean wasHit) {
+		lookups.incrementAndGet();
+		runningAvgs.recordQueryProjectionLookup(wasHit);
+	}
+
+	int size() {
+		return accountInfos.size() + tokenRels.size() + tokenInfos.size();
+	}
+
+	static int stripeOf(long num) {
+		return (int) (num & (NUM_STRIPES - 1));
+	}
+
+	private static <K, V> Map<K, V> boundedLru(int maxEntries) {
+		return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+				return size() > maxEntries;
+			}
+		});
+	}
+
+	private static class Projection<T> {
+		private final T value;
+		private final long epoch;
+		private final long version;
+		private final long tokensVersion;
+		private final List<TokenRelationship> rels;
+
+		Projection(T value, long epoch, long version, long tokensVersion, List<TokenRelationship> rels) {
+			this.value = value;
+			this.epoch = epoch;
+			this.version = version;
+			this.tokensVersion = tokensVersion;
+			this.rels = rels;
+		}
+	}
+}
@@ -201,6 +201,7 @@ public class BootstrapProperties implements PropertySource {
 			"ledger.autoRenewPeriod.maxDuration",
 			"ledger.autoRenewPeriod.minDuration",
 			"ledger.keepRecordsInState",
+			"ledger.records.maxPurgesPerTxn",
 			"ledger.fundingAccount",
 			"ledger.maxAccountNum",
 			"ledger.transfers.maxLen",
@@ -216,12 +217,28 @@ public class BootstrapProperties implements PropertySource {
 	static final Set<String> NODE_PROPS = Set.of(
 			"grpc.port",
 			"grpc.tlsPort",
+			"hedera.accountsExportFormat",
+			"hedera.handle.batchBySecond",
+			"hedera.handle.trackConflictFreeGroups",
+			"hedera.preparedTxns.maxEntries",
 			"hedera.profiles.active",
+			"hedera.recordStream.compressFiles",
 			"hedera.recordStream.isEnabled",
 			"hedera.recordStream.logDir",
 			"hedera.recordStream.logPeriod",
 			"hedera.recordStream.queueCapacity",
 			"queries.blob.lookupRetries",
+			"queries.balances.maxBatchSize",
+			"queries.executor.freeThreads",
+			"queries.executor.paidThreads",
+			"queries.executor.queueCapacity",
+			"queries.fromSignedState",
+			"queries.projections.maxEntries",
+			"receipts.subscriptions.maxPerStream",
+			"receipts.subscriptions.timeoutSecs",
+			"receipts.subscriptions.maxPerConnection",
+			"receipts.subscriptions.maxPending",
+			"sigs.orderPlans.maxEntries",
 			"precheck.account.maxLookupRetries",
 			"precheck.account.lookupRetryBackoffIncrementMs",
 			"stats.hapiOps.speedometerUpdateIntervalMs",
@@ -261,11 +278,14 @@ public class BootstrapProperties implements PropertySource {
 			entry("files.nodeDetails", AS_LONG),
 			entry("grpc.port", AS_INT),
 			entry("grpc.tlsPort", AS_INT),
+			entry("hedera.handle.batchBySecond", AS_BOOLEAN),
+			entry("hedera.handle.trackConflictFreeGroups", AS_BOOLEAN),
 			entry("hedera.numReservedSystemEntities", AS_LONG),
 			entry("hedera.profiles.active", AS_PROFILE),
 			entry("hedera.realm", AS_LONG),
 			entry("hedera.recordStream.logPeriod", AS_LONG),
 			entry("hedera.recordStream.isEnabled", AS_BOOLEAN),
+			entry("hedera.recordStream.compressFiles", AS_BOOLEAN),
 			entry("hedera.recordStream.queueCapacity", AS_INT),
 			entry("hedera.shard", AS_LONG),
 			entry("hedera.transaction.maxMemoUtf8Bytes", AS_INT),
@@ -277,6 +297,18 @@ public class BootstrapProperties implements PropertySource {
 			entry("precheck.account.maxLookupRetries", AS_INT),
 			entry("precheck.account.lookupRetryBackoffIncrementMs", AS_INT),
 			entry("queries.blob.lookupRetries", AS_INT),
+			entry("queries.balances.maxBatchSize", AS_INT),
+			entry("queries.executor.freeThreads", AS_INT),
+			entry("queries.executor.paidThreads", AS_INT),
+			entry("queries.executor.queueCapacity", AS_INT),
+			entry("queries.fromSignedState", AS_BOOLEAN),
+			entry("queries.projections.maxEntries", AS_INT),
+			entry("receipts.subscriptions.maxPerStream", AS_INT),
+			entry("receipts.subscriptions.timeoutSecs", AS_INT),
+			entry("receipts.subscriptions.maxPerConnection", AS_INT),
+			entry("receipts.subscriptions.maxPending", AS_INT),
+			entry("sigs.orderPlans.maxEntries", AS_INT),
+			entry("hedera.preparedTxns.maxEntries", AS_INT),
 			entry("bootstrap.rates.currentHbarEquiv", AS_INT),
 			entry("bootstrap.rates.currentCentEquiv", AS_INT),
 			entry("bootstrap.rates.currentExpiry", AS_LONG),
@@ -288,6 +320,7 @@ public class BootstrapProperties implements PropertySource {
 			entry("files.maxSizeKb", AS_INT),
 			entry("ledger.fundingAccount", AS_LONG),
 			entry("ledger.keepRecordsInState", AS_BOOLEAN),
+			entry("ledger.records.maxPurgesPerTxn", AS_INT),
 			entry("ledger.maxAccountNum", AS_LONG),
 			entry("ledger.numSystemAccounts", AS_INT),
 			entry("ledger.transfers.maxLen", AS_INT),
@@ -59,6 +59,8 @@ public class GlobalDynamicProperties {
 	private int localCallEstRetBytes;
 	private int scheduledTxExpiryTimeSecs;
 	private Set<HederaFunctionality> schedulingWhitelist;
+	private int maxRecordPurgesPerTxn;
+	private volatile long generation;
 
 	public GlobalDynamicProperties(
 			HederaNumbers hederaNums,
@@ -104,6 +106,18 @@ public class GlobalDynamicProperties {
 		localCallEstRetBytes = properties.getIntProperty("contracts.localCall.estRetBytes");
 		scheduledTxExpiryTimeSecs = properties.getIntProperty("ledger.schedule.txExpiryTimeSecs");
 		schedulingWhitelist = properties.getFunctionsProperty("scheduling.whitelist");
+		maxRecordPurgesPerTxn = properties.getIntProperty("ledger.records.maxPurgesPerTxn");
+		generation++;
+	}
+
+	/**
+	 * Returns a stamp that changes each time the properties are reloaded; so work
+	 * done against one generation can be re-used exactly as long as it is current.
+	 *
+	 * @return the current generation of these properties
+	 */
+	public long generation() {
+		return generation;
 	}
 
 	public int maxTokensPerAccount() {
@@ -221,4 +235,8 @@ public class GlobalDynamicProperties {
 	public Set<HederaFunctionality> schedulingWhitelist() {
 		return schedulingWhitelist;
 	}
+
+	public int maxRecordPurgesPerTxn() {
+		return maxRecordPurgesPerTxn;
+	}
 }
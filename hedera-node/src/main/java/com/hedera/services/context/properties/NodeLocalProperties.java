@@ -20,6 +20,8 @@ package com.hedera.services.context.properties;
  * ‍
  */
 
+import com.hedera.services.state.exports.AccountsExportFormat;
+
 public class NodeLocalProperties {
 	private final PropertySource properties;
 
@@ -35,7 +37,23 @@ public class NodeLocalProperties {
 	private long recordLogPeriod;
 	private boolean recordStreamEnabled;
 	private int recordStreamQueueCapacity;
+	private boolean recordStreamCompressFiles;
 	private int queryBlobLookupRetries;
+	private int queryBalancesMaxBatchSize;
+	private int queryProjectionsMaxEntries;
+	private int queryFreeThreads;
+	private int queryPaidThreads;
+	private int queryExecutorQueueCapacity;
+	private int receiptSubscriptionsMaxPerStream;
+	private int receiptSubscriptionsTimeoutSecs;
+	private int receiptSubscriptionsMaxPerConnection;
+	private int receiptSubscriptionsMaxPending;
+	private int sigsOrderPlansMaxEntries;
+	private int preparedTxnsMaxEntries;
+	private boolean queriesFromSignedState;
+	private AccountsExportFormat accountsExportFormat;
+	private boolean handleBatchBySecond;
+	private boolean handleTrackConflictFreeGroups;
 
 	public NodeLocalProperties(PropertySource properties) {
 		this.properties = properties;
@@ -56,7 +74,24 @@ public class NodeLocalProperties {
 		recordLogPeriod = properties.getLongProperty("hedera.recordStream.logPeriod");
 		recordStreamEnabled = properties.getBooleanProperty("hedera.recordStream.isEnabled");
 		recordStreamQueueCapacity = properties.getIntProperty("hedera.recordStream.queueCapacity");
+		recordStreamCompressFiles = properties.getBooleanProperty("hedera.recordStream.compressFiles");
 		queryBlobLookupRetries = properties.getIntProperty("queries.blob.lookupRetries");
+		queryBalancesMaxBatchSize = properties.getIntProperty("queries.balances.maxBatchSize");
+		queryProjectionsMaxEntries = properties.getIntProperty("queries.projections.maxEntries");
+		queryFreeThreads = properties.getIntProperty("queries.executor.freeThreads");
+		queryPaidThreads = properties.getIntProperty("queries.executor.paidThreads");
+		queryExecutorQueueCapacity = properties.getIntProperty("queries.executor.queueCapacity");
+		receiptSubscriptionsMaxPerStream = properties.getIntProperty("receipts.subscriptions.maxPerStream");
+		receiptSubscriptionsTimeoutSecs = properties.getIntProperty("receipts.subscriptions.timeoutSecs");
+		receiptSubscriptionsMaxPerConnection = properties.getIntProperty("receipts.subscriptions.maxPerConnection");
+		receiptSubscriptionsMaxPending = properties.getIntProperty("receipts.subscriptions.maxPending");
+		sigsOrderPlansMaxEntries = properties.getIntProperty("sigs.orderPlans.maxEntries");
+		preparedTxnsMaxEntries = properties.getIntProperty("hedera.preparedTxns.maxEntries");
+		queriesFromSignedState = properties.getBooleanProperty("queries.fromSignedState");
+		accountsExportFormat = AccountsExportFormat.valueOf(
+				properties.getStringProperty("hedera.accountsExportFormat"));
+		handleBatchBySecond = properties.getBooleanProperty("hedera.handle.batchBySecond");
+		handleTrackConflictFreeGroups = properties.getBooleanProperty("hedera.handle.trackConflictFreeGroups");
 	}
 
 	public int port() {
@@ -107,7 +142,71 @@ public class NodeLocalProperties {
 		return recordStreamQueueCapacity;
 	}
 
+	public boolean shouldCompressRecordFiles() {
+		return recordStreamCompressFiles;
+	}
+
 	public int queryBlobLookupRetries() {
 		return queryBlobLookupRetries;
 	}
+
+	public int queryBalancesMaxBatchSize() {
+		return queryBalancesMaxBatchSize;
+	}
+
+	public int queryProjectionsMaxEntries() {
+		return queryProjectionsMaxEntries;
+	}
+
+	public int queryFreeThreads() {
+		return queryFreeThreads;
+	}
+
+	public int queryPaidThreads() {
+		return queryPaidThreads;
+	}
+
+	public int queryExecutorQueueCapacity() {
+		return queryExecutorQueueCapacity;
+	}
+
+	public int receiptSubscriptionsMaxPerStream() {
+		return receiptSubscriptionsMaxPerStream;
+	}
+
+	public int receiptSubscriptionsTimeoutSecs() {
+		return receiptSubscriptionsTimeoutSecs;
+	}
+
+	public int receiptSubscriptionsMaxPerConnection() {
+		return receiptSubscriptionsMaxPerConnection;
+	}
+
+	public int receiptSubscriptionsMaxPending() {
+		return receiptSubscriptionsMaxPending;
+	}
+
+	public int sigsOrderPlansMaxEntries() {
+		return sigsOrderPlansMaxEntries;
+	}
+
+	public int preparedTxnsMaxEntries() {
+		return preparedTxnsMaxEntries;
+	}
+
+	public boolean shouldAnswerQueriesFromSignedState() {
+		return queriesFromSignedState;
+	}
+
+	public AccountsExportFormat accountsExportFormat() {
+		return accountsExportFormat;
+	}
+
+	public boolean shouldBatchHandleBySecond() {
+		return handleBatchBySecond;
+	}
+
+	public boolean shouldTrackConflictFreeGroups() {
+		return handleTrackConflictFreeGroups;
+	}
 }
@@ -22,6 +22,8 @@ package com.hedera.services.contracts.execution;
 
 import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.context.properties.PropertySource;
+import com.hedera.services.contracts.sources.LedgerAccountsSource;
+import com.hedera.services.stats.MiscRunningAvgs;
 import com.hederahashgraph.api.proto.java.ContractFunctionResult;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 import com.hedera.services.legacy.evm.SolidityExecutor;
@@ -39,18 +41,38 @@ import java.util.Map;
 import java.util.Optional;
 
 public class SolidityLifecycle {
+	private final MiscRunningAvgs runningAvgs;
+	private final LedgerAccountsSource accountSource;
 	private final GlobalDynamicProperties properties;
 
 	public static final String OVERSIZE_RESULT_ERROR_MSG_TPL =
 			"Result size (%d bytes) exceeded maximum allowed size (%d bytes)";
 
-	public SolidityLifecycle(GlobalDynamicProperties properties) {
+	public SolidityLifecycle(
+			GlobalDynamicProperties properties,
+			LedgerAccountsSource accountSource,
+			MiscRunningAvgs runningAvgs
+	) {
 		this.properties = properties;
+		this.runningAvgs = runningAvgs;
+		this.accountSource = accountSource;
 	}
 
 	public Map.Entry<ContractFunctionResult, ResponseCodeEnum> run(
 			SolidityExecutor executor,
 			ServicesRepositoryRoot root
+	) {
+		accountSource.beginCallScope();
+		try {
+			return scopedRun(executor, root);
+		} finally {
+			accountSource.endCallScope().ifPresent(runningAvgs::recordEvmAccountCacheHitRatio);
+		}
+	}
+
+	private Map.Entry<ContractFunctionResult, ResponseCodeEnum> scopedRun(
+			SolidityExecutor executor,
+			ServicesRepositoryRoot root
 	) {
 		cycle(executor);
 
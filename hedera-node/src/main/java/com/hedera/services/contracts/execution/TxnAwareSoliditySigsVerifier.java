@@ -27,11 +27,17 @@ import com.hedera.services.keys.SyncActivationCheck;
 import com.hedera.services.sigs.PlatformSigOps;
 import com.hedera.services.sigs.factories.BodySigningSigFactory;
 import com.hedera.services.sigs.verification.SyncVerifier;
+import com.hedera.services.stats.MiscRunningAvgs;
+import com.hedera.services.utils.TxnAccessor;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.legacy.core.jproto.JKey;
+import com.swirlds.common.crypto.TransactionSignature;
 import com.swirlds.fcmap.FCMap;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Supplier;
@@ -39,26 +45,31 @@ import java.util.stream.Stream;
 
 import static com.hedera.services.keys.HederaKeyActivation.ONLY_IF_SIG_IS_VALID;
 import static com.hedera.services.keys.HederaKeyActivation.isActive;
+import static com.hedera.services.sigs.factories.PlatformSigFactory.allMaterialEquals;
 import static com.hedera.services.sigs.sourcing.DefaultSigBytesProvider.DEFAULT_SIG_BYTES;
 import static com.hedera.services.state.merkle.MerkleEntityId.fromAccountId;
+import static com.swirlds.common.crypto.VerificationStatus.UNKNOWN;
 import static java.util.stream.Collectors.toList;
 
 public class TxnAwareSoliditySigsVerifier implements SoliditySigsVerifier {
 	private final SyncVerifier syncVerifier;
 	private final TransactionContext txnCtx;
 	private final SyncActivationCheck check;
+	private final MiscRunningAvgs runningAvgs;
 	private final Supplier<FCMap<MerkleEntityId, MerkleAccount>> accounts;
 
 	public TxnAwareSoliditySigsVerifier(
 			SyncVerifier syncVerifier,
 			TransactionContext txnCtx,
 			SyncActivationCheck check,
-			Supplier<FCMap<MerkleEntityId, MerkleAccount>> accounts
+			Supplier<FCMap<MerkleEntityId, MerkleAccount>> accounts,
+			MiscRunningAvgs runningAvgs
 	) {
 		this.txnCtx = txnCtx;
 		this.accounts = accounts;
 		this.syncVerifier = syncVerifier;
 		this.check = check;
+		this.runningAvgs = runningAvgs;
 	}
 
 	@Override
@@ -71,10 +82,11 @@ public class TxnAwareSoliditySigsVerifier implements SoliditySigsVerifier {
 		if (requiredKeys.isEmpty()) {
 			return true;
 		} else {
+			var accessor = txnCtx.accessor();
 			return check.allKeysAreActive(
 					requiredKeys,
-					syncVerifier,
-					txnCtx.accessor(),
+					unknownSigs -> verifyReusingExpanded(unknownSigs, expandedSigsOf(accessor)),
+					accessor,
 					PlatformSigOps::createEd25519PlatformSigsFrom,
 					DEFAULT_SIG_BYTES::allPartiesSigBytesFor,
 					BodySigningSigFactory::new,
@@ -83,6 +95,46 @@ public class TxnAwareSoliditySigsVerifier implements SoliditySigsVerifier {
 		}
 	}
 
+	/**
+	 * Verifies the given sigs in-place, replacing each sig with the same key, signature, and
+	 * data as one already verified during signature expansion by that expanded sig; and
+	 * synchronously verifying only the rest.
+	 *
+	 * @param unknownSigs the sigs to verify
+	 * @param expandedSigs the sigs of the handled transaction
+	 */
+	void verifyReusingExpanded(List<TransactionSignature> unknownSigs, List<TransactionSignature> expandedSigs) {
+		List<TransactionSignature> unverified = new ArrayList<>();
+		for (int i = 0, n = unknownSigs.size(); i < n; i++) {
+			var sig = unknownSigs.get(i);
+			var verified = verifiedMatchFor(sig, expandedSigs);
+			if (verified != null) {
+				unknownSigs.set(i, verified);
+			} else {
+				unverified.add(sig);
+			}
+			runningAvgs.recordContractSigLookup(verified != null);
+		}
+		if (!unverified.isEmpty()) {
+			syncVerifier.verifySync(unverified);
+		}
+	}
+
+	private TransactionSignature verifiedMatchFor(TransactionSignature sig, List<TransactionSignature> expandedSigs) {
+		for (TransactionSignature expanded : expandedSigs) {
+			if (expanded.getSignatureStatus() != UNKNOWN && allMaterialEquals(sig, expanded)) {
+				return expanded;
+			}
+		}
+		return null;
+	}
+
+	private List<TransactionSignature> expandedSigsOf(TxnAccessor accessor) {
+		return accessor.isTriggeredTxn()
+				? Collections.emptyList()
+				: accessor.getPlatformTxn().getSignatures();
+	}
+
 	private Stream<JKey> keyRequirement(AccountID id) {
 		return Optional.ofNullable(accounts.get().get(fromAccountId(id)))
 				.filter(account -> !account.isSmartContract())
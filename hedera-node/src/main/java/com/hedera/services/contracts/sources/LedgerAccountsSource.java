@@ -23,6 +23,7 @@ package com.hedera.services.contracts.sources;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.ledger.HederaLedger;
 import com.hedera.services.ledger.accounts.HederaAccountCustomizer;
+import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.submerkle.EntityId;
 import com.hedera.services.legacy.core.jproto.JContractIDKey;
 import com.hederahashgraph.api.proto.java.AccountID;
@@ -30,9 +31,13 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.ethereum.core.AccountState;
 import org.ethereum.datasource.Source;
+import org.ethereum.db.ByteArrayWrapper;
 import org.ethereum.util.ALock;
 
 import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalDouble;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -40,15 +45,29 @@ import static com.hedera.services.utils.EntityIdUtils.accountParsedFromSolidityA
 import static com.hedera.services.utils.EntityIdUtils.asContract;
 import static com.hedera.services.utils.EntityIdUtils.asLiteralString;
 
+/**
+ * Adapts the {@link HederaLedger} to the source of {@link AccountState}s the EVM reads and writes.
+ *
+ * <p>Between {@link #beginCallScope()} and {@link #endCallScope()}, each account read is cached in
+ * primitive form, so repeated reads of an address neither take the lock nor go back to the ledger;
+ * and a put that would not change the cached balance, expiry, or deletion flag is skipped. Only the
+ * handle thread opens a scope, so the cache itself is unsynchronized.
+ */
 public class LedgerAccountsSource implements Source<byte[], AccountState> {
 	static Logger log = LogManager.getLogger(LedgerAccountsSource.class);
 
+	private static final CachedAccount MISSING = new CachedAccount();
+
 	private final HederaLedger ledger;
 	private final GlobalDynamicProperties properties;
 	private final ReadWriteLock rwLock = new ReentrantReadWriteLock();
 	private final ALock rLock = new ALock(rwLock.readLock());
 	private final ALock wLock = new ALock(rwLock.writeLock());
 
+	private int scopeHits;
+	private int scopeMisses;
+	private Map<ByteArrayWrapper, CachedAccount> scopeCache = null;
+
 	public LedgerAccountsSource(HederaLedger ledger, GlobalDynamicProperties properties) {
 		this.ledger = ledger;
 		this.properties = properties;
@@ -59,35 +78,52 @@ public class LedgerAccountsSource implements Source<byte[], AccountState> {
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * Starts caching the accounts read through this source, until the matching {@link #endCallScope()}.
+	 */
+	public void beginCallScope() {
+		scopeHits = 0;
+		scopeMisses = 0;
+		scopeCache = new HashMap<>();
+	}
+
+	/**
+	 * Stops caching the accounts read through this source, and drops any cached accounts.
+	 *
+	 * @return the fraction of account reads in the scope served from the cache, if there were any reads
+	 */
+	public OptionalDouble endCallScope() {
+		scopeCache = null;
+		int lookups = scopeHits + scopeMisses;
+		return (lookups == 0) ? OptionalDouble.empty() : OptionalDouble.of((double) scopeHits / lookups);
+	}
+
 	@Override
 	public AccountState get(byte[] key) {
+		if (scopeCache == null) {
+			var cached = cachedFromLedger(key);
+			return (cached == MISSING) ? null : cached.asEvmState();
+		}
+
+		var scopedKey = new ByteArrayWrapper(key);
+		var cached = scopeCache.get(scopedKey);
+		if (cached != null) {
+			scopeHits++;
+		} else {
+			scopeMisses++;
+			cached = cachedFromLedger(key);
+			scopeCache.put(scopedKey, cached);
+		}
+		return (cached == MISSING) ? null : cached.asEvmState();
+	}
+
+	private CachedAccount cachedFromLedger(byte[] key) {
 		try (ALock ignored = rLock.lock()) {
 			var id = accountParsedFromSolidityAddress(key);
 			if (!ledger.exists(id)) {
-				return null;
-			}
-
-			var hederaAccount = ledger.get(id);
-			var evmState = new AccountState(
-					BigInteger.ZERO,
-					BigInteger.valueOf(hederaAccount.getBalance()));
-
-			evmState.setShardId(id.getShardNum());
-			evmState.setRealmId(id.getRealmNum());
-			evmState.setAccountNum(id.getAccountNum());
-			evmState.setAutoRenewPeriod(hederaAccount.getAutoRenewSecs());
-			if (hederaAccount.getProxy() != null) {
-				var proxy = hederaAccount.getProxy();
-				evmState.setProxyAccountShard(proxy.shard());
-				evmState.setProxyAccountRealm(proxy.realm());
-				evmState.setProxyAccountNum(proxy.num());
+				return MISSING;
 			}
-			evmState.setReceiverSigRequired(hederaAccount.isReceiverSigRequired());
-			evmState.setDeleted(hederaAccount.isDeleted());
-			evmState.setExpirationTime(hederaAccount.getExpiry());
-			evmState.setSmartContract(hederaAccount.isSmartContract());
-
-			return evmState;
+			return new CachedAccount(id, ledger.get(id));
 		}
 	}
 
@@ -101,6 +137,15 @@ public class LedgerAccountsSource implements Source<byte[], AccountState> {
 			return;
 		}
 
+		ByteArrayWrapper scopedKey = null;
+		if (scopeCache != null) {
+			scopedKey = new ByteArrayWrapper(key);
+			var cached = scopeCache.get(scopedKey);
+			if (cached != null && cached != MISSING && cached.isUnchangedBy(evmState)) {
+				return;
+			}
+		}
+
 		try (ALock ignored = wLock.lock()) {
 			if (ledger.exists(id)) {
 				updateForEvm(id, evmState);
@@ -108,6 +153,10 @@ public class LedgerAccountsSource implements Source<byte[], AccountState> {
 				createForEvm(id, evmState);
 			}
 		}
+
+		if (scopedKey != null) {
+			scopeCache.remove(scopedKey);
+		}
 	}
 
 	private void updateForEvm(AccountID id, AccountState evmState) {
@@ -144,4 +193,59 @@ public class LedgerAccountsSource implements Source<byte[], AccountState> {
 	public boolean flush() {
 		return false;
 	}
+
+	private static class CachedAccount {
+		private long shard;
+		private long realm;
+		private long num;
+		private long balance;
+		private long expiry;
+		private long autoRenewSecs;
+		private boolean deleted;
+		private boolean smartContract;
+		private boolean receiverSigRequired;
+		private EntityId proxy;
+
+		private CachedAccount() {
+		}
+
+		private CachedAccount(AccountID id, MerkleAccount hederaAccount) {
+			shard = id.getShardNum();
+			realm = id.getRealmNum();
+			num = id.getAccountNum();
+			balance = hederaAccount.getBalance();
+			expiry = hederaAccount.getExpiry();
+			autoRenewSecs = hederaAccount.getAutoRenewSecs();
+			deleted = hederaAccount.isDeleted();
+			smartContract = hederaAccount.isSmartContract();
+			receiverSigRequired = hederaAccount.isReceiverSigRequired();
+			proxy = hederaAccount.getProxy();
+		}
+
+		private AccountState asEvmState() {
+			var evmState = new AccountState(BigInteger.ZERO, BigInteger.valueOf(balance));
+
+			evmState.setShardId(shard);
+			evmState.setRealmId(realm);
+			evmState.setAccountNum(num);
+			evmState.setAutoRenewPeriod(autoRenewSecs);
+			if (proxy != null) {
+				evmState.setProxyAccountShard(proxy.shard());
+				evmState.setProxyAccountRealm(proxy.realm());
+				evmState.setProxyAccountNum(proxy.num());
+			}
+			evmState.setReceiverSigRequired(receiverSigRequired);
+			evmState.setDeleted(deleted);
+			evmState.setExpirationTime(expiry);
+			evmState.setSmartContract(smartContract);
+
+			return evmState;
+		}
+
+		private boolean isUnchangedBy(AccountState evmState) {
+			return balance == evmState.getBalance().longValue()
+					&& expiry == evmState.getExpirationTime()
+					&& deleted == evmState.isDeleted();
+		}
+	}
 }
@@ -27,11 +27,8 @@ import com.hedera.services.files.HederaFs;
 import com.hederahashgraph.api.proto.java.CurrentAndNextFeeSchedule;
 import com.hederahashgraph.api.proto.java.FeeComponents;
 import com.hederahashgraph.api.proto.java.FeeData;
-import com.hederahashgraph.api.proto.java.FeeSchedule;
 import com.hederahashgraph.api.proto.java.HederaFunctionality;
 import com.hederahashgraph.api.proto.java.Timestamp;
-import com.hederahashgraph.api.proto.java.TimestampSeconds;
-import com.hederahashgraph.api.proto.java.TransactionFeeSchedule;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -41,7 +38,6 @@ import java.util.Objects;
 
 import static com.hedera.services.legacy.logic.ApplicationConstants.DEFAULT_FEE;
 import static com.hedera.services.utils.EntityIdUtils.readableId;
-import static java.util.stream.Collectors.toMap;
 
 /**
  * Implements a {@link UsagePricesProvider} by loading the required
@@ -138,22 +134,17 @@ public class AwareFcfsUsagePrices implements UsagePricesProvider {
 	}
 
 	public void setFeeSchedules(CurrentAndNextFeeSchedule feeSchedules) {
-		this.feeSchedules = feeSchedules;
-
-		currFunctionUsagePrices = functionUsagePricesFrom(feeSchedules.getCurrentFeeSchedule());
-		currFunctionUsagePricesExpiry = asTimestamp(feeSchedules.getCurrentFeeSchedule().getExpiryTime());
-
-		nextFunctionUsagePrices = functionUsagePricesFrom(feeSchedules.getNextFeeSchedule());
-		nextFunctionUsagePricesExpiry = asTimestamp(feeSchedules.getNextFeeSchedule().getExpiryTime());
+		installPriceSchedules(CompiledUsagePrices.from(feeSchedules));
 	}
 
-	private Timestamp asTimestamp(TimestampSeconds ts) {
-		return Timestamp.newBuilder().setSeconds(ts.getSeconds()).build();
-	}
+	@Override
+	public void installPriceSchedules(CompiledUsagePrices compiled) {
+		this.feeSchedules = compiled.getFeeSchedules();
+
+		currFunctionUsagePrices = compiled.getCurrPrices();
+		currFunctionUsagePricesExpiry = compiled.getCurrExpiry();
 
-	private Map<HederaFunctionality, FeeData> functionUsagePricesFrom(FeeSchedule feeSchedule) {
-		return feeSchedule.getTransactionFeeScheduleList()
-				.stream()
-				.collect(toMap(TransactionFeeSchedule::getHederaFunctionality, TransactionFeeSchedule::getFeeData));
+		nextFunctionUsagePrices = compiled.getNextPrices();
+		nextFunctionUsagePricesExpiry = compiled.getNextExpiry();
 	}
 }
@@ -0,0 +1,107 @@
+package com.hedera.services.fees.calculation;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.hederahashgraph.api.proto.java.CurrentAndNextFeeSchedule;
+import com.hederahashgraph.api.proto.java.FeeData;
+import com.hederahashgraph.api.proto.java.FeeSchedule;
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import com.hederahashgraph.api.proto.java.TimestampSeconds;
+import com.hederahashgraph.api.proto.java.TransactionFeeSchedule;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * The fully-indexed form of a {@link CurrentAndNextFeeSchedule}, ready to be
+ * installed in a {@link UsagePricesProvider} without further work.
+ *
+ * @author Michael Tinker
+ */
+public class CompiledUsagePrices {
+	private final CurrentAndNextFeeSchedule feeSchedules;
+	private final Timestamp currExpiry;
+	private final Timestamp nextExpiry;
+	private final Map<HederaFunctionality, FeeData> currPrices;
+	private final Map<HederaFunctionality, FeeData> nextPrices;
+
+	private CompiledUsagePrices(CurrentAndNextFeeSchedule feeSchedules) {
+		this.feeSchedules = feeSchedules;
+
+		currPrices = functionUsagePricesFrom(feeSchedules.getCurrentFeeSchedule());
+		currExpiry = asTimestamp(feeSchedules.getCurrentFeeSchedule().getExpiryTime());
+
+		nextPrices = functionUsagePricesFrom(feeSchedules.getNextFeeSchedule());
+		nextExpiry = asTimestamp(feeSchedules.getNextFeeSchedule().getExpiryTime());
+	}
+
+	public static CompiledUsagePrices from(CurrentAndNextFeeSchedule feeSchedules) {
+		return new CompiledUsagePrices(feeSchedules);
+	}
+
+	/**
+	 * Parses and indexes the given serialized fee schedules, if possible.
+	 *
+	 * @param contents the candidate contents of the fee schedules file
+	 * @return the compiled prices, or empty if the contents are not valid schedules
+	 */
+	public static Optional<CompiledUsagePrices> from(byte[] contents) {
+		try {
+			return Optional.of(from(CurrentAndNextFeeSchedule.parseFrom(contents)));
+		} catch (InvalidProtocolBufferException | IllegalStateException ignore) {
+			return Optional.empty();
+		}
+	}
+
+	public CurrentAndNextFeeSchedule getFeeSchedules() {
+		return feeSchedules;
+	}
+
+	public Timestamp getCurrExpiry() {
+		return currExpiry;
+	}
+
+	public Timestamp getNextExpiry() {
+		return nextExpiry;
+	}
+
+	public Map<HederaFunctionality, FeeData> getCurrPrices() {
+		return currPrices;
+	}
+
+	public Map<HederaFunctionality, FeeData> getNextPrices() {
+		return nextPrices;
+	}
+
+	private static Timestamp asTimestamp(TimestampSeconds ts) {
+		return Timestamp.newBuilder().setSeconds(ts.getSeconds()).build();
+	}
+
+	private static Map<HederaFunctionality, FeeData> functionUsagePricesFrom(FeeSchedule feeSchedule) {
+		return feeSchedule.getTransactionFeeScheduleList()
+				.stream()
+				.collect(toMap(TransactionFeeSchedule::getHederaFunctionality, TransactionFeeSchedule::getFeeData));
+	}
+}
@@ -0,0 +1,139 @@
+package com.hedera.services.fees.calculation;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.context.primitives.StateView;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.utils.TxnAccessor;
+import com.hederahashgraph.api.proto.java.FeeData;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import com.hederahashgraph.exception.InvalidTxBodyException;
+import com.hederahashgraph.fee.SigValueObj;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Remembers the resource usage estimated for recent transactions whose estimators
+ * are {@link TxnResourceUsageEstimator#isStateIndependent() state-independent}, so
+ * that the usage estimated when a transaction is submitted to this node can be
+ * re-used when its fee is computed at consensus.
+ *
+ * <p>The usage of such a transaction is a function of only its body, its signature
+ * usage, and the dynamic properties. So a remembered usage is only re-used when the
+ * body bytes and all three signature usage counts are identical, and the dynamic
+ * properties are still at the {@link GlobalDynamicProperties#generation()} the usage
+ * was estimated against; in every other case the usage is simply re-estimated. This
+ * means a fee computed with the cache is always the fee that would have been computed
+ * without it.
+ */
+public class StateIndependentUsageCache {
+	public static final int DEFAULT_CAPACITY = 4_096;
+
+	private final GlobalDynamicProperties dynamicProperties;
+	private final Map<TransactionID, Usage> usages;
+
+	public StateIndependentUsageCache(GlobalDynamicProperties dynamicProperties) {
+		this(DEFAULT_CAPACITY, dynamicProperties);
+	}
+
+	public StateIndependentUsageCache(int capacity, GlobalDynamicProperties dynamicProperties) {
+		this.dynamicProperties = dynamicProperties;
+
+		usages = new LinkedHashMap<>() {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<TransactionID, Usage> eldest) {
+				return size() > capacity;
+			}
+		};
+	}
+
+	/**
+	 * Returns the resource usage of the given transaction, as estimated by the given
+	 * estimator; re-using a remembered estimate if the estimator is state-independent
+	 * and the estimate was made for exactly the same inputs.
+	 *
+	 * @param accessor the transaction in question
+	 * @param estimator the estimator applicable to the transaction
+	 * @param sigUsage the signature usage of the transaction
+	 * @param view the state of the world
+	 * @return the estimated resource usage
+	 * @throws InvalidTxBodyException if the transaction is malformed
+	 */
+	public FeeData usageGiven(
+			TxnAccessor accessor,
+			TxnResourceUsageEstimator estimator,
+			SigValueObj sigUsage,
+			StateView view
+	) throws InvalidTxBodyException {
+		if (!estimator.isStateIndependent()) {
+			return estimator.usageGiven(accessor.getTxn(), sigUsage, view);
+		}
+
+		var txnId = accessor.getTxnId();
+		var generation = dynamicProperties.generation();
+		Usage usage;
+		synchronized (this) {
+			usage = usages.get(txnId);
+		}
+		if (usage != null && usage.matches(accessor.getTxnBytes(), sigUsage, generation)) {
+			return usage.metrics;
+		}
+
+		var metrics = estimator.usageGiven(accessor.getTxn(), sigUsage, view);
+		usage = new Usage(accessor.getTxnBytes(), sigUsage, generation, metrics);
+		synchronized (this) {
+			usages.put(txnId, usage);
+		}
+		return metrics;
+	}
+
+	synchronized int size() {
+		return usages.size();
+	}
+
+	private static class Usage {
+		private final byte[] txnBytes;
+		private final int totalSigCount;
+		private final int payerAcctSigCount;
+		private final int signatureSize;
+		private final long propertiesGeneration;
+		private final FeeData metrics;
+
+		private Usage(byte[] txnBytes, SigValueObj sigUsage, long propertiesGeneration, FeeData metrics) {
+			this.txnBytes = txnBytes;
+			this.totalSigCount = sigUsage.getTotalSigCount();
+			this.payerAcctSigCount = sigUsage.getPayerAcctSigCount();
+			this.signatureSize = sigUsage.getSignatureSize();
+			this.propertiesGeneration = propertiesGeneration;
+			this.metrics = metrics;
+		}
+
+		private boolean matches(byte[] txnBytes, SigValueObj sigUsage, long propertiesGeneration) {
+			return this.propertiesGeneration == propertiesGeneration
+					&& totalSigCount == sigUsage.getTotalSigCount()
+					&& payerAcctSigCount == sigUsage.getPayerAcctSigCount()
+					&& signatureSize == sigUsage.getSignatureSize()
+					&& Arrays.equals(this.txnBytes, txnBytes);
+		}
+	}
+}
@@ -41,6 +41,16 @@ public interface TxnResourceUsageEstimator {
 	 */
 	boolean applicableTo(TransactionBody txn);
 
+	/**
+	 * Flags whether the estimated usage depends only on the txn, its signature
+	 * usage, and the dynamic properties; and never on the given state of the world.
+	 *
+	 * @return if the estimator ignores the state of the world
+	 */
+	default boolean isStateIndependent() {
+		return false;
+	}
+
 	/**
 	 * Returns the estimated resource usage for the given txn relative
 	 * to the given state of the world.
@@ -26,7 +26,6 @@ import com.hedera.services.fees.HbarCentExchange;
 import com.hedera.services.keys.HederaKeyTraversal;
 import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.utils.TxnAccessor;
-import com.hedera.services.utils.TxnAccessor;
 import com.hederahashgraph.api.proto.java.AccountAmount;
 import com.hederahashgraph.api.proto.java.ExchangeRate;
 import com.hederahashgraph.api.proto.java.FeeData;
@@ -68,17 +67,20 @@ public class UsageBasedFeeCalculator implements FeeCalculator {
 	private final UsagePricesProvider usagePrices;
 	private final List<QueryResourceUsageEstimator> queryUsageEstimators;
 	private final Function<HederaFunctionality, List<TxnResourceUsageEstimator>> txnUsageEstimators;
+	private final StateIndependentUsageCache usageCache;
 
 	public UsageBasedFeeCalculator(
 			HbarCentExchange exchange,
 			UsagePricesProvider usagePrices,
 			List<QueryResourceUsageEstimator> queryUsageEstimators,
-			Function<HederaFunctionality, List<TxnResourceUsageEstimator>> txnUsageEstimators
+			Function<HederaFunctionality, List<TxnResourceUsageEstimator>> txnUsageEstimators,
+			StateIndependentUsageCache usageCache
 	) {
 		this.exchange = exchange;
 		this.usagePrices = usagePrices;
 		this.queryUsageEstimators = queryUsageEstimators;
 		this.txnUsageEstimators = txnUsageEstimators;
+		this.usageCache = usageCache;
 	}
 
 	@Override
@@ -198,7 +200,7 @@ public class UsageBasedFeeCalculator implements FeeCalculator {
 		var sigUsage = getSigUsage(accessor, payerKey);
 		var usageEstimator = getTxnUsageEstimator(accessor);
 		try {
-			FeeData metrics = usageEstimator.usageGiven(accessor.getTxn(), sigUsage, view);
+			FeeData metrics = usageCache.usageGiven(accessor, usageEstimator, sigUsage, view);
 			return FeeBuilder.getFeeObject(prices, metrics, rate);
 		} catch (InvalidTxBodyException e) {
 			log.warn(
@@ -235,8 +237,8 @@ public class UsageBasedFeeCalculator implements FeeCalculator {
 
 	private SigValueObj getSigUsage(TxnAccessor accessor, JKey payerKey) {
 		return new SigValueObj(
-				FeeBuilder.getSignatureCount(accessor.getBackwardCompatibleSignedTxn()),
+				accessor.numSigPairs(),
 				HederaKeyTraversal.numSimpleKeys(payerKey),
-				FeeBuilder.getSignatureSize(accessor.getBackwardCompatibleSignedTxn()));
+				accessor.sigMapSize());
 	}
 }
@@ -39,6 +39,14 @@ public interface UsagePricesProvider {
 	 */
 	void loadPriceSchedules();
 
+	/**
+	 * Replaces the active price schedules with the given, already
+	 * compiled, schedules.
+	 *
+	 * @param compiled the new price schedules
+	 */
+	void installPriceSchedules(CompiledUsagePrices compiled);
+
 	/**
 	 * Returns the prices in tinyCents that must be paid to
 	 * consume various resources while processing the active
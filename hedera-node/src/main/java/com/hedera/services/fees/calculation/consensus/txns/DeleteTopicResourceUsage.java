@@ -34,6 +34,11 @@ public class DeleteTopicResourceUsage implements TxnResourceUsageEstimator {
         return txn.hasConsensusDeleteTopic();
     }
 
+    @Override
+    public boolean isStateIndependent() {
+        return true;
+    }
+
     @Override
     public FeeData usageGiven(TransactionBody txn, SigValueObj sigUsage, StateView view) throws InvalidTxBodyException {
         return ConsensusServiceFeeBuilder.getConsensusDeleteTopicFee(txn, sigUsage);
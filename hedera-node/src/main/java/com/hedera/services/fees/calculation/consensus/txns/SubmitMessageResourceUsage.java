@@ -34,6 +34,11 @@ public class SubmitMessageResourceUsage implements TxnResourceUsageEstimator {
         return txn.hasConsensusSubmitMessage();
     }
 
+    @Override
+    public boolean isStateIndependent() {
+        return true;
+    }
+
     @Override
     public FeeData usageGiven(TransactionBody txn, SigValueObj sigUsage, StateView view) throws InvalidTxBodyException {
         return ConsensusServiceFeeBuilder.getConsensusSubmitMessageFee(txn, sigUsage);
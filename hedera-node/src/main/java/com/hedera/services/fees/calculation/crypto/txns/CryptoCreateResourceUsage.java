@@ -42,6 +42,11 @@ public class CryptoCreateResourceUsage implements TxnResourceUsageEstimator {
 		return txn.hasCryptoCreateAccount();
 	}
 
+	@Override
+	public boolean isStateIndependent() {
+		return true;
+	}
+
 	@Override
 	public FeeData usageGiven(TransactionBody txn, SigValueObj svo, StateView view) throws InvalidTxBodyException {
 		var sigUsage = new SigUsage(svo.getTotalSigCount(), svo.getSignatureSize(), svo.getPayerAcctSigCount());
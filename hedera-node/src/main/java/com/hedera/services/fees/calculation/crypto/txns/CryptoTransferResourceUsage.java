@@ -46,6 +46,11 @@ public class CryptoTransferResourceUsage implements TxnResourceUsageEstimator {
 		return txn.hasCryptoTransfer();
 	}
 
+	@Override
+	public boolean isStateIndependent() {
+		return true;
+	}
+
 	@Override
 	public FeeData usageGiven(TransactionBody txn, SigValueObj svo, StateView view) throws InvalidTxBodyException {
 		var sigUsage = new SigUsage(svo.getTotalSigCount(), svo.getSignatureSize(), svo.getPayerAcctSigCount());
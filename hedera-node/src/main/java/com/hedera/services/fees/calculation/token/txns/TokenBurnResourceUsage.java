@@ -39,6 +39,11 @@ public class TokenBurnResourceUsage implements TxnResourceUsageEstimator {
 		return txn.hasTokenBurn();
 	}
 
+	@Override
+	public boolean isStateIndependent() {
+		return true;
+	}
+
 	@Override
 	public FeeData usageGiven(TransactionBody txn, SigValueObj svo, StateView view) throws InvalidTxBodyException {
 		var sigUsage = new SigUsage(svo.getTotalSigCount(), svo.getSignatureSize(), svo.getPayerAcctSigCount());
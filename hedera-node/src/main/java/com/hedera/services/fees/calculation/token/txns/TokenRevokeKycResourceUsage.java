@@ -39,6 +39,11 @@ public class TokenRevokeKycResourceUsage implements TxnResourceUsageEstimator {
 		return txn.hasTokenRevokeKyc();
 	}
 
+	@Override
+	public boolean isStateIndependent() {
+		return true;
+	}
+
 	@Override
 	public FeeData usageGiven(TransactionBody txn, SigValueObj svo, StateView view) throws InvalidTxBodyException {
 		var sigUsage = new SigUsage(svo.getTotalSigCount(), svo.getSignatureSize(), svo.getPayerAcctSigCount());
@@ -0,0 +1,224 @@
+package com.hedera.services.files.interceptors;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Compiles the contents of a system file (for example, the fee schedules) as soon
+ * as a transaction that would change them is seen in pre-handle, on a background
+ * thread; so that when the transaction reaches consensus the handle thread usually
+ * just picks up the finished result instead of stalling on a parse.
+ *
+ * <p>Compilation must be a pure function of the file contents. A speculative result
+ * is only used for exactly the bytes it was compiled from, and anything else is
+ * compiled synchronously; so the handle thread observes the same result whether or
+ * not a speculation was ready, stale, or wrong.
+ *
+ * <p>Only the newest speculation is ever useful, so {@link ContentsPrecompiler#newSpeculationExecutor(ThreadFactory)}
+ * queues at most one pending compilation and cancels the older one when another arrives;
+ * a cancelled speculation is treated as a miss.
+ *
+ * @param <T> the type of the compiled contents
+ */
+public class ContentsPrecompiler<T> {
+	private static final Logger log = LogManager.getLogger(ContentsPrecompiler.class);
+
+	static final byte[] NO_CONTENTS = new byte[0];
+
+	private final String desc;
+	private final Executor executor;
+	private final Function<byte[], Optional<T>> compiler;
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private volatile long lastCompileNanos = 0L;
+
+	private volatile byte[] lastKnownContents = NO_CONTENTS;
+	private volatile Speculation<T> speculation = null;
+
+	public ContentsPrecompiler(String desc, Function<byte[], Optional<T>> compiler, Executor executor) {
+		this.desc = desc;
+		this.executor = executor;
+		this.compiler = compiler;
+	}
+
+	/**
+	 * Returns a single-threaded executor for speculative compilations, whose queue holds
+	 * at most one pending compilation. When a new compilation arrives while one is already
+	 * queued, the queued one is cancelled and dropped.
+	 *
+	 * @param threadFactory the factory for the compiling thread
+	 * @return the bounded executor
+	 */
+	public static ExecutorService newSpeculationExecutor(ThreadFactory threadFactory) {
+		return new ThreadPoolExecutor(
+				1, 1,
+				0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(1),
+				threadFactory,
+				ContentsPrecompiler::discardOldest);
+	}
+
+	static void discardOldest(Runnable newest, ThreadPoolExecutor pool) {
+		if (pool.isShutdown()) {
+			return;
+		}
+		var oldest = pool.getQueue().poll();
+		if (oldest instanceof ContentsPrecompiler.Compilation) {
+			((ContentsPrecompiler<?>.Compilation) oldest).result.cancel(false);
+		}
+		pool.execute(newest);
+	}
+
+	/**
+	 * Starts compiling the given contents, which a not-yet-handled transaction
+	 * would make the new contents of the file.
+	 *
+	 * @param newContents the anticipated contents
+	 */
+	public void anticipateOverwrite(byte[] newContents) {
+		speculateOn(newContents);
+	}
+
+	/**
+	 * Starts compiling the last known contents of the file with the given bytes
+	 * appended, as a not-yet-handled append transaction would leave them.
+	 *
+	 * @param moreContents the anticipated appended bytes
+	 */
+	public void anticipateAppend(byte[] moreContents) {
+		var base = lastKnownContents;
+		var newContents = Arrays.copyOf(base, base.length + moreContents.length);
+		System.arraycopy(moreContents, 0, newContents, base.length, moreContents.length);
+		speculateOn(newContents);
+	}
+
+	/**
+	 * Records the actual contents of the file after a handled update, as the
+	 * base for anticipating any following appends.
+	 *
+	 * @param contents the current contents of the file
+	 */
+	public void observe(byte[] contents) {
+		lastKnownContents = contents;
+	}
+
+	/**
+	 * Returns the compiled form of the given contents; re-using a speculative result
+	 * if one exists for exactly these bytes, and compiling on the calling thread otherwise.
+	 *
+	 * @param contents the contents to compile
+	 * @return the compiled contents, or empty if they are not valid
+	 */
+	public Optional<T> compile(byte[] contents) {
+		var latest = speculation;
+		if (latest != null && Arrays.equals(latest.contents, contents)) {
+			try {
+				var result = latest.result.join();
+				hits.incrementAndGet();
+				return result;
+			} catch (CancellationException discarded) {
+				/* A newer speculation displaced this one before it ran. */
+			}
+		}
+		misses.incrementAndGet();
+		var result = timedCompile(contents);
+		speculation = new Speculation<>(contents, CompletableFuture.completedFuture(result));
+		return result;
+	}
+
+	public long precompiledHits() {
+		return hits.get();
+	}
+
+	public long synchronousCompiles() {
+		return misses.get();
+	}
+
+	public long lastCompileNanos() {
+		return lastCompileNanos;
+	}
+
+	private void speculateOn(byte[] contents) {
+		var result = new CompletableFuture<Optional<T>>();
+		speculation = new Speculation<>(contents, result);
+		executor.execute(new Compilation(contents, result));
+	}
+
+	private Optional<T> timedCompile(byte[] contents) {
+		long start = System.nanoTime();
+		var result = compiler.apply(contents);
+		lastCompileNanos = System.nanoTime() - start;
+		log.info("Compiled {} bytes of {} in {}us ({})",
+				contents.length,
+				desc,
+				lastCompileNanos / 1_000,
+				result.isPresent() ? "valid" : "not valid");
+		return result;
+	}
+
+	private class Compilation implements Runnable {
+		private final byte[] contents;
+		private final CompletableFuture<Optional<T>> result;
+
+		private Compilation(byte[] contents, CompletableFuture<Optional<T>> result) {
+			this.contents = contents;
+			this.result = result;
+		}
+
+		@Override
+		public void run() {
+			if (result.isDone()) {
+				return;
+			}
+			try {
+				result.complete(timedCompile(contents));
+			} catch (RuntimeException e) {
+				result.completeExceptionally(e);
+			}
+		}
+	}
+
+	private static class Speculation<T> {
+		private final byte[] contents;
+		private final CompletableFuture<Optional<T>> result;
+
+		private Speculation(byte[] contents, CompletableFuture<Optional<T>> result) {
+			this.contents = contents;
+			this.result = result;
+		}
+	}
+}
@@ -20,11 +20,11 @@ package com.hedera.services.files.interceptors;
  * ‍
  */
 
-import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.services.config.FileNumbers;
-import com.hedera.services.fees.FeeCalculator;
+import com.hedera.services.fees.calculation.CompiledUsagePrices;
+import com.hedera.services.fees.calculation.UsagePricesProvider;
 import com.hedera.services.files.FileUpdateInterceptor;
-import com.hederahashgraph.api.proto.java.CurrentAndNextFeeSchedule;
+import com.hedera.services.utils.PlatformTxnAccessor;
 import com.hederahashgraph.api.proto.java.FileID;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 import com.hedera.services.files.HFileMeta;
@@ -33,8 +33,11 @@ import org.apache.logging.log4j.Logger;
 
 import java.util.AbstractMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.OptionalInt;
 
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.FileAppend;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.FileUpdate;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.FEE_SCHEDULE_FILE_PART_UPLOADED;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.SUCCESS;
 
@@ -42,8 +45,9 @@ public class FeeSchedulesManager implements FileUpdateInterceptor {
 	public static final Logger log = LogManager.getLogger(FeeSchedulesManager.class);
 	private static final int APPLICABLE_PRIORITY = 0;
 
-	private final FeeCalculator fees;
 	private final long fileNum;
+	private final UsagePricesProvider usagePrices;
+	private final ContentsPrecompiler<CompiledUsagePrices> precompiler;
 
 	static final Map.Entry<ResponseCodeEnum, Boolean> YES_VERDICT =
 			new AbstractMap.SimpleImmutableEntry<>(SUCCESS, true);
@@ -52,9 +56,11 @@ public class FeeSchedulesManager implements FileUpdateInterceptor {
 
 	public FeeSchedulesManager(
 			FileNumbers fileNums,
-			FeeCalculator fees
+			UsagePricesProvider usagePrices,
+			ContentsPrecompiler<CompiledUsagePrices> precompiler
 	) {
-		this.fees = fees;
+		this.usagePrices = usagePrices;
+		this.precompiler = precompiler;
 
 		fileNum = fileNums.feeSchedules();
 	}
@@ -64,10 +70,32 @@ public class FeeSchedulesManager implements FileUpdateInterceptor {
 		return (id.getFileNum() == fileNum) ? OptionalInt.of(APPLICABLE_PRIORITY) : OptionalInt.empty();
 	}
 
+	/**
+	 * Called in pre-handle; if the given transaction would change the fee schedules,
+	 * starts compiling the resulting schedules in the background so that handling it
+	 * at consensus does not have to parse them on the handle thread.
+	 *
+	 * @param accessor a transaction that has not yet reached consensus
+	 */
+	public void anticipate(PlatformTxnAccessor accessor) {
+		var function = accessor.getFunction();
+		if (function == FileUpdate) {
+			var op = accessor.getTxn().getFileUpdate();
+			if (op.getFileID().getFileNum() == fileNum && !op.getContents().isEmpty()) {
+				precompiler.anticipateOverwrite(op.getContents().toByteArray());
+			}
+		} else if (function == FileAppend) {
+			var op = accessor.getTxn().getFileAppend();
+			if (op.getFileID().getFileNum() == fileNum) {
+				precompiler.anticipateAppend(op.getContents().toByteArray());
+			}
+		}
+	}
+
 	@Override
 	public Map.Entry<ResponseCodeEnum, Boolean> preUpdate(FileID id, byte[] newContents) {
 		if (priorityForCandidate(id).isPresent()) {
-			return areValid(newContents) ? YES_VERDICT : OK_FOR_NOW_VERDICT;
+			return compiled(newContents).isPresent() ? YES_VERDICT : OK_FOR_NOW_VERDICT;
 		} else {
 			return YES_VERDICT;
 		}
@@ -75,8 +103,13 @@ public class FeeSchedulesManager implements FileUpdateInterceptor {
 
 	@Override
 	public void postUpdate(FileID id, byte[] contents) {
-		if (priorityForCandidate(id).isPresent() && areValid(contents)) {
-			fees.init();
+		if (priorityForCandidate(id).isPresent()) {
+			precompiler.observe(contents);
+			compiled(contents).ifPresent(compiledPrices -> {
+				usagePrices.installPriceSchedules(compiledPrices);
+				log.info("New fee schedules applied ({} precompiled, {} compiled on handle thread so far).",
+						precompiler.precompiledHits(), precompiler.synchronousCompiles());
+			});
 		}
 	}
 
@@ -90,15 +123,7 @@ public class FeeSchedulesManager implements FileUpdateInterceptor {
 		return YES_VERDICT;
 	}
 
-	private boolean areValid(byte[] contents) {
-		try {
-			log.info("Trying to parse fee schedules from {} bytes...", contents.length);
-			CurrentAndNextFeeSchedule.parseFrom(contents);
-			log.info("...successful, new schedules will be applied.");
-			return true;
-		} catch (InvalidProtocolBufferException ignore) {
-			log.info("...unsuccessful, old schedules will remain active. {}", ignore.getMessage());
-			return false;
-		}
+	private Optional<CompiledUsagePrices> compiled(byte[] contents) {
+		return precompiler.compile(contents);
 	}
 }
@@ -0,0 +1,153 @@
+package com.hedera.services.grpc;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.context.primitives.SignedStateViews;
+import com.hedera.services.queries.answering.QueryExecutors;
+import com.hedera.services.queries.crypto.GetAccountBalancesAnswer;
+import com.hedera.services.stats.HapiOpCounters;
+import com.hedera.services.stats.HapiOpLatencies;
+import com.hedera.services.stream.proto.AllAccountBalances;
+import com.hedera.services.throttling.FunctionalityThrottling;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.Status;
+import io.grpc.protobuf.ProtoUtils;
+import io.grpc.stub.ServerCalls;
+import io.grpc.stub.StreamObserver;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import static com.hedera.services.utils.MiscUtils.asTimestamp;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoGetAccountBalance;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.BUSY;
+
+/**
+ * A gRPC service that answers the balances of up to a fixed number of accounts in one
+ * request, from a single signed-state snapshot; so clients that track many accounts
+ * need not send one {@code getAccountBalance} query per account.
+ *
+ * <p>The service is defined here (rather than in the HAPI protobufs) using the existing
+ * {@link AllAccountBalances} message for both request and answer. A batch of {@code n}
+ * accounts is throttled, and counted in the {@code CryptoGetAccountBalance} stats, as
+ * {@code n} balance queries at once; and runs on the free query executor. Since the
+ * message has no header, a rejected batch fails with a gRPC status: {@code INVALID_ARGUMENT}
+ * if it is empty or too large, and {@code RESOURCE_EXHAUSTED} if the node is too busy to
+ * answer it.
+ *
+ * <p>A batch is too large if it has more than the configured maximum number of accounts;
+ * or more than the node's share of the balance query bucket can ever grant at once, since
+ * such a batch would otherwise always be throttled.
+ */
+public class AccountBalancesService {
+	private static final Logger log = LogManager.getLogger(AccountBalancesService.class);
+
+	public static final String SERVICE_NAME = "proto.AccountBalancesService";
+	public static final String GET_BALANCES_METHOD_NAME = "getAccountBalances";
+
+	public static final MethodDescriptor<AllAccountBalances, AllAccountBalances> GET_BALANCES_METHOD =
+			MethodDescriptor.<AllAccountBalances, AllAccountBalances>newBuilder()
+					.setType(MethodDescriptor.MethodType.UNARY)
+					.setFullMethodName(MethodDescriptor.generateFullMethodName(SERVICE_NAME, GET_BALANCES_METHOD_NAME))
+					.setRequestMarshaller(ProtoUtils.marshaller(AllAccountBalances.getDefaultInstance()))
+					.setResponseMarshaller(ProtoUtils.marshaller(AllAccountBalances.getDefaultInstance()))
+					.build();
+
+	private final int maxBatchSize;
+	private final QueryExecutors executors;
+	private final SignedStateViews stateViews;
+	private final GetAccountBalancesAnswer balancesAnswer;
+	private final FunctionalityThrottling throttles;
+	private final HapiOpCounters opCounters;
+	private final HapiOpLatencies opLatencies;
+
+	public AccountBalancesService(
+			int maxBatchSize,
+			QueryExecutors executors,
+			SignedStateViews stateViews,
+			GetAccountBalancesAnswer balancesAnswer,
+			FunctionalityThrottling throttles,
+			HapiOpCounters opCounters,
+			HapiOpLatencies opLatencies
+	) {
+		this.throttles = throttles;
+		this.opCounters = opCounters;
+		this.opLatencies = opLatencies;
+		this.executors = executors;
+		this.stateViews = stateViews;
+		this.maxBatchSize = maxBatchSize;
+		this.balancesAnswer = balancesAnswer;
+	}
+
+	public ServerServiceDefinition definition() {
+		return ServerServiceDefinition.builder(SERVICE_NAME)
+				.addMethod(GET_BALANCES_METHOD, ServerCalls.asyncUnaryCall(this::getAccountBalances))
+				.build();
+	}
+
+	void getAccountBalances(AllAccountBalances request, StreamObserver<AllAccountBalances> observer) {
+		long start = System.nanoTime();
+		int n = request.getAllAccountsCount();
+		for (int i = 0; i < n; i++) {
+			opCounters.countReceived(CryptoGetAccountBalance);
+		}
+
+		int limit = Math.min(maxBatchSize, throttles.maxBatchSize(CryptoGetAccountBalance));
+		if (n == 0 || n > limit) {
+			fail(observer, start, Status.INVALID_ARGUMENT
+					.withDescription(String.format("Batch must have 1 to %d accounts, not %d", limit, n)));
+			return;
+		}
+		if (throttles.shouldThrottle(CryptoGetAccountBalance, n)) {
+			fail(observer, start, Status.RESOURCE_EXHAUSTED.withDescription(BUSY.name()));
+			return;
+		}
+		boolean wasAccepted = executors.trySubmit(true, () -> answer(request, observer, start));
+		if (!wasAccepted) {
+			fail(observer, start, Status.RESOURCE_EXHAUSTED.withDescription(BUSY.name()));
+		}
+	}
+
+	private void answer(AllAccountBalances request, StreamObserver<AllAccountBalances> observer, long start) {
+		AllAccountBalances answer;
+		try (var snapshot = stateViews.reserveLatest()) {
+			var balances = balancesAnswer.answerGiven(request, snapshot.view());
+			snapshot.consensusTime().ifPresent(at -> balances.setConsensusTimestamp(asTimestamp(at)));
+			answer = balances.build();
+		} catch (Exception surprising) {
+			log.warn("Unable to answer balances for {} accounts!", request.getAllAccountsCount(), surprising);
+			fail(observer, start, Status.INTERNAL);
+			return;
+		}
+		observer.onNext(answer);
+		observer.onCompleted();
+
+		for (int i = 0, n = answer.getAllAccountsCount(); i < n; i++) {
+			opCounters.countAnswered(CryptoGetAccountBalance);
+		}
+		opLatencies.recordIngested(CryptoGetAccountBalance, System.nanoTime() - start);
+	}
+
+	private void fail(StreamObserver<AllAccountBalances> observer, long start, Status status) {
+		observer.onError(status.asRuntimeException());
+		opLatencies.recordIngested(CryptoGetAccountBalance, System.nanoTime() - start);
+	}
+}
@@ -0,0 +1,109 @@
+package com.hedera.services.grpc;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.records.ReceiptSubscriptions;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import com.hederahashgraph.api.proto.java.TransactionRecord;
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Grpc;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.ServerInterceptors;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.protobuf.ProtoUtils;
+import io.grpc.stub.ServerCalls;
+import io.grpc.stub.StreamObserver;
+
+/**
+ * A streaming gRPC service through which a client subscribes to the receipts of one
+ * or more transactions, by sending their {@link TransactionID}s; and is pushed, for each
+ * one, a {@link TransactionRecord} with just the transaction id and its receipt.
+ *
+ * <p>The service is defined here (rather than in the HAPI protobufs) using only existing
+ * message types, and is registered as a {@link ServerServiceDefinition}. Each call is
+ * tagged with the remote address of its transport, so subscriptions can be bounded per
+ * client connection as well as per stream.
+ */
+public class ReceiptSubscriptionService {
+	public static final String SERVICE_NAME = "proto.ReceiptSubscriptionService";
+	public static final String SUBSCRIBE_METHOD_NAME = "subscribeToReceipts";
+
+	public static final MethodDescriptor<TransactionID, TransactionRecord> SUBSCRIBE_METHOD =
+			MethodDescriptor.<TransactionID, TransactionRecord>newBuilder()
+					.setType(MethodDescriptor.MethodType.BIDI_STREAMING)
+					.setFullMethodName(MethodDescriptor.generateFullMethodName(SERVICE_NAME, SUBSCRIBE_METHOD_NAME))
+					.setRequestMarshaller(ProtoUtils.marshaller(TransactionID.getDefaultInstance()))
+					.setResponseMarshaller(ProtoUtils.marshaller(TransactionRecord.getDefaultInstance()))
+					.build();
+
+	static final Context.Key<Object> REMOTE_ADDR = Context.key("receiptSubscriptionRemoteAddr");
+
+	static final ServerInterceptor REMOTE_ADDR_INTERCEPTOR = new ServerInterceptor() {
+		@Override
+		public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+				ServerCall<ReqT, RespT> call,
+				Metadata headers,
+				ServerCallHandler<ReqT, RespT> next
+		) {
+			var remoteAddr = call.getAttributes().get(Grpc.TRANSPORT_ATTR_REMOTE_ADDR);
+			return Contexts.interceptCall(Context.current().withValue(REMOTE_ADDR, remoteAddr), call, headers, next);
+		}
+	};
+
+	private final ReceiptSubscriptions subscriptions;
+
+	public ReceiptSubscriptionService(ReceiptSubscriptions subscriptions) {
+		this.subscriptions = subscriptions;
+	}
+
+	public ServerServiceDefinition definition() {
+		return ServerInterceptors.intercept(
+				ServerServiceDefinition.builder(SERVICE_NAME)
+						.addMethod(SUBSCRIBE_METHOD, ServerCalls.asyncBidiStreamingCall(this::subscribeToReceipts))
+						.build(),
+				REMOTE_ADDR_INTERCEPTOR);
+	}
+
+	StreamObserver<TransactionID> subscribeToReceipts(StreamObserver<TransactionRecord> receiptObserver) {
+		var stream = subscriptions.newStream(REMOTE_ADDR.get(), receiptObserver);
+		return new StreamObserver<>() {
+			@Override
+			public void onNext(TransactionID txnId) {
+				stream.subscribe(txnId);
+			}
+
+			@Override
+			public void onError(Throwable t) {
+				stream.cancel();
+			}
+
+			@Override
+			public void onCompleted() {
+				stream.halfClose();
+			}
+		};
+	}
+}
@@ -68,7 +68,8 @@ public class HederaKeyActivation {
 
 	/**
 	 * Determines if the given transaction has an set of valid cryptographic signatures that,
-	 * taken together, activate the payer's Hedera key.
+	 * taken together, activate the payer's Hedera key. If a signing order plan is memoized
+	 * on the accessor, its payer key is used instead of re-listing the payer's key.
 	 *
 	 * @param accessor the txn to evaluate.
 	 * @param keyOrder a resource to determine the payer's Hedera key.
@@ -80,10 +81,17 @@ public class HederaKeyActivation {
 			HederaSigningOrder keyOrder,
 			SigningOrderResultFactory<SignatureStatus> summaryFactory
 	) {
-		SigningOrderResult<SignatureStatus> payerSummary = keyOrder.keysForPayer(accessor.getTxn(), summaryFactory);
+		JKey payerKey;
+		var plan = accessor.getSigningOrderPlan();
+		if (plan != null) {
+			payerKey = plan.getPayerKey();
+		} else {
+			SigningOrderResult<SignatureStatus> payerSummary = keyOrder.keysForPayer(accessor.getTxn(), summaryFactory);
+			payerKey = payerSummary.getPayerKey();
+		}
 
 		return isActive(
-				payerSummary.getPayerKey(),
+				payerKey,
 				aproposPkToSigMapFrom(accessor, accessor.getPlatformTxn().getSignatures()),
 				ONLY_IF_SIG_IS_VALID);
 	}
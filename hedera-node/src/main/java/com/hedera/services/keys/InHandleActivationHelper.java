@@ -121,13 +121,18 @@ public class InHandleActivationHelper {
 	private void ensureUpToDate() {
 		var current = accessorSource.get();
 		if (accessor != current) {
-			var otherOrderingResult = keyOrderer.keysForOtherParties(current.getTxn(), IN_HANDLE_SUMMARY_FACTORY);
-			if (otherOrderingResult.hasErrorReport()) {
-				var errorReport = otherOrderingResult.getErrorReport();
-				log.debug("Allowing active other-party sigs: {} ({})!", errorReport, errorReport.getResponseCode());
-				otherParties = Collections.emptyList();
+			var plan = current.getSigningOrderPlan();
+			if (plan != null) {
+				otherParties = plan.getOtherPartyKeys();
 			} else {
-				otherParties = otherOrderingResult.getOrderedKeys();
+				var otherOrderingResult = keyOrderer.keysForOtherParties(current.getTxn(), IN_HANDLE_SUMMARY_FACTORY);
+				if (otherOrderingResult.hasErrorReport()) {
+					var errorReport = otherOrderingResult.getErrorReport();
+					log.debug("Allowing active other-party sigs: {} ({})!", errorReport, errorReport.getResponseCode());
+					otherParties = Collections.emptyList();
+				} else {
+					otherParties = otherOrderingResult.getOrderedKeys();
+				}
 			}
 
 			var sigs = current.getPlatformTxn().getSignatures();
@@ -55,7 +55,6 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Consumer;
 
 import static com.hedera.services.ledger.accounts.BackingTokenRels.asTokenRel;
 import static com.hedera.services.ledger.properties.AccountProperty.BALANCE;
@@ -68,7 +67,6 @@ import static com.hedera.services.ledger.properties.TokenRelProperty.TOKEN_BALAN
 import static com.hedera.services.store.tokens.TokenStore.MISSING_TOKEN;
 import static com.hedera.services.txns.crypto.CryptoTransferTransitionLogic.tryTransfers;
 import static com.hedera.services.txns.validation.TransferListChecks.isNetZeroAdjustment;
-import static com.hedera.services.utils.EntityIdUtils.readableId;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_TOKEN_ID;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.TRANSFERS_NOT_ZERO_SUM_FOR_TOKEN;
@@ -123,7 +121,7 @@ public class HederaLedger {
 
 	private final TokenStore tokenStore;
 	private final EntityIdSource ids;
-	private final TransferList.Builder netTransfers = TransferList.newBuilder();
+	private final NetTransfers netTransfers = new NetTransfers();
 	private final AccountRecordsHistorian historian;
 	private final TransactionalLedger<AccountID, AccountProperty, MerkleAccount> accountsLedger;
 
@@ -190,13 +188,8 @@ public class HederaLedger {
 	}
 
 	public TransferList netTransfersInTxn() {
-		return pendingNetTransfersInTxn().build();
-	}
-
-	public TransferList.Builder pendingNetTransfersInTxn() {
 		accountsLedger.throwIfNotInTxn();
-		purgeZeroAdjustments(netTransfers);
-		return netTransfers;
+		return netTransfers.toTransferList();
 	}
 
 	public List<TokenTransferList> netTokenTransfersInTxn() {
@@ -242,7 +235,7 @@ public class HederaLedger {
 		long newBalance = computeNewBalance(id, adjustment);
 		setBalance(id, newBalance);
 
-		updateXfers(id, adjustment, netTransfers);
+		netTransfers.adjust(id, adjustment);
 	}
 
 	public void doTransfer(AccountID from, AccountID to, long adjustment) {
@@ -251,8 +244,8 @@ public class HederaLedger {
 		setBalance(from, newFromBalance);
 		setBalance(to, newToBalance);
 
-		updateXfers(from, -1 * adjustment, netTransfers);
-		updateXfers(to, adjustment, netTransfers);
+		netTransfers.adjust(from, -1 * adjustment);
+		netTransfers.adjust(to, adjustment);
 	}
 
 	public void doTransfers(TransferList accountAmounts) {
@@ -263,7 +256,7 @@ public class HederaLedger {
 		}
 
 		for (AccountAmount aa : accountAmounts.getAccountAmountsList()) {
-			updateXfers(aa.getAccountID(), aa.getAmount(), netTransfers);
+			netTransfers.adjust(aa.getAccountID(), aa.getAmount());
 		}
 	}
 
@@ -395,7 +388,7 @@ public class HederaLedger {
 		var id = ids.newAccountId(sponsor);
 		spawn(id, balance, customizer);
 
-		updateXfers(sponsor, -1 * balance, netTransfers);
+		netTransfers.adjust(sponsor, -1 * balance);
 
 		return id;
 	}
@@ -405,7 +398,7 @@ public class HederaLedger {
 		setBalance(id, balance);
 		customizer.customize(id, accountsLedger);
 
-		updateXfers(id, balance, netTransfers);
+		netTransfers.adjust(id, balance);
 	}
 
 	public void customize(AccountID id, HederaAccountCustomizer customizer) {
@@ -429,12 +422,7 @@ public class HederaLedger {
 
 	public void destroy(AccountID id) {
 		accountsLedger.destroy(id);
-		for (int i = 0; i < netTransfers.getAccountAmountsCount(); i++) {
-			if (netTransfers.getAccountAmounts(i).getAccountID().equals(id)) {
-				netTransfers.removeAccountAmounts(i);
-				return;
-			}
-		}
+		netTransfers.forget(id);
 	}
 
 	/* -- ACCOUNT PROPERTY ACCESS -- */
@@ -469,51 +457,15 @@ public class HederaLedger {
 
 	private long addReturningEarliestExpiry(AccountID id, AccountProperty property, ExpirableTxnRecord record) {
 		FCQueue<ExpirableTxnRecord> records = (FCQueue<ExpirableTxnRecord>) accountsLedger.get(id, property);
+		if (records == MerkleAccount.IMMUTABLE_EMPTY_FCQ) {
+			/* An account without records shares an immutable empty queue. */
+			records = new FCQueue<>();
+		}
 		records.offer(record);
 		accountsLedger.set(id, property, records);
 		return records.peek().getExpiry();
 	}
 
-	public long purgeExpiredRecords(AccountID id, long now, Consumer<ExpirableTxnRecord> cb) {
-		return purge(id, RECORDS, now, cb);
-	}
-
-	private long purge(
-			AccountID id,
-			AccountProperty recordsProp,
-			long now,
-			Consumer<ExpirableTxnRecord> cb
-	) {
-		FCQueue<ExpirableTxnRecord> records = (FCQueue<ExpirableTxnRecord>) accountsLedger.get(id, recordsProp);
-		int numBefore = records.size();
-
-		long newEarliestExpiry = purgeForNewEarliestExpiry(records, now, cb);
-		accountsLedger.set(id, recordsProp, records);
-
-		int numPurged = numBefore - records.size();
-		LedgerTxnEvictionStats.INSTANCE.recordPurgedFromAnAccount(numPurged);
-		log.debug("Purged {} records from account {}",
-				() -> numPurged,
-				() -> readableId(id));
-
-		return newEarliestExpiry;
-	}
-
-	private long purgeForNewEarliestExpiry(
-			FCQueue<ExpirableTxnRecord> records,
-			long now,
-			Consumer<ExpirableTxnRecord> cb
-	) {
-		long newEarliestExpiry = -1;
-		while (!records.isEmpty() && records.peek().getExpiry() <= now) {
-			cb.accept(records.poll());
-		}
-		if (!records.isEmpty()) {
-			newEarliestExpiry = records.peek().getExpiry();
-		}
-		return newEarliestExpiry;
-	}
-
 	/* -- HELPERS -- */
 	private boolean isLegalToAdjust(long balance, long adjustment) {
 		return (balance + adjustment >= 0);
@@ -537,7 +489,8 @@ public class HederaLedger {
 	}
 
 	private void throwIfPendingStateIsInconsistent() {
-		if (!isNetZeroAdjustment(pendingNetTransfersInTxn())) {
+		accountsLedger.throwIfNotInTxn();
+		if (!netTransfers.isNetZero()) {
 			throw new InconsistentAdjustmentsException();
 		}
 	}
@@ -615,45 +568,14 @@ public class HederaLedger {
 	}
 
 	private void purgeZeroAdjustments(TransferList.Builder xfers) {
-		int lastZeroRemoved;
-		do {
-			lastZeroRemoved = -1;
-			for (int i = 0; i < xfers.getAccountAmountsCount(); i++) {
-				if (xfers.getAccountAmounts(i).getAmount() == 0) {
-					xfers.removeAccountAmounts(i);
-					lastZeroRemoved = i;
-					break;
-				}
+		for (int i = xfers.getAccountAmountsCount() - 1; i >= 0; i--) {
+			if (xfers.getAccountAmounts(i).getAmount() == 0) {
+				xfers.removeAccountAmounts(i);
 			}
-		} while (lastZeroRemoved != -1);
+		}
 	}
 
 	public boolean isKnownTreasury(AccountID aId) {
 		return tokenStore.isKnownTreasury(aId);
 	}
-
-	public enum LedgerTxnEvictionStats {
-		INSTANCE;
-
-		private int recordsPurged = 0;
-		private int accountsTouched = 0;
-
-		public int recordsPurged() {
-			return recordsPurged;
-		}
-
-		public int accountsTouched() {
-			return accountsTouched;
-		}
-
-		public void reset() {
-			accountsTouched = 0;
-			recordsPurged = 0;
-		}
-
-		public void recordPurgedFromAnAccount(int n) {
-			accountsTouched++;
-			recordsPurged += n;
-		}
-	}
 }
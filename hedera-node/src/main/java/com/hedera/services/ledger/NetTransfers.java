@@ -0,0 +1,195 @@
+package com.hedera.services.ledger;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.txns.validation.TransferListChecks;
+import com.hederahashgraph.api.proto.java.AccountAmount;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.TransferList;
+
+import java.util.Arrays;
+
+import static com.hedera.services.ledger.HederaLedger.ACCOUNT_ID_COMPARATOR;
+
+/**
+ * Accumulates the net ℏ adjustments made to each account in a transaction, in
+ * parallel primitive arrays indexed through an open-addressing table keyed by
+ * account number; so each adjustment is an amortized constant-time operation
+ * that allocates nothing once an account has been seen.
+ *
+ * The canonical (sorted, zero-free) {@link TransferList} is built only when
+ * requested, and re-used until the next adjustment.
+ */
+public class NetTransfers {
+	static final int INITIAL_CAPACITY = 16;
+
+	private int size = 0;
+	private long[] amounts;
+	private AccountID[] accounts;
+	/* Each slot holds one more than the index of its account, so that zero marks an empty slot. */
+	private int[] slots;
+	private int[] order;
+	private TransferList canonical = null;
+
+	public NetTransfers() {
+		this(INITIAL_CAPACITY);
+	}
+
+	NetTransfers(int capacity) {
+		amounts = new long[capacity];
+		accounts = new AccountID[capacity];
+		order = new int[capacity];
+		slots = new int[tableSizeFor(capacity)];
+	}
+
+	/**
+	 * Adds the given amount to the net adjustment of the given account.
+	 *
+	 * @param id the account adjusted
+	 * @param amount the adjustment
+	 */
+	public void adjust(AccountID id, long amount) {
+		canonical = null;
+		int i = indexOf(id);
+		if (i == -1) {
+			i = add(id);
+		}
+		amounts[i] += amount;
+	}
+
+	/**
+	 * Drops any net adjustment accumulated for the given account.
+	 *
+	 * @param id the account to forget
+	 */
+	public void forget(AccountID id) {
+		int i = indexOf(id);
+		if (i != -1 && amounts[i] != 0) {
+			canonical = null;
+			amounts[i] = 0;
+		}
+	}
+
+	public boolean isNetZero() {
+		return TransferListChecks.isNetZero(size, i -> amounts[i]);
+	}
+
+	public TransferList toTransferList() {
+		if (canonical == null) {
+			int n = sortNonZero();
+			var xfers = TransferList.newBuilder();
+			for (int j = 0; j < n; j++) {
+				int i = order[j];
+				xfers.addAccountAmounts(AccountAmount.newBuilder()
+						.setAccountID(accounts[i])
+						.setAmount(amounts[i]));
+			}
+			canonical = xfers.build();
+		}
+		return canonical;
+	}
+
+	public void clear() {
+		if (size > 0) {
+			Arrays.fill(slots, 0);
+			Arrays.fill(accounts, 0, size, null);
+			Arrays.fill(amounts, 0, size, 0L);
+			size = 0;
+		}
+		canonical = null;
+	}
+
+	int size() {
+		return size;
+	}
+
+	private int sortNonZero() {
+		int n = 0;
+		for (int i = 0; i < size; i++) {
+			if (amounts[i] != 0) {
+				order[n++] = i;
+			}
+		}
+		/* Transfer lists are short, so an insertion sort of the primitive indices is cheapest. */
+		for (int j = 1; j < n; j++) {
+			int i = order[j];
+			int k = j - 1;
+			while (k >= 0 && ACCOUNT_ID_COMPARATOR.compare(accounts[order[k]], accounts[i]) > 0) {
+				order[k + 1] = order[k];
+				k--;
+			}
+			order[k + 1] = i;
+		}
+		return n;
+	}
+
+	private int indexOf(AccountID id) {
+		int mask = slots.length - 1;
+		for (int s = slotFor(id.getAccountNum(), mask); ; s = (s + 1) & mask) {
+			int entry = slots[s];
+			if (entry == 0) {
+				return -1;
+			}
+			if (accounts[entry - 1].equals(id)) {
+				return entry - 1;
+			}
+		}
+	}
+
+	private int add(AccountID id) {
+		if (size == accounts.length) {
+			grow();
+		}
+		int i = size++;
+		accounts[i] = id;
+		insert(i);
+		return i;
+	}
+
+	private void insert(int i) {
+		int mask = slots.length - 1;
+		int s = slotFor(accounts[i].getAccountNum(), mask);
+		while (slots[s] != 0) {
+			s = (s + 1) & mask;
+		}
+		slots[s] = i + 1;
+	}
+
+	private void grow() {
+		int capacity = accounts.length * 2;
+		amounts = Arrays.copyOf(amounts, capacity);
+		accounts = Arrays.copyOf(accounts, capacity);
+		order = new int[capacity];
+		slots = new int[tableSizeFor(capacity)];
+		for (int i = 0; i < size; i++) {
+			insert(i);
+		}
+	}
+
+	private static int slotFor(long num, int mask) {
+		long h = num * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32)) & mask;
+	}
+
+	private static int tableSizeFor(int capacity) {
+		return Integer.highestOneBit(Math.max(capacity, 1) * 2 - 1) << 1;
+	}
+}
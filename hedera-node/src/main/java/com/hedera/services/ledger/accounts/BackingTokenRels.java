@@ -31,6 +31,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import static com.hedera.services.ledger.HederaLedger.ACCOUNT_ID_COMPARATOR;
@@ -57,10 +58,28 @@ public class BackingTokenRels implements BackingStore<Pair<AccountID, TokenID>,
 	Set<Pair<AccountID, TokenID>> existingRels = new HashSet<>();
 	Map<Pair<AccountID, TokenID>, MerkleTokenRelStatus> cache = new HashMap<>();
 
+	static final Consumer<AccountID> NO_CHANGE_OBSERVER = ignore -> {};
+
+	private final Consumer<AccountID> changeObserver;
 	private final Supplier<FCMap<MerkleEntityAssociation, MerkleTokenRelStatus>> delegate;
 
 	public BackingTokenRels(Supplier<FCMap<MerkleEntityAssociation, MerkleTokenRelStatus>> delegate) {
+		this(delegate, NO_CHANGE_OBSERVER);
+	}
+
+	/**
+	 * Creates a store whose {@code changeObserver} is told the account of each
+	 * relationship created, changed, or removed through it.
+	 *
+	 * @param delegate the source of the relationships
+	 * @param changeObserver the observer of accounts with changed relationships
+	 */
+	public BackingTokenRels(
+			Supplier<FCMap<MerkleEntityAssociation, MerkleTokenRelStatus>> delegate,
+			Consumer<AccountID> changeObserver
+	) {
 		this.delegate = delegate;
+		this.changeObserver = changeObserver;
 		rebuildFromSources();
 	}
 
@@ -76,7 +95,10 @@ public class BackingTokenRels implements BackingStore<Pair<AccountID, TokenID>,
 	public void flushMutableRefs() {
 		cache.entrySet().stream()
 				.sorted(REL_ENTRY_CMP)
-				.forEach(entry -> delegate.get().replace(fromAccountTokenRel(entry.getKey()), entry.getValue()));
+				.forEach(entry -> {
+					delegate.get().replace(fromAccountTokenRel(entry.getKey()), entry.getValue());
+					changeObserver.accept(entry.getKey().getLeft());
+				});
 		cache.clear();
 	}
 
@@ -97,6 +119,7 @@ public class BackingTokenRels implements BackingStore<Pair<AccountID, TokenID>,
 		if (!existingRels.contains(key)) {
 			delegate.get().put(fromAccountTokenRel(key), status);
 			existingRels.add(key);
+			changeObserver.accept(key.getLeft());
 		} else if (!cache.containsKey(key) || cache.get(key) != status) {
 			throw new IllegalArgumentException(String.format(
 					"Argument 'key=%s' does not map to a mutable ref!",
@@ -108,6 +131,7 @@ public class BackingTokenRels implements BackingStore<Pair<AccountID, TokenID>,
 	public void remove(Pair<AccountID, TokenID> id) {
 		existingRels.remove(id);
 		delegate.get().remove(fromAccountTokenRel(id));
+		changeObserver.accept(id.getLeft());
 	}
 
 	@Override
@@ -30,6 +30,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import static com.hedera.services.state.merkle.MerkleEntityId.fromAccountId;
@@ -39,10 +40,21 @@ public class FCMapBackingAccounts implements BackingStore<AccountID, MerkleAccou
 	Set<AccountID> existingAccounts = new HashSet<>();
 	Map<AccountID, MerkleAccount> cache = new HashMap<>();
 
+	static final Consumer<AccountID> NO_CHANGE_OBSERVER = ignore -> {};
+
+	private final Consumer<AccountID> changeObserver;
 	private final Supplier<FCMap<MerkleEntityId, MerkleAccount>> delegate;
 
 	public FCMapBackingAccounts(Supplier<FCMap<MerkleEntityId, MerkleAccount>> delegate) {
+		this(delegate, NO_CHANGE_OBSERVER);
+	}
+
+	public FCMapBackingAccounts(
+			Supplier<FCMap<MerkleEntityId, MerkleAccount>> delegate,
+			Consumer<AccountID> changeObserver
+	) {
 		this.delegate = delegate;
+		this.changeObserver = changeObserver;
 		rebuildFromSources();
 	}
 
@@ -59,7 +71,10 @@ public class FCMapBackingAccounts implements BackingStore<AccountID, MerkleAccou
 		cache.keySet()
 				.stream()
 				.sorted(HederaLedger.ACCOUNT_ID_COMPARATOR)
-				.forEach(id -> delegate.get().replace(fromAccountId(id), cache.get(id)));
+				.forEach(id -> {
+					delegate.get().replace(fromAccountId(id), cache.get(id));
+					changeObserver.accept(id);
+				});
 		cache.clear();
 	}
 
@@ -74,6 +89,7 @@ public class FCMapBackingAccounts implements BackingStore<AccountID, MerkleAccou
 		if (!existingAccounts.contains(id)) {
 			delegate.get().put(delegateId, account);
 			existingAccounts.add(id);
+			changeObserver.accept(id);
 		} else if (!cache.containsKey(id) || (cache.get(id) != account)) {
 			throw new IllegalArgumentException(String.format(
 					"Argument 'id=%s' does not map to a mutable ref!",
@@ -90,6 +106,7 @@ public class FCMapBackingAccounts implements BackingStore<AccountID, MerkleAccou
 	public void remove(AccountID id) {
 		existingAccounts.remove(id);
 		delegate.get().remove(fromAccountId(id));
+		changeObserver.accept(id);
 	}
 
 	@Override
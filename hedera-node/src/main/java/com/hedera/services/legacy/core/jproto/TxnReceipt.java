@@ -128,6 +128,9 @@ public class TxnReceipt implements SelfSerializable {
 	ExchangeRates exchangeRates;
 	Long newTotalSupply = -1L;
 
+	/* Receipts are never changed after creation, so their gRPC form can be shared by all queries. */
+	private volatile TransactionReceipt memoizedGrpc = null;
+
 	public TxnReceipt() { }
 
 	public TxnReceipt(
@@ -411,7 +414,12 @@ public class TxnReceipt implements SelfSerializable {
 	}
 
 	public TransactionReceipt toGrpc() {
-		return convert(this);
+		var grpc = memoizedGrpc;
+		if (grpc == null) {
+			grpc = convert(this);
+			memoizedGrpc = grpc;
+		}
+		return grpc;
 	}
 
 	public static TransactionReceipt convert(TxnReceipt txReceipt) {
@@ -96,6 +96,8 @@ public class AwareProcessLogic implements ProcessLogic {
 			this::warnOf);
 	private final ServicesContext ctx;
 
+	private long lastHousekeepingSecond = Long.MIN_VALUE;
+
 	public AwareProcessLogic(ServicesContext ctx) {
 		this.ctx = ctx;
 	}
@@ -107,7 +109,8 @@ public class AwareProcessLogic implements ProcessLogic {
 	@Override
 	public void incorporateConsensusTxn(Transaction platformTxn, Instant consensusTime, long submittingMember) {
 		try {
-			PlatformTxnAccessor accessor = new PlatformTxnAccessor(platformTxn);
+			PlatformTxnAccessor accessor = ctx.preparedTxns().accessorFor(platformTxn);
+			ctx.runningAvgs().recordPreparedTxnLookup(ctx.preparedTxns().wasPrepared(accessor));
 			Instant timestamp = consensusTime;
 			if (accessor.canTriggerTxn()) {
 				timestamp = timestamp.minusNanos(1);
@@ -116,11 +119,20 @@ public class AwareProcessLogic implements ProcessLogic {
 			if (!txnSanityChecks(accessor, timestamp, submittingMember)) {
 				return;
 			}
+			if (ctx.nodeLocalProperties().shouldTrackConflictFreeGroups()) {
+				ctx.conflictFreeGroups().observe(accessor, timestamp);
+			}
+			long start = System.nanoTime();
 			txnManager.process(accessor, timestamp, submittingMember, ctx);
+			ctx.opLatencies().recordHandled(accessor.getFunction(), System.nanoTime() - start);
+			ctx.signingOrderPlans().advanceVersionIfAffectedBy(accessor.getFunction());
 
 			if (ctx.txnCtx().triggeredTxn() != null) {
 				TxnAccessor scopedAccessor = ctx.txnCtx().triggeredTxn();
+				start = System.nanoTime();
 				txnManager.process(scopedAccessor, consensusTime, submittingMember, ctx);
+				ctx.opLatencies().recordHandled(scopedAccessor.getFunction(), System.nanoTime() - start);
+				ctx.signingOrderPlans().advanceVersionIfAffectedBy(scopedAccessor.getFunction());
 			}
 		} catch (InvalidProtocolBufferException e) {
 			log.warn("Consensus platform txn was not gRPC!", e);
@@ -140,7 +152,7 @@ public class AwareProcessLogic implements ProcessLogic {
 			log.error(msg);
 			return false;
 		}
-		if (ctx.addressBook().getAddress(submittingMember).getStake() == 0L) {
+		if (ctx.nodeInfo().isZeroStake(submittingMember)) {
 			var msg = String.format("Ignoring a transaction submitted by zero-stake node %d: %s",
 					submittingMember,
 					accessor.getSignedTxn4Log());
@@ -175,8 +187,7 @@ public class AwareProcessLogic implements ProcessLogic {
 
 	private void addRecordToStream() {
 		var finalRecord = ctx.recordsHistorian().lastCreatedRecord().get();
-		addForStreaming(ctx.txnCtx().accessor().getBackwardCompatibleSignedTxn(), finalRecord,
-				ctx.txnCtx().consensusTime());
+		addForStreaming(ctx.txnCtx().accessor(), finalRecord, ctx.txnCtx().consensusTime());
 	}
 
 	private void doTriggeredProcess(TxnAccessor accessor, Instant consensusTime) {
@@ -197,6 +208,49 @@ public class AwareProcessLogic implements ProcessLogic {
 		process(accessor);
 	}
 
+	/**
+	 * Applies the side-effects of advancing the data-driven clock to the given consensus time.
+	 *
+	 * When {@code hedera.handle.batchBySecond} is set, the midnight rates check and the purges
+	 * of expired records and entities run only for the first transaction handled in each
+	 * consensus second. This is equivalent to running them for every transaction, since all
+	 * expiries are whole seconds strictly after the consensus second in which they were
+	 * scheduled, and a UTC day can only roll over at the start of a new second.
+	 *
+	 * Since each purge of expired records has a bounded budget, records are also purged
+	 * for every transaction while the {@link com.hedera.services.state.expiry.ExpiryManager}
+	 * reports a backlog; so all nodes purge the same records whether or not they batch.
+	 *
+	 * @param consensusTime the consensus time of the transaction about to be handled
+	 */
+	void advanceDataDrivenClockTo(Instant consensusTime) {
+		var housekeepingDue = isNewConsensusSecond(consensusTime);
+		if (housekeepingDue) {
+			updateMidnightRatesIfAppropriateAt(consensusTime);
+		}
+		ctx.updateConsensusTimeOfLastHandledTxn(consensusTime);
+		if (housekeepingDue || ctx.expiries().hasExpiredRecordsBacklog()) {
+			ctx.recordsHistorian().purgeExpiredRecords();
+		}
+		if (housekeepingDue && ctx.expiries().purgeExpiredEntitiesAt(consensusTime.getEpochSecond())) {
+			ctx.signingOrderPlans().advanceVersion();
+		}
+
+		updateIssEventInfo(consensusTime);
+	}
+
+	private boolean isNewConsensusSecond(Instant consensusTime) {
+		if (!ctx.nodeLocalProperties().shouldBatchHandleBySecond()) {
+			return true;
+		}
+		var second = consensusTime.getEpochSecond();
+		if (second == lastHousekeepingSecond) {
+			return false;
+		}
+		lastHousekeepingSecond = second;
+		return true;
+	}
+
 	private void updateIssEventInfo(Instant consensusTime) {
 		if (ctx.issEventInfo().status() == ONGOING_ISS) {
 			var resetPeriod = ctx.properties().getIntProperty("iss.reset.periodSecs");
@@ -208,13 +262,7 @@ public class AwareProcessLogic implements ProcessLogic {
 	}
 
 	private void doProcess(TxnAccessor accessor, Instant consensusTime) {
-		/* Side-effects of advancing data-driven clock to consensus time. */
-		updateMidnightRatesIfAppropriateAt(consensusTime);
-		ctx.updateConsensusTimeOfLastHandledTxn(consensusTime);
-		ctx.recordsHistorian().purgeExpiredRecords();
-		ctx.expiries().purgeExpiredEntitiesAt(consensusTime.getEpochSecond());
-
-		updateIssEventInfo(consensusTime);
+		advanceDataDrivenClockTo(consensusTime);
 
 		final SignatureStatus sigStatus = rationalizeWithPreConsensusSigs(accessor);
 		if (hasActivePayerSig(accessor)) {
@@ -263,14 +311,19 @@ public class AwareProcessLogic implements ProcessLogic {
 			ctx.txnCtx().setStatus(sysAuthStatus);
 			return;
 		}
-		var transitionLogic = ctx.transitionLogic().lookupFor(accessor.getFunction(), accessor.getTxn());
+		var preparedTxns = ctx.preparedTxns();
+		var transitionLogic = preparedTxns.transitionLogicFor(accessor);
 		if (transitionLogic.isEmpty()) {
 			log.warn("Transaction w/o applicable transition logic at consensus :: {}", accessor::getSignedTxn4Log);
 			ctx.txnCtx().setStatus(FAIL_INVALID);
 			return;
 		}
 		var logic = transitionLogic.get();
-		var opValidity = logic.syntaxCheck().apply(accessor.getTxn());
+		var opValidity = preparedTxns.currentSyntaxVerdictFor(accessor);
+		ctx.runningAvgs().recordPreCheckedSyntaxLookup(opValidity != null);
+		if (opValidity == null) {
+			opValidity = logic.syntaxCheck().apply(accessor.getTxn());
+		}
 		if (opValidity != OK) {
 			ctx.txnCtx().setStatus(opValidity);
 			return;
@@ -293,13 +346,14 @@ public class AwareProcessLogic implements ProcessLogic {
 		Instant consensusTime = ctx.txnCtx().consensusTime();
 		TxnAccessor accessor = ctx.txnCtx().accessor();
 
+		var swirldsMember = ctx.txnCtx().submittingSwirldsMember();
 		var swirldsMemberAccount = ctx.txnCtx().submittingNodeAccount();
 		var designatedNodeAccount = accessor.getTxn().getNodeAccountID();
-		boolean designatedNodeExists = ctx.backingAccounts().contains(designatedNodeAccount);
-		if (!designatedNodeExists || !swirldsMemberAccount.equals(designatedNodeAccount)) {
+		if (!swirldsMemberAccount.equals(designatedNodeAccount) || !ctx.nodeInfo().isAccountInLedger(swirldsMember)) {
+			boolean designatedNodeExists = ctx.backingAccounts().contains(designatedNodeAccount);
 			log.warn("Node {} (Member #{}) submitted a txn designated for {} node {} :: {}",
 					readableId(swirldsMemberAccount),
-					ctx.txnCtx().submittingSwirldsMember(),
+					swirldsMember,
 					designatedNodeExists ? "other" : "nonexistent",
 					readableId(designatedNodeAccount),
 					accessor.getSignedTxn4Log());
@@ -339,7 +393,8 @@ public class AwareProcessLogic implements ProcessLogic {
 				ctx.syncVerifier(),
 				ctx.backedKeyOrder(),
 				sigProvider,
-				ctx.sigFactoryCreator()::createScopedFactory);
+				ctx.sigFactoryCreator()::createScopedFactory,
+				ctx.signingOrderPlans());
 		if (!sigStatus.isError()) {
 			if (sigStatus.getStatusCode() == SUCCESS_VERIFY_ASYNC) {
 				ctx.speedometers().cycleAsyncVerifications();
@@ -362,11 +417,13 @@ public class AwareProcessLogic implements ProcessLogic {
 	}
 
 	void addForStreaming(
-			com.hederahashgraph.api.proto.java.Transaction grpcTransaction,
+			TxnAccessor accessor,
 			TransactionRecord transactionRecord,
 			Instant consensusTimeStamp
 	) {
-		final RecordStreamObject recordStreamObject = new RecordStreamObject(transactionRecord, grpcTransaction,
+		/* Re-use the bytes received from the network, instead of re-serializing the gRPC transaction */
+		final RecordStreamObject recordStreamObject = new RecordStreamObject(transactionRecord,
+				accessor.getBackwardCompatibleSignedTxn(), accessor.getBackwardCompatibleSignedTxnBytes(),
 				consensusTimeStamp);
 		// update runningHash instance in the leaf of ServicesState
 		// the Hash in the runningHash instance will be calculated and set by the runningHashCalculator in the
@@ -0,0 +1,93 @@
+package com.hedera.services.queries.answering;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.stats.MiscRunningAvgs;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs queries off the gRPC threads, on two bounded pools: one for free queries
+ * (for example, receipts and balances), so they are never stuck behind expensive paid
+ * queries; and one for all other queries. When a pool's queue is full, the query is
+ * rejected instead of queued.
+ */
+public class QueryExecutors {
+	private static final String FREE_THREAD_NAME_FORMAT = "free-query-%d";
+	private static final String PAID_THREAD_NAME_FORMAT = "paid-query-%d";
+
+	private final ExecutorService freeQueries;
+	private final ExecutorService paidQueries;
+	private final MiscRunningAvgs runningAvgs;
+
+	public QueryExecutors(NodeLocalProperties properties, MiscRunningAvgs runningAvgs) {
+		this(
+				boundedPool(
+						properties.queryFreeThreads(),
+						properties.queryExecutorQueueCapacity(),
+						FREE_THREAD_NAME_FORMAT),
+				boundedPool(
+						properties.queryPaidThreads(),
+						properties.queryExecutorQueueCapacity(),
+						PAID_THREAD_NAME_FORMAT),
+				runningAvgs);
+	}
+
+	QueryExecutors(ExecutorService freeQueries, ExecutorService paidQueries, MiscRunningAvgs runningAvgs) {
+		this.freeQueries = freeQueries;
+		this.paidQueries = paidQueries;
+		this.runningAvgs = runningAvgs;
+	}
+
+	/**
+	 * Tries to queue the given query for execution on the appropriate pool.
+	 *
+	 * @param isFree whether the query requires no node payment
+	 * @param query the work of answering the query
+	 * @return whether the query was accepted
+	 */
+	public boolean trySubmit(boolean isFree, Runnable query) {
+		long submittedAt = System.nanoTime();
+		try {
+			(isFree ? freeQueries : paidQueries).execute(() -> {
+				runningAvgs.recordQueryQueueWaitMs((System.nanoTime() - submittedAt) / 1_000_000.0);
+				query.run();
+			});
+			return true;
+		} catch (RejectedExecutionException full) {
+			return false;
+		}
+	}
+
+	private static ExecutorService boundedPool(int numThreads, int queueCapacity, String nameFormat) {
+		return new ThreadPoolExecutor(
+				numThreads, numThreads,
+				0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity),
+				new ThreadFactoryBuilder().setNameFormat(nameFormat).setDaemon(true).build());
+	}
+}
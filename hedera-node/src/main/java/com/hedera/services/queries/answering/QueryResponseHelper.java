@@ -23,6 +23,7 @@ package com.hedera.services.queries.answering;
 import com.hedera.services.queries.AnswerFlow;
 import com.hedera.services.queries.AnswerService;
 import com.hedera.services.stats.HapiOpCounters;
+import com.hedera.services.stats.HapiOpLatencies;
 import com.hederahashgraph.api.proto.java.HederaFunctionality;
 import com.hederahashgraph.api.proto.java.Query;
 import com.hederahashgraph.api.proto.java.Response;
@@ -33,6 +34,7 @@ import org.apache.logging.log4j.Marker;
 import org.apache.logging.log4j.MarkerManager;
 
 import static com.hedera.services.context.primitives.StateView.EMPTY_VIEW;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.BUSY;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.FAIL_INVALID;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 
@@ -42,13 +44,19 @@ public class QueryResponseHelper {
 
 	private final AnswerFlow answerFlow;
 	private final HapiOpCounters opCounters;
+	private final HapiOpLatencies opLatencies;
+	private final QueryExecutors executors;
 
 	public QueryResponseHelper(
 			AnswerFlow answerFlow,
-			HapiOpCounters opCounters
+			HapiOpCounters opCounters,
+			HapiOpLatencies opLatencies,
+			QueryExecutors executors
 	) {
 		this.opCounters = opCounters;
+		this.opLatencies = opLatencies;
 		this.answerFlow = answerFlow;
+		this.executors = executors;
 	}
 
 	public void answer(
@@ -56,40 +64,43 @@ public class QueryResponseHelper {
 			StreamObserver<Response> observer,
 			AnswerService answer,
 			HederaFunctionality statedFunction
-	) {
-		respondWithMetrics(
-				query,
-				observer,
-				answer,
-				() -> opCounters.countReceived(statedFunction),
-				() -> opCounters.countAnswered(statedFunction));
-	}
-
-	private void respondWithMetrics(
-			Query query,
-			StreamObserver<Response> observer,
-			AnswerService answer,
-			Runnable incReceivedCount,
-			Runnable incAnsweredCount
 	) {
 		if (log.isDebugEnabled()) {
 			log.debug(ALL_QUERIES_MARKER, "Received query: {}", query);
 		}
-		Response response;
-		incReceivedCount.run();
+		long start = System.nanoTime();
+		opCounters.countReceived(statedFunction);
 
-		try {
-			response = answerFlow.satisfyUsing(answer, query);
-		} catch (Exception surprising) {
-			log.warn("Query flow unable to satisfy query {}!", query, surprising);
-			response = answer.responseGiven(query, EMPTY_VIEW, FAIL_INVALID, 0L);
+		boolean isFree = !answer.requiresNodePayment(query);
+		boolean wasAccepted = executors.trySubmit(isFree, () -> {
+			Response response;
+			try {
+				response = answerFlow.satisfyUsing(answer, query);
+			} catch (Exception surprising) {
+				log.warn("Query flow unable to satisfy query {}!", query, surprising);
+				response = answer.responseGiven(query, EMPTY_VIEW, FAIL_INVALID, 0L);
+			}
+			respond(observer, answer, statedFunction, start, response);
+		});
+		if (!wasAccepted) {
+			var busy = answer.responseGiven(query, EMPTY_VIEW, BUSY, 0L);
+			respond(observer, answer, statedFunction, start, busy);
 		}
+	}
 
+	private void respond(
+			StreamObserver<Response> observer,
+			AnswerService answer,
+			HederaFunctionality statedFunction,
+			long start,
+			Response response
+	) {
 		observer.onNext(response);
 		observer.onCompleted();
 
 		if (answer.extractValidityFrom(response) == OK) {
-			incAnsweredCount.run();
+			opCounters.countAnswered(statedFunction);
 		}
+		opLatencies.recordIngested(statedFunction, System.nanoTime() - start);
 	}
 }
@@ -20,6 +20,7 @@ package com.hedera.services.queries.answering;
  * ‍
  */
 
+import com.hedera.services.context.primitives.SignedStateViews;
 import com.hedera.services.context.primitives.StateView;
 import com.hedera.services.fees.FeeCalculator;
 import com.hedera.services.fees.calculation.UsagePricesProvider;
@@ -41,7 +42,6 @@ import org.apache.logging.log4j.Logger;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Supplier;
 
 import static com.hedera.services.utils.SignedTxnAccessor.uncheckedFrom;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.BUSY;
@@ -56,7 +56,7 @@ public class StakedAnswerFlow implements AnswerFlow {
 
 	private final FeeCalculator fees;
 	private final TransactionHandler legacyHandler;
-	private final Supplier<StateView> stateViews;
+	private final SignedStateViews stateViews;
 	private final UsagePricesProvider resourceCosts;
 	private final FunctionalityThrottling throttles;
 	private final PlatformSubmissionManager submissionManager;
@@ -64,7 +64,7 @@ public class StakedAnswerFlow implements AnswerFlow {
 	public StakedAnswerFlow(
 			FeeCalculator fees,
 			TransactionHandler legacyHandler,
-			Supplier<StateView> stateViews,
+			SignedStateViews stateViews,
 			UsagePricesProvider resourceCosts,
 			FunctionalityThrottling throttles,
 			PlatformSubmissionManager submissionManager
@@ -79,7 +79,12 @@ public class StakedAnswerFlow implements AnswerFlow {
 
 	@Override
 	public Response satisfyUsing(AnswerService service, Query query) {
-		StateView view = stateViews.get();
+		try (var snapshot = stateViews.reserveLatest()) {
+			return satisfyGiven(snapshot.view(), service, query);
+		}
+	}
+
+	private Response satisfyGiven(StateView view, AnswerService service, Query query) {
 		SignedTxnAccessor accessor = service.extractPaymentFrom(query).orElse(defaultAccessor);
 
 		if (shouldThrottle(service, accessor)) {
@@ -20,6 +20,7 @@ package com.hedera.services.queries.answering;
  * ‍
  */
 
+import com.hedera.services.context.primitives.SignedStateViews;
 import com.hedera.services.context.primitives.StateView;
 import com.hedera.services.legacy.handler.TransactionHandler;
 import com.hedera.services.queries.AnswerFlow;
@@ -30,8 +31,6 @@ import com.hederahashgraph.api.proto.java.Response;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.function.Supplier;
-
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.BUSY;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 
@@ -39,12 +38,12 @@ public class ZeroStakeAnswerFlow implements AnswerFlow {
 	private static final Logger log = LogManager.getLogger(ZeroStakeAnswerFlow.class);
 
 	private final TransactionHandler legacyHandler;
-	private final Supplier<StateView> stateViews;
+	private final SignedStateViews stateViews;
 	private final FunctionalityThrottling throttles;
 
 	public ZeroStakeAnswerFlow(
 			TransactionHandler legacyHandler,
-			Supplier<StateView> stateViews,
+			SignedStateViews stateViews,
 			FunctionalityThrottling throttles
 	) {
 		this.legacyHandler = legacyHandler;
@@ -54,8 +53,12 @@ public class ZeroStakeAnswerFlow implements AnswerFlow {
 
 	@Override
 	public Response satisfyUsing(AnswerService service, Query query) {
-		var view = stateViews.get();
+		try (var snapshot = stateViews.reserveLatest()) {
+			return satisfyGiven(snapshot.view(), service, query);
+		}
+	}
 
+	private Response satisfyGiven(StateView view, AnswerService service, Query query) {
 		if (throttles.shouldThrottle(service.canonicalFunction())) {
 			return service.responseGiven(query, view, BUSY);
 		}
@@ -0,0 +1,92 @@
+package com.hedera.services.queries.crypto;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.context.primitives.StateView;
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.state.merkle.MerkleEntityId;
+import com.hedera.services.stream.proto.AllAccountBalances;
+import com.hedera.services.stream.proto.SingleAccountBalances;
+import com.hedera.services.stream.proto.TokenUnitBalance;
+import com.hedera.services.txns.validation.OptionValidator;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.TokenID;
+
+import java.util.List;
+
+import static com.hedera.services.state.merkle.MerkleEntityAssociation.fromAccountTokenRel;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Answers a batch of account balance lookups from a single {@link StateView}. The request
+ * and answer are both {@link AllAccountBalances} messages, the format already used for
+ * balance exports.
+ *
+ * <p>Each entry in the request names an account and, optionally, the tokens whose balances
+ * are wanted (the balances in those entries are ignored). An entry with no tokens asks for
+ * the balances of all the account's tokens. Entries for accounts that could not be queried
+ * by {@code getAccountBalance} (missing, deleted, or a contract) are left out of the answer.
+ */
+public class GetAccountBalancesAnswer {
+	private final OptionValidator optionValidator;
+
+	public GetAccountBalancesAnswer(OptionValidator optionValidator) {
+		this.optionValidator = optionValidator;
+	}
+
+	public AllAccountBalances.Builder answerGiven(AllAccountBalances request, StateView view) {
+		var accounts = view.accounts();
+		var tokenRels = view.tokenAssociations().get();
+
+		var answer = AllAccountBalances.newBuilder();
+		for (SingleAccountBalances entry : request.getAllAccountsList()) {
+			var id = entry.getAccountID();
+			if (optionValidator.queryableAccountStatus(id, accounts) != OK) {
+				continue;
+			}
+			var account = accounts.get(MerkleEntityId.fromAccountId(id));
+			var balances = SingleAccountBalances.newBuilder()
+					.setAccountID(id)
+					.setHbarBalance(account.getBalance());
+			for (TokenID tId : tokensOf(entry, account)) {
+				var relationship = tokenRels.get(fromAccountTokenRel(id, tId));
+				balances.addTokenUnitBalances(TokenUnitBalance.newBuilder()
+						.setTokenId(tId)
+						.setBalance(relationship.getBalance()));
+			}
+			answer.addAllAccounts(balances);
+		}
+		return answer;
+	}
+
+	private List<TokenID> tokensOf(SingleAccountBalances entry, MerkleAccount account) {
+		var associated = account.tokens();
+		if (entry.getTokenUnitBalancesCount() == 0) {
+			return associated.asIds();
+		}
+		return entry.getTokenUnitBalancesList()
+				.stream()
+				.map(TokenUnitBalance::getTokenId)
+				.filter(associated::includes)
+				.collect(toList());
+	}
+}
@@ -0,0 +1,364 @@
+package com.hedera.services.records;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import com.hederahashgraph.api.proto.java.TransactionReceipt;
+import com.hederahashgraph.api.proto.java.TransactionRecord;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.hedera.services.records.RecordCache.UNKNOWN_RECEIPT;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.BUSY;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.UNKNOWN;
+
+/**
+ * Pushes the receipts of transactions to the gRPC streams that subscribed to them,
+ * so clients need not poll {@code getTransactionReceipts}.
+ *
+ * <p>The handle thread only calls {@link ReceiptSubscriptions#notifyPostConsensus(TransactionID)},
+ * which is a counter read when there are no subscriptions and otherwise at most one map
+ * removal and a hand-off; the receipt is looked up in the {@link RecordCache} and pushed
+ * from a separate thread.
+ *
+ * <p>Outstanding subscriptions are bounded per stream, per client connection (since one
+ * connection may open any number of streams), and across the node. A subscription over
+ * any of these bounds is answered immediately with a {@code BUSY} receipt; unless the
+ * client is not reading its stream, in which case the stream fails with
+ * {@code RESOURCE_EXHAUSTED} instead of buffering more responses. A subscription that
+ * sees no receipt within the timeout is answered with an {@code UNKNOWN} receipt.
+ */
+public class ReceiptSubscriptions {
+	private static final Logger log = LogManager.getLogger(ReceiptSubscriptions.class);
+
+	static final TransactionReceipt BUSY_RECEIPT = TransactionReceipt.newBuilder()
+			.setStatus(BUSY)
+			.build();
+
+	static final Object UNKNOWN_CONNECTION = new Object();
+
+	private final long timeoutMs;
+	private final int maxPending;
+	private final int maxPerStream;
+	private final int maxPerConnection;
+	private final RecordCache recordCache;
+	final ScheduledExecutorService pushes;
+	private final AtomicInteger numPending = new AtomicInteger();
+	private final Map<Object, Integer> pendingByConnection = new ConcurrentHashMap<>();
+	private final Map<TransactionID, List<Subscription>> pending = new ConcurrentHashMap<>();
+
+	public ReceiptSubscriptions(NodeLocalProperties properties, RecordCache recordCache) {
+		this(
+				properties.receiptSubscriptionsMaxPerStream(),
+				properties.receiptSubscriptionsMaxPerConnection(),
+				properties.receiptSubscriptionsMaxPending(),
+				TimeUnit.SECONDS.toMillis(properties.receiptSubscriptionsTimeoutSecs()),
+				recordCache,
+				newPusher());
+	}
+
+	/* Almost every timeout is cancelled by its receipt; so drop cancelled ones from the queue right away. */
+	private static ScheduledExecutorService newPusher() {
+		var pusher = new ScheduledThreadPoolExecutor(
+				1,
+				new ThreadFactoryBuilder().setNameFormat("receiptPusher").setDaemon(true).build());
+		pusher.setRemoveOnCancelPolicy(true);
+		return pusher;
+	}
+
+	ReceiptSubscriptions(
+			int maxPerStream,
+			int maxPerConnection,
+			int maxPending,
+			long timeoutMs,
+			RecordCache recordCache,
+			ScheduledExecutorService pushes
+	) {
+		this.pushes = pushes;
+		this.timeoutMs = timeoutMs;
+		this.recordCache = recordCache;
+		this.maxPending = maxPending;
+		this.maxPerStream = maxPerStream;
+		this.maxPerConnection = maxPerConnection;
+	}
+
+	/**
+	 * Opens a subscription stream that pushes receipts to the given observer.
+	 *
+	 * @param connection a key for the client connection the stream belongs to, or null if unknown
+	 * @param observer the observer of the stream's receipts
+	 * @return the stream to subscribe to transaction ids with
+	 */
+	public Stream newStream(Object connection, StreamObserver<TransactionRecord> observer) {
+		return new Stream(connection == null ? UNKNOWN_CONNECTION : connection, observer);
+	}
+
+	/**
+	 * Called once a transaction has reached consensus and its record is in the cache.
+	 *
+	 * @param txnId the id of the transaction
+	 */
+	public void notifyPostConsensus(TransactionID txnId) {
+		if (numPending.get() == 0) {
+			return;
+		}
+		var subscriptions = pending.remove(txnId);
+		if (subscriptions != null) {
+			pushes.execute(() -> pushFromCache(txnId, subscriptions));
+		}
+	}
+
+	int numPending() {
+		return numPending.get();
+	}
+
+	int numPending(Object connection) {
+		return pendingByConnection.getOrDefault(connection, 0);
+	}
+
+	private void pushFromCache(TransactionID txnId, List<Subscription> subscriptions) {
+		var receipt = recordCache.getPriorityReceipt(txnId);
+		if (receipt == null) {
+			receipt = UNKNOWN_RECEIPT;
+		}
+		List<Subscription> toPush;
+		synchronized (subscriptions) {
+			toPush = new ArrayList<>(subscriptions);
+		}
+		for (var subscription : toPush) {
+			subscription.complete(receipt);
+		}
+	}
+
+	private boolean tryAdmit(Object connection) {
+		if (numPending.incrementAndGet() > maxPending) {
+			numPending.decrementAndGet();
+			return false;
+		}
+		var admitted = new boolean[1];
+		pendingByConnection.compute(connection, (ignore, n) -> {
+			int current = (n == null) ? 0 : n;
+			if (current >= maxPerConnection) {
+				return n;
+			}
+			admitted[0] = true;
+			return current + 1;
+		});
+		if (!admitted[0]) {
+			numPending.decrementAndGet();
+		}
+		return admitted[0];
+	}
+
+	private void register(Subscription subscription) {
+		pending.compute(subscription.txnId, (ignore, subscriptions) -> {
+			/* A subscription already timed out (and unregistered) must not be left behind. */
+			if (subscription.isDone.get()) {
+				return subscriptions;
+			}
+			if (subscriptions == null) {
+				subscriptions = new ArrayList<>();
+			}
+			synchronized (subscriptions) {
+				subscriptions.add(subscription);
+			}
+			return subscriptions;
+		});
+	}
+
+	private void unregister(Subscription subscription) {
+		numPending.decrementAndGet();
+		pendingByConnection.computeIfPresent(subscription.stream.connection, (ignore, n) -> (n > 1) ? n - 1 : null);
+		pending.computeIfPresent(subscription.txnId, (ignore, subscriptions) -> {
+			synchronized (subscriptions) {
+				subscriptions.remove(subscription);
+				return subscriptions.isEmpty() ? null : subscriptions;
+			}
+		});
+	}
+
+	public class Stream {
+		private final Object connection;
+		private final StreamObserver<TransactionRecord> observer;
+		private final Set<Subscription> outstanding = new HashSet<>();
+
+		private boolean isClosed = false;
+		private boolean isHalfClosed = false;
+
+		Stream(Object connection, StreamObserver<TransactionRecord> observer) {
+			this.observer = observer;
+			this.connection = connection;
+		}
+
+		/**
+		 * Subscribes this stream to the receipt of the given transaction.
+		 *
+		 * @param txnId the id of the transaction
+		 */
+		public void subscribe(TransactionID txnId) {
+			var subscription = new Subscription(txnId, this);
+			synchronized (this) {
+				if (isClosed || isHalfClosed) {
+					return;
+				}
+				if (outstanding.size() >= maxPerStream || !tryAdmit(connection)) {
+					rejectBusy(txnId);
+					return;
+				}
+				outstanding.add(subscription);
+				/* Schedule while holding the stream, so nothing can finish the subscription before its timeout is set. */
+				subscription.timeout = pushes.schedule(
+						() -> subscription.complete(UNKNOWN_RECEIPT), timeoutMs, TimeUnit.MILLISECONDS);
+			}
+			register(subscription);
+
+			var known = recordCache.getPriorityReceipt(txnId);
+			if (known != null && known.getStatus() != UNKNOWN) {
+				subscription.complete(known);
+			}
+		}
+
+		/**
+		 * Signals the client will subscribe to no more transactions; the stream completes
+		 * once all its outstanding subscriptions are answered.
+		 */
+		public synchronized void halfClose() {
+			isHalfClosed = true;
+			completeIfDone();
+		}
+
+		/**
+		 * Cancels all outstanding subscriptions, for example because the client went away.
+		 */
+		public void cancel() {
+			List<Subscription> toCancel;
+			synchronized (this) {
+				isClosed = true;
+				toCancel = new ArrayList<>(outstanding);
+			}
+			toCancel.forEach(Subscription::cancel);
+		}
+
+		synchronized void answer(Subscription subscription, TransactionReceipt receipt) {
+			if (!outstanding.remove(subscription) || isClosed) {
+				return;
+			}
+			push(subscription.txnId, receipt);
+			completeIfDone();
+		}
+
+		synchronized int numOutstanding() {
+			return outstanding.size();
+		}
+
+		private void push(TransactionID txnId, TransactionReceipt receipt) {
+			try {
+				observer.onNext(TransactionRecord.newBuilder()
+						.setTransactionID(txnId)
+						.setReceipt(receipt)
+						.build());
+			} catch (RuntimeException e) {
+				log.warn("Unable to push receipt for {}, closing stream", txnId, e);
+				isClosed = true;
+			}
+		}
+
+		private void rejectBusy(TransactionID txnId) {
+			if (isReady()) {
+				push(txnId, BUSY_RECEIPT);
+				return;
+			}
+			isClosed = true;
+			outstanding.forEach(Subscription::cancel);
+			try {
+				observer.onError(Status.RESOURCE_EXHAUSTED
+						.withDescription("Too many receipt subscriptions, and stream not being read")
+						.asRuntimeException());
+			} catch (RuntimeException e) {
+				log.warn("Unable to fail stream after rejecting {}", txnId, e);
+			}
+		}
+
+		private boolean isReady() {
+			return !(observer instanceof ServerCallStreamObserver)
+					|| ((ServerCallStreamObserver<TransactionRecord>) observer).isReady();
+		}
+
+		private void completeIfDone() {
+			if (isHalfClosed && !isClosed && outstanding.isEmpty()) {
+				isClosed = true;
+				observer.onCompleted();
+			}
+		}
+	}
+
+	private class Subscription {
+		private final Stream stream;
+		private final TransactionID txnId;
+		private final AtomicBoolean isDone = new AtomicBoolean();
+
+		private volatile ScheduledFuture<?> timeout;
+
+		Subscription(TransactionID txnId, Stream stream) {
+			this.txnId = txnId;
+			this.stream = stream;
+		}
+
+		void complete(TransactionReceipt receipt) {
+			if (finish()) {
+				stream.answer(this, receipt);
+			}
+		}
+
+		void cancel() {
+			finish();
+		}
+
+		private boolean finish() {
+			if (!isDone.compareAndSet(false, true)) {
+				return false;
+			}
+			unregister(this);
+			if (timeout != null) {
+				timeout.cancel(false);
+			}
+			return true;
+		}
+	}
+}
@@ -37,6 +37,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static com.hedera.services.utils.MiscUtils.asTimestamp;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.FAIL_INVALID;
@@ -50,9 +51,12 @@ public class RecordCache {
 
 	public static final Boolean MARKER = Boolean.TRUE;
 
+	static final Consumer<TransactionID> NO_RECEIPT_LISTENER = ignore -> {};
+
 	private ServicesContext ctx;
 	private Cache<TransactionID, Boolean> timedReceiptCache;
 	private Map<TransactionID, TxnIdRecentHistory> histories;
+	private Consumer<TransactionID> receiptListener;
 
 	MonotonicFullQueueExpiries<TransactionID> recordExpiries = new MonotonicFullQueueExpiries<>();
 
@@ -60,9 +64,19 @@ public class RecordCache {
 			ServicesContext ctx,
 			Cache<TransactionID, Boolean> timedReceiptCache,
 			Map<TransactionID, TxnIdRecentHistory> histories
+	) {
+		this(ctx, timedReceiptCache, histories, NO_RECEIPT_LISTENER);
+	}
+
+	public RecordCache(
+			ServicesContext ctx,
+			Cache<TransactionID, Boolean> timedReceiptCache,
+			Map<TransactionID, TxnIdRecentHistory> histories,
+			Consumer<TransactionID> receiptListener
 	) {
 		this.ctx = ctx;
 		this.histories = histories;
+		this.receiptListener = receiptListener;
 		this.timedReceiptCache = timedReceiptCache;
 	}
 
@@ -77,6 +91,7 @@ public class RecordCache {
 	) {
 		var recentHistory = histories.computeIfAbsent(txnId, ignore -> new TxnIdRecentHistory());
 		recentHistory.observe(record, status);
+		receiptListener.accept(txnId);
 	}
 
 	public void setFailInvalid(
@@ -103,6 +118,7 @@ public class RecordCache {
 				submittingMember);
 		var recentHistory = histories.computeIfAbsent(txnId, ignore -> new TxnIdRecentHistory());
 		recentHistory.observe(record, FAIL_INVALID);
+		receiptListener.accept(txnId);
 	}
 
 	public boolean isReceiptPresent(TransactionID txnId) {
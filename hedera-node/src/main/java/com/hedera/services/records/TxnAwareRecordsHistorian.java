@@ -101,7 +101,7 @@ public class TxnAwareRecordsHistorian implements AccountRecordsHistorian {
 
 	@Override
 	public void purgeExpiredRecords() {
-		expiries.purgeExpiredRecordsAt(txnCtx.consensusTime().getEpochSecond(), ledger);
+		expiries.purgeExpiredRecordsAt(txnCtx.consensusTime().getEpochSecond());
 	}
 
 	@Override
@@ -20,10 +20,13 @@ package com.hedera.services.sigs;
  * ‍
  */
 
+import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.legacy.crypto.SignatureStatus;
 import com.hedera.services.sigs.factories.TxnScopedPlatformSigFactory;
 import com.hedera.services.sigs.order.HederaSigningOrder;
 import com.hedera.services.sigs.order.SigStatusOrderResultFactory;
+import com.hedera.services.sigs.order.SigningOrderPlan;
+import com.hedera.services.sigs.order.SigningOrderPlans;
 import com.hedera.services.sigs.order.SigningOrderResult;
 import com.hedera.services.sigs.sourcing.PubKeyToSigBytes;
 import com.hedera.services.sigs.sourcing.PubKeyToSigBytesProvider;
@@ -35,6 +38,7 @@ import com.swirlds.common.crypto.TransactionSignature;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -49,13 +53,19 @@ class Expansion {
 	private final HederaSigningOrder keyOrderer;
 	private final PubKeyToSigBytesProvider sigsProvider;
 	private final TxnScopedPlatformSigFactory sigFactory;
+	private final SigningOrderPlans plans;
+
+	private List<JKey> lastOrderedKeys;
+	private boolean allSigsCreated = true;
 
 	public Expansion(
 			PlatformTxnAccessor txnAccessor,
 			HederaSigningOrder keyOrderer,
 			PubKeyToSigBytesProvider sigsProvider,
-			Function<SignedTxnAccessor, TxnScopedPlatformSigFactory> sigFactoryCreator
+			Function<SignedTxnAccessor, TxnScopedPlatformSigFactory> sigFactoryCreator,
+			SigningOrderPlans plans
 	) {
+		this.plans = plans;
 		this.txnAccessor = txnAccessor;
 		this.keyOrderer = keyOrderer;
 		this.sigsProvider = sigsProvider;
@@ -65,6 +75,7 @@ class Expansion {
 
 	public SignatureStatus execute() {
 		log.debug("Expanding crypto sigs from Hedera sigs for txn {}...", txnAccessor::getSignedTxn4Log);
+		long versionAtStart = plans.currentVersion();
 		var payerStatus = expand(sigsProvider::payerSigBytesFor, keyOrderer::keysForPayer);
 		if ( SUCCESS != payerStatus.getStatusCode() ) {
 			if (log.isDebugEnabled()) {
@@ -75,6 +86,7 @@ class Expansion {
 			}
 			return payerStatus;
 		}
+		var payerKeys = lastOrderedKeys;
 		var otherStatus = expand(sigsProvider::otherPartiesSigBytesFor, keyOrderer::keysForOtherParties);
 		if ( SUCCESS != otherStatus.getStatusCode() ) {
 			if (log.isDebugEnabled()) {
@@ -83,6 +95,11 @@ class Expansion {
 						txnAccessor.getTxnId(),
 						otherStatus);
 			}
+		} else if (allSigsCreated) {
+			var expandedSigs = txnAccessor.getPlatformTxn().getSignatures().size();
+			plans.offer(
+					txnAccessor.getHash(),
+					new SigningOrderPlan(versionAtStart, payerKeys, lastOrderedKeys, expandedSigs));
 		}
 		return otherStatus;
 	}
@@ -100,8 +117,11 @@ class Expansion {
 				orderResult.getOrderedKeys(), sigsFn.apply(txnAccessor.getBackwardCompatibleSignedTxn()), sigFactory);
 		if (!creationResult.hasFailed()) {
 			txnAccessor.getPlatformTxn().addAll(creationResult.getPlatformSigs().toArray(new TransactionSignature[0]));
+		} else {
+			allSigsCreated = false;
 		}
-		/* Ignore sig creation failures. */
+		lastOrderedKeys = orderResult.getOrderedKeys();
+		/* Ignore sig creation failures (but never offer a plan for sigs that weren't added). */
 		return successFor(false, txnAccessor);
 	}
 }
@@ -25,6 +25,7 @@ import com.hedera.services.legacy.crypto.SignatureStatus;
 import com.hedera.services.sigs.factories.TxnScopedPlatformSigFactory;
 import com.hedera.services.sigs.order.HederaSigningOrder;
 import com.hedera.services.sigs.order.SigStatusOrderResultFactory;
+import com.hedera.services.sigs.order.SigningOrderPlans;
 import com.hedera.services.sigs.sourcing.PubKeyToSigBytesProvider;
 import com.hedera.services.sigs.verification.SyncVerifier;
 import com.hedera.services.utils.PlatformTxnAccessor;
@@ -95,10 +96,31 @@ public class HederaToPlatformSigOps {
 			HederaSigningOrder keyOrderer,
 			PubKeyToSigBytesProvider sigsProvider,
 			Function<SignedTxnAccessor, TxnScopedPlatformSigFactory> sigFactoryCreator
+	) {
+		return expandIn(txnAccessor, keyOrderer, sigsProvider, sigFactoryCreator, SigningOrderPlans.NO_PLANS);
+	}
+
+	/**
+	 * As {@link HederaToPlatformSigOps#expandIn(PlatformTxnAccessor, HederaSigningOrder, PubKeyToSigBytesProvider, Function)},
+	 * but also offers a {@link com.hedera.services.sigs.order.SigningOrderPlan} to the given plans if both
+	 * the Hedera signing keys and all their platform sigs were found.
+	 *
+	 * @param txnAccessor the accessor for the platform txn.
+	 * @param keyOrderer facility for listing Hedera keys required to sign the gRPC txn.
+	 * @param sigsProvider source of crypto sigs for the simple keys in the Hedera key leaves.
+	 * @param plans the plans to offer the listed keys to, for re-use in {@code handleTransaction}.
+	 * @return a representation of the outcome.
+	 */
+	public static SignatureStatus expandIn(
+			PlatformTxnAccessor txnAccessor,
+			HederaSigningOrder keyOrderer,
+			PubKeyToSigBytesProvider sigsProvider,
+			Function<SignedTxnAccessor, TxnScopedPlatformSigFactory> sigFactoryCreator,
+			SigningOrderPlans plans
 	) {
 		txnAccessor.getPlatformTxn().clear();
 
-		return new Expansion(txnAccessor, keyOrderer, sigsProvider, sigFactoryCreator).execute();
+		return new Expansion(txnAccessor, keyOrderer, sigsProvider, sigFactoryCreator, plans).execute();
 	}
 
 	/**
@@ -131,13 +153,39 @@ public class HederaToPlatformSigOps {
 			HederaSigningOrder keyOrderer,
 			PubKeyToSigBytesProvider sigsProvider,
 			Function<TxnAccessor, TxnScopedPlatformSigFactory> sigFactoryCreator
+	) {
+		return rationalizeIn(
+				txnAccessor, syncVerifier, keyOrderer, sigsProvider, sigFactoryCreator, SigningOrderPlans.NO_PLANS);
+	}
+
+	/**
+	 * As {@link HederaToPlatformSigOps#rationalizeIn(TxnAccessor, SyncVerifier, HederaSigningOrder, PubKeyToSigBytesProvider, Function)},
+	 * but first tries to claim a still-current {@link com.hedera.services.sigs.order.SigningOrderPlan} from
+	 * the given plans; if one is claimed, the Hedera signing keys are not listed again. Either way, the
+	 * plan used is memoized on the accessor for the rest of {@code handleTransaction}.
+	 *
+	 * @param txnAccessor the accessor for the platform txn.
+	 * @param syncVerifier facility for synchronously verifying a cryptographic signature.
+	 * @param keyOrderer facility for listing Hedera keys required to sign the gRPC txn.
+	 * @param sigsProvider source of crypto sigs for the simple keys in the Hedera key leaves.
+	 * @param plans the plans possibly holding the keys listed during signature expansion.
+	 * @return a representation of the outcome.
+	 */
+	public static SignatureStatus rationalizeIn(
+			TxnAccessor txnAccessor,
+			SyncVerifier syncVerifier,
+			HederaSigningOrder keyOrderer,
+			PubKeyToSigBytesProvider sigsProvider,
+			Function<TxnAccessor, TxnScopedPlatformSigFactory> sigFactoryCreator,
+			SigningOrderPlans plans
 	) {
 		return new Rationalization(
 				txnAccessor,
 				syncVerifier,
 				keyOrderer,
 				sigsProvider,
-				sigFactoryCreator
+				sigFactoryCreator,
+				plans
 		).execute();
 	}
 
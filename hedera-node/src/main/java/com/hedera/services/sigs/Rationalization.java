@@ -20,11 +20,14 @@ package com.hedera.services.sigs;
  * ‍
  */
 
+import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.legacy.crypto.SignatureStatus;
 import com.hedera.services.legacy.crypto.SignatureStatusCode;
 import com.hedera.services.sigs.factories.TxnScopedPlatformSigFactory;
 import com.hedera.services.sigs.order.HederaSigningOrder;
 import com.hedera.services.sigs.order.SigStatusOrderResultFactory;
+import com.hedera.services.sigs.order.SigningOrderPlan;
+import com.hedera.services.sigs.order.SigningOrderPlans;
 import com.hedera.services.sigs.order.SigningOrderResult;
 import com.hedera.services.sigs.sourcing.PubKeyToSigBytes;
 import com.hedera.services.sigs.sourcing.PubKeyToSigBytesProvider;
@@ -60,14 +63,19 @@ public class Rationalization {
 	private final HederaSigningOrder keyOrderer;
 	private final PubKeyToSigBytesProvider sigsProvider;
 	private final TxnScopedPlatformSigFactory sigFactory;
+	private final SigningOrderPlans plans;
+
+	private List<JKey> lastOrderedKeys;
 
 	public Rationalization(
 			TxnAccessor txnAccessor,
 			SyncVerifier syncVerifier,
 			HederaSigningOrder keyOrderer,
 			PubKeyToSigBytesProvider sigsProvider,
-			Function<TxnAccessor, TxnScopedPlatformSigFactory> sigFactoryCreator
+			Function<TxnAccessor, TxnScopedPlatformSigFactory> sigFactoryCreator,
+			SigningOrderPlans plans
 	) {
+		this.plans = plans;
 		this.txnAccessor = txnAccessor;
 		this.syncVerifier = syncVerifier;
 		this.keyOrderer = keyOrderer;
@@ -79,6 +87,13 @@ public class Rationalization {
 
 	public SignatureStatus execute() {
 		log.debug("Rationalizing crypto sigs with Hedera sigs for txn {}...", txnAccessor::getSignedTxn4Log);
+		var plan = plans.claim(txnAccessor.getHash());
+		if (plan != null && plan.getExpandedSigs() == txnSigs.size()) {
+			txnAccessor.setSigningOrderPlan(plan);
+			return rationalizePlanned();
+		}
+
+		long versionAtStart = plans.currentVersion();
 		List<TransactionSignature> realPayerSigs = new ArrayList<>(), realOtherPartySigs = new ArrayList<>();
 
 		var payerStatus = expandIn(
@@ -89,6 +104,7 @@ public class Rationalization {
 			}
 			return payerStatus;
 		}
+		var payerKeys = lastOrderedKeys;
 		var otherPartiesStatus = expandIn(
 				realOtherPartySigs, sigsProvider::otherPartiesSigBytesFor, keyOrderer::keysForOtherParties);
 		if (!SUCCESS.equals(otherPartiesStatus.getStatusCode())) {
@@ -97,6 +113,8 @@ public class Rationalization {
 			}
 			return otherPartiesStatus;
 		}
+		var expandedSigs = realPayerSigs.size() + realOtherPartySigs.size();
+		txnAccessor.setSigningOrderPlan(new SigningOrderPlan(versionAtStart, payerKeys, lastOrderedKeys, expandedSigs));
 
 		var rationalizedPayerSigs = rationalize(realPayerSigs, 0);
 		var rationalizedOtherPartySigs = rationalize(realOtherPartySigs, realPayerSigs.size());
@@ -112,6 +130,19 @@ public class Rationalization {
 		return asyncSuccess();
 	}
 
+	/* The platform sigs were created from a still-current plan, so only their statuses can be missing. */
+	private SignatureStatus rationalizePlanned() {
+		if (allStatusesAreKnown(txnSigs)) {
+			return asyncSuccess();
+		}
+		List<TransactionSignature> verifiedSigs = new ArrayList<>(txnSigs);
+		syncVerifier.verifySync(verifiedSigs);
+		txnAccessor.getPlatformTxn().clear();
+		txnAccessor.getPlatformTxn().addAll(verifiedSigs.toArray(new TransactionSignature[0]));
+		log.debug("Verified planned crypto sigs synchronously for txn {}", txnAccessor::getSignedTxn4Log);
+		return syncSuccess();
+	}
+
 	private List<TransactionSignature> rationalize(List<TransactionSignature> realSigs, int startingAt) {
 		try {
 			var candidateSigs = txnSigs.subList(startingAt, startingAt + realSigs.size());
@@ -138,6 +169,7 @@ public class Rationalization {
 		if (orderResult.hasErrorReport()) {
 			return orderResult.getErrorReport();
 		}
+		lastOrderedKeys = orderResult.getOrderedKeys();
 		PlatformSigsCreationResult creationResult = createEd25519PlatformSigsFrom(
 				orderResult.getOrderedKeys(), sigsFn.apply(txnAccessor.getBackwardCompatibleSignedTxn()), sigFactory);
 		if (creationResult.hasFailed()) {
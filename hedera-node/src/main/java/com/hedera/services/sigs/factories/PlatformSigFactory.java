@@ -68,6 +68,26 @@ public class PlatformSigFactory {
 		return isEqual;
 	}
 
+	/**
+	 * Like {@link #varyingMaterialEquals(TransactionSignature, TransactionSignature)}, but also
+	 * requires the signed data to match; so a verdict reached on one signature holds for the other.
+	 *
+	 * @param a the first platform sig
+	 * @param b the second platform sig
+	 * @return whether the two sigs are over the same key, signature, and data
+	 */
+	public static boolean allMaterialEquals(TransactionSignature a, TransactionSignature b) {
+		boolean isEqual = varyingMaterialEquals(a, b);
+		if (isEqual) {
+			int aOffset = a.getMessageOffset(), aLen = a.getMessageLength();
+			int bOffset = b.getMessageOffset(), bLen = b.getMessageLength();
+			isEqual = Arrays.equals(
+					a.getContentsDirect(), aOffset, aOffset + aLen,
+					b.getContentsDirect(), bOffset, bOffset + bLen);
+		}
+		return isEqual;
+	}
+
 	public static boolean allVaryingMaterialEquals(List<TransactionSignature> aSigs, List<TransactionSignature> bSigs) {
 		boolean isEqual = (aSigs.size() == bSigs.size());
 		if (isEqual) {
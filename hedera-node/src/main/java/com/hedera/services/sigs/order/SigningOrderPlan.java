@@ -0,0 +1,79 @@
+package com.hedera.services.sigs.order;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.common.base.MoreObjects;
+import com.hedera.services.legacy.core.jproto.JKey;
+
+import java.util.List;
+
+/**
+ * The Hedera keys a {@link HederaSigningOrder} listed as required to sign a
+ * transaction, stamped with the {@link SigningOrderPlans} version that was
+ * current when the listing began. A plan is only ever built from successful
+ * payer and other-party orders; when built during signature expansion, it also
+ * records how many platform sigs the expansion added to the platform txn.
+ *
+ * @see SigningOrderPlans
+ */
+public class SigningOrderPlan {
+	private final int expandedSigs;
+	private final long version;
+	private final List<JKey> payerKeys;
+	private final List<JKey> otherPartyKeys;
+
+	public SigningOrderPlan(long version, List<JKey> payerKeys, List<JKey> otherPartyKeys, int expandedSigs) {
+		this.version = version;
+		this.payerKeys = payerKeys;
+		this.otherPartyKeys = otherPartyKeys;
+		this.expandedSigs = expandedSigs;
+	}
+
+	public long getVersion() {
+		return version;
+	}
+
+	public int getExpandedSigs() {
+		return expandedSigs;
+	}
+
+	public JKey getPayerKey() {
+		return payerKeys.get(0);
+	}
+
+	public List<JKey> getPayerKeys() {
+		return payerKeys;
+	}
+
+	public List<JKey> getOtherPartyKeys() {
+		return otherPartyKeys;
+	}
+
+	@Override
+	public String toString() {
+		return MoreObjects.toStringHelper(SigningOrderPlan.class)
+				.add("version", version)
+				.add("payerKeys", payerKeys)
+				.add("otherPartyKeys", otherPartyKeys)
+				.add("expandedSigs", expandedSigs)
+				.toString();
+	}
+}
@@ -0,0 +1,147 @@
+package com.hedera.services.sigs.order;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.protobuf.ByteString;
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
+
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.ConsensusCreateTopic;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.ConsensusSubmitMessage;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoAddLiveHash;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoCreate;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoDeleteLiveHash;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.FileAppend;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.FileCreate;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenAccountWipe;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenAssociateToAccount;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenBurn;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenCreate;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenDissociateFromAccount;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenFreezeAccount;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenGrantKycToAccount;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenMint;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenRevokeKycFromAccount;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenUnfreezeAccount;
+
+/**
+ * Hands {@link SigningOrderPlan}s computed during signature expansion over to
+ * {@code handleTransaction}, so the signing order of a transaction is usually
+ * listed just once.
+ *
+ * <p>Plans are keyed by the hash of the signed transaction, and stamped with the
+ * version current when their listing began. The version is advanced whenever a
+ * handled transaction (or an entity expiration) may have changed the keys, WACLs,
+ * receiver-sig-required flags, or schedules that a signing order consults; a plan
+ * whose stamp is behind the current version is never returned from {@link #claim(ByteString)}.
+ *
+ * <p>At most {@code sigs.orderPlans.maxEntries} plans are kept, evicting the eldest; this
+ * should cover the transactions offered between signature expansion and handling at peak TPS.
+ *
+ * @see HederaSigningOrder
+ */
+public class SigningOrderPlans {
+	static final EnumSet<HederaFunctionality> SIG_METADATA_NEUTRAL_FUNCTIONS = EnumSet.of(
+			CryptoTransfer,
+			CryptoCreate,
+			CryptoAddLiveHash,
+			CryptoDeleteLiveHash,
+			FileCreate,
+			FileAppend,
+			ConsensusCreateTopic,
+			ConsensusSubmitMessage,
+			TokenCreate,
+			TokenFreezeAccount,
+			TokenUnfreezeAccount,
+			TokenGrantKycToAccount,
+			TokenRevokeKycFromAccount,
+			TokenMint,
+			TokenBurn,
+			TokenAccountWipe,
+			TokenAssociateToAccount,
+			TokenDissociateFromAccount);
+
+	/* Keeps no plans; used by expansions and rationalizations that have no plans to hand over. */
+	public static final SigningOrderPlans NO_PLANS = new SigningOrderPlans(0);
+
+	private final int capacity;
+	private final AtomicLong version = new AtomicLong();
+	private final Map<ByteString, SigningOrderPlan> plans;
+
+	public SigningOrderPlans(int capacity) {
+		this.capacity = capacity;
+		plans = new LinkedHashMap<>() {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<ByteString, SigningOrderPlan> eldest) {
+				return size() > capacity;
+			}
+		};
+	}
+
+	public long currentVersion() {
+		return version.get();
+	}
+
+	public void advanceVersion() {
+		version.incrementAndGet();
+	}
+
+	public void advanceVersionIfAffectedBy(HederaFunctionality function) {
+		if (!SIG_METADATA_NEUTRAL_FUNCTIONS.contains(function)) {
+			advanceVersion();
+		}
+	}
+
+	public synchronized void offer(ByteString txnHash, SigningOrderPlan plan) {
+		if (capacity == 0) {
+			return;
+		}
+		plans.put(txnHash, plan);
+	}
+
+	/**
+	 * Removes and returns the plan offered for the given signed transaction hash, if
+	 * there is one and it is still current.
+	 *
+	 * @param txnHash the hash of the signed transaction
+	 * @return the current plan for the transaction, or null if there is none
+	 */
+	public SigningOrderPlan claim(ByteString txnHash) {
+		SigningOrderPlan plan;
+		synchronized (this) {
+			plan = plans.remove(txnHash);
+		}
+		return (plan != null && isCurrent(plan)) ? plan : null;
+	}
+
+	public boolean isCurrent(SigningOrderPlan plan) {
+		return plan.getVersion() == version.get();
+	}
+
+	synchronized int size() {
+		return plans.size();
+	}
+}
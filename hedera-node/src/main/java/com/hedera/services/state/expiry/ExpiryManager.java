@@ -20,7 +20,7 @@ package com.hedera.services.state.expiry;
  * ‍
  */
 
-import com.hedera.services.ledger.HederaLedger;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.records.RecordCache;
 import com.hedera.services.records.TxnIdRecentHistory;
 import com.hedera.services.state.merkle.MerkleAccount;
@@ -28,6 +28,7 @@ import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.state.merkle.MerkleSchedule;
 import com.hedera.services.state.submerkle.EntityId;
 import com.hedera.services.state.submerkle.ExpirableTxnRecord;
+import com.hedera.services.stats.MiscRunningAvgs;
 import com.hedera.services.store.schedule.ScheduleStore;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.TransactionID;
@@ -41,15 +42,20 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 public class ExpiryManager {
 	private final RecordCache recordCache;
 	private final Map<TransactionID, TxnIdRecentHistory> txnHistories;
 	private final FCMap<MerkleEntityId, MerkleSchedule> schedules;
+	private final Supplier<FCMap<MerkleEntityId, MerkleAccount>> accounts;
 
 	private final ScheduleStore scheduleStore;
+	private final MiscRunningAvgs runningAvgs;
+	private final GlobalDynamicProperties dynamicProperties;
 
 	long sharedNow;
+	boolean hasRecordsBacklog = false;
 	MonotonicFullQueueExpiries<Long> payerExpiries = new MonotonicFullQueueExpiries<>();
 	MonotonicFullQueueExpiries<Pair<Long, Consumer<EntityId>>> entityExpiries = new MonotonicFullQueueExpiries<>();
 
@@ -57,12 +63,18 @@ public class ExpiryManager {
 			RecordCache recordCache,
 			Map<TransactionID, TxnIdRecentHistory> txnHistories,
 			ScheduleStore scheduleStore,
-			FCMap<MerkleEntityId, MerkleSchedule> schedules
+			FCMap<MerkleEntityId, MerkleSchedule> schedules,
+			Supplier<FCMap<MerkleEntityId, MerkleAccount>> accounts,
+			GlobalDynamicProperties dynamicProperties,
+			MiscRunningAvgs runningAvgs
 	) {
 		this.recordCache = recordCache;
 		this.txnHistories = txnHistories;
 		this.scheduleStore = scheduleStore;
+		this.runningAvgs = runningAvgs;
+		this.dynamicProperties = dynamicProperties;
 
+		this.accounts = accounts;
 		this.schedules = schedules;
 	}
 
@@ -74,6 +86,7 @@ public class ExpiryManager {
 		recordCache.reset();
 		txnHistories.clear();
 		payerExpiries.reset();
+		hasRecordsBacklog = false;
 
 		var _payerExpiries = new ArrayList<Map.Entry<Long, Long>>();
 		accounts.forEach((id, account) -> {
@@ -129,12 +142,79 @@ public class ExpiryManager {
 		txnHistories.computeIfAbsent(txnId, ignore -> new TxnIdRecentHistory()).stage(record);
 	}
 
-	public void purgeExpiredRecordsAt(long now, HederaLedger ledger) {
+	/**
+	 * Purges expired payer records at the given consensus time, but at most
+	 * {@code ledger.records.maxPurgesPerTxn} of them. Any expired records beyond this
+	 * budget are left as a backlog for the next call, which will resume purging with
+	 * the same payer and record; so every node purges exactly the same records at
+	 * exactly the same consensus times. A payer expiry event that finds no expired
+	 * records (because an earlier event for the same payer already purged them)
+	 * still uses one unit of the budget, so draining stale events is bounded too.
+	 *
+	 * <p>Records are polled from the payer's queue in the accounts map directly,
+	 * without going through the {@link com.hedera.services.ledger.HederaLedger}.
+	 *
+	 * @param now the consensus time in seconds
+	 */
+	public void purgeExpiredRecordsAt(long now) {
+		long start = System.nanoTime();
 		sharedNow = now;
-		while (payerExpiries.hasExpiringAt(now)) {
-			ledger.purgeExpiredRecords(accountWith(payerExpiries.expireNextAt(now)), now, this::updateHistory);
+
+		var curAccounts = accounts.get();
+		int budget = dynamicProperties.maxRecordPurgesPerTxn();
+		while (budget > 0 && payerExpiries.hasExpiringAt(now)) {
+			var payer = new MerkleEntityId(0, 0, payerExpiries.peekNext());
+			budget -= Math.max(1, purgeUpTo(budget, payer, now, curAccounts));
+			if (!hasExpiredRecords(curAccounts.get(payer), now)) {
+				payerExpiries.expireNextAt(now);
+			}
 		}
+		hasRecordsBacklog = payerExpiries.hasExpiringAt(now);
 		recordCache.forgetAnyOtherExpiredHistory(now);
+
+		runningAvgs.recordExpiredRecordsPurgeMs((System.nanoTime() - start) / 1_000_000.0);
+		runningAvgs.recordExpiredRecordsBacklogSecs(hasRecordsBacklog ? now - payerExpiries.peekNextExpiry() : 0);
+	}
+
+	/**
+	 * Indicates whether the last purge of expired records stopped at its
+	 * budget, leaving expired records to be purged by later transactions.
+	 *
+	 * @return whether there is a backlog of expired records
+	 */
+	public boolean hasExpiredRecordsBacklog() {
+		return hasRecordsBacklog;
+	}
+
+	private int purgeUpTo(
+			int maxPurges,
+			MerkleEntityId payer,
+			long now,
+			FCMap<MerkleEntityId, MerkleAccount> curAccounts
+	) {
+		if (!hasExpiredRecords(curAccounts.get(payer), now)) {
+			return 0;
+		}
+		int numPurged = 0;
+		var mutableAccount = curAccounts.getForModify(payer);
+		var records = mutableAccount.records();
+		while (numPurged < maxPurges && !records.isEmpty() && records.peek().getExpiry() <= now) {
+			updateHistory(records.poll());
+			numPurged++;
+		}
+		if (records.isEmpty()) {
+			mutableAccount.setRecords(records);
+		}
+		curAccounts.replace(payer, mutableAccount);
+		return numPurged;
+	}
+
+	private boolean hasExpiredRecords(MerkleAccount account, long now) {
+		if (account == null) {
+			return false;
+		}
+		var records = account.records();
+		return !records.isEmpty() && records.peek().getExpiry() <= now;
 	}
 
 	/**
@@ -142,12 +222,16 @@ public class ExpiryManager {
 	 * this to be done efficiently, the expiry manager will need the opportunity to scan
 	 * the ledger and build an auxiliary data structure of expiration times
 	 * @param now the time in seconds used to expire entities
+	 * @return whether any entity was expired
 	 */
-	public void purgeExpiredEntitiesAt(long now) {
+	public boolean purgeExpiredEntitiesAt(long now) {
+		boolean anyExpired = false;
 		while (entityExpiries.hasExpiringAt(now)) {
 			var current = entityExpiries.expireNextAt(now);
 			current.getValue().accept(entityWith(current.getKey()));
+			anyExpired = true;
 		}
+		return anyExpired;
 	}
 
 	public void trackEntity(Pair<Long, Consumer<EntityId>> entity, long expiry) {
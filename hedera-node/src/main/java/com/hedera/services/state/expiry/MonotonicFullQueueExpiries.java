@@ -60,6 +60,31 @@ public class MonotonicFullQueueExpiries<K> implements KeyedExpirations<K> {
 		return allExpiries.removeFirst().getId();
 	}
 
+	/**
+	 * Returns the id that will be returned by the next call to {@link #expireNextAt(long)},
+	 * without removing it.
+	 *
+	 * @return the id with the earliest expiry
+	 */
+	public K peekNext() {
+		if (allExpiries.isEmpty()) {
+			throw new IllegalStateException("No ids are queued for expiration!");
+		}
+		return allExpiries.peekFirst().getId();
+	}
+
+	/**
+	 * Returns the earliest expiry of any tracked id.
+	 *
+	 * @return the earliest expiry
+	 */
+	public long peekNextExpiry() {
+		if (allExpiries.isEmpty()) {
+			throw new IllegalStateException("No ids are queued for expiration!");
+		}
+		return allExpiries.peekFirst().getExpiry();
+	}
+
 	final class ExpiryEvent {
 		private final K id;
 		private final long expiry;
@@ -0,0 +1,34 @@
+package com.hedera.services.state.exports;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+/**
+ * The layouts supported by an {@link AccountsExporter}.
+ *
+ * <ul>
+ *     <li>{@code JSON_LINES} writes one self-contained JSON object per account, per line.</li>
+ *     <li>{@code BINARY} writes a versioned header followed by fixed-order primitive fields
+ *     per account, with the account key as length-prefixed protobuf bytes.</li>
+ * </ul>
+ */
+public enum AccountsExportFormat {
+	JSON_LINES, BINARY
+}
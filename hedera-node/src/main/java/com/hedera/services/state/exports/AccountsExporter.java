@@ -20,10 +20,26 @@ package com.hedera.services.state.exports;
  * ‍
  */
 
-import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.state.merkle.MerkleEntityId;
 import com.swirlds.fcmap.FCMap;
 
+import java.io.IOException;
+
 public interface AccountsExporter {
-	void toFile(FCMap<MerkleEntityId, MerkleAccount> accounts, String path) throws Exception;
+	/**
+	 * Writes every account in the given map to the given location, one account at a time.
+	 * Callers should pass the accounts of an immutable (e.g. signed) state, since the map
+	 * is iterated without any synchronization.
+	 *
+	 * @param accounts the accounts to export
+	 * @param path the location of the export file
+	 * @param format the layout to use for the export file
+	 * @throws IOException if the export file cannot be written
+	 */
+	void toFile(
+			FCMap<MerkleEntityId, MerkleAccount> accounts,
+			String path,
+			AccountsExportFormat format
+	) throws IOException;
 }
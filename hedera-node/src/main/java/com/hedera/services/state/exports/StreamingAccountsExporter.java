@@ -0,0 +1,144 @@
+package com.hedera.services.state.exports;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.state.merkle.MerkleEntityId;
+import com.hedera.services.state.submerkle.EntityId;
+import com.swirlds.fcmap.FCMap;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.lang3.time.StopWatch;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.hedera.services.state.submerkle.EntityId.MISSING_ENTITY_ID;
+import static com.hedera.services.utils.MiscUtils.asKeyUnchecked;
+
+/**
+ * An {@link AccountsExporter} that writes each account as soon as it is visited, so that
+ * the memory needed for an export does not grow with the number of accounts.
+ */
+public class StreamingAccountsExporter implements AccountsExporter {
+	static Logger log = LogManager.getLogger(StreamingAccountsExporter.class);
+
+	private static final String LINE_SEPARATOR = System.getProperty("line.separator");
+	private static final String JSON_LINE_TPL = "{" +
+			"\"shardID\":%d," +
+			"\"realmID\":%d," +
+			"\"accountNum\":%d," +
+			"\"initialBalance\":%d," +
+			"\"proxyShardNum\":%d," +
+			"\"proxyRealmNum\":%d," +
+			"\"proxyAccountNum\":%d," +
+			"\"receiverSigRequired\":%b," +
+			"\"autoRenewPeriod\":%d," +
+			"\"key\":\"%s\"}";
+
+	static final int BINARY_FORMAT_VERSION = 1;
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	@Override
+	public void toFile(
+			FCMap<MerkleEntityId, MerkleAccount> accounts,
+			String path,
+			AccountsExportFormat format
+	) throws IOException {
+		var watch = StopWatch.createStarted();
+		if (format == AccountsExportFormat.BINARY) {
+			toBinaryFile(accounts, path);
+		} else {
+			toJsonLinesFile(accounts, path);
+		}
+		log.info("Took {}ms to export {} accounts to '{}' as {}",
+				watch.getTime(TimeUnit.MILLISECONDS), accounts.size(), path, format);
+	}
+
+	private void toJsonLinesFile(FCMap<MerkleEntityId, MerkleAccount> accounts, String path) throws IOException {
+		try (BufferedWriter fout = Files.newBufferedWriter(Paths.get(path))) {
+			for (Map.Entry<MerkleEntityId, MerkleAccount> entry : accounts.entrySet()) {
+				fout.write(asJsonLine(entry.getKey(), entry.getValue()));
+				fout.write(LINE_SEPARATOR);
+			}
+		}
+	}
+
+	private void toBinaryFile(FCMap<MerkleEntityId, MerkleAccount> accounts, String path) throws IOException {
+		try (DataOutputStream out = new DataOutputStream(
+				new BufferedOutputStream(Files.newOutputStream(Paths.get(path)), BUFFER_SIZE))) {
+			out.writeInt(BINARY_FORMAT_VERSION);
+			out.writeInt(accounts.size());
+			for (Map.Entry<MerkleEntityId, MerkleAccount> entry : accounts.entrySet()) {
+				writeBinary(entry.getKey(), entry.getValue(), out);
+			}
+		}
+	}
+
+	static String asJsonLine(MerkleEntityId id, MerkleAccount account) {
+		var proxy = proxyOf(account);
+		return String.format(
+				JSON_LINE_TPL,
+				id.getShard(),
+				id.getRealm(),
+				id.getNum(),
+				account.getBalance(),
+				proxy.shard(),
+				proxy.realm(),
+				proxy.num(),
+				account.isReceiverSigRequired(),
+				account.getAutoRenewSecs(),
+				Hex.encodeHexString(keyBytesOf(account)));
+	}
+
+	static void writeBinary(MerkleEntityId id, MerkleAccount account, DataOutputStream out) throws IOException {
+		var proxy = proxyOf(account);
+		out.writeLong(id.getShard());
+		out.writeLong(id.getRealm());
+		out.writeLong(id.getNum());
+		out.writeLong(account.getBalance());
+		out.writeLong(proxy.shard());
+		out.writeLong(proxy.realm());
+		out.writeLong(proxy.num());
+		out.writeBoolean(account.isReceiverSigRequired());
+		out.writeLong(account.getAutoRenewSecs());
+		var key = keyBytesOf(account);
+		out.writeInt(key.length);
+		out.write(key);
+	}
+
+	private static EntityId proxyOf(MerkleAccount account) {
+		var proxy = account.getProxy();
+		return (proxy == null) ? MISSING_ENTITY_ID : proxy;
+	}
+
+	private static byte[] keyBytesOf(MerkleAccount account) {
+		var key = account.getKey();
+		return (key == null) ? new byte[0] : asKeyUnchecked(key).toByteArray();
+	}
+}
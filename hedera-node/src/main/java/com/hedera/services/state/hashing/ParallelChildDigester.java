@@ -0,0 +1,123 @@
+package com.hedera.services.state.hashing;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.swirlds.common.crypto.CryptoFactory;
+import com.swirlds.common.merkle.MerkleNode;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.lang3.tuple.Triple;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Digests independent subtrees of the Services state concurrently, on a pool that
+ * lives only for the duration of a single {@link ParallelChildDigester#digest(List)};
+ * reporting the time taken to hash each subtree to its stat, and logging it once by name. Since a Merkle digest only hashes
+ * nodes without a hash, digesting the root afterwards just combines the children.
+ */
+public class ParallelChildDigester {
+	static Logger log = LogManager.getLogger(ParallelChildDigester.class);
+
+	static final String THREAD_NAME_FORMAT = "state-child-digester-%d";
+
+	static Consumer<MerkleNode> merkleDigest = CryptoFactory.getInstance()::digestTreeSync;
+
+	private final Supplier<ExecutorService> poolFactory;
+
+	public ParallelChildDigester() {
+		this(ParallelChildDigester::newPool);
+	}
+
+	ParallelChildDigester(Supplier<ExecutorService> poolFactory) {
+		this.poolFactory = poolFactory;
+	}
+
+	static ExecutorService newPool() {
+		return Executors.newFixedThreadPool(
+				Runtime.getRuntime().availableProcessors(),
+				new ThreadFactoryBuilder().setNameFormat(THREAD_NAME_FORMAT).setDaemon(true).build());
+	}
+
+	/**
+	 * Digests each given child on a new pool, and returns only when every child has been
+	 * digested and the pool has been shut down. Passes the milliseconds spent on each child
+	 * to its timing consumer, and logs them.
+	 *
+	 * @param children the child subtrees to digest, each with a name and a consumer for its hashing time
+	 */
+	public void digest(List<Triple<String, MerkleNode, DoubleConsumer>> children) {
+		List<Pair<String, Future<Long>>> pending = new ArrayList<>();
+		var pool = poolFactory.get();
+		try {
+			for (var child : children) {
+				var subtree = child.getMiddle();
+				if (subtree == null || subtree.getHash() != null) {
+					continue;
+				}
+				var timing = child.getRight();
+				pending.add(Pair.of(child.getLeft(), pool.submit(() -> {
+					long start = System.nanoTime();
+					merkleDigest.accept(subtree);
+					long elapsedNanos = System.nanoTime() - start;
+					timing.accept(elapsedNanos / 1_000_000.0);
+					return elapsedNanos / 1_000_000L;
+				})));
+			}
+			var times = new StringBuilder();
+			for (var digestion : pending) {
+				times.append(times.length() == 0 ? "" : ", ")
+						.append(digestion.getLeft())
+						.append("=")
+						.append(millisFrom(digestion));
+			}
+			if (!pending.isEmpty()) {
+				log.info("Digested state children concurrently (millis) :: {}", times);
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	private String millisFrom(Pair<String, Future<Long>> digestion) {
+		try {
+			return String.valueOf(digestion.getRight().get());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while digesting state children!", e);
+		} catch (ExecutionException e) {
+			log.error("Digesting state child '{}' failed, the root digest will re-hash it",
+					digestion.getLeft(),
+					e.getCause());
+			return "FAILED";
+		}
+	}
+}
@@ -38,12 +38,24 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
+/**
+ * An account in the ledger; a Merkle internal node whose first child is always the
+ * {@link MerkleAccountState} leaf. Since release 0.13.0, the payer records and the
+ * associated tokens are only attached as (respectively) a second and a last child
+ * while they are non-empty; so an account with neither is just its state leaf under
+ * this node, and is cheaper to keep in memory, hash, copy, and send in a reconnect.
+ *
+ * <p>Children are identified by their types, so a state saved in the release 0.9.0
+ * layout (where the records and tokens children are always present) is also a valid
+ * layout; {@link com.hedera.services.state.migration.StdStateMigrations} detaches any
+ * empty children from such states.
+ */
 public class MerkleAccount extends AbstractNaryMerkleInternal implements FCMValue, MerkleInternal {
 	private static final Logger log = LogManager.getLogger(MerkleAccount.class);
 
 	static Runnable stackDump = Thread::dumpStack;
 
-	static final FCQueue<ExpirableTxnRecord> IMMUTABLE_EMPTY_FCQ = new FCQueue<>();
+	public static final FCQueue<ExpirableTxnRecord> IMMUTABLE_EMPTY_FCQ = new FCQueue<>();
 
 	static {
 		IMMUTABLE_EMPTY_FCQ.copy();
@@ -52,7 +64,8 @@ public class MerkleAccount extends AbstractNaryMerkleInternal implements FCMValu
 	static final int RELEASE_081_VERSION = 1;
 	static final int RELEASE_090_ALPHA_VERSION = 2;
 	static final int RELEASE_090_VERSION = 3;
-	static final int MERKLE_VERSION = RELEASE_090_VERSION;
+	static final int RELEASE_0130_VERSION = 4;
+	static final int MERKLE_VERSION = RELEASE_0130_VERSION;
 
 	static final long RUNTIME_CONSTRUCTABLE_ID = 0x950bcf7255691908L;
 
@@ -71,18 +84,19 @@ public class MerkleAccount extends AbstractNaryMerkleInternal implements FCMValu
 		static final int RELEASE_090_RECORDS = 1;
 		static final int RELEASE_090_ASSOCIATED_TOKENS = 2;
 		static final int NUM_090_CHILDREN = 3;
+
+		static final int RELEASE_0130_RECORDS_IF_ATTACHED = 1;
+		static final int NUM_0130_MIN_CHILDREN = 1;
+		static final int NUM_0130_MAX_CHILDREN = 3;
 	}
 
 	public MerkleAccount(List<MerkleNode> children) {
-		super(ChildIndices.NUM_090_CHILDREN);
+		super(ChildIndices.NUM_0130_MAX_CHILDREN);
 		addDeserializedChildren(children, MERKLE_VERSION);
 	}
 
 	public MerkleAccount() {
-		this(List.of(
-				new MerkleAccountState(),
-				new FCQueue<ExpirableTxnRecord>(),
-				new MerkleAccountTokens()));
+		this(List.of(new MerkleAccountState()));
 	}
 
 	/* --- MerkleInternal --- */
@@ -102,8 +116,10 @@ public class MerkleAccount extends AbstractNaryMerkleInternal implements FCMValu
 			return ChildIndices.NUM_081_CHILDREN;
 		} else if (version == RELEASE_090_ALPHA_VERSION) {
 			return ChildIndices.NUM_090_ALPHA_CHILDREN;
-		} else {
+		} else if (version == RELEASE_090_VERSION) {
 			return ChildIndices.NUM_090_CHILDREN;
+		} else {
+			return ChildIndices.NUM_0130_MIN_CHILDREN;
 		}
 	}
 
@@ -114,13 +130,14 @@ public class MerkleAccount extends AbstractNaryMerkleInternal implements FCMValu
 					getChild(ChildIndices.STATE),
 					getChild(ChildIndices.RELEASE_090_ALPHA_PAYER_RECORDS),
 					getChild(ChildIndices.RELEASE_090_ALPHA_ASSOCIATED_TOKENS)), MERKLE_VERSION);
-		} else if (!(getChild(ChildIndices.RELEASE_090_ASSOCIATED_TOKENS) instanceof MerkleAccountTokens)) {
+		} else if (getNumberOfChildren() == ChildIndices.NUM_081_CHILDREN
+				&& !(getChild(ChildIndices.RELEASE_090_ASSOCIATED_TOKENS) instanceof MerkleAccountTokens)) {
 			addDeserializedChildren(List.of(
 					getChild(ChildIndices.STATE),
 					getChild(ChildIndices.RELEASE_081_PAYER_RECORDS),
 					new MerkleAccountTokens()), MERKLE_VERSION);
 		} else {
-			/* Must be a v0.9.0 state. */
+			/* Must be a v0.9.0 or v0.13.0 state. */
 		}
 	}
 
@@ -138,10 +155,12 @@ public class MerkleAccount extends AbstractNaryMerkleInternal implements FCMValu
 		}
 
 		setImmutable(true);
-		return new MerkleAccount(List.of(
+		var records = attachedRecords();
+		var tokens = attachedTokens();
+		return new MerkleAccount(childrenGiven(
 				state().copy(),
-				records().copy(),
-				tokens().copy()));
+				(records == null) ? null : records.copy(),
+				(tokens == null) ? null : tokens.copy()));
 	}
 
 	/* ---- Object ---- */
@@ -178,20 +197,117 @@ public class MerkleAccount extends AbstractNaryMerkleInternal implements FCMValu
 		return getChild(ChildIndices.STATE);
 	}
 
+	/**
+	 * Returns the payer records of this account; or, if it has none, an immutable empty
+	 * queue that is shared by all such accounts. (So callers that add a record must
+	 * use a new queue when given an immutable one, and then set it.)
+	 *
+	 * @return the payer records
+	 */
 	public FCQueue<ExpirableTxnRecord> records() {
-		return getChild(ChildIndices.RELEASE_090_RECORDS);
+		var records = attachedRecords();
+		return (records == null) ? IMMUTABLE_EMPTY_FCQ : records;
 	}
 
 	public void setRecords(FCQueue<ExpirableTxnRecord> payerRecords) {
-		setChild(ChildIndices.RELEASE_090_RECORDS, payerRecords);
+		var records = attachedRecords();
+		if (payerRecords.isEmpty()) {
+			if (records != null) {
+				relink(null, attachedTokens());
+			}
+		} else if (records != null) {
+			setChild(ChildIndices.RELEASE_0130_RECORDS_IF_ATTACHED, payerRecords);
+		} else {
+			relink(payerRecords, attachedTokens());
+		}
 	}
 
+	/**
+	 * Returns the tokens associated to this account; or, if there are none, a new
+	 * empty {@link MerkleAccountTokens} that is not yet attached to the account.
+	 *
+	 * @return the associated tokens
+	 */
 	public MerkleAccountTokens tokens() {
-		return getChild(ChildIndices.RELEASE_090_ASSOCIATED_TOKENS);
+		var tokens = attachedTokens();
+		return (tokens == null) ? new MerkleAccountTokens() : tokens;
 	}
 
 	public void setTokens(MerkleAccountTokens tokens) {
-		setChild(ChildIndices.RELEASE_090_ASSOCIATED_TOKENS, tokens);
+		var attached = attachedTokens();
+		if (tokens.numAssociations() == 0) {
+			if (attached != null) {
+				relink(attachedRecords(), null);
+			}
+		} else if (attached != null) {
+			setChild(getNumberOfChildren() - 1, tokens);
+		} else {
+			relink(attachedRecords(), tokens);
+		}
+	}
+
+	/**
+	 * Flags whether any empty payer records or associated tokens are still attached
+	 * to this account, as they are in states saved before release 0.13.0.
+	 *
+	 * @return if the account has any empty children
+	 */
+	public boolean hasEmptyChildren() {
+		var records = attachedRecords();
+		var tokens = attachedTokens();
+		return (records != null && records.isEmpty()) || (tokens != null && tokens.numAssociations() == 0);
+	}
+
+	/**
+	 * Detaches any empty payer records or associated tokens from this account.
+	 */
+	public void detachEmptyChildren() {
+		var records = attachedRecords();
+		var tokens = attachedTokens();
+		relink(
+				(records == null || records.isEmpty()) ? null : records,
+				(tokens == null || tokens.numAssociations() == 0) ? null : tokens);
+	}
+
+	private FCQueue<ExpirableTxnRecord> attachedRecords() {
+		if (getNumberOfChildren() > ChildIndices.RELEASE_0130_RECORDS_IF_ATTACHED) {
+			MerkleNode child = getChild(ChildIndices.RELEASE_0130_RECORDS_IF_ATTACHED);
+			if (child instanceof FCQueue) {
+				return (FCQueue<ExpirableTxnRecord>) child;
+			}
+		}
+		return null;
+	}
+
+	private MerkleAccountTokens attachedTokens() {
+		int n = getNumberOfChildren();
+		if (n > ChildIndices.NUM_0130_MIN_CHILDREN) {
+			MerkleNode child = getChild(n - 1);
+			if (child instanceof MerkleAccountTokens) {
+				return (MerkleAccountTokens) child;
+			}
+		}
+		return null;
+	}
+
+	private void relink(FCQueue<ExpirableTxnRecord> records, MerkleAccountTokens tokens) {
+		addDeserializedChildren(childrenGiven(state(), records, tokens), MERKLE_VERSION);
+	}
+
+	private static List<MerkleNode> childrenGiven(
+			MerkleAccountState state,
+			FCQueue<ExpirableTxnRecord> records,
+			MerkleAccountTokens tokens
+	) {
+		List<MerkleNode> children = new ArrayList<>(ChildIndices.NUM_0130_MAX_CHILDREN);
+		children.add(state);
+		if (records != null) {
+			children.add(records);
+		}
+		if (tokens != null) {
+			children.add(tokens);
+		}
+		return children;
 	}
 
 	/* ----  Bean  ---- */
@@ -22,6 +22,7 @@ package com.hedera.services.state.merkle;
 
 import com.google.common.base.MoreObjects;
 import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.state.serdes.DomainSerdes;
 import com.hedera.services.state.submerkle.EntityId;
@@ -42,6 +43,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static com.google.protobuf.ByteString.copyFrom;
+import static com.hedera.services.legacy.proto.utils.CommonUtils.noThrowSha384HashOf;
 import static com.hedera.services.legacy.core.jproto.JKey.equalUpToDecodability;
 import static com.hedera.services.utils.MiscUtils.describe;
 import static com.swirlds.common.CommonUtils.hex;
@@ -71,6 +73,9 @@ public class MerkleSchedule extends AbstractMerkleLeaf implements FCMValue {
     private Set<ByteString> notary = ConcurrentHashMap.newKeySet();
     private List<byte[]> signatories = new ArrayList<>();
 
+    /* Derived from the (immutable) transaction body on first use; never serialized. */
+    private byte[] transactionBodyDigest;
+
 
     public MerkleSchedule() { }
 
@@ -97,7 +102,7 @@ public class MerkleSchedule extends AbstractMerkleLeaf implements FCMValue {
     }
 
     public boolean hasValidEd25519Signature(byte[] key) {
-    	return notary.contains(copyFrom(key));
+    	return notary.contains(UnsafeByteOperations.unsafeWrap(key));
     }
 
     /* Object */
@@ -222,15 +227,22 @@ public class MerkleSchedule extends AbstractMerkleLeaf implements FCMValue {
         if (adminKey != UNUSED_KEY) {
             fc.setAdminKey(adminKey);
         }
-        for (byte[] signatory : signatories) {
-            fc.witnessValidEd25519Signature(signatory);
-        }
+        fc.signatories.addAll(signatories);
+        fc.notary.addAll(notary);
+        fc.transactionBodyDigest = transactionBodyDigest;
 
         return fc;
     }
 
     public byte[] transactionBody() { return this.transactionBody; }
 
+    public byte[] transactionBodyDigest() {
+        if (transactionBodyDigest == null) {
+            transactionBodyDigest = noThrowSha384HashOf(transactionBody);
+        }
+        return transactionBodyDigest;
+    }
+
     public Optional<String> memo() { return Optional.ofNullable(this.memo); }
 
     public void setMemo(String memo) { this.memo = memo; }
@@ -256,6 +256,30 @@ public final class MerkleTopic extends AbstractMerkleLeaf implements FCMValue {
 		if (null == message) {
 			message = new byte[0];
 		}
+		updateRunningHashAndSequenceNumberGivenMessageHash(
+				payer,
+				CommonUtils.noThrowSha384HashOf(message),
+				topicId,
+				consensusTimestamp);
+	}
+
+	/**
+	 * Same as {@link #updateRunningHashAndSequenceNumber(AccountID, byte[], TopicID, Instant)}, but
+	 * given the SHA-384 hash of the message rather than the message itself; so the hash can be computed
+	 * before consensus.
+	 *
+	 * @param payer
+	 * @param messageHash
+	 * @param topicId
+	 * @param consensusTimestamp
+	 * @throws IOException
+	 */
+	public void updateRunningHashAndSequenceNumberGivenMessageHash(
+			AccountID payer,
+			byte[] messageHash,
+			@Nullable TopicID topicId,
+			@Nullable Instant consensusTimestamp
+	) throws IOException {
 		if (null == topicId) {
 			topicId = TopicID.newBuilder().build();
 		}
@@ -277,7 +301,7 @@ public final class MerkleTopic extends AbstractMerkleLeaf implements FCMValue {
 			out.writeInt(consensusTimestamp.getNano());
 			++sequenceNumber;
 			out.writeLong(sequenceNumber);
-			out.writeObject(CommonUtils.noThrowSha384HashOf(message));
+			out.writeObject(messageHash);
 			out.flush();
 			runningHash = CommonUtils.noThrowSha384HashOf(boas.toByteArray());
 		}
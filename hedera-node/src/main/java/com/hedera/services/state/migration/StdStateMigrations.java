@@ -20,10 +20,21 @@ package com.hedera.services.state.migration;
  * ‍
  */
 
+import com.hedera.services.ServicesState;
 import com.hedera.services.context.ServicesContext;
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.utils.Pause;
+import com.swirlds.fcmap.FCMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
 
 public class StdStateMigrations implements StateMigrations {
+	private static final Logger log = LogManager.getLogger(StdStateMigrations.class);
+
 	private final Pause pause;
 
 	public StdStateMigrations(Pause pause) {
@@ -32,6 +43,27 @@ public class StdStateMigrations implements StateMigrations {
 
 	@Override
 	public void runAllFor(ServicesContext ctx) {
-		/* There are no applicable state migrations at this time. */
+		if (ctx.savedStateVersion() < ServicesState.RELEASE_0130_VERSION) {
+			compactAccounts(ctx.accounts());
+		}
+	}
+
+	/* Accounts in states saved before release 0.13.0 always have (possibly empty)
+	records and tokens children; detach the empty ones so idle accounts are compact. */
+	private void compactAccounts(FCMap<MerkleEntityId, MerkleAccount> accounts) {
+		List<MerkleEntityId> toCompact = new ArrayList<>();
+		accounts.forEach((id, account) -> {
+			if (account.hasEmptyChildren()) {
+				toCompact.add(id);
+			}
+		});
+		for (var id : toCompact) {
+			var mutableAccount = accounts.getForModify(id);
+			mutableAccount.detachEmptyChildren();
+			accounts.replace(id, mutableAccount);
+		}
+		if (!toCompact.isEmpty()) {
+			log.info("Detached empty children from {} accounts", toCompact.size());
+		}
 	}
 }
@@ -90,6 +90,9 @@ public class ExpirableTxnRecord implements FCQueueElement<ExpirableTxnRecord> {
 	private List<CurrencyAdjustments> tokenAdjustments = NO_TOKEN_ADJUSTMENTS;
 	private EntityId scheduleRef = NO_SCHEDULE_REF;
 
+	/* Only the expiry and submitting member can change, and neither is part of the gRPC form. */
+	private volatile TransactionRecord memoizedGrpc = null;
+
 	@Override
 	public void release() {
 		/* No-op */
@@ -415,13 +418,28 @@ public class ExpirableTxnRecord implements FCQueueElement<ExpirableTxnRecord> {
 				.collect(toList());
 	}
 
+	/**
+	 * Returns the gRPC form of this record. The result is computed at most once,
+	 * and then shared by every query that needs it.
+	 *
+	 * @return the gRPC form of this record
+	 */
 	public TransactionRecord asGrpc() {
+		var memo = memoizedGrpc;
+		if (memo == null) {
+			memo = computeGrpc();
+			memoizedGrpc = memo;
+		}
+		return memo;
+	}
+
+	private TransactionRecord computeGrpc() {
 		var grpc = TransactionRecord.newBuilder();
 
 		grpc.setTransactionFee(fee);
 
 		if (receipt != null) {
-			grpc.setReceipt(TxnReceipt.convert(receipt));
+			grpc.setReceipt(receipt.toGrpc());
 		}
 		if (txnId != null) {
 			grpc.setTransactionID(txnId.toGrpc());
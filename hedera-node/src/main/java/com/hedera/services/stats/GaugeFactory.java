@@ -1,4 +1,4 @@
-package com.hedera.services.legacy.services.utils;
+package com.hedera.services.stats;
 
 /*-
  * ‌
@@ -20,15 +20,12 @@ package com.hedera.services.legacy.services.utils;
  * ‍
  */
 
-import com.hedera.services.state.merkle.MerkleEntityId;
-import com.hedera.services.legacy.initialization.ExportExistingAccounts;
-import com.hedera.services.state.exports.AccountsExporter;
-import com.hedera.services.state.merkle.MerkleAccount;
-import com.swirlds.fcmap.FCMap;
+import com.swirlds.common.StatEntry;
 
-public class DefaultAccountsExporter implements AccountsExporter {
-	@Override
-	public void toFile(FCMap<MerkleEntityId, MerkleAccount> accounts, String path) throws Exception {
-		ExportExistingAccounts.exportAccounts(path, accounts);
+import java.util.function.Supplier;
+
+public interface GaugeFactory {
+	default StatEntry from(String name, String desc, Supplier<Object> sample) {
+		return new StatEntry("app", name, desc, "%,13.3f", null, null, null, sample);
 	}
 }
@@ -27,7 +27,7 @@ import com.swirlds.common.Platform;
 import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -51,10 +51,10 @@ public class HapiOpCounters {
 	private final TransactionContext txnCtx;
 	private final Function<HederaFunctionality, String> statNameFn;
 
-	EnumMap<HederaFunctionality, AtomicLong> receivedOps = new EnumMap<>(HederaFunctionality.class);
-	EnumMap<HederaFunctionality, AtomicLong> handledTxns = new EnumMap<>(HederaFunctionality.class);
-	EnumMap<HederaFunctionality, AtomicLong> submittedTxns = new EnumMap<>(HederaFunctionality.class);
-	EnumMap<HederaFunctionality, AtomicLong> answeredQueries = new EnumMap<>(HederaFunctionality.class);
+	EnumMap<HederaFunctionality, LongAdder> receivedOps = new EnumMap<>(HederaFunctionality.class);
+	EnumMap<HederaFunctionality, LongAdder> handledTxns = new EnumMap<>(HederaFunctionality.class);
+	EnumMap<HederaFunctionality, LongAdder> submittedTxns = new EnumMap<>(HederaFunctionality.class);
+	EnumMap<HederaFunctionality, LongAdder> answeredQueries = new EnumMap<>(HederaFunctionality.class);
 
 	public HapiOpCounters(
 			CounterFactory counter,
@@ -70,12 +70,12 @@ public class HapiOpCounters {
 		Arrays.stream(allFunctions.get())
 				.filter(function -> !IGNORED_FUNCTIONS.contains(function))
 				.forEach(function -> {
-			receivedOps.put(function, new AtomicLong());
+			receivedOps.put(function, new LongAdder());
 			if (QUERY_FUNCTIONS.contains(function)) {
-				answeredQueries.put(function, new AtomicLong());
+				answeredQueries.put(function, new LongAdder());
 			} else {
-				submittedTxns.put(function, new AtomicLong());
-				handledTxns.put(function, new AtomicLong());
+				submittedTxns.put(function, new LongAdder());
+				handledTxns.put(function, new LongAdder());
 			}
 		});
 	}
@@ -89,15 +89,15 @@ public class HapiOpCounters {
 
 	private void registerCounters(
 			Platform platform,
-			Map<HederaFunctionality, AtomicLong> counters,
+			Map<HederaFunctionality, LongAdder> counters,
 			String nameTpl,
 			String descTpl
 	) {
-		for (Map.Entry<HederaFunctionality, AtomicLong> entry : counters.entrySet())	{
+		for (Map.Entry<HederaFunctionality, LongAdder> entry : counters.entrySet())	{
 			var baseName = statNameFn.apply(entry.getKey());
 			var fullName = String.format(nameTpl, baseName);
 			var description = String.format(descTpl, baseName);
-			platform.addAppStatEntry(counter.from(fullName, description, entry.getValue()::get));
+			platform.addAppStatEntry(counter.from(fullName, description, entry.getValue()::sum));
 		}
 	}
 
@@ -106,7 +106,7 @@ public class HapiOpCounters {
 	}
 
 	public long receivedSoFar(HederaFunctionality op) {
-		return IGNORED_FUNCTIONS.contains(op) ? 0 : receivedOps.get(op).get();
+		return IGNORED_FUNCTIONS.contains(op) ? 0 : receivedOps.get(op).sum();
 	}
 
 	public void countSubmitted(HederaFunctionality txn) {
@@ -114,7 +114,7 @@ public class HapiOpCounters {
 	}
 
 	public long submittedSoFar(HederaFunctionality txn) {
-		return IGNORED_FUNCTIONS.contains(txn) ? 0 : submittedTxns.get(txn).get();
+		return IGNORED_FUNCTIONS.contains(txn) ? 0 : submittedTxns.get(txn).sum();
 	}
 
 	public void countHandled(HederaFunctionality txn) {
@@ -126,7 +126,7 @@ public class HapiOpCounters {
 	}
 
 	public long handledSoFar(HederaFunctionality txn) {
-		return IGNORED_FUNCTIONS.contains(txn) ? 0 : handledTxns.get(txn).get();
+		return IGNORED_FUNCTIONS.contains(txn) ? 0 : handledTxns.get(txn).sum();
 	}
 
 	public void countAnswered(HederaFunctionality query) {
@@ -134,15 +134,15 @@ public class HapiOpCounters {
 	}
 
 	public long answeredSoFar(HederaFunctionality query) {
-		return IGNORED_FUNCTIONS.contains(query) ? 0 : answeredQueries.get(query).get();
+		return IGNORED_FUNCTIONS.contains(query) ? 0 : answeredQueries.get(query).sum();
 	}
 
 	private void safeIncrement(
-			Map<HederaFunctionality, AtomicLong> counters,
+			Map<HederaFunctionality, LongAdder> counters,
 			HederaFunctionality function
 	) {
 		if (!IGNORED_FUNCTIONS.contains(function)) {
-			counters.get(function).getAndIncrement();
+			counters.get(function).increment();
 		}
 	}
 }
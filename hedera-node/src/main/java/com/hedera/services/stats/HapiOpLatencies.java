@@ -0,0 +1,126 @@
+package com.hedera.services.stats;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import com.swirlds.common.Platform;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static com.hedera.services.stats.ServicesStatsConfig.IGNORED_FUNCTIONS;
+import static com.hedera.services.stats.ServicesStatsConfig.LATENCY_HANDLED_DESC_TPL;
+import static com.hedera.services.stats.ServicesStatsConfig.LATENCY_HANDLED_NAME_TPL;
+import static com.hedera.services.stats.ServicesStatsConfig.LATENCY_INGESTED_DESC_TPL;
+import static com.hedera.services.stats.ServicesStatsConfig.LATENCY_INGESTED_NAME_TPL;
+import static com.hedera.services.stats.ServicesStatsConfig.LATENCY_PRE_HANDLED_DESC_TPL;
+import static com.hedera.services.stats.ServicesStatsConfig.LATENCY_PRE_HANDLED_NAME_TPL;
+import static com.hedera.services.utils.MiscUtils.QUERY_FUNCTIONS;
+
+/**
+ * Per-function p50 and p99 latencies of ingesting a HAPI operation on a gRPC thread,
+ * expanding the signatures of a transaction before consensus, and handling a
+ * transaction after consensus. Each percentile covers the latencies recorded
+ * between two consecutive calls to {@link HapiOpLatencies#updateAll()}.
+ */
+public class HapiOpLatencies {
+	static Supplier<HederaFunctionality[]> allFunctions = HederaFunctionality.class::getEnumConstants;
+
+	private final GaugeFactory gauge;
+	private final Function<HederaFunctionality, String> statNameFn;
+
+	final EnumMap<HederaFunctionality, LatencyHistogram> ingestedOps = new EnumMap<>(HederaFunctionality.class);
+	final EnumMap<HederaFunctionality, LatencyHistogram> preHandledTxns = new EnumMap<>(HederaFunctionality.class);
+	final EnumMap<HederaFunctionality, LatencyHistogram> handledTxns = new EnumMap<>(HederaFunctionality.class);
+
+	public HapiOpLatencies(GaugeFactory gauge, Function<HederaFunctionality, String> statNameFn) {
+		this.gauge = gauge;
+		this.statNameFn = statNameFn;
+
+		Arrays.stream(allFunctions.get())
+				.filter(function -> !IGNORED_FUNCTIONS.contains(function))
+				.forEach(function -> {
+			ingestedOps.put(function, new LatencyHistogram());
+			if (!QUERY_FUNCTIONS.contains(function)) {
+				preHandledTxns.put(function, new LatencyHistogram());
+				handledTxns.put(function, new LatencyHistogram());
+			}
+		});
+	}
+
+	public void registerWith(Platform platform) {
+		registerGauges(platform, ingestedOps, LATENCY_INGESTED_NAME_TPL, LATENCY_INGESTED_DESC_TPL);
+		registerGauges(platform, preHandledTxns, LATENCY_PRE_HANDLED_NAME_TPL, LATENCY_PRE_HANDLED_DESC_TPL);
+		registerGauges(platform, handledTxns, LATENCY_HANDLED_NAME_TPL, LATENCY_HANDLED_DESC_TPL);
+	}
+
+	private void registerGauges(
+			Platform platform,
+			Map<HederaFunctionality, LatencyHistogram> histograms,
+			String nameTpl,
+			String descTpl
+	) {
+		for (Map.Entry<HederaFunctionality, LatencyHistogram> entry : histograms.entrySet()) {
+			var baseName = statNameFn.apply(entry.getKey());
+			var histogram = entry.getValue();
+			platform.addAppStatEntry(gauge.from(
+					String.format(nameTpl, baseName, 50),
+					String.format(descTpl, baseName, 50),
+					histogram::p50Ms));
+			platform.addAppStatEntry(gauge.from(
+					String.format(nameTpl, baseName, 99),
+					String.format(descTpl, baseName, 99),
+					histogram::p99Ms));
+		}
+	}
+
+	public void recordIngested(HederaFunctionality op, long nanos) {
+		safeRecord(ingestedOps, op, nanos);
+	}
+
+	public void recordPreHandled(HederaFunctionality txn, long nanos) {
+		safeRecord(preHandledTxns, txn, nanos);
+	}
+
+	public void recordHandled(HederaFunctionality txn, long nanos) {
+		safeRecord(handledTxns, txn, nanos);
+	}
+
+	public void updateAll() {
+		ingestedOps.values().forEach(LatencyHistogram::sample);
+		preHandledTxns.values().forEach(LatencyHistogram::sample);
+		handledTxns.values().forEach(LatencyHistogram::sample);
+	}
+
+	private void safeRecord(
+			Map<HederaFunctionality, LatencyHistogram> histograms,
+			HederaFunctionality function,
+			long nanos
+	) {
+		var histogram = histograms.get(function);
+		if (histogram != null) {
+			histogram.recordNanos(nanos);
+		}
+	}
+}
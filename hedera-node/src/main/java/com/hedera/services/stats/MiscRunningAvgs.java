@@ -30,6 +30,23 @@ public class MiscRunningAvgs {
 	StatsRunningAverage accountRetryWaitMs;
 	StatsRunningAverage accountLookupRetries;
 	StatsRunningAverage handledSubmitMessageSize;
+	StatsRunningAverage queryProjectionHits;
+	StatsRunningAverage expiredRecordsPurgeMs;
+	StatsRunningAverage expiredRecordsBacklogSecs;
+	StatsRunningAverage preparedTxnHits;
+	StatsRunningAverage preCheckedSyntaxHits;
+	StatsRunningAverage contractSigsFromExpansion;
+	StatsRunningAverage evmAccountCacheHits;
+	StatsRunningAverage conflictFreeGroupSize;
+	StatsRunningAverage querySignedStateAgeMs;
+	StatsRunningAverage queryQueueWaitMs;
+
+	StatsRunningAverage accountsHashMs;
+	StatsRunningAverage storageHashMs;
+	StatsRunningAverage topicsHashMs;
+	StatsRunningAverage tokensHashMs;
+	StatsRunningAverage tokenAssociationsHashMs;
+	StatsRunningAverage scheduleTxsHashMs;
 
 	StatsRunningAverage writeQueueSizeRecordStream;
 	StatsRunningAverage hashQueueSizeRecordStream;
@@ -42,6 +59,23 @@ public class MiscRunningAvgs {
 		accountRetryWaitMs = new StatsRunningAverage(halfLife);
 		accountLookupRetries = new StatsRunningAverage(halfLife);
 		handledSubmitMessageSize = new StatsRunningAverage(halfLife);
+		queryProjectionHits = new StatsRunningAverage(halfLife);
+		expiredRecordsPurgeMs = new StatsRunningAverage(halfLife);
+		expiredRecordsBacklogSecs = new StatsRunningAverage(halfLife);
+		preparedTxnHits = new StatsRunningAverage(halfLife);
+		preCheckedSyntaxHits = new StatsRunningAverage(halfLife);
+		contractSigsFromExpansion = new StatsRunningAverage(halfLife);
+		evmAccountCacheHits = new StatsRunningAverage(halfLife);
+		conflictFreeGroupSize = new StatsRunningAverage(halfLife);
+		querySignedStateAgeMs = new StatsRunningAverage(halfLife);
+		queryQueueWaitMs = new StatsRunningAverage(halfLife);
+
+		accountsHashMs = new StatsRunningAverage(halfLife);
+		storageHashMs = new StatsRunningAverage(halfLife);
+		topicsHashMs = new StatsRunningAverage(halfLife);
+		tokensHashMs = new StatsRunningAverage(halfLife);
+		tokenAssociationsHashMs = new StatsRunningAverage(halfLife);
+		scheduleTxsHashMs = new StatsRunningAverage(halfLife);
 
 		writeQueueSizeRecordStream = new StatsRunningAverage(halfLife);
 		hashQueueSizeRecordStream = new StatsRunningAverage(halfLife);
@@ -63,6 +97,86 @@ public class MiscRunningAvgs {
 						Names.HANDLED_SUBMIT_MESSAGE_SIZE,
 						Descriptions.HANDLED_SUBMIT_MESSAGE_SIZE,
 						handledSubmitMessageSize));
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.QUERY_PROJECTION_HIT_RATE,
+						Descriptions.QUERY_PROJECTION_HIT_RATE,
+						queryProjectionHits));
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.EXPIRED_RECORDS_PURGE_MS,
+						Descriptions.EXPIRED_RECORDS_PURGE_MS,
+						expiredRecordsPurgeMs));
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.EXPIRED_RECORDS_BACKLOG_SECS,
+						Descriptions.EXPIRED_RECORDS_BACKLOG_SECS,
+						expiredRecordsBacklogSecs));
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.PREPARED_TXN_HIT_RATE,
+						Descriptions.PREPARED_TXN_HIT_RATE,
+						preparedTxnHits));
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.PRE_CHECKED_SYNTAX_HIT_RATE,
+						Descriptions.PRE_CHECKED_SYNTAX_HIT_RATE,
+						preCheckedSyntaxHits));
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.CONTRACT_SIGS_FROM_EXPANSION_RATE,
+						Descriptions.CONTRACT_SIGS_FROM_EXPANSION_RATE,
+						contractSigsFromExpansion));
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.EVM_ACCOUNT_CACHE_HIT_RATIO,
+						Descriptions.EVM_ACCOUNT_CACHE_HIT_RATIO,
+						evmAccountCacheHits));
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.CONFLICT_FREE_GROUP_SIZE,
+						Descriptions.CONFLICT_FREE_GROUP_SIZE,
+						conflictFreeGroupSize));
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.QUERY_SIGNED_STATE_AGE_MS,
+						Descriptions.QUERY_SIGNED_STATE_AGE_MS,
+						querySignedStateAgeMs));
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.QUERY_QUEUE_WAIT_MS,
+						Descriptions.QUERY_QUEUE_WAIT_MS,
+						queryQueueWaitMs));
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.ACCOUNTS_HASH_MS,
+						Descriptions.ACCOUNTS_HASH_MS,
+						accountsHashMs));
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.STORAGE_HASH_MS,
+						Descriptions.STORAGE_HASH_MS,
+						storageHashMs));
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.TOPICS_HASH_MS,
+						Descriptions.TOPICS_HASH_MS,
+						topicsHashMs));
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.TOKENS_HASH_MS,
+						Descriptions.TOKENS_HASH_MS,
+						tokensHashMs));
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.TOKEN_ASSOCIATIONS_HASH_MS,
+						Descriptions.TOKEN_ASSOCIATIONS_HASH_MS,
+						tokenAssociationsHashMs));
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.SCHEDULE_TXS_HASH_MS,
+						Descriptions.SCHEDULE_TXS_HASH_MS,
+						scheduleTxsHashMs));
 		platform.addAppStatEntry(
 				runningAvg.from(
 						Names.WRITE_QUEUE_SIZE_RECORD_STREAM,
@@ -89,6 +203,70 @@ public class MiscRunningAvgs {
 		handledSubmitMessageSize.recordValue(bytes);
 	}
 
+	public void recordQueryProjectionLookup(boolean wasHit) {
+		queryProjectionHits.recordValue(wasHit ? 1.0 : 0.0);
+	}
+
+	public void recordExpiredRecordsPurgeMs(double time) {
+		expiredRecordsPurgeMs.recordValue(time);
+	}
+
+	public void recordExpiredRecordsBacklogSecs(long secs) {
+		expiredRecordsBacklogSecs.recordValue(secs);
+	}
+
+	public void recordPreparedTxnLookup(boolean wasHit) {
+		preparedTxnHits.recordValue(wasHit ? 1.0 : 0.0);
+	}
+
+	public void recordPreCheckedSyntaxLookup(boolean wasHit) {
+		preCheckedSyntaxHits.recordValue(wasHit ? 1.0 : 0.0);
+	}
+
+	public void recordContractSigLookup(boolean wasFromExpansion) {
+		contractSigsFromExpansion.recordValue(wasFromExpansion ? 1.0 : 0.0);
+	}
+
+	public void recordEvmAccountCacheHitRatio(double ratio) {
+		evmAccountCacheHits.recordValue(ratio);
+	}
+
+	public void recordConflictFreeGroupSize(int size) {
+		conflictFreeGroupSize.recordValue(size);
+	}
+
+	public void recordQuerySignedStateAgeMs(double age) {
+		querySignedStateAgeMs.recordValue(age);
+	}
+
+	public void recordQueryQueueWaitMs(double time) {
+		queryQueueWaitMs.recordValue(time);
+	}
+
+	public void recordAccountsHashMs(double time) {
+		accountsHashMs.recordValue(time);
+	}
+
+	public void recordStorageHashMs(double time) {
+		storageHashMs.recordValue(time);
+	}
+
+	public void recordTopicsHashMs(double time) {
+		topicsHashMs.recordValue(time);
+	}
+
+	public void recordTokensHashMs(double time) {
+		tokensHashMs.recordValue(time);
+	}
+
+	public void recordTokenAssociationsHashMs(double time) {
+		tokenAssociationsHashMs.recordValue(time);
+	}
+
+	public void recordScheduleTxsHashMs(double time) {
+		scheduleTxsHashMs.recordValue(time);
+	}
+
 	public void writeQueueSizeRecordStream(int num) {
 		writeQueueSizeRecordStream.recordValue(num);
 	}
@@ -101,6 +279,22 @@ public class MiscRunningAvgs {
 		public static final String ACCOUNT_RETRY_WAIT_MS = "avgAcctRetryWaitMs";
 		public static final String ACCOUNT_LOOKUP_RETRIES = "avgAcctLookupRetryAttempts";
 		public static final String HANDLED_SUBMIT_MESSAGE_SIZE = "avgHdlSubMsgSize";
+		public static final String QUERY_PROJECTION_HIT_RATE = "queryProjectionHitRate";
+		public static final String EXPIRED_RECORDS_PURGE_MS = "expiredRecordsPurgeMs";
+		public static final String EXPIRED_RECORDS_BACKLOG_SECS = "expiredRecordsBacklogSecs";
+		public static final String PREPARED_TXN_HIT_RATE = "preparedTxnHitRate";
+		public static final String PRE_CHECKED_SYNTAX_HIT_RATE = "preCheckedSyntaxHitRate";
+		public static final String CONTRACT_SIGS_FROM_EXPANSION_RATE = "contractSigsFromExpansionRate";
+		public static final String EVM_ACCOUNT_CACHE_HIT_RATIO = "evmAccountCacheHitRatio";
+		public static final String CONFLICT_FREE_GROUP_SIZE = "conflictFreeGroupSize";
+		public static final String QUERY_SIGNED_STATE_AGE_MS = "querySignedStateAgeMs";
+		public static final String QUERY_QUEUE_WAIT_MS = "queryQueueWaitMs";
+		public static final String ACCOUNTS_HASH_MS = "accountsHashMs";
+		public static final String STORAGE_HASH_MS = "storageHashMs";
+		public static final String TOPICS_HASH_MS = "topicsHashMs";
+		public static final String TOKENS_HASH_MS = "tokensHashMs";
+		public static final String TOKEN_ASSOCIATIONS_HASH_MS = "tokenAssociationsHashMs";
+		public static final String SCHEDULE_TXS_HASH_MS = "scheduleTxsHashMs";
 
 		public static final String WRITE_QUEUE_SIZE_RECORD_STREAM = "writeQueueSizeRecordStream";
 		public static final String HASH_QUEUE_SIZE_RECORD_STREAM = "hashQueueSizeRecordStream";
@@ -113,6 +307,38 @@ public class MiscRunningAvgs {
 				"average number of retry attempts made to lookup the account number";
 		public static final String HANDLED_SUBMIT_MESSAGE_SIZE =
 				"average size of the handled HCS submit message transaction";
+		public static final String QUERY_PROJECTION_HIT_RATE =
+				"fraction of account, token, and token relationship info lookups answered from cached projections";
+		public static final String EXPIRED_RECORDS_PURGE_MS =
+				"average time in millis spent purging expired payer records before handling a transaction";
+		public static final String EXPIRED_RECORDS_BACKLOG_SECS =
+				"average age in seconds of the oldest expired payer record left to purge (0 if none)";
+		public static final String PREPARED_TXN_HIT_RATE =
+				"fraction of handled transactions whose accessor was parsed and hashed before consensus";
+		public static final String PRE_CHECKED_SYNTAX_HIT_RATE =
+				"fraction of handled transactions whose syntax check was done before consensus";
+		public static final String CONTRACT_SIGS_FROM_EXPANSION_RATE =
+				"fraction of receiver signatures checked by contracts that were already verified during expansion";
+		public static final String EVM_ACCOUNT_CACHE_HIT_RATIO =
+				"average fraction of account reads in a contract call served from the call's account cache";
+		public static final String CONFLICT_FREE_GROUP_SIZE =
+				"average number of consecutive handled transactions with no conflicting footprints";
+		public static final String QUERY_SIGNED_STATE_AGE_MS =
+				"average age (in ms of consensus time) of the signed state a query was answered from";
+		public static final String QUERY_QUEUE_WAIT_MS =
+				"average time (in ms) a query waited for a query executor thread";
+		public static final String ACCOUNTS_HASH_MS =
+				"average time in millis spent digesting the accounts of a saved state";
+		public static final String STORAGE_HASH_MS =
+				"average time in millis spent digesting the storage blobs of a saved state";
+		public static final String TOPICS_HASH_MS =
+				"average time in millis spent digesting the topics of a saved state";
+		public static final String TOKENS_HASH_MS =
+				"average time in millis spent digesting the tokens of a saved state";
+		public static final String TOKEN_ASSOCIATIONS_HASH_MS =
+				"average time in millis spent digesting the token associations of a saved state";
+		public static final String SCHEDULE_TXS_HASH_MS =
+				"average time in millis spent digesting the scheduled transactions of a saved state";
 
 		public static final String WRITE_QUEUE_SIZE_RECORD_STREAM =
 				"size of the queue from which we take records and write to RecordStream file";
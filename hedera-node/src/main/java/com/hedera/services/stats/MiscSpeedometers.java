@@ -24,9 +24,21 @@ import com.hedera.services.context.properties.NodeLocalProperties;
 import com.swirlds.common.Platform;
 import com.swirlds.platform.StatsSpeedometer;
 
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Speedometers for miscellaneous events. Hot-path threads only increment a striped
+ * counter for each event; the stats update thread later moves the accumulated
+ * cycles into the platform speedometers via {@link MiscSpeedometers#updateAll()}.
+ */
 public class MiscSpeedometers {
 	private final SpeedometerFactory speedometer;
 
+	final LongAdder syncVerificationCycles = new LongAdder();
+	final LongAdder asyncVerificationCycles = new LongAdder();
+	final LongAdder accountLookupRetryCycles = new LongAdder();
+	final LongAdder platformTxnRejectionCycles = new LongAdder();
+
 	StatsSpeedometer syncVerifications;
 	StatsSpeedometer asyncVerifications;
 	StatsSpeedometer accountLookupRetries;
@@ -65,19 +77,26 @@ public class MiscSpeedometers {
 	}
 
 	public void cycleSyncVerifications() {
-		syncVerifications.update(1);
+		syncVerificationCycles.increment();
 	}
 
 	public void cycleAsyncVerifications() {
-		asyncVerifications.update(1);
+		asyncVerificationCycles.increment();
 	}
 
 	public void cycleAccountLookupRetries() {
-		accountLookupRetries.update(1);
+		accountLookupRetryCycles.increment();
 	}
 
 	public void cyclePlatformTxnRejections() {
-		platformTxnRejections.update(1);
+		platformTxnRejectionCycles.increment();
+	}
+
+	public void updateAll() {
+		syncVerifications.update(syncVerificationCycles.sumThenReset());
+		asyncVerifications.update(asyncVerificationCycles.sumThenReset());
+		accountLookupRetries.update(accountLookupRetryCycles.sumThenReset());
+		platformTxnRejections.update(platformTxnRejectionCycles.sumThenReset());
 	}
 
 	static class Names {
@@ -54,6 +54,14 @@ public class ServicesStatsConfig {
 	static final String SPEEDOMETER_ANSWERED_DESC_TPL = "number of %s answered per second";
 	static final String SPEEDOMETER_SUBMITTED_DESC_TPL = "number of %s submitted per second";
 
+	static final String LATENCY_INGESTED_NAME_TPL = "%sIngP%dMs";
+	static final String LATENCY_PRE_HANDLED_NAME_TPL = "%sPreHdlP%dMs";
+	static final String LATENCY_HANDLED_NAME_TPL = "%sHdlP%dMs";
+
+	static final String LATENCY_INGESTED_DESC_TPL = "p%2$d latency in ms to ingest a %1$s";
+	static final String LATENCY_PRE_HANDLED_DESC_TPL = "p%2$d latency in ms to expand the signatures of a %1$s";
+	static final String LATENCY_HANDLED_DESC_TPL = "p%2$d latency in ms to handle a %1$s";
+
 	public static final String SYSTEM_DELETE_METRIC = "systemDelete";
 	public static final String SYSTEM_UNDELETE_METRIC = "systemUndelete";
 }
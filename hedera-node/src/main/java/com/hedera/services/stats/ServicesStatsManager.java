@@ -39,6 +39,7 @@ public class ServicesStatsManager {
 	static final String SPEEDOMETER_UPDATE_THREAD_NAME_TPL = "SpeedometerUpdateThread%d";
 
 	private final HapiOpCounters opCounters;
+	private final HapiOpLatencies opLatencies;
 	private final MiscRunningAvgs runningAvgs;
 	private final MiscSpeedometers speedometers;
 	private final HapiOpSpeedometers opSpeedometers;
@@ -49,10 +50,12 @@ public class ServicesStatsManager {
 			MiscRunningAvgs runningAvgs,
 			MiscSpeedometers speedometers,
 			HapiOpSpeedometers opSpeedometers,
+			HapiOpLatencies opLatencies,
 			NodeLocalProperties properties
 	) {
 		this.properties = properties;
 		this.opCounters = opCounters;
+		this.opLatencies = opLatencies;
 		this.runningAvgs = runningAvgs;
 		this.speedometers = speedometers;
 		this.opSpeedometers = opSpeedometers;
@@ -63,12 +66,15 @@ public class ServicesStatsManager {
 		runningAvgs.registerWith(platform);
 		speedometers.registerWith(platform);
 		opSpeedometers.registerWith(platform);
+		opLatencies.registerWith(platform);
 
 		platform.appStatInit();
 
 		var updateThread = loopFactory.apply(() -> {
 			pause.forMs(properties.statsHapiOpsSpeedometerUpdateIntervalMs());
 			opSpeedometers.updateAll();
+			speedometers.updateAll();
+			opLatencies.updateAll();
 		});
 		updateThread.setName(String.format(SPEEDOMETER_UPDATE_THREAD_NAME_TPL, platform.getSelfId().getId()));
 		updateThread.start();
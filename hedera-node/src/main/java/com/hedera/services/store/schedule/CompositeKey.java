@@ -27,26 +27,36 @@ import com.hederahashgraph.api.proto.java.Key;
 import java.util.Arrays;
 import java.util.Objects;
 
+import static com.hedera.services.legacy.proto.utils.CommonUtils.noThrowSha384HashOf;
 import static com.hedera.services.utils.MiscUtils.asKeyUnchecked;
 
 /**
- * Set of properties used to describe unique instance of Scheduled Transaction
+ * Set of properties used to describe unique instance of Scheduled Transaction.
+ *
+ * The transaction body is identified by its SHA-384 digest, so two distinct bodies
+ * can never be mistaken for the same scheduled transaction.
  */
 public class CompositeKey {
 
     public static final Key UNUSED_KEY = Key.getDefaultInstance();
     private static final String EMPTY_MEMO = null;
 
-    private final int txBytesHashCode;
+    private final byte[] txBodyDigest;
     private final EntityId payer;
     private final Key adminKey;
     private final String entityMemo;
+    private final int hashCode;
 
-    public CompositeKey(int txBytesHashCode, EntityId payer, Key adminKey, String entityMemo) {
-        this.txBytesHashCode = txBytesHashCode;
+    public CompositeKey(byte[] txBodyDigest, EntityId payer, Key adminKey, String entityMemo) {
+        this.txBodyDigest = txBodyDigest;
         this.payer = payer;
         this.adminKey = adminKey;
         this.entityMemo = entityMemo;
+        this.hashCode = Objects.hash(
+                digestPrefix(txBodyDigest),
+                payer,
+                adminKey,
+                entityMemo);
     }
 
     @Override
@@ -57,7 +67,8 @@ public class CompositeKey {
             return false;
         CompositeKey other = (CompositeKey)o;
 
-        return this.txBytesHashCode == other.txBytesHashCode &&
+        return this.hashCode == other.hashCode &&
+                Arrays.equals(this.txBodyDigest, other.txBodyDigest) &&
                 Objects.equals(this.entityMemo, other.entityMemo) &&
                 Objects.equals(this.payer, other.payer) &&
                 Objects.equals(this.adminKey, other.adminKey);
@@ -65,22 +76,30 @@ public class CompositeKey {
 
     @Override
     public final int hashCode() {
-        return Objects.hash(
-                txBytesHashCode,
-                payer,
-                adminKey,
-                entityMemo
-        );
+        return hashCode;
+    }
+
+    public static byte[] bodyDigestOf(byte[] transactionBody) {
+        return noThrowSha384HashOf(transactionBody);
     }
 
     public static CompositeKey fromMerkleSchedule(MerkleSchedule schedule) {
         var adminKey = schedule.adminKey().isPresent() ? asKeyUnchecked(schedule.adminKey().get()) : UNUSED_KEY;
         var memo = schedule.memo().isPresent() ? schedule.memo().get() : EMPTY_MEMO;
         return new CompositeKey(
-                Arrays.hashCode(schedule.transactionBody()),
+                schedule.transactionBodyDigest(),
                 schedule.payer(),
                 adminKey,
                 memo
         );
     }
+
+    /* Any four bytes of a cryptographic digest are as well-distributed as a full hash code. */
+    private static int digestPrefix(byte[] digest) {
+        int prefix = 0;
+        for (int i = 0, n = Math.min(Integer.BYTES, digest.length); i < n; i++) {
+            prefix = (prefix << 8) | (digest[i] & 0xff);
+        }
+        return prefix;
+    }
 }
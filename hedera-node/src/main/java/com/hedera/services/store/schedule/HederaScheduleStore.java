@@ -35,7 +35,6 @@ import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 import com.hederahashgraph.api.proto.java.ScheduleID;
 import com.swirlds.fcmap.FCMap;
 
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -45,6 +44,7 @@ import java.util.function.Supplier;
 import static com.hedera.services.state.merkle.MerkleEntityId.fromScheduleId;
 import static com.hedera.services.store.CreationResult.failure;
 import static com.hedera.services.store.CreationResult.success;
+import static com.hedera.services.store.schedule.CompositeKey.bodyDigestOf;
 import static com.hedera.services.store.schedule.CompositeKey.fromMerkleSchedule;
 import static com.hedera.services.utils.EntityIdUtils.readableId;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_SCHEDULE_ACCOUNT_ID;
@@ -213,7 +213,7 @@ public class HederaScheduleStore extends HederaStore implements ScheduleStore {
 	@Override
 	public Optional<ScheduleID> lookupScheduleId(byte[] bodyBytes, AccountID scheduledTxPayer, Key adminKey, String memo) {
 		var keyToCheckFor = new CompositeKey(
-				Arrays.hashCode(bodyBytes),
+				bodyDigestOf(bodyBytes),
 				EntityId.ofNullableAccountId(scheduledTxPayer),
 				adminKey,
 				memo);
@@ -0,0 +1,114 @@
+package com.hedera.services.store.schedule;
+
+/*
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.ledger.HederaLedger;
+import com.hedera.services.ledger.TransactionalLedger;
+import com.hedera.services.ledger.properties.AccountProperty;
+import com.hedera.services.legacy.core.jproto.JKey;
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.state.merkle.MerkleEntityId;
+import com.hedera.services.state.merkle.MerkleSchedule;
+import com.hedera.services.state.submerkle.EntityId;
+import com.hedera.services.state.submerkle.RichInstant;
+import com.hedera.services.store.CreationResult;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.Key;
+import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
+import com.hederahashgraph.api.proto.java.ScheduleID;
+import com.swirlds.fcmap.FCMap;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static com.hedera.services.utils.EntityIdUtils.readableId;
+
+/**
+ * A {@link ScheduleStore} that can only look up the schedules in a given map, for
+ * example the schedules of a signed state; every other operation throws.
+ */
+public class ReadOnlyScheduleStore implements ScheduleStore {
+	private final Supplier<FCMap<MerkleEntityId, MerkleSchedule>> schedules;
+
+	public ReadOnlyScheduleStore(Supplier<FCMap<MerkleEntityId, MerkleSchedule>> schedules) {
+		this.schedules = schedules;
+	}
+
+	@Override
+	public MerkleSchedule get(ScheduleID id) {
+		var schedule = schedules.get().get(MerkleEntityId.fromScheduleId(id));
+		if (schedule == null) {
+			throw new IllegalArgumentException(String.format(
+					"Argument 'id=%s' does not refer to a known scheduled entity!",
+					readableId(id)));
+		}
+		return schedule;
+	}
+
+	@Override
+	public boolean exists(ScheduleID id) {
+		return schedules.get().containsKey(MerkleEntityId.fromScheduleId(id));
+	}
+
+	@Override
+	public void setHederaLedger(HederaLedger ledger) {
+		/* No-op */
+	}
+
+	@Override
+	public void setAccountsLedger(TransactionalLedger<AccountID, AccountProperty, MerkleAccount> accountsLedger) {
+		/* No-op */
+	}
+
+	@Override
+	public void apply(ScheduleID id, Consumer<MerkleSchedule> change) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public CreationResult<ScheduleID> createProvisionally(byte[] bodyBytes, AccountID payer, AccountID schedulingAccount, RichInstant schedulingTXValidStart, RichInstant consensusTime, Optional<JKey> adminKey, Optional<String> entityMemo) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public Optional<ScheduleID> lookupScheduleId(byte[] bodyBytes, AccountID scheduledTxPayer, Key adminKey, String entityMemo) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public ResponseCodeEnum markAsExecuted(ScheduleID id) { throw new UnsupportedOperationException(); }
+
+	@Override
+	public void expire(EntityId id) { throw new UnsupportedOperationException(); }
+
+	@Override
+	public ResponseCodeEnum delete(ScheduleID id) { throw new UnsupportedOperationException(); }
+
+	@Override
+	public void commitCreation() { throw new UnsupportedOperationException(); }
+
+	@Override
+	public void rollbackCreation() { throw new UnsupportedOperationException(); }
+
+	@Override
+	public boolean isCreationPending() { throw new UnsupportedOperationException(); }
+}
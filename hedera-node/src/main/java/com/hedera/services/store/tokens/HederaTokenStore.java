@@ -120,6 +120,7 @@ public class HederaTokenStore extends HederaStore implements TokenStore {
 
 	TokenID pendingId = NO_PENDING_ID;
 	MerkleToken pendingCreation;
+	Consumer<TokenID> changeObserver = ignore -> {};
 
 	public HederaTokenStore(
 			EntityIdSource ids,
@@ -144,6 +145,10 @@ public class HederaTokenStore extends HederaStore implements TokenStore {
 		return pendingId != NO_PENDING_ID;
 	}
 
+	public void setChangeObserver(Consumer<TokenID> changeObserver) {
+		this.changeObserver = changeObserver;
+	}
+
 	@Override
 	public void setHederaLedger(HederaLedger hederaLedger) {
 		hederaLedger.setTokenRelsLedger(tokenRelsLedger);
@@ -256,6 +261,7 @@ public class HederaTokenStore extends HederaStore implements TokenStore {
 			throw new IllegalArgumentException("Token change failed unexpectedly!", internal);
 		} finally {
 			tokens.get().replace(key, token);
+			changeObserver.accept(id);
 		}
 	}
 
@@ -474,6 +480,7 @@ public class HederaTokenStore extends HederaStore implements TokenStore {
 
 		tokens.get().put(fromTokenId(pendingId), pendingCreation);
 		addKnownTreasury(pendingCreation.treasury().toGrpcAccountId(), pendingId);
+		changeObserver.accept(pendingId);
 
 		resetPendingCreation();
 	}
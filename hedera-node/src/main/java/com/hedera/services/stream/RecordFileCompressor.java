@@ -0,0 +1,111 @@
+package com.hedera.services.stream;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.GZIPOutputStream;
+
+import static com.hedera.services.stream.RecordStreamType.RECORD_EXTENSION;
+import static com.hedera.services.stream.RecordStreamType.RECORD_SIG_EXTENSION;
+
+/**
+ * Replaces each completed record stream file in a directory with a GZIP-compressed copy.
+ *
+ * A record file is complete once its signature file exists. Since the signature file
+ * still signs the hash of the <i>uncompressed</i> record file, the hash chain and signature
+ * semantics of the stream are unchanged; readers just decompress before verifying.
+ */
+public class RecordFileCompressor implements Runnable {
+	private static final Logger log = LogManager.getLogger(RecordFileCompressor.class);
+
+	public static final String COMPRESSED_EXTENSION = "gz";
+
+	static final int BUFFER_SIZE = 64 * 1024;
+	private static final String IN_PROGRESS_EXTENSION = "tmp";
+
+	private final File recordsDir;
+
+	public RecordFileCompressor(String recordsDir) {
+		this.recordsDir = new File(recordsDir);
+	}
+
+	@Override
+	public void run() {
+		try {
+			compressCompletedFiles();
+		} catch (Exception e) {
+			log.warn("Unable to compress record files in {}", recordsDir, e);
+		}
+	}
+
+	/**
+	 * Compresses every record file in the directory that has a signature file.
+	 *
+	 * @return the number of record files compressed
+	 */
+	public int compressCompletedFiles() {
+		var completed = recordsDir.listFiles(this::isCompleted);
+		if (completed == null) {
+			return 0;
+		}
+		int numCompressed = 0;
+		for (File recordFile : completed) {
+			try {
+				compress(recordFile);
+				numCompressed++;
+			} catch (IOException e) {
+				log.warn("Unable to compress record file {}, leaving it uncompressed", recordFile, e);
+			}
+		}
+		return numCompressed;
+	}
+
+	boolean isCompleted(File file) {
+		var name = file.getName();
+		if (!file.isFile() || !name.endsWith("." + RECORD_EXTENSION)) {
+			return false;
+		}
+		var baseName = name.substring(0, name.length() - RECORD_EXTENSION.length());
+		return new File(file.getParentFile(), baseName + RECORD_SIG_EXTENSION).exists();
+	}
+
+	void compress(File recordFile) throws IOException {
+		var compressed = sibling(recordFile, "." + COMPRESSED_EXTENSION);
+		var inProgress = sibling(compressed, "." + IN_PROGRESS_EXTENSION);
+		try (OutputStream out = new GZIPOutputStream(new FileOutputStream(inProgress), BUFFER_SIZE)) {
+			Files.copy(recordFile.toPath(), out);
+		}
+		Files.move(inProgress.toPath(), compressed.toPath(), StandardCopyOption.ATOMIC_MOVE);
+		Files.delete(recordFile.toPath());
+	}
+
+	private static File sibling(File file, String suffix) {
+		return new File(file.getParentFile(), file.getName() + suffix);
+	}
+}
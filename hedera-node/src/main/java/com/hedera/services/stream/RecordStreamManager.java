@@ -20,6 +20,7 @@ package com.hedera.services.stream;
  * ‍
  */
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.hedera.services.context.properties.NodeLocalProperties;
 import com.hedera.services.stats.MiscRunningAvgs;
 import com.swirlds.common.Platform;
@@ -39,6 +40,9 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.security.NoSuchAlgorithmException;
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import static com.swirlds.common.Units.SECONDS_TO_MILLISECONDS;
 
@@ -73,6 +77,9 @@ public class RecordStreamManager {
 	 */
 	private TimestampStreamFileWriter<RecordStreamObject> streamFileWriter;
 
+	/** if record files are compressed, replaces each completed record file with its compressed form */
+	private ScheduledExecutorService compressionExecutor;
+
 	/** initial running Hash of records */
 	private Hash initialHash = new ImmutableHash(new byte[DigestType.SHA_384.digestLength()]);
 
@@ -126,6 +133,9 @@ public class RecordStreamManager {
 					startWriteAtCompleteWindow,
 					RecordStreamType.RECORD);
 			writeQueueThread = new QueueThread<>("writeQueueThread", platform.getSelfId(), streamFileWriter);
+			if (nodeLocalProperties.shouldCompressRecordFiles()) {
+				startCompressing(nodeScopedRecordLogDir, nodeLocalProperties.recordLogPeriod());
+			}
 		}
 
 		this.runningAvgs = runningAvgs;
@@ -148,14 +158,26 @@ public class RecordStreamManager {
 		multiStream.setRunningHash(initialHash);
 
 		LOGGER.info("Finish initializing RecordStreamManager with: enableRecordStreaming: {}, recordStreamDir: {}," +
-						"recordsLogPeriod: {} secs, recordStreamQueueCapacity: {}, initialHash: {}",
+						"recordsLogPeriod: {} secs, recordStreamQueueCapacity: {}, compressRecordFiles: {}, " +
+						"initialHash: {}",
 				nodeLocalProperties::isRecordStreamEnabled,
 				() -> nodeScopedRecordLogDir,
 				nodeLocalProperties::recordLogPeriod,
 				nodeLocalProperties::recordStreamQueueCapacity,
+				nodeLocalProperties::shouldCompressRecordFiles,
 				() -> initialHash);
 	}
 
+	private void startCompressing(final String nodeScopedRecordLogDir, final long recordLogPeriod) {
+		compressionExecutor = Executors.newSingleThreadScheduledExecutor(
+				new ThreadFactoryBuilder().setNameFormat("recordFileCompressor").setDaemon(true).build());
+		compressionExecutor.scheduleWithFixedDelay(
+				new RecordFileCompressor(nodeScopedRecordLogDir),
+				recordLogPeriod,
+				recordLogPeriod,
+				TimeUnit.SECONDS);
+	}
+
 	/**
 	 * Is used for unit testing
 	 *
@@ -280,6 +302,15 @@ public class RecordStreamManager {
 		return hashCalculator;
 	}
 
+	/**
+	 * for unit testing
+	 *
+	 * @return the executor compressing completed record files, if any
+	 */
+	ScheduledExecutorService getCompressionExecutor() {
+		return compressionExecutor;
+	}
+
 	/**
 	 * for unit testing
 	 *
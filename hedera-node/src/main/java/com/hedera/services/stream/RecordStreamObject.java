@@ -56,6 +56,12 @@ public class RecordStreamObject extends AbstractSerializableHashable implements
 	/** the {@link Transaction} object to be written to record stream file */
 	private Transaction transaction;
 
+	/**
+	 * the serialized form of the {@link Transaction} as received from the network, if known;
+	 * when present, these are the bytes written to the record stream file
+	 */
+	private byte[] transactionBytes;
+
 	/**
 	 * the consensus timestamp of this {@link TransactionRecord} object,
 	 * this field is used for deciding wether to start a new record stream file,
@@ -82,10 +88,16 @@ public class RecordStreamObject extends AbstractSerializableHashable implements
 		runningHash = new RunningHash();
 	}
 
+	public RecordStreamObject(final TransactionRecord transactionRecord,
+			final Transaction transaction, final byte[] transactionBytes, final Instant consensusTimestamp) {
+		this(transactionRecord, transaction, consensusTimestamp);
+		this.transactionBytes = transactionBytes;
+	}
+
 	@Override
 	public void serialize(SerializableDataOutputStream out) throws IOException {
 		out.writeByteArray(transactionRecord.toByteArray());
-		out.writeByteArray(transaction.toByteArray());
+		out.writeByteArray(transactionBytes != null ? transactionBytes : transaction.toByteArray());
 	}
 
 	@Override
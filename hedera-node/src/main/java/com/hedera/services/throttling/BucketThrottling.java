@@ -90,6 +90,25 @@ public class BucketThrottling implements FunctionalityThrottling {
 		}
 	}
 
+	@Override
+	public boolean shouldThrottle(HederaFunctionality function, int n) {
+		var capacity = capacities.get(function);
+		if (capacity != null) {
+			var answer = !capacity.isAvailable(n);
+			log.debug("Should throttle {} x{}? {} says, '{}'.", function, n, capacity, answer);
+			return answer;
+		} else {
+			log.warn("No capacity test was available for {}, so throttling it!", function);
+			return true;
+		}
+	}
+
+	@Override
+	public int maxBatchSize(HederaFunctionality function) {
+		var capacity = capacities.get(function);
+		return (capacity != null) ? capacity.maxBatchSize() : 0;
+	}
+
 	public void rebuild() {
 		var throttleProps = getThrottleProps.apply(properties, book.get().getSize());
 		var config = getBuckets.apply(throttleProps);
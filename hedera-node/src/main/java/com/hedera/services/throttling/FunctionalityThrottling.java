@@ -26,4 +26,28 @@ import java.util.EnumSet;
 
 public interface FunctionalityThrottling {
 	boolean shouldThrottle(HederaFunctionality function);
+
+	/**
+	 * Whether a single request that does the work of {@code n} uses of the given
+	 * function should be throttled, as a unit. By default, the request is throttled
+	 * as a single use.
+	 *
+	 * @param function the function used
+	 * @param n how many uses of the function the request is worth
+	 * @return whether to throttle the request
+	 */
+	default boolean shouldThrottle(HederaFunctionality function, int n) {
+		return shouldThrottle(function);
+	}
+
+	/**
+	 * The largest {@code n} for which {@link FunctionalityThrottling#shouldThrottle(HederaFunctionality, int)}
+	 * can ever be false; a bigger batch would always be throttled.
+	 *
+	 * @param function the function used
+	 * @return the largest batch of uses that can be granted
+	 */
+	default int maxBatchSize(HederaFunctionality function) {
+		return Integer.MAX_VALUE;
+	}
 }
@@ -55,6 +55,21 @@ public class BucketThrottle {
 		return primary.allow(amount) || overflow.map(b -> b.hasAvailableCapacity(amount)).orElse(false);
 	}
 
+	public boolean hasAvailableBatchCapacity(double amount) {
+		return primary.allow(amount) || overflow.map(b -> b.hasAvailableBatchCapacity(amount)).orElse(false);
+	}
+
+	/**
+	 * The most capacity a single batch can ever be granted, since a batch is never
+	 * split between this bucket and its overflows.
+	 *
+	 * @return the largest burst capacity in this bucket's overflow chain
+	 */
+	public double batchCapacity() {
+		var capacity = primary.getCapacity();
+		return overflow.map(b -> Math.max(capacity, b.batchCapacity())).orElse(capacity);
+	}
+
 	Throttle primary() {
 		return primary;
 	}
@@ -37,6 +37,31 @@ public class CapacityTest {
 		return bucket.hasAvailableCapacity(capacityRequired);
 	}
 
+	/**
+	 * Tests for the capacity of {@code n} uses at once. Unlike a single use, a batch
+	 * never makes the bucket re-configure its primary throttle, so a batch too large
+	 * for the bucket's burst capacity is never available.
+	 *
+	 * @param n the number of uses
+	 * @return whether the bucket has capacity for all of them
+	 */
+	public boolean isAvailable(int n) {
+		return bucket.hasAvailableBatchCapacity(capacityRequired * n);
+	}
+
+	/**
+	 * The largest {@code n} for which {@link CapacityTest#isAvailable(int)} can ever
+	 * be true.
+	 *
+	 * @return the most uses the bucket can grant at once
+	 */
+	public int maxBatchSize() {
+		if (capacityRequired <= 0.0) {
+			return Integer.MAX_VALUE;
+		}
+		return (int) Math.min(Integer.MAX_VALUE, Math.floor(bucket.batchCapacity() / capacityRequired));
+	}
+
 	public double getCapacityRequired() {
 		return capacityRequired;
 	}
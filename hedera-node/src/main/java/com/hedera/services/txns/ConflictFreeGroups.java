@@ -0,0 +1,112 @@
+package com.hedera.services.txns;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.state.submerkle.EntityId;
+import com.hedera.services.stats.MiscRunningAvgs;
+import com.hedera.services.store.tokens.TokenStore;
+import com.hedera.services.utils.TxnAccessor;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Measures how much of the consensus transaction stream could be run concurrently,
+ * by greedily grouping consecutive transactions whose {@link TxnFootprint}s do not
+ * conflict, in consensus order.
+ *
+ * <p>A group is closed by the first transaction that conflicts with any transaction
+ * already in it, by an exclusive transaction (which is always a group of its own),
+ * or by the start of a new consensus second (since the first transaction handled in
+ * a second may purge expired entities). The size of each closed group is reported as
+ * the {@code conflictFreeGroupSize} running average.
+ *
+ * <p>Grouping is a deterministic function of the consensus transactions alone, so all
+ * nodes would form the same groups; but these are only measurements, and transactions
+ * are still handled one at a time, in consensus order.
+ */
+public class ConflictFreeGroups {
+	private final MiscRunningAvgs runningAvgs;
+	private final GlobalDynamicProperties dynamicProperties;
+	private final TokenStore tokenStore;
+
+	private int groupSize = 0;
+	private long groupSecond = Long.MIN_VALUE;
+	private boolean groupIsExclusive = false;
+	private final Set<EntityId> groupTouched = new HashSet<>();
+	private final Set<EntityId> groupCredited = new HashSet<>();
+
+	public ConflictFreeGroups(
+			MiscRunningAvgs runningAvgs,
+			GlobalDynamicProperties dynamicProperties,
+			TokenStore tokenStore
+	) {
+		this.runningAvgs = runningAvgs;
+		this.dynamicProperties = dynamicProperties;
+		this.tokenStore = tokenStore;
+	}
+
+	/**
+	 * Adds the given transaction to the current group if it does not conflict with any
+	 * transaction already in the group; otherwise closes the group and starts a new one.
+	 * Must be called before the transaction is handled, since its footprint depends on
+	 * the token treasuries it will see.
+	 *
+	 * @param accessor the transaction reaching consensus
+	 * @param consensusTime its consensus time
+	 */
+	public void observe(TxnAccessor accessor, Instant consensusTime) {
+		var footprint = TxnFootprint.of(accessor, dynamicProperties.fundingAccount(), tokenStore);
+		var second = consensusTime.getEpochSecond();
+		if (groupSize > 0 && (second != groupSecond || conflictsWithGroup(footprint))) {
+			closeGroup();
+		}
+
+		groupSize++;
+		groupSecond = second;
+		groupIsExclusive = footprint.isExclusive();
+		groupTouched.addAll(footprint.getTouched());
+		groupCredited.addAll(footprint.getCredited());
+	}
+
+	private boolean conflictsWithGroup(TxnFootprint footprint) {
+		return groupIsExclusive
+				|| footprint.isExclusive()
+				|| !Collections.disjoint(footprint.getTouched(), groupTouched)
+				|| !Collections.disjoint(footprint.getTouched(), groupCredited)
+				|| !Collections.disjoint(footprint.getCredited(), groupTouched);
+	}
+
+	private void closeGroup() {
+		runningAvgs.recordConflictFreeGroupSize(groupSize);
+		groupSize = 0;
+		groupIsExclusive = false;
+		groupTouched.clear();
+		groupCredited.clear();
+	}
+
+	int currentGroupSize() {
+		return groupSize;
+	}
+}
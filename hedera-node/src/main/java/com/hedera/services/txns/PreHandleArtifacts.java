@@ -0,0 +1,81 @@
+package com.hedera.services.txns;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
+
+import java.util.Optional;
+
+/**
+ * The results of work done for a transaction before consensus that would
+ * otherwise be repeated on the thread handling it; namely, the lookup of its
+ * {@link TransitionLogic}, its syntax check (when that check depends on no
+ * more than the dynamic properties), and the SHA-384 hash of its HCS message
+ * (when it is a {@code ConsensusSubmitMessage}).
+ *
+ * @see PreparedTxns
+ */
+public class PreHandleArtifacts {
+	private final long propertiesGeneration;
+	private final Optional<TransitionLogic> logic;
+	private final ResponseCodeEnum syntaxVerdict;
+	private final byte[] submitMessageHash;
+
+	public PreHandleArtifacts(
+			long propertiesGeneration,
+			Optional<TransitionLogic> logic,
+			ResponseCodeEnum syntaxVerdict,
+			byte[] submitMessageHash
+	) {
+		this.propertiesGeneration = propertiesGeneration;
+		this.logic = logic;
+		this.syntaxVerdict = syntaxVerdict;
+		this.submitMessageHash = submitMessageHash;
+	}
+
+	public long getPropertiesGeneration() {
+		return propertiesGeneration;
+	}
+
+	public Optional<TransitionLogic> getLogic() {
+		return logic;
+	}
+
+	/**
+	 * Returns the verdict of the syntax check done before consensus, or null if
+	 * the check could not be done then.
+	 *
+	 * @return the pre-consensus syntax verdict, if any
+	 */
+	public ResponseCodeEnum getSyntaxVerdict() {
+		return syntaxVerdict;
+	}
+
+	/**
+	 * Returns the SHA-384 hash of the message in a {@code ConsensusSubmitMessage},
+	 * or null for any other kind of transaction.
+	 *
+	 * @return the hash of the submitted message, if any
+	 */
+	public byte[] getSubmitMessageHash() {
+		return submitMessageHash;
+	}
+}
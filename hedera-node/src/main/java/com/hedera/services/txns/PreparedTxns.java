@@ -0,0 +1,201 @@
+package com.hedera.services.txns;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.utils.PlatformTxnAccessor;
+import com.hedera.services.utils.TxnAccessor;
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
+import com.swirlds.common.Transaction;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.hedera.services.legacy.proto.utils.CommonUtils.noThrowSha384HashOf;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.ConsensusSubmitMessage;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoCreate;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoDelete;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.FileAppend;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenAccountWipe;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenAssociateToAccount;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenBurn;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenDelete;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenDissociateFromAccount;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenFreezeAccount;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenGrantKycToAccount;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenMint;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenRevokeKycFromAccount;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenUnfreezeAccount;
+
+/**
+ * Hands accessors parsed, hashed, and otherwise prepared during signature
+ * expansion over to {@code handleTransaction}, so the consensus thread does
+ * not repeat work that depends only on the bytes of a transaction.
+ *
+ * <p>Prepared accessors are keyed by their platform transaction, and are only
+ * re-used for that same transaction object, and if their contents still match it. The syntax verdicts they carry are
+ * stamped with the {@link GlobalDynamicProperties#generation()} they were
+ * computed against, and are only re-used while that generation is current;
+ * so a properties update reaching consensus between expansion and handling
+ * simply sends the handle thread back to doing the check itself.
+ *
+ * <p>At most {@code hedera.preparedTxns.maxEntries} accessors are kept, evicting the eldest.
+ *
+ * @see PreHandleArtifacts
+ */
+public class PreparedTxns {
+	/* Functions whose syntax checks consult only the transaction body and the dynamic properties */
+	static final EnumSet<HederaFunctionality> CONSENSUS_INDEPENDENT_SYNTAX_FUNCTIONS = EnumSet.of(
+			CryptoTransfer,
+			CryptoCreate,
+			CryptoDelete,
+			ConsensusSubmitMessage,
+			FileAppend,
+			TokenMint,
+			TokenBurn,
+			TokenAccountWipe,
+			TokenDelete,
+			TokenFreezeAccount,
+			TokenUnfreezeAccount,
+			TokenGrantKycToAccount,
+			TokenRevokeKycFromAccount,
+			TokenAssociateToAccount,
+			TokenDissociateFromAccount);
+
+	private final TransitionLogicLookup lookup;
+	private final GlobalDynamicProperties dynamicProperties;
+	private final Map<Transaction, PlatformTxnAccessor> accessors;
+
+	public PreparedTxns(int capacity, TransitionLogicLookup lookup, GlobalDynamicProperties dynamicProperties) {
+		this.lookup = lookup;
+		this.dynamicProperties = dynamicProperties;
+
+		accessors = new LinkedHashMap<>() {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Transaction, PlatformTxnAccessor> eldest) {
+				return size() > capacity;
+			}
+		};
+	}
+
+	/**
+	 * Parses the given platform transaction and does all the state-independent work
+	 * for it that can be done before consensus; then offers the resulting accessor
+	 * to be claimed when the transaction is handled.
+	 *
+	 * @param platformTxn the transaction to prepare
+	 * @return the prepared accessor
+	 * @throws InvalidProtocolBufferException if the transaction is not gRPC
+	 */
+	public PlatformTxnAccessor prepare(Transaction platformTxn) throws InvalidProtocolBufferException {
+		var accessor = new PlatformTxnAccessor(platformTxn);
+		accessor.numSigPairs();
+		accessor.sigMapSize();
+
+		var function = accessor.getFunction();
+		var txn = accessor.getTxn();
+		var generation = dynamicProperties.generation();
+		var logic = lookup.lookupFor(function, txn);
+		ResponseCodeEnum syntaxVerdict = null;
+		if (logic.isPresent() && CONSENSUS_INDEPENDENT_SYNTAX_FUNCTIONS.contains(function)) {
+			syntaxVerdict = logic.get().syntaxCheck().apply(txn);
+		}
+		byte[] submitMessageHash = null;
+		if (function == ConsensusSubmitMessage) {
+			submitMessageHash = noThrowSha384HashOf(txn.getConsensusSubmitMessage().getMessage().toByteArray());
+		}
+		accessor.setPreHandleArtifacts(new PreHandleArtifacts(generation, logic, syntaxVerdict, submitMessageHash));
+
+		synchronized (this) {
+			accessors.put(platformTxn, accessor);
+		}
+		return accessor;
+	}
+
+	/**
+	 * Removes and returns the accessor prepared for the given platform transaction,
+	 * if there is one prepared for this very transaction object and its contents
+	 * match; otherwise parses a new accessor. Any
+	 * signing order plan set during expansion is cleared from a prepared accessor,
+	 * since at consensus a plan must be claimed (and version-checked) afresh.
+	 *
+	 * @param platformTxn the transaction reaching consensus
+	 * @return an accessor for the transaction
+	 * @throws InvalidProtocolBufferException if the transaction is not gRPC
+	 */
+	public PlatformTxnAccessor accessorFor(Transaction platformTxn) throws InvalidProtocolBufferException {
+		PlatformTxnAccessor accessor;
+		synchronized (this) {
+			accessor = accessors.get(platformTxn);
+			/* A content-equal transaction (e.g. the same signed txn submitted twice) may share the key. */
+			if (accessor == null || accessor.getPlatformTxn() != platformTxn) {
+				accessor = null;
+			} else {
+				accessors.remove(platformTxn);
+			}
+		}
+		if (accessor != null
+				&& Arrays.equals(accessor.getBackwardCompatibleSignedTxnBytes(), platformTxn.getContents())) {
+			accessor.setSigningOrderPlan(null);
+			return accessor;
+		}
+		return new PlatformTxnAccessor(platformTxn);
+	}
+
+	public boolean wasPrepared(TxnAccessor accessor) {
+		return accessor.getPreHandleArtifacts() != null;
+	}
+
+	public Optional<TransitionLogic> transitionLogicFor(TxnAccessor accessor) {
+		var artifacts = accessor.getPreHandleArtifacts();
+		if (artifacts != null) {
+			return artifacts.getLogic();
+		}
+		return lookup.lookupFor(accessor.getFunction(), accessor.getTxn());
+	}
+
+	/**
+	 * Returns the verdict of the pre-consensus syntax check of the given accessor
+	 * if it is still current, or null if the check must be re-done.
+	 *
+	 * @param accessor the transaction being handled
+	 * @return the current pre-consensus syntax verdict, or null
+	 */
+	public ResponseCodeEnum currentSyntaxVerdictFor(TxnAccessor accessor) {
+		var artifacts = accessor.getPreHandleArtifacts();
+		if (artifacts == null || artifacts.getSyntaxVerdict() == null) {
+			return null;
+		}
+		return (artifacts.getPropertiesGeneration() == dynamicProperties.generation())
+				? artifacts.getSyntaxVerdict()
+				: null;
+	}
+
+	synchronized int size() {
+		return accessors.size();
+	}
+}
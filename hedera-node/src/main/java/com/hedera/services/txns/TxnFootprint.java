@@ -0,0 +1,185 @@
+package com.hedera.services.txns;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.state.submerkle.EntityId;
+import com.hedera.services.store.tokens.TokenStore;
+import com.hedera.services.utils.TxnAccessor;
+import com.hederahashgraph.api.proto.java.AccountAmount;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import com.hederahashgraph.api.proto.java.TokenID;
+import com.hederahashgraph.api.proto.java.TokenTransferList;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static com.hedera.services.state.submerkle.EntityId.ofNullableAccountId;
+import static com.hedera.services.state.submerkle.EntityId.ofNullableTokenId;
+import static com.hedera.services.state.submerkle.EntityId.ofNullableTopicId;
+
+/**
+ * Summarizes the entities a transaction can affect, as far as they can be known
+ * from its body alone; so that two transactions can be checked for a conflict
+ * that would make the result of running them concurrently differ from the result
+ * of running them in consensus order.
+ *
+ * <p>Entities are either <i>touched</i> (read, or changed in a way that depends on
+ * their current value), or only <i>credited</i> with fees; since fee credits to the
+ * node and funding accounts commute, two transactions that only pay fees to the same
+ * accounts do not conflict. Every account adjusted by a transfer is touched, whatever
+ * the sign of its adjustment. Any transaction whose footprint cannot be bounded by
+ * its body and the current token treasuries (for example, because it creates an
+ * entity, and so consumes an entity number) is <i>exclusive</i>, and conflicts with
+ * everything.
+ */
+public class TxnFootprint {
+	static final TxnFootprint EXCLUSIVE = new TxnFootprint(true, Collections.emptySet(), Collections.emptySet());
+
+	private final boolean exclusive;
+	private final Set<EntityId> touched;
+	private final Set<EntityId> credited;
+
+	TxnFootprint(boolean exclusive, Set<EntityId> touched, Set<EntityId> credited) {
+		this.exclusive = exclusive;
+		this.touched = touched;
+		this.credited = credited;
+	}
+
+	/**
+	 * Returns the footprint of the given transaction, given the account that
+	 * collects the network and service fees, and the store whose tokens name
+	 * the treasuries that a supply change or dissociation can adjust.
+	 *
+	 * <p>A token's treasury only changes in a {@code TokenUpdate}, which is
+	 * exclusive; so the treasury looked up here is the one the transaction sees.
+	 *
+	 * @param accessor the transaction in question
+	 * @param fundingAccount the account credited with fees
+	 * @param tokenStore the store of current tokens
+	 * @return the footprint of the transaction
+	 */
+	public static TxnFootprint of(TxnAccessor accessor, AccountID fundingAccount, TokenStore tokenStore) {
+		if (accessor.isTriggeredTxn() || accessor.canTriggerTxn()) {
+			return EXCLUSIVE;
+		}
+
+		var txn = accessor.getTxn();
+		Set<EntityId> touched = new HashSet<>();
+		Set<EntityId> credited = new HashSet<>();
+		touched.add(ofNullableAccountId(accessor.getPayer()));
+		credited.add(ofNullableAccountId(txn.getNodeAccountID()));
+		credited.add(ofNullableAccountId(fundingAccount));
+
+		if (!addOpFootprint(accessor.getFunction(), txn, tokenStore, touched)) {
+			return EXCLUSIVE;
+		}
+		credited.removeAll(touched);
+		return new TxnFootprint(false, touched, credited);
+	}
+
+	private static boolean addOpFootprint(
+			HederaFunctionality function,
+			TransactionBody txn,
+			TokenStore tokenStore,
+			Set<EntityId> touched
+	) {
+		switch (function) {
+			case CryptoTransfer:
+				var xfers = txn.getCryptoTransfer();
+				for (AccountAmount adjustment : xfers.getTransfers().getAccountAmountsList()) {
+					touched.add(ofNullableAccountId(adjustment.getAccountID()));
+				}
+				for (TokenTransferList tokenXfers : xfers.getTokenTransfersList()) {
+					touched.add(ofNullableTokenId(tokenXfers.getToken()));
+					for (AccountAmount adjustment : tokenXfers.getTransfersList()) {
+						touched.add(ofNullableAccountId(adjustment.getAccountID()));
+					}
+				}
+				return true;
+			case ConsensusSubmitMessage:
+				touched.add(ofNullableTopicId(txn.getConsensusSubmitMessage().getTopicID()));
+				return true;
+			case TokenMint:
+				addTokenAndTreasury(txn.getTokenMint().getToken(), tokenStore, touched);
+				return true;
+			case TokenBurn:
+				addTokenAndTreasury(txn.getTokenBurn().getToken(), tokenStore, touched);
+				return true;
+			case TokenAccountWipe:
+				addTokenAndAccount(txn.getTokenWipe().getToken(), txn.getTokenWipe().getAccount(), touched);
+				return true;
+			case TokenFreezeAccount:
+				addTokenAndAccount(txn.getTokenFreeze().getToken(), txn.getTokenFreeze().getAccount(), touched);
+				return true;
+			case TokenUnfreezeAccount:
+				addTokenAndAccount(txn.getTokenUnfreeze().getToken(), txn.getTokenUnfreeze().getAccount(), touched);
+				return true;
+			case TokenGrantKycToAccount:
+				addTokenAndAccount(txn.getTokenGrantKyc().getToken(), txn.getTokenGrantKyc().getAccount(), touched);
+				return true;
+			case TokenRevokeKycFromAccount:
+				addTokenAndAccount(txn.getTokenRevokeKyc().getToken(), txn.getTokenRevokeKyc().getAccount(), touched);
+				return true;
+			case TokenAssociateToAccount:
+				touched.add(ofNullableAccountId(txn.getTokenAssociate().getAccount()));
+				for (TokenID token : txn.getTokenAssociate().getTokensList()) {
+					touched.add(ofNullableTokenId(token));
+				}
+				return true;
+			case TokenDissociateFromAccount:
+				touched.add(ofNullableAccountId(txn.getTokenDissociate().getAccount()));
+				for (TokenID token : txn.getTokenDissociate().getTokensList()) {
+					/* Dissociating from an expired token returns the balance to its treasury. */
+					addTokenAndTreasury(token, tokenStore, touched);
+				}
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	private static void addTokenAndTreasury(TokenID token, TokenStore tokenStore, Set<EntityId> touched) {
+		touched.add(ofNullableTokenId(token));
+		if (tokenStore.exists(token)) {
+			touched.add(tokenStore.get(token).treasury());
+		}
+	}
+
+	private static void addTokenAndAccount(TokenID token, AccountID account, Set<EntityId> touched) {
+		touched.add(ofNullableTokenId(token));
+		touched.add(ofNullableAccountId(account));
+	}
+
+	public boolean isExclusive() {
+		return exclusive;
+	}
+
+	public Set<EntityId> getTouched() {
+		return touched;
+	}
+
+	public Set<EntityId> getCredited() {
+		return credited;
+	}
+}
@@ -59,7 +59,8 @@ public class SubmitMessageTransitionLogic implements TransitionLogic {
 
 	@Override
 	public void doStateTransition() {
-		var transactionBody = transactionContext.accessor().getTxn();
+		var accessor = transactionContext.accessor();
+		var transactionBody = accessor.getTxn();
 		var op = transactionBody.getConsensusSubmitMessage();
 
 		if (op.getMessage().isEmpty()) {
@@ -94,11 +95,20 @@ public class SubmitMessageTransitionLogic implements TransitionLogic {
 		var topicId = MerkleEntityId.fromTopicId(op.getTopicID());
 		var mutableTopic = topics.get().getForModify(topicId);
 		try {
-			mutableTopic.updateRunningHashAndSequenceNumber(
-					transactionBody.getTransactionID().getAccountID(),
-					op.getMessage().toByteArray(),
-					op.getTopicID(),
-					transactionContext.consensusTime());
+			var artifacts = accessor.getPreHandleArtifacts();
+			if (artifacts != null && artifacts.getSubmitMessageHash() != null) {
+				mutableTopic.updateRunningHashAndSequenceNumberGivenMessageHash(
+						transactionBody.getTransactionID().getAccountID(),
+						artifacts.getSubmitMessageHash(),
+						op.getTopicID(),
+						transactionContext.consensusTime());
+			} else {
+				mutableTopic.updateRunningHashAndSequenceNumber(
+						transactionBody.getTransactionID().getAccountID(),
+						op.getMessage().toByteArray(),
+						op.getTopicID(),
+						transactionContext.consensusTime());
+			}
 			topics.get().put(topicId, mutableTopic);
 			transactionContext.setTopicRunningHash(mutableTopic.getRunningHash(), mutableTopic.getSequenceNumber());
 			transactionContext.setStatus(SUCCESS);
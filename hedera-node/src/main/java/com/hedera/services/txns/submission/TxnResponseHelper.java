@@ -22,6 +22,7 @@ package com.hedera.services.txns.submission;
 
 import com.hedera.services.queries.answering.QueryResponseHelper;
 import com.hedera.services.stats.HapiOpCounters;
+import com.hedera.services.stats.HapiOpLatencies;
 import com.hedera.services.txns.SubmissionFlow;
 import com.hedera.services.utils.SignedTxnAccessor;
 import com.hederahashgraph.api.proto.java.HederaFunctionality;
@@ -43,9 +44,15 @@ public class TxnResponseHelper {
 
 	private final SubmissionFlow submissionFlow;
 	private final HapiOpCounters opCounters;
+	private final HapiOpLatencies opLatencies;
 
-	public TxnResponseHelper(SubmissionFlow submissionFlow, HapiOpCounters opCounters) {
+	public TxnResponseHelper(
+			SubmissionFlow submissionFlow,
+			HapiOpCounters opCounters,
+			HapiOpLatencies opLatencies
+	) {
 		this.opCounters = opCounters;
+		this.opLatencies = opLatencies;
 		this.submissionFlow = submissionFlow;
 	}
 
@@ -54,20 +61,8 @@ public class TxnResponseHelper {
 			StreamObserver<TransactionResponse> observer,
 			HederaFunctionality statedFunction
 	) {
-		respondWithMetrics(
-				signedTxn,
-				observer,
-				() -> opCounters.countReceived(statedFunction),
-				() -> opCounters.countSubmitted(statedFunction));
-	}
-
-	private void respondWithMetrics(
-			Transaction signedTxn,
-			StreamObserver<TransactionResponse> observer,
-			Runnable incReceivedCount,
-			Runnable incSubmittedCount
-	) {
-		incReceivedCount.run();
+		long start = System.nanoTime();
+		opCounters.countReceived(statedFunction);
 		TransactionResponse response;
 
 		try {
@@ -82,7 +77,8 @@ public class TxnResponseHelper {
 		observer.onCompleted();
 
 		if (response.getNodeTransactionPrecheckCode() == OK) {
-			incSubmittedCount.run();
+			opCounters.countSubmitted(statedFunction);
 		}
+		opLatencies.recordIngested(statedFunction, System.nanoTime() - start);
 	}
 }
@@ -20,17 +20,14 @@ package com.hedera.services.txns.validation;
  * ‍
  */
 
-import com.hederahashgraph.api.proto.java.AccountAmount;
-import com.hederahashgraph.api.proto.java.AccountAmountOrBuilder;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.TransferList;
 import com.hederahashgraph.api.proto.java.TransferListOrBuilder;
 
-import java.math.BigInteger;
-import java.util.HashSet;
+import java.util.Arrays;
+import java.util.function.IntToLongFunction;
 
-import static java.math.BigInteger.ZERO;
-import static java.util.stream.Collectors.toSet;
+import static com.hedera.services.ledger.HederaLedger.ACCOUNT_ID_COMPARATOR;
 
 /**
  * Offers a few static helpers to evaluate {@link TransferList} instances
@@ -40,18 +37,46 @@ import static java.util.stream.Collectors.toSet;
  */
 public class TransferListChecks {
 	public static boolean isNetZeroAdjustment(TransferListOrBuilder wrapper) {
-		var net = ZERO;
-		for (AccountAmountOrBuilder adjustment : wrapper.getAccountAmountsOrBuilderList()) {
-			net = net.add(BigInteger.valueOf(adjustment.getAmount()));
+		return isNetZero(wrapper.getAccountAmountsCount(), i -> wrapper.getAccountAmounts(i).getAmount());
+	}
+
+	/**
+	 * Checks, without allocating, if the first {@code n} amounts sum to zero; by
+	 * tracking the carries out of the low-order long, the sum is exact for any {@code n}.
+	 *
+	 * @param n how many amounts to sum
+	 * @param amountAt the amount at each index
+	 * @return whether the amounts sum to exactly zero
+	 */
+	public static boolean isNetZero(int n, IntToLongFunction amountAt) {
+		long lo = 0L, hi = 0L;
+		for (int i = 0; i < n; i++) {
+			long amount = amountAt.applyAsLong(i);
+			long sum = lo + amount;
+			/* Carry into a high-order long on overflow, so the net is exact without a BigInteger. */
+			if (((lo ^ sum) & (amount ^ sum)) < 0) {
+				hi += (amount < 0) ? -1 : 1;
+			}
+			lo = sum;
 		}
-		return net.equals(ZERO);
+		return lo == 0L && hi == 0L;
 	}
 
 	public static boolean hasRepeatedAccount(TransferList wrapper) {
-		var unique = new HashSet<AccountID>();
-		for (AccountAmount adjustment : wrapper.getAccountAmountsList()) {
-			unique.add(adjustment.getAccountID());
+		int n = wrapper.getAccountAmountsCount();
+		if (n < 2) {
+			return false;
+		}
+		var ids = new AccountID[n];
+		for (int i = 0; i < n; i++) {
+			ids[i] = wrapper.getAccountAmounts(i).getAccountID();
+		}
+		Arrays.sort(ids, ACCOUNT_ID_COMPARATOR);
+		for (int i = 1; i < n; i++) {
+			if (ACCOUNT_ID_COMPARATOR.compare(ids[i - 1], ids[i]) == 0) {
+				return true;
+			}
 		}
-		return unique.size() < wrapper.getAccountAmountsCount();
+		return false;
 	}
 }
@@ -23,6 +23,8 @@ package com.hedera.services.utils;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.services.exceptions.UnknownHederaFunctionality;
+import com.hedera.services.sigs.order.SigningOrderPlan;
+import com.hedera.services.txns.PreHandleArtifacts;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.HederaFunctionality;
 import com.hederahashgraph.api.proto.java.ScheduleID;
@@ -52,6 +54,10 @@ public class SignedTxnAccessor implements TxnAccessor {
 	private TransactionBody txn;
 	private HederaFunctionality function;
 	private ByteString hash;
+	private SigningOrderPlan signingOrderPlan;
+	private PreHandleArtifacts preHandleArtifacts;
+	private int numSigPairs = -1;
+	private int sigMapSize = -1;
 
 	static Function<TransactionBody, HederaFunctionality> functionExtractor = txn -> {
 		try {
@@ -95,6 +101,22 @@ public class SignedTxnAccessor implements TxnAccessor {
 		return sigMap;
 	}
 
+	@Override
+	public int numSigPairs() {
+		if (numSigPairs < 0) {
+			numSigPairs = sigMap.getSigPairCount();
+		}
+		return numSigPairs;
+	}
+
+	@Override
+	public int sigMapSize() {
+		if (sigMapSize < 0) {
+			sigMapSize = sigMap.getSerializedSize();
+		}
+		return sigMapSize;
+	}
+
 	public HederaFunctionality getFunction() {
 		if (function == null) {
 			function = functionExtractor.apply(getTxn());
@@ -134,6 +156,26 @@ public class SignedTxnAccessor implements TxnAccessor {
 		return hash;
 	}
 
+	@Override
+	public SigningOrderPlan getSigningOrderPlan() {
+		return signingOrderPlan;
+	}
+
+	@Override
+	public void setSigningOrderPlan(SigningOrderPlan signingOrderPlan) {
+		this.signingOrderPlan = signingOrderPlan;
+	}
+
+	@Override
+	public PreHandleArtifacts getPreHandleArtifacts() {
+		return preHandleArtifacts;
+	}
+
+	@Override
+	public void setPreHandleArtifacts(PreHandleArtifacts preHandleArtifacts) {
+		this.preHandleArtifacts = preHandleArtifacts;
+	}
+
 	@Override
 	public boolean canTriggerTxn() {
 		return getTxn().hasScheduleCreate() || getTxn().hasScheduleSign();
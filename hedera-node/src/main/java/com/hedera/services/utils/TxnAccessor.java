@@ -21,6 +21,8 @@ package com.hedera.services.utils;
  */
 
 import com.google.protobuf.ByteString;
+import com.hedera.services.sigs.order.SigningOrderPlan;
+import com.hedera.services.txns.PreHandleArtifacts;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.HederaFunctionality;
 import com.hederahashgraph.api.proto.java.ScheduleID;
@@ -36,6 +38,10 @@ import com.hederahashgraph.api.proto.java.TransactionID;
 public interface TxnAccessor {
     SignatureMap getSigMap();
 
+    int numSigPairs();
+
+    int sigMapSize();
+
     HederaFunctionality getFunction();
 
     Transaction getSignedTxn4Log();
@@ -60,5 +66,13 @@ public interface TxnAccessor {
 
     ScheduleID getScheduleRef();
 
+    SigningOrderPlan getSigningOrderPlan();
+
+    void setSigningOrderPlan(SigningOrderPlan signingOrderPlan);
+
+    PreHandleArtifacts getPreHandleArtifacts();
+
+    void setPreHandleArtifacts(PreHandleArtifacts preHandleArtifacts);
+
     default com.swirlds.common.Transaction getPlatformTxn() { throw new UnsupportedOperationException(); }
 }
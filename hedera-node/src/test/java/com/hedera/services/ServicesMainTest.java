@@ -27,10 +27,12 @@ import com.hedera.services.context.properties.NodeLocalProperties;
 import com.hedera.services.context.properties.Profile;
 import com.hedera.services.context.properties.PropertySource;
 import com.hedera.services.context.properties.PropertySources;
+import com.hedera.services.context.primitives.SignedStateViews;
 import com.hedera.services.fees.FeeCalculator;
 import com.hedera.services.grpc.GrpcServerManager;
 import com.hedera.services.ledger.accounts.BackingStore;
 import com.hedera.services.records.AccountRecordsHistorian;
+import com.hedera.services.state.exports.AccountsExportFormat;
 import com.hedera.services.state.exports.AccountsExporter;
 import com.hedera.services.state.exports.BalancesExporter;
 import com.hedera.services.state.forensics.IssListener;
@@ -65,9 +67,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
 
+import java.io.IOException;
 import java.io.PrintStream;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 
 import static com.hedera.services.context.SingletonContextsManager.CONTEXTS;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
@@ -106,6 +111,7 @@ public class ServicesMainTest {
 	AccountsExporter accountsExporter;
 	PropertySources propertySources;
 	BalancesExporter balancesExporter;
+	SignedStateViews signedStateViews;
 	StateMigrations stateMigrations;
 	ServicesStatsManager statsManager;
 	GrpcServerManager grpc;
@@ -136,6 +142,7 @@ public class ServicesMainTest {
 		statsManager = mock(ServicesStatsManager.class);
 		stateMigrations = mock(StateMigrations.class);
 		balancesExporter = mock(BalancesExporter.class);
+		signedStateViews = mock(SignedStateViews.class);
 		nodeLocalProps = mock(NodeLocalProperties.class);
 		recordsHistorian = mock(AccountRecordsHistorian.class);
 		ledgerValidator = mock(LedgerValidator.class);
@@ -178,6 +185,7 @@ public class ServicesMainTest {
 		given(ctx.systemAccountsCreator()).willReturn(systemAccountsCreator);
 		given(ctx.accountsExporter()).willReturn(accountsExporter);
 		given(ctx.balancesExporter()).willReturn(balancesExporter);
+		given(ctx.signedStateViews()).willReturn(signedStateViews);
 		given(ctx.statsManager()).willReturn(statsManager);
 		given(ctx.consensusTimeOfLastHandledTxn()).willReturn(Instant.ofEpochSecond(33L, 0));
 		given(ledgerValidator.hasExpectedTotalBalance(any())).willReturn(true);
@@ -186,6 +194,7 @@ public class ServicesMainTest {
 		subject = new ServicesMain();
 		subject.systemExits = systemExits;
 		subject.defaultCharset = () -> StandardCharsets.UTF_8;
+		subject.accountsExportExecutor = Runnable::run;
 		CONTEXTS.store(ctx);
 	}
 
@@ -408,28 +417,98 @@ public class ServicesMainTest {
 	}
 
 	@Test
-	public void exportsAccountsIfRequested() throws Exception {
+	public void exportsAccountsOnceFromFirstActiveSignedStateIfRequested() throws Exception {
+		// setup:
+		FCMap signedAccounts = mock(FCMap.class);
+		ServicesState signedState = mock(ServicesState.class);
+
 		given(properties.getStringProperty("hedera.accountsExportPath")).willReturn(PATH);
 		given(properties.getBooleanProperty("hedera.exportAccountsOnStartup")).willReturn(true);
+		given(nodeLocalProps.accountsExportFormat()).willReturn(AccountsExportFormat.BINARY);
+		given(signedState.accounts()).willReturn(signedAccounts);
+		given(platformStatus.get())
+				.willReturn(PlatformStatus.BEHIND)
+				.willReturn(PlatformStatus.ACTIVE);
+
+		// when:
+		subject.init(null, new NodeId(false, NODE_ID));
+		// and:
+		subject.newSignedState(signedState, Instant.now(), 1L);
+		subject.newSignedState(signedState, Instant.now(), 2L);
+		subject.newSignedState(signedState, Instant.now(), 3L);
+
+		// then:
+		verify(accountsExporter, never()).toFile(accounts, PATH, AccountsExportFormat.BINARY);
+		verify(accountsExporter).toFile(signedAccounts, PATH, AccountsExportFormat.BINARY);
+		// and:
+		verify(signedState).incrementReferenceCount();
+		verify(signedState).decrementReferenceCount();
+	}
+
+	@Test
+	public void exportsAccountsOffTheSignedStateThread() throws Exception {
+		// setup:
+		ServicesState signedState = mock(ServicesState.class);
+		List<Runnable> exports = new ArrayList<>();
+		subject.accountsExportExecutor = exports::add;
+
+		given(properties.getBooleanProperty("hedera.exportAccountsOnStartup")).willReturn(true);
+		given(platformStatus.get()).willReturn(PlatformStatus.ACTIVE);
+
+		// when:
+		subject.init(null, new NodeId(false, NODE_ID));
+		// and:
+		subject.newSignedState(signedState, Instant.now(), 1L);
+
+		// then:
+		verify(accountsExporter, never()).toFile(any(), any(), any());
+		verify(signedState).incrementReferenceCount();
+		verify(signedState, never()).decrementReferenceCount();
+
+		// and when:
+		exports.get(0).run();
+
+		// then:
+		verify(accountsExporter).toFile(any(), any(), any());
+		verify(signedState).decrementReferenceCount();
+	}
+
+	@Test
+	public void doesntExportAccountsIfNotRequested() throws Exception {
+		// setup:
+		ServicesState signedState = mock(ServicesState.class);
+
+		given(properties.getBooleanProperty("hedera.exportAccountsOnStartup")).willReturn(false);
+		given(platformStatus.get()).willReturn(PlatformStatus.ACTIVE);
 
 		// when:
 		subject.init(null, new NodeId(false, NODE_ID));
+		// and:
+		subject.newSignedState(signedState, Instant.now(), 1L);
 
 		// then:
-		verify(accountsExporter).toFile(accounts, PATH);
+		verify(accountsExporter, never()).toFile(any(), any(), any());
 	}
 
 	@Test
-	public void rethrowsAccountsExportFailureAsIse() {
+	public void logsAccountsExportFailureWithoutExiting() throws Exception {
+		// setup:
+		ServicesState signedState = mock(ServicesState.class);
+
 		given(properties.getStringProperty("hedera.accountsExportPath")).willReturn(PATH);
 		given(properties.getBooleanProperty("hedera.exportAccountsOnStartup")).willReturn(true);
-		given(ctx.accountsExporter()).willReturn(null);
+		given(platformStatus.get()).willReturn(PlatformStatus.ACTIVE);
+		willThrow(IOException.class).given(accountsExporter).toFile(any(), any(), any());
 
 		// when:
 		subject.init(null, new NodeId(false, NODE_ID));
+		// and:
+		subject.newSignedState(signedState, Instant.now(), 1L);
 
 		// then:
-		verify(systemExits).fail(1);
+		verify(systemExits, never()).fail(1);
+		verify(mockLog).error(argThat((String s) -> s.contains("could not export accounts")), any(), any());
+		verify(signedState).decrementReferenceCount();
 	}
 
 	@Test
@@ -491,6 +570,20 @@ public class ServicesMainTest {
 		verify(signedState, never()).printHashes();
 	}
 
+	@Test
+	public void answersQueriesFromNewSignedState() {
+		// setup:
+		subject.ctx = ctx;
+		Instant when = Instant.now();
+		var signedState = mock(ServicesState.class);
+
+		// when:
+		subject.newSignedState(signedState, when, 1L);
+
+		// then:
+		verify(signedStateViews).update(signedState, when);
+	}
+
 	@Test
 	public void onlyPrintsHashesIfInMaintenance() {
 		// setup:
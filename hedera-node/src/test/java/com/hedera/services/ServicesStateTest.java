@@ -23,7 +23,9 @@ package com.hedera.services;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.services.context.ServicesContext;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.context.properties.PropertySources;
+import com.hedera.services.files.interceptors.FeeSchedulesManager;
 import com.hedera.services.legacy.core.jproto.JEd25519Key;
 import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.legacy.crypto.SignatureStatus;
@@ -32,8 +34,10 @@ import com.hedera.services.records.AccountRecordsHistorian;
 import com.hedera.services.records.TxnIdRecentHistory;
 import com.hedera.services.sigs.factories.SigFactoryCreator;
 import com.hedera.services.sigs.order.HederaSigningOrder;
+import com.hedera.services.sigs.order.SigningOrderPlans;
 import com.hedera.services.sigs.order.SigningOrderResult;
 import com.hedera.services.state.expiry.ExpiryManager;
+import com.hedera.services.state.hashing.ParallelChildDigester;
 import com.hedera.services.state.initialization.SystemFilesManager;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleBlobMeta;
@@ -48,9 +52,13 @@ import com.hedera.services.state.merkle.MerkleTokenRelStatus;
 import com.hedera.services.state.merkle.MerkleTopic;
 import com.hedera.services.state.submerkle.ExchangeRates;
 import com.hedera.services.state.submerkle.SequenceNumber;
+import com.hedera.services.stats.HapiOpLatencies;
+import com.hedera.services.stats.MiscRunningAvgs;
 import com.hedera.services.stream.RecordStreamManager;
 import com.hedera.services.stream.RecordsRunningHashLeaf;
+import com.hedera.services.txns.PreparedTxns;
 import com.hedera.services.txns.ProcessLogic;
+import com.hedera.services.txns.TransitionLogicLookup;
 import com.hedera.services.utils.SystemExits;
 import com.hedera.test.factories.txns.PlatformTxnFactory;
 import com.hedera.test.utils.IdUtils;
@@ -90,9 +98,11 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import static com.hedera.services.legacy.proto.utils.CommonUtils.sha384HashOf;
 import static com.hedera.services.ServicesState.RELEASE_0100_VERSION;
 import static com.hedera.services.ServicesState.RELEASE_0110_VERSION;
 import static com.hedera.services.ServicesState.RELEASE_0120_VERSION;
+import static com.hedera.services.ServicesState.RELEASE_0130_VERSION;
 import static com.hedera.services.ServicesState.RELEASE_070_VERSION;
 import static com.hedera.services.ServicesState.RELEASE_080_VERSION;
 import static com.hedera.services.ServicesState.RELEASE_090_VERSION;
@@ -106,6 +116,7 @@ import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.any;
+import static org.mockito.BDDMockito.anyLong;
 import static org.mockito.BDDMockito.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.inOrder;
@@ -127,6 +138,11 @@ class ServicesStateTest {
 	ProcessLogic logic;
 	PropertySources propertySources;
 	ServicesContext ctx;
+	MiscRunningAvgs runningAvgs;
+	HapiOpLatencies opLatencies;
+	FeeSchedulesManager feeSchedulesManager;
+	PreparedTxns preparedTxns;
+	ParallelChildDigester childDigester;
 	AccountRecordsHistorian historian;
 	ExpiryManager expiryManager;
 	FCMap<MerkleEntityId, MerkleTopic> topics;
@@ -194,6 +210,15 @@ class ServicesStateTest {
 		logic = mock(ProcessLogic.class);
 		ctx = mock(ServicesContext.class);
 		given(ctx.sigFactoryCreator()).willReturn(new SigFactoryCreator(() -> scheduledTxns));
+		opLatencies = mock(HapiOpLatencies.class);
+		given(ctx.opLatencies()).willReturn(opLatencies);
+		feeSchedulesManager = mock(FeeSchedulesManager.class);
+		given(ctx.feeSchedulesManager()).willReturn(feeSchedulesManager);
+		preparedTxns = new PreparedTxns(
+				16,
+				new TransitionLogicLookup(ignore -> Collections.emptyList()),
+				mock(GlobalDynamicProperties.class));
+		given(ctx.preparedTxns()).willReturn(preparedTxns);
 		given(ctx.id()).willReturn(self);
 		given(ctx.logic()).willReturn(logic);
 
@@ -257,6 +282,11 @@ class ServicesStateTest {
 		given(ctx.systemFilesManager()).willReturn(systemFilesManager);
 		given(ctx.recordStreamManager()).willReturn(recordStreamManager);
 
+		runningAvgs = mock(MiscRunningAvgs.class);
+		childDigester = mock(ParallelChildDigester.class);
+		given(ctx.runningAvgs()).willReturn(runningAvgs);
+		given(ctx.childDigester()).willReturn(childDigester);
+
 		systemExits = mock(SystemExits.class);
 
 		subject = new ServicesState();
@@ -296,6 +326,7 @@ class ServicesStateTest {
 		assertEquals(ServicesState.ChildIndices.NUM_0100_CHILDREN, subject.getMinimumChildCount(RELEASE_0100_VERSION));
 		assertEquals(ServicesState.ChildIndices.NUM_0110_CHILDREN, subject.getMinimumChildCount(RELEASE_0110_VERSION));
 		assertEquals(ServicesState.ChildIndices.NUM_0120_CHILDREN, subject.getMinimumChildCount(RELEASE_0120_VERSION));
+		assertEquals(ServicesState.ChildIndices.NUM_0130_CHILDREN, subject.getMinimumChildCount(RELEASE_0130_VERSION));
 
 		Throwable throwable = assertThrows(IllegalArgumentException.class,
 				() -> subject.getMinimumChildCount(invalidVersion));
@@ -501,6 +532,52 @@ class ServicesStateTest {
 		ServicesState.merkleDigest = CryptoFactory.getInstance()::digestTreeSync;
 	}
 
+	@Test
+	public void digestsIndependentChildrenBeforeRoot() {
+		// setup:
+		var mockLog = mock(Logger.class);
+		ServicesMain.log = mockLog;
+		given(ctx.nodeAccount()).willReturn(AccountID.getDefaultInstance());
+		CONTEXTS.store(ctx);
+		// and:
+		InOrder inOrder = inOrder(childDigester, mockDigest);
+
+		// and:
+		subject.setChild(ServicesState.ChildIndices.TOPICS, topics);
+		subject.setChild(ServicesState.ChildIndices.STORAGE, storage);
+		subject.setChild(ServicesState.ChildIndices.ACCOUNTS, accounts);
+		subject.setChild(ServicesState.ChildIndices.ADDRESS_BOOK, book);
+		subject.setChild(ServicesState.ChildIndices.NETWORK_CTX, networkCtx);
+		subject.setChild(ServicesState.ChildIndices.TOKENS, tokens);
+		subject.setChild(ServicesState.ChildIndices.TOKEN_ASSOCIATIONS, tokenAssociations);
+		subject.setChild(ServicesState.ChildIndices.DISK_FS, diskFs);
+		subject.setChild(ServicesState.ChildIndices.SCHEDULE_TXS, scheduledTxs);
+		subject.setChild(ServicesState.ChildIndices.RECORD_STREAM_RUNNING_HASH, runningHashLeaf);
+
+		// when:
+		subject.init(platform, book);
+
+		// then:
+		inOrder.verify(childDigester).digest(argThat(l -> l.size() == 6
+				&& l.get(0).getMiddle() == accounts
+				&& l.get(1).getMiddle() == storage
+				&& l.get(2).getMiddle() == topics
+				&& l.get(3).getMiddle() == tokens
+				&& l.get(4).getMiddle() == tokenAssociations
+				&& l.get(5).getMiddle() == scheduledTxs
+				&& "accounts".equals(l.get(0).getLeft())));
+		inOrder.verify(mockDigest).accept(subject);
+		// and:
+		var children = subject.independentChildren();
+		children.get(0).getRight().accept(1.0);
+		children.get(5).getRight().accept(6.0);
+		verify(runningAvgs).recordAccountsHashMs(1.0);
+		verify(runningAvgs).recordScheduleTxsHashMs(6.0);
+
+		// cleanup:
+		ServicesMain.log = LogManager.getLogger(ServicesMain.class);
+	}
+
 	@Test
 	public void hashesPrintedAsExpected() {
 		// setup:
@@ -600,6 +677,7 @@ class ServicesStateTest {
 		subject.setChild(ServicesState.ChildIndices.RECORD_STREAM_RUNNING_HASH, runningHashLeaf);
 		subject.nodeId = self;
 		subject.ctx = ctx;
+		subject.deserializedVersion = RELEASE_0120_VERSION;
 
 		// when:
 		ServicesState copy = subject.copy();
@@ -618,6 +696,22 @@ class ServicesStateTest {
 		assertSame(diskFsCopy, copy.diskFs());
 		assertSame(scheduledTxsCopy, copy.scheduleTxs());
 		assertSame(runningHashLeafCopy, copy.runningHashLeaf());
+		assertEquals(RELEASE_0120_VERSION, copy.getDeserializedVersion());
+	}
+
+	@Test
+	public void remembersDeserializedVersion() {
+		// given:
+		subject = new ServicesState();
+
+		// when:
+		subject.addDeserializedChildren(List.of(
+				book, networkCtx, topics, storage, accounts,
+				tokens, tokenAssociations, diskFs, scheduledTxs, runningHashLeaf), RELEASE_0120_VERSION);
+
+		// then:
+		assertEquals(RELEASE_0120_VERSION, subject.getDeserializedVersion());
+		assertEquals(ServicesState.MERKLE_VERSION, new ServicesState().getDeserializedVersion());
 	}
 
 	@Test
@@ -691,7 +785,7 @@ class ServicesStateTest {
 	}
 
 	@Test
-	public void expandsSigs() {
+	public void expandsSigs() throws InvalidProtocolBufferException {
 		// setup:
 		ByteString mockPk = ByteString.copyFrom("not-a-real-pkPrefix".getBytes());
 		ByteString mockSig = ByteString.copyFrom("not-a-real-sig".getBytes());
@@ -711,6 +805,9 @@ class ServicesStateTest {
 		given(keyOrderer.keysForPayer(any(), any())).willReturn((SigningOrderResult) payerOrderResult);
 		given(keyOrderer.keysForOtherParties(any(), any())).willReturn((SigningOrderResult) otherOrderResult);
 		given(ctx.lookupRetryingKeyOrder()).willReturn(keyOrderer);
+		// and:
+		var plans = new SigningOrderPlans(16);
+		given(ctx.signingOrderPlans()).willReturn(plans);
 
 		// and:
 		subject.ctx = ctx;
@@ -722,6 +819,12 @@ class ServicesStateTest {
 		assertEquals(1, platformTxn.getSignatures().size());
 		assertEquals(mockPk, ByteString.copyFrom(platformTxn.getSignatures().get(0).getExpandedPublicKeyDirect()));
 		verify(ctx).sigFactoryCreator();
+		verify(opLatencies).recordPreHandled(any(), anyLong());
+		verify(feeSchedulesManager).anticipate(any());
+		assertNotNull(preparedTxns.accessorFor(platformTxn).getPreHandleArtifacts());
+		// and:
+		var plan = plans.claim(sha384HashOf(signedTxn));
+		assertEquals(key, plan.getPayerKey());
 	}
 
 	@Test
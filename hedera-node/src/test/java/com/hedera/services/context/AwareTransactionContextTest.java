@@ -48,8 +48,6 @@ import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.hederahashgraph.api.proto.java.TransactionID;
 import com.hederahashgraph.api.proto.java.TransactionRecord;
 import com.hederahashgraph.api.proto.java.TransferList;
-import com.swirlds.common.Address;
-import com.swirlds.common.AddressBook;
 import com.swirlds.fcmap.FCMap;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -60,7 +58,6 @@ import java.util.List;
 
 import static com.hedera.services.context.AwareTransactionContext.EMPTY_KEY;
 import static com.hedera.test.utils.IdUtils.asAccount;
-import static com.hedera.test.utils.IdUtils.asAccountString;
 import static com.hedera.test.utils.IdUtils.asContract;
 import static com.hedera.test.utils.IdUtils.asFile;
 import static com.hedera.test.utils.IdUtils.asSchedule;
@@ -108,11 +105,9 @@ public class AwareTransactionContextTest {
 	private HederaLedger ledger;
 	private ItemizableFeeCharging itemizableFeeCharging;
 	private AccountID nodeAccount = asAccount("0.0.3");
-	private Address address;
-	private Address anotherAddress;
-	private AddressBook book;
 	private HbarCentExchange exchange;
 	private ServicesContext ctx;
+	private NodeInfo nodeInfo;
 	private PlatformTxnAccessor accessor;
 	private AwareTransactionContext subject;
 	private Transaction signedTxn;
@@ -130,13 +125,9 @@ public class AwareTransactionContextTest {
 
 	@BeforeEach
 	private void setup() {
-		address = mock(Address.class);
-		given(address.getMemo()).willReturn(asAccountString(nodeAccount));
-		anotherAddress = mock(Address.class);
-		given(anotherAddress.getMemo()).willReturn(asAccountString(anotherNodeAccount));
-		book = mock(AddressBook.class);
-		given(book.getAddress(memberId)).willReturn(address);
-		given(book.getAddress(anotherMemberId)).willReturn(anotherAddress);
+		nodeInfo = mock(NodeInfo.class);
+		given(nodeInfo.accountOf(memberId)).willReturn(nodeAccount);
+		given(nodeInfo.accountOf(anotherMemberId)).willReturn(anotherNodeAccount);
 
 		ledger = mock(HederaLedger.class);
 		given(ledger.netTransfersInTxn()).willReturn(transfers);
@@ -159,7 +150,7 @@ public class AwareTransactionContextTest {
 		given(ctx.accounts()).willReturn(accounts);
 		given(ctx.charging()).willReturn(itemizableFeeCharging);
 		given(ctx.accounts()).willReturn(accounts);
-		given(ctx.addressBook()).willReturn(book);
+		given(ctx.nodeInfo()).willReturn(nodeInfo);
 
 		txn = mock(TransactionBody.class);
 		given(txn.getMemo()).willReturn(memo);
@@ -249,7 +240,7 @@ public class AwareTransactionContextTest {
 
 	@Test
 	public void failsHardForMissingMemberAccount() {
-		given(book.getAddress(memberId)).willReturn(null);
+		given(nodeInfo.accountOf(memberId)).willThrow(IllegalArgumentException.class);
 
 		// expect:
 		assertThrows(IllegalStateException.class, () -> subject.submittingNodeAccount());
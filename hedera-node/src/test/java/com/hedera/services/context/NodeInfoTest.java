@@ -0,0 +1,147 @@
+package com.hedera.services.context;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.swirlds.common.Address;
+import com.swirlds.common.AddressBook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Predicate;
+
+import static com.hedera.test.utils.IdUtils.asAccount;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class NodeInfoTest {
+	AccountID nodeFour = asAccount("0.0.4");
+	AccountID nodeThree = asAccount("0.0.3");
+
+	AddressBook book;
+	Predicate<AccountID> accountExists;
+
+	NodeInfo subject;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setup() {
+		book = mock(AddressBook.class);
+		givenBook(address("0.0.4", 10L), address("0.0.3", 0L), address("Not an account!", 5L));
+		accountExists = mock(Predicate.class);
+
+		subject = new NodeInfo(() -> book, accountExists);
+	}
+
+	@Test
+	void resolvesAccountsAndStakesByMember() {
+		// expect:
+		assertEquals(3, subject.numberOfNodes());
+		assertEquals(nodeFour, subject.accountOf(0));
+		assertEquals(nodeThree, subject.accountOf(1));
+		assertEquals(10L, subject.stakeOf(0));
+		assertFalse(subject.isZeroStake(0));
+		assertTrue(subject.isZeroStake(1));
+		assertTrue(subject.hasValidAccount(1));
+		assertFalse(subject.hasValidAccount(2));
+	}
+
+	@Test
+	void readsBookOnlyOnceUntilInvalidated() {
+		// when:
+		subject.accountOf(0);
+		subject.stakeOf(1);
+		subject.isZeroStake(2);
+
+		// then:
+		verify(book, times(1)).getSize();
+
+		// and when:
+		subject.invalidate();
+		givenBook(address("0.0.5", 1L));
+
+		// then:
+		assertEquals(1, subject.numberOfNodes());
+		assertEquals(asAccount("0.0.5"), subject.accountOf(0));
+		verify(book, times(2)).getSize();
+	}
+
+	@Test
+	void throwsOnMemberWithoutValidAccount() {
+		// expect:
+		assertThrows(IllegalArgumentException.class, () -> subject.accountOf(2));
+	}
+
+	@Test
+	void throwsOnMissingMember() {
+		// expect:
+		assertThrows(IllegalArgumentException.class, () -> subject.accountOf(3));
+		assertThrows(IllegalArgumentException.class, () -> subject.stakeOf(-1));
+	}
+
+	@Test
+	void mapsNodeAccountsBackToMembers() {
+		// expect:
+		assertEquals(0, subject.memberIdOf(nodeFour));
+		assertEquals(1, subject.memberIdOf(nodeThree));
+		assertEquals(NodeInfo.NO_MEMBER, subject.memberIdOf(asAccount("0.0.2")));
+		assertEquals(NodeInfo.NO_MEMBER, subject.memberIdOf(asAccount("1.0.3")));
+		assertTrue(subject.isNodeAccount(nodeThree));
+		assertFalse(subject.isNodeAccount(asAccount("0.0.5")));
+	}
+
+	@Test
+	void remembersOnlyPositiveLedgerChecks() {
+		given(accountExists.test(nodeFour)).willReturn(true);
+		given(accountExists.test(nodeThree)).willReturn(false);
+
+		// when:
+		assertTrue(subject.isAccountInLedger(0));
+		assertTrue(subject.isAccountInLedger(0));
+		assertFalse(subject.isAccountInLedger(1));
+		assertFalse(subject.isAccountInLedger(1));
+		assertFalse(subject.isAccountInLedger(2));
+
+		// then:
+		verify(accountExists, times(1)).test(nodeFour);
+		verify(accountExists, times(2)).test(nodeThree);
+	}
+
+	private void givenBook(Address... addresses) {
+		given(book.getSize()).willReturn(addresses.length);
+		for (int i = 0; i < addresses.length; i++) {
+			given(book.getAddress(i)).willReturn(addresses[i]);
+		}
+	}
+
+	private Address address(String memo, long stake) {
+		var address = mock(Address.class);
+		given(address.getMemo()).willReturn(memo);
+		given(address.getStake()).willReturn(stake);
+		return address;
+	}
+}
@@ -48,6 +48,8 @@ import com.hedera.services.sigs.factories.SigFactoryCreator;
 import com.hedera.services.state.expiry.ExpiringCreations;
 import com.hedera.services.state.expiry.ExpiryManager;
 import com.hedera.services.state.exports.SignedStateBalancesExporter;
+import com.hedera.services.state.exports.StreamingAccountsExporter;
+import com.hedera.services.state.hashing.ParallelChildDigester;
 import com.hedera.services.state.initialization.BackedSystemAccountsCreator;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleDiskFs;
@@ -59,7 +61,9 @@ import com.hedera.services.state.merkle.MerkleTokenRelStatus;
 import com.hedera.services.state.merkle.MerkleTopic;
 import com.hedera.services.context.domain.trackers.ConsensusStatusCounts;
 import com.hedera.services.context.domain.trackers.IssEventInfo;
+import com.hedera.services.context.primitives.SignedStateViews;
 import com.hedera.services.context.primitives.StateView;
+import com.hedera.services.context.primitives.StateViewProjections;
 import com.hedera.services.context.properties.PropertySource;
 import com.hedera.services.context.properties.PropertySources;
 import com.hedera.services.contracts.execution.SolidityLifecycle;
@@ -74,7 +78,9 @@ import com.hedera.services.files.interceptors.FeeSchedulesManager;
 import com.hedera.services.files.interceptors.TxnAwareRatesManager;
 import com.hedera.services.files.interceptors.ValidatingCallbackInterceptor;
 import com.hedera.services.files.store.FcBlobsBytesStore;
+import com.hedera.services.grpc.AccountBalancesService;
 import com.hedera.services.grpc.NettyGrpcServerManager;
+import com.hedera.services.grpc.ReceiptSubscriptionService;
 import com.hedera.services.grpc.controllers.ConsensusController;
 import com.hedera.services.grpc.controllers.CryptoController;
 import com.hedera.services.grpc.controllers.FileController;
@@ -93,6 +99,7 @@ import com.hedera.services.state.submerkle.RichInstant;
 import com.hedera.services.state.submerkle.SequenceNumber;
 import com.hedera.services.state.validation.BasedLedgerValidator;
 import com.hedera.services.stats.HapiOpCounters;
+import com.hedera.services.stats.HapiOpLatencies;
 import com.hedera.services.stats.MiscRunningAvgs;
 import com.hedera.services.stats.MiscSpeedometers;
 import com.hedera.services.stats.ServicesStatsManager;
@@ -101,18 +108,23 @@ import com.hedera.services.stream.RecordsRunningHashLeaf;
 import com.hedera.services.throttling.BucketThrottling;
 import com.hedera.services.throttling.TransactionThrottling;
 import com.hedera.services.store.tokens.HederaTokenStore;
+import com.hedera.services.txns.ConflictFreeGroups;
+import com.hedera.services.txns.PreparedTxns;
 import com.hedera.services.txns.TransitionLogicLookup;
 import com.hedera.services.txns.submission.PlatformSubmissionManager;
 import com.hedera.services.txns.submission.TxnHandlerSubmissionFlow;
 import com.hedera.services.txns.submission.TxnResponseHelper;
 import com.hedera.services.txns.validation.ContextOptionValidator;
 import com.hedera.services.queries.answering.AnswerFunctions;
+import com.hedera.services.queries.answering.QueryExecutors;
 import com.hedera.services.queries.answering.QueryResponseHelper;
 import com.hedera.services.queries.crypto.CryptoAnswers;
 import com.hedera.services.queries.meta.MetaAnswers;
 import com.hedera.services.records.TxnAwareRecordsHistorian;
 import com.hedera.services.records.RecordCache;
+import com.hedera.services.records.ReceiptSubscriptions;
 import com.hedera.services.sigs.order.HederaSigningOrder;
+import com.hedera.services.sigs.order.SigningOrderPlans;
 import com.hedera.services.sigs.verification.PrecheckVerifier;
 import com.hedera.services.sigs.verification.SyncVerifier;
 import com.hedera.services.state.migration.StdStateMigrations;
@@ -124,7 +136,6 @@ import com.hedera.services.legacy.handler.TransactionHandler;
 import com.hedera.services.contracts.sources.LedgerAccountsSource;
 import com.hedera.services.contracts.sources.BlobStorageSource;
 import com.hedera.services.legacy.services.state.AwareProcessLogic;
-import com.hedera.services.legacy.services.utils.DefaultAccountsExporter;
 import com.swirlds.common.Address;
 import com.swirlds.common.AddressBook;
 import com.swirlds.common.Console;
@@ -220,6 +231,15 @@ public class ServicesContextTest {
 		given(newState.storage()).willReturn(newStorage);
 		given(newState.tokenAssociations()).willReturn(newTokenRels);
 		given(newState.scheduleTxs()).willReturn(newSchedules);
+		// and:
+		var oldBook = mock(AddressBook.class);
+		given(state.addressBook()).willReturn(oldBook);
+		var newBook = mock(AddressBook.class);
+		var address = mock(Address.class);
+		given(address.getMemo()).willReturn("0.0.3");
+		given(newBook.getSize()).willReturn(1);
+		given(newBook.getAddress(0)).willReturn(address);
+		given(newState.addressBook()).willReturn(newBook);
 		// given:
 		var subject = new ServicesContext(nodeId, platform, state, propertySources);
 		// and:
@@ -229,6 +249,8 @@ public class ServicesContextTest {
 		var tokensRef = subject.queryableTokens();
 		var tokenRelsRef = subject.queryableTokenAssociations();
 		var schedulesRef = subject.queryableSchedules();
+		var initialPlansVersion = subject.signingOrderPlans().currentVersion();
+		var initialNumberOfNodes = subject.nodeInfo().numberOfNodes();
 
 		// when:
 		subject.update(newState);
@@ -248,6 +270,10 @@ public class ServicesContextTest {
 		assertSame(newTokens, subject.queryableTokens().get());
 		assertSame(newTokenRels, subject.queryableTokenAssociations().get());
 		assertSame(newSchedules, subject.queryableSchedules().get());
+		// and:
+		assertEquals(initialPlansVersion + 1, subject.signingOrderPlans().currentVersion());
+		assertEquals(0, initialNumberOfNodes);
+		assertEquals(1, subject.nodeInfo().numberOfNodes());
 	}
 
 	@Test
@@ -266,6 +292,7 @@ public class ServicesContextTest {
 		subject.topics();
 		subject.storage();
 		subject.accounts();
+		subject.savedStateVersion();
 
 		// then:
 		inOrder.verify(state).addressBook();
@@ -275,6 +302,7 @@ public class ServicesContextTest {
 		inOrder.verify(state).topics();
 		inOrder.verify(state).storage();
 		inOrder.verify(state).accounts();
+		inOrder.verify(state).getDeserializedVersion();
 	}
 
 	@Test
@@ -379,6 +407,9 @@ public class ServicesContextTest {
 		given(address.getStake()).willReturn(1_234_567L);
 		given(book.getAddress(1L)).willReturn(address);
 		given(state.addressBook()).willReturn(book);
+		given(properties.getIntProperty("queries.executor.freeThreads")).willReturn(1);
+		given(properties.getIntProperty("queries.executor.paidThreads")).willReturn(1);
+		given(properties.getIntProperty("queries.executor.queueCapacity")).willReturn(1);
 
 		// given:
 		ServicesContext ctx = new ServicesContext(nodeId, platform, state, propertySources);
@@ -395,6 +426,9 @@ public class ServicesContextTest {
 		assertThat(ctx.ids(), instanceOf(SeqNoEntityIdSource.class));
 		assertThat(ctx.fees(), instanceOf(UsageBasedFeeCalculator.class));
 		assertThat(ctx.grpc(), instanceOf(NettyGrpcServerManager.class));
+		assertThat(ctx.receiptSubscriptions(), instanceOf(ReceiptSubscriptions.class));
+		assertThat(ctx.receiptSubscriptionService(), instanceOf(ReceiptSubscriptionService.class));
+		assertThat(ctx.accountBalancesService(), instanceOf(AccountBalancesService.class));
 		assertThat(ctx.ledger(), instanceOf(HederaLedger.class));
 		assertThat(ctx.txnCtx(), instanceOf(AwareTransactionContext.class));
 		assertThat(ctx.keyOrder(), instanceOf(HederaSigningOrder.class));
@@ -409,6 +443,8 @@ public class ServicesContextTest {
 		assertThat(ctx.storage(), instanceOf(FCMap.class));
 		assertThat(ctx.metaAnswers(), instanceOf(MetaAnswers.class));
 		assertThat(ctx.stateViews().get(), instanceOf(StateView.class));
+		assertSame(ctx.stateViews().get(), ctx.stateViews().get());
+		assertThat(ctx.stateViewProjections(), instanceOf(StateViewProjections.class));
 		assertThat(ctx.fileNums(), instanceOf(FileNumbers.class));
 		assertThat(ctx.accountNums(), instanceOf(AccountNumbers.class));
 		assertThat(ctx.usagePrices(), instanceOf(AwareFcfsUsagePrices.class));
@@ -434,9 +470,16 @@ public class ServicesContextTest {
 		assertThat(ctx.queryFeeCheck(), instanceOf(QueryFeeCheck.class));
 		assertThat(ctx.queryableTopics(), instanceOf(AtomicReference.class));
 		assertThat(ctx.transitionLogic(), instanceOf(TransitionLogicLookup.class));
+		assertThat(ctx.preparedTxns(), instanceOf(PreparedTxns.class));
+		assertThat(ctx.conflictFreeGroups(), instanceOf(ConflictFreeGroups.class));
+		assertThat(ctx.signedStateViews(), instanceOf(SignedStateViews.class));
+		assertThat(ctx.queryExecutors(), instanceOf(QueryExecutors.class));
 		assertThat(ctx.precheckVerifier(), instanceOf(PrecheckVerifier.class));
 		assertThat(ctx.apiPermissionsReloading(), instanceOf(ValidatingCallbackInterceptor.class));
 		assertThat(ctx.applicationPropertiesReloading(), instanceOf(ValidatingCallbackInterceptor.class));
+		assertThat(ctx.addressBookRefreshing(), instanceOf(ValidatingCallbackInterceptor.class));
+		assertThat(ctx.nodeDetailsRefreshing(), instanceOf(ValidatingCallbackInterceptor.class));
+		assertThat(ctx.nodeInfo(), instanceOf(NodeInfo.class));
 		assertThat(ctx.recordsHistorian(), instanceOf(TxnAwareRecordsHistorian.class));
 		assertThat(ctx.queryableAccounts(), instanceOf(AtomicReference.class));
 		assertThat(ctx.txnChargingPolicy(), instanceOf(TxnFeeChargingPolicy.class));
@@ -451,6 +494,8 @@ public class ServicesContextTest {
 		assertThat(ctx.newPureRepo(), instanceOf(Supplier.class));
 		assertThat(ctx.exchangeRatesManager(), instanceOf(TxnAwareRatesManager.class));
 		assertThat(ctx.lookupRetryingKeyOrder(), instanceOf(HederaSigningOrder.class));
+		assertThat(ctx.signingOrderPlans(), instanceOf(SigningOrderPlans.class));
+		assertThat(ctx.childDigester(), instanceOf(ParallelChildDigester.class));
 		assertThat(ctx.soliditySigsVerifier(), instanceOf(TxnAwareSoliditySigsVerifier.class));
 		assertThat(ctx.expiries(), instanceOf(ExpiryManager.class));
 		assertThat(ctx.creator(), instanceOf(ExpiringCreations.class));
@@ -474,6 +519,7 @@ public class ServicesContextTest {
 		assertThat(ctx.exchange(), instanceOf(AwareHbarCentExchange.class));
 		assertThat(ctx.stateMigrations(), instanceOf(StdStateMigrations.class));
 		assertThat(ctx.opCounters(), instanceOf(HapiOpCounters.class));
+		assertThat(ctx.opLatencies(), instanceOf(HapiOpLatencies.class));
 		assertThat(ctx.runningAvgs(), instanceOf(MiscRunningAvgs.class));
 		assertThat(ctx.speedometers(), instanceOf(MiscSpeedometers.class));
 		assertThat(ctx.statsManager(), instanceOf(ServicesStatsManager.class));
@@ -488,7 +534,7 @@ public class ServicesContextTest {
 		// and expect legacy:
 		assertThat(ctx.txns(), instanceOf(TransactionHandler.class));
 		assertThat(ctx.contracts(), instanceOf(SmartContractRequestHandler.class));
-		assertThat(ctx.accountsExporter(), instanceOf(DefaultAccountsExporter.class));
+		assertThat(ctx.accountsExporter(), instanceOf(StreamingAccountsExporter.class));
 		assertThat(ctx.freeze(), instanceOf(FreezeHandler.class));
 		assertThat(ctx.logic(), instanceOf(AwareProcessLogic.class));
 	}
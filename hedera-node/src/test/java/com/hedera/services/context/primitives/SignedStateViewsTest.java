@@ -0,0 +1,158 @@
+package com.hedera.services.context.primitives;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.ServicesState;
+import com.hedera.services.stats.MiscRunningAvgs;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.any;
+import static org.mockito.BDDMockito.anyDouble;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.times;
+import static org.mockito.BDDMockito.verify;
+
+class SignedStateViewsTest {
+	Instant consensusTime = Instant.ofEpochSecond(1_234_567L);
+
+	StateView liveView;
+	StateView firstView;
+	StateView secondView;
+	ServicesState firstState;
+	ServicesState secondState;
+	MiscRunningAvgs runningAvgs;
+	StateViewProjections projections;
+	Supplier<StateView> liveViews;
+	Function<ServicesState, StateView> viewFactory;
+
+	SignedStateViews subject;
+
+	@BeforeEach
+	private void setup() {
+		liveView = mock(StateView.class);
+		firstView = mock(StateView.class);
+		secondView = mock(StateView.class);
+		firstState = mock(ServicesState.class);
+		secondState = mock(ServicesState.class);
+		runningAvgs = mock(MiscRunningAvgs.class);
+		projections = mock(StateViewProjections.class);
+		liveViews = () -> liveView;
+		viewFactory = mock(Function.class);
+		given(viewFactory.apply(firstState)).willReturn(firstView);
+		given(viewFactory.apply(secondState)).willReturn(secondView);
+
+		subject = new SignedStateViews(true, runningAvgs, projections, liveViews, viewFactory);
+	}
+
+	@Test
+	public void usesLiveViewBeforeFirstSignedState() {
+		// when:
+		try (var snapshot = subject.reserveLatest()) {
+			// then:
+			assertSame(liveView, snapshot.view());
+			assertTrue(snapshot.consensusTime().isEmpty());
+		}
+		// and:
+		verify(runningAvgs, never()).recordQuerySignedStateAgeMs(anyDouble());
+	}
+
+	@Test
+	public void usesLatestSignedStateAndRecordsItsAge() {
+		// given:
+		subject.update(firstState, consensusTime);
+
+		// when:
+		try (var snapshot = subject.reserveLatest()) {
+			// then:
+			assertSame(firstView, snapshot.view());
+			assertEquals(Optional.of(consensusTime), snapshot.consensusTime());
+		}
+		// and:
+		verify(firstState).incrementReferenceCount();
+		verify(firstState, never()).decrementReferenceCount();
+		verify(runningAvgs).recordQuerySignedStateAgeMs(anyDouble());
+	}
+
+	@Test
+	public void releasesRetiredSignedStateWhenUnreserved() {
+		// given:
+		subject.update(firstState, consensusTime);
+
+		// when:
+		subject.update(secondState, consensusTime.plusSeconds(1));
+
+		// then:
+		verify(firstState).decrementReferenceCount();
+		verify(secondState, never()).decrementReferenceCount();
+		verify(projections, times(2)).clear();
+	}
+
+	@Test
+	public void keepsRetiredSignedStateUntilLastQueryCloses() {
+		// given:
+		subject.update(firstState, consensusTime);
+		var reserved = subject.reserveLatest();
+
+		// when:
+		subject.update(secondState, consensusTime.plusSeconds(1));
+
+		// then:
+		verify(firstState, never()).decrementReferenceCount();
+		assertSame(firstView, reserved.view());
+		try (var snapshot = subject.reserveLatest()) {
+			assertSame(secondView, snapshot.view());
+		}
+
+		// and when:
+		reserved.close();
+
+		// then:
+		verify(firstState).decrementReferenceCount();
+	}
+
+	@Test
+	public void ignoresSignedStatesIfDisabled() {
+		// setup:
+		subject = new SignedStateViews(false, runningAvgs, projections, liveViews, viewFactory);
+
+		// when:
+		subject.update(firstState, consensusTime);
+
+		// then:
+		verify(firstState, never()).incrementReferenceCount();
+		verify(viewFactory, never()).apply(any());
+		verify(projections, never()).clear();
+		try (var snapshot = subject.reserveLatest()) {
+			assertSame(liveView, snapshot.view());
+		}
+	}
+}
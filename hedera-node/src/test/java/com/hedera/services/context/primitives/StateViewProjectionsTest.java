@@ -0,0 +1,235 @@
+package com.hedera.services.context.primitives;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.stats.MiscRunningAvgs;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.CryptoGetInfoResponse;
+import com.hederahashgraph.api.proto.java.TokenID;
+import com.hederahashgraph.api.proto.java.TokenInfo;
+import com.hederahashgraph.api.proto.java.TokenRelationship;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static com.hedera.test.utils.IdUtils.asAccount;
+import static com.hedera.test.utils.IdUtils.asToken;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.times;
+import static org.mockito.BDDMockito.verify;
+
+class StateViewProjectionsTest {
+	int maxEntries = 2;
+	AccountID a = asAccount("0.0.1234");
+	AccountID b = asAccount("0.0.1235");
+	AccountID c = asAccount("0.0.1236");
+	TokenID t = asToken("0.0.4321");
+	TokenID u = asToken("0.0.4322");
+	TokenRelationship tRel = TokenRelationship.newBuilder().setTokenId(t).setBalance(1L).build();
+	CryptoGetInfoResponse.AccountInfo aInfo = CryptoGetInfoResponse.AccountInfo.newBuilder()
+			.setAccountID(a)
+			.addTokenRelationships(tRel)
+			.build();
+	TokenInfo tInfo = TokenInfo.newBuilder().setTokenId(t).setSymbol("NOTHBAR").build();
+
+	AtomicInteger builds;
+	MiscRunningAvgs runningAvgs;
+
+	StateViewProjections subject;
+
+	@BeforeEach
+	private void setup() {
+		builds = new AtomicInteger();
+		runningAvgs = mock(MiscRunningAvgs.class);
+
+		subject = new StateViewProjections(maxEntries, runningAvgs);
+	}
+
+	@Test
+	public void reusesAccountInfoUntilAccountChanges() {
+		// given:
+		Function<AccountID, Optional<CryptoGetInfoResponse.AccountInfo>> projection = counting(Optional.of(aInfo));
+
+		// when:
+		var first = subject.accountInfo(a, projection);
+		var second = subject.accountInfo(a, projection);
+		// and:
+		subject.accountChanged(a);
+		var third = subject.accountInfo(a, projection);
+
+		// then:
+		assertSame(aInfo, first.get());
+		assertSame(aInfo, second.get());
+		assertSame(aInfo, third.get());
+		assertEquals(2, builds.get());
+		// and:
+		verify(runningAvgs).recordQueryProjectionLookup(true);
+		verify(runningAvgs, times(2)).recordQueryProjectionLookup(false);
+		assertEquals(1.0 / 3, subject.hitRate());
+	}
+
+	@Test
+	public void rebuildsAccountScopedProjectionsWhenRelatedTokenChanges() {
+		// given:
+		Function<AccountID, List<TokenRelationship>> projection = counting(List.of(tRel));
+
+		// when:
+		subject.tokenRels(a, projection);
+		subject.tokenChanged(u);
+		subject.tokenRels(a, projection);
+		// and:
+		subject.tokenChanged(t);
+		subject.tokenRels(a, projection);
+
+		// then:
+		assertEquals(2, builds.get());
+	}
+
+	@Test
+	public void reusesTokenInfoUntilTokenChanges() {
+		// given:
+		Function<TokenID, Optional<TokenInfo>> projection = counting(Optional.of(tInfo));
+
+		// when:
+		subject.tokenInfo(t, projection);
+		subject.tokenInfo(t, projection);
+		subject.tokenChanged(t);
+		var info = subject.tokenInfo(t, projection);
+
+		// then:
+		assertSame(tInfo, info.get());
+		assertEquals(2, builds.get());
+	}
+
+	@Test
+	public void doesntCacheMissingProjections() {
+		// given:
+		Function<TokenID, Optional<TokenInfo>> projection = counting(Optional.empty());
+
+		// when:
+		subject.tokenInfo(t, projection);
+		var info = subject.tokenInfo(t, projection);
+
+		// then:
+		assertTrue(info.isEmpty());
+		assertEquals(2, builds.get());
+		assertEquals(0, subject.size());
+	}
+
+	@Test
+	public void doesntCacheAccountProjectionIfTokenChangedMidBuild() {
+		// given:
+		Function<AccountID, List<TokenRelationship>> projection = id -> {
+			builds.incrementAndGet();
+			subject.tokenChanged(u);
+			return List.of(tRel);
+		};
+
+		// when:
+		subject.tokenRels(a, projection);
+		subject.tokenRels(a, projection);
+
+		// then:
+		assertEquals(2, builds.get());
+	}
+
+	@Test
+	public void clearDiscardsEverything() {
+		// given:
+		Function<AccountID, List<TokenRelationship>> projection = counting(List.of(tRel));
+		subject.tokenRels(a, projection);
+
+		// when:
+		subject.clear();
+		subject.tokenRels(a, projection);
+
+		// then:
+		assertEquals(2, builds.get());
+	}
+
+	@Test
+	public void evictsLeastRecentlyUsed() {
+		// given:
+		Function<AccountID, List<TokenRelationship>> projection = counting(List.of(tRel));
+
+		// when:
+		subject.tokenRels(a, projection);
+		subject.tokenRels(b, projection);
+		subject.tokenRels(a, projection);
+		subject.tokenRels(c, projection);
+		// and:
+		subject.tokenRels(a, projection);
+		subject.tokenRels(b, projection);
+
+		// then:
+		assertEquals(maxEntries, subject.size());
+		assertEquals(4, builds.get());
+	}
+
+	@Test
+	public void uncachedProjectsEveryLookup() {
+		// given:
+		Function<AccountID, Optional<CryptoGetInfoResponse.AccountInfo>> infoProjection = counting(Optional.of(aInfo));
+		Function<AccountID, List<TokenRelationship>> relsProjection = counting(List.of(tRel));
+		Function<TokenID, Optional<TokenInfo>> tokenProjection = counting(Optional.of(tInfo));
+		// and:
+		subject = StateViewProjections.UNCACHED;
+
+		// when:
+		subject.accountInfo(a, infoProjection);
+		subject.accountInfo(a, infoProjection);
+		subject.tokenRels(a, relsProjection);
+		subject.tokenRels(a, relsProjection);
+		subject.tokenInfo(t, tokenProjection);
+		subject.tokenInfo(t, tokenProjection);
+
+		// then:
+		assertEquals(6, builds.get());
+		assertEquals(0, subject.size());
+		assertEquals(0.0, subject.hitRate());
+	}
+
+	@Test
+	public void hitRateIsZeroWithoutLookups() {
+		// expect:
+		assertEquals(0.0, subject.hitRate());
+	}
+
+	@Test
+	public void stripesByLowOrderBits() {
+		// expect:
+		assertEquals(1, StateViewProjections.stripeOf(StateViewProjections.NUM_STRIPES + 1L));
+	}
+
+	private <K, V> Function<K, V> counting(V value) {
+		return ignore -> {
+			builds.incrementAndGet();
+			return value;
+		};
+	}
+}
@@ -91,8 +91,13 @@ class BootstrapPropertiesTest {
 			entry("files.softwareUpdateZip", 150L),
 			entry("grpc.port", 50211),
 			entry("grpc.tlsPort", 50212),
+			entry("hedera.accountsExportFormat", "JSON_LINES"),
+			entry("hedera.handle.batchBySecond", true),
+			entry("hedera.handle.trackConflictFreeGroups", false),
+			entry("hedera.preparedTxns.maxEntries", 65536),
 			entry("hedera.numReservedSystemEntities", 1_000L),
 			entry("hedera.profiles.active", Profile.PROD),
+			entry("hedera.recordStream.compressFiles", false),
 			entry("hedera.realm", 0L),
 			entry("hedera.recordStream.logDir", "/opt/hgcapp/recordStreams"),
 			entry("hedera.recordStream.logPeriod", 2L),
@@ -105,6 +110,7 @@ class BootstrapPropertiesTest {
 			entry("hedera.transaction.minValidityBufferSecs", 10),
 			entry("ledger.fundingAccount", 98L),
 			entry("ledger.keepRecordsInState", false),
+			entry("ledger.records.maxPurgesPerTxn", 1000),
 			entry("ledger.maxAccountNum", 100_000_000L),
 			entry("ledger.numSystemAccounts", 100),
 			entry("ledger.transfers.maxLen", 10),
@@ -116,6 +122,17 @@ class BootstrapPropertiesTest {
 			entry("precheck.account.maxLookupRetries", 10),
 			entry("precheck.account.lookupRetryBackoffIncrementMs", 10),
 			entry("queries.blob.lookupRetries", 3),
+			entry("queries.balances.maxBatchSize", 1000),
+			entry("queries.executor.freeThreads", 8),
+			entry("queries.executor.paidThreads", 8),
+			entry("queries.executor.queueCapacity", 10000),
+			entry("queries.fromSignedState", false),
+			entry("queries.projections.maxEntries", 50000),
+			entry("receipts.subscriptions.maxPerStream", 256),
+			entry("receipts.subscriptions.timeoutSecs", 30),
+			entry("receipts.subscriptions.maxPerConnection", 1024),
+			entry("receipts.subscriptions.maxPending", 65536),
+			entry("sigs.orderPlans.maxEntries", 65536),
 			entry("tokens.maxPerAccount", 1_000),
 			entry("tokens.maxSymbolUtf8Bytes", 100),
 			entry("tokens.maxTokenNameUtf8Bytes",100),
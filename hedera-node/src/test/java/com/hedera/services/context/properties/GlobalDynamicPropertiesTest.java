@@ -90,6 +90,7 @@ class GlobalDynamicPropertiesTest {
 		assertEquals(26, subject.localCallEstRetBytes());
 		assertEquals(27, subject.scheduledTxExpiryTimeSecs());
 		assertEquals(Set.of(HederaFunctionality.CryptoTransfer), subject.schedulingWhitelist());
+		assertEquals(28, subject.maxRecordPurgesPerTxn());
 	}
 
 	@Test
@@ -128,6 +129,22 @@ class GlobalDynamicPropertiesTest {
 		assertEquals(27, subject.localCallEstRetBytes());
 		assertEquals(28, subject.scheduledTxExpiryTimeSecs());
 		assertEquals(Set.of(HederaFunctionality.CryptoCreate), subject.schedulingWhitelist());
+		assertEquals(29, subject.maxRecordPurgesPerTxn());
+	}
+
+	@Test
+	public void advancesGenerationOnEachReload() {
+		givenPropsWithSeed(1);
+
+		// given:
+		subject = new GlobalDynamicProperties(numbers, properties);
+		var generation = subject.generation();
+
+		// when:
+		subject.reload();
+
+		// then:
+		assertEquals(generation + 1, subject.generation());
 	}
 
 	private void givenPropsWithSeed(int i) {
@@ -161,6 +178,7 @@ class GlobalDynamicPropertiesTest {
 		given(properties.getFunctionsProperty("scheduling.whitelist")).willReturn(i % 2 == 0
 				? Set.of(HederaFunctionality.CryptoCreate)
 				: Set.of(HederaFunctionality.CryptoTransfer));
+		given(properties.getIntProperty("ledger.records.maxPurgesPerTxn")).willReturn(i + 27);
 	}
 
 	private AccountID accountWith(long shard, long realm, long num) {
@@ -20,6 +20,7 @@ package com.hedera.services.context.properties;
  * ‍
  */
 
+import com.hedera.services.state.exports.AccountsExportFormat;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -63,7 +64,23 @@ class NodeLocalPropertiesTest {
 		assertEquals(10L, subject.recordLogPeriod());
 		Assertions.assertTrue(subject.isRecordStreamEnabled());
 		assertEquals(12, subject.recordStreamQueueCapacity());
+		Assertions.assertFalse(subject.shouldCompressRecordFiles());
 		assertEquals(13, subject.queryBlobLookupRetries());
+		assertEquals(15, subject.queryProjectionsMaxEntries());
+		assertEquals(16, subject.queryFreeThreads());
+		assertEquals(17, subject.queryPaidThreads());
+		assertEquals(18, subject.queryExecutorQueueCapacity());
+		assertEquals(19, subject.receiptSubscriptionsMaxPerStream());
+		assertEquals(20, subject.receiptSubscriptionsTimeoutSecs());
+		assertEquals(21, subject.queryBalancesMaxBatchSize());
+		assertEquals(22, subject.receiptSubscriptionsMaxPerConnection());
+		assertEquals(23, subject.receiptSubscriptionsMaxPending());
+		assertEquals(24, subject.sigsOrderPlansMaxEntries());
+		assertEquals(25, subject.preparedTxnsMaxEntries());
+		Assertions.assertFalse(subject.shouldAnswerQueriesFromSignedState());
+		assertEquals(AccountsExportFormat.BINARY, subject.accountsExportFormat());
+		Assertions.assertTrue(subject.shouldBatchHandleBySecond());
+		Assertions.assertFalse(subject.shouldTrackConflictFreeGroups());
 	}
 
 	@Test
@@ -86,7 +103,23 @@ class NodeLocalPropertiesTest {
 		assertEquals(11L, subject.recordLogPeriod());
 		Assertions.assertFalse(subject.isRecordStreamEnabled());
 		assertEquals(13, subject.recordStreamQueueCapacity());
+		Assertions.assertTrue(subject.shouldCompressRecordFiles());
 		assertEquals(14, subject.queryBlobLookupRetries());
+		assertEquals(16, subject.queryProjectionsMaxEntries());
+		assertEquals(17, subject.queryFreeThreads());
+		assertEquals(18, subject.queryPaidThreads());
+		assertEquals(19, subject.queryExecutorQueueCapacity());
+		assertEquals(20, subject.receiptSubscriptionsMaxPerStream());
+		assertEquals(21, subject.receiptSubscriptionsTimeoutSecs());
+		assertEquals(22, subject.queryBalancesMaxBatchSize());
+		assertEquals(23, subject.receiptSubscriptionsMaxPerConnection());
+		assertEquals(24, subject.receiptSubscriptionsMaxPending());
+		assertEquals(25, subject.sigsOrderPlansMaxEntries());
+		assertEquals(26, subject.preparedTxnsMaxEntries());
+		Assertions.assertTrue(subject.shouldAnswerQueriesFromSignedState());
+		assertEquals(AccountsExportFormat.JSON_LINES, subject.accountsExportFormat());
+		Assertions.assertFalse(subject.shouldBatchHandleBySecond());
+		Assertions.assertTrue(subject.shouldTrackConflictFreeGroups());
 	}
 
 	private void givenPropsWithSeed(int i) {
@@ -103,6 +136,23 @@ class NodeLocalPropertiesTest {
 		given(properties.getBooleanProperty("hedera.recordStream.isEnabled")).willReturn(i % 2 == 1);
 		given(properties.getIntProperty("hedera.recordStream.queueCapacity")).willReturn(i + 11);
 		given(properties.getIntProperty("queries.blob.lookupRetries")).willReturn(i + 12);
+		given(properties.getStringProperty("hedera.accountsExportFormat"))
+				.willReturn(AccountsExportFormat.values()[i % 2].name());
+		given(properties.getIntProperty("queries.projections.maxEntries")).willReturn(i + 14);
+		given(properties.getIntProperty("queries.executor.freeThreads")).willReturn(i + 15);
+		given(properties.getIntProperty("queries.executor.paidThreads")).willReturn(i + 16);
+		given(properties.getIntProperty("queries.executor.queueCapacity")).willReturn(i + 17);
+		given(properties.getBooleanProperty("queries.fromSignedState")).willReturn(i % 2 == 0);
+		given(properties.getIntProperty("receipts.subscriptions.maxPerStream")).willReturn(i + 18);
+		given(properties.getIntProperty("receipts.subscriptions.timeoutSecs")).willReturn(i + 19);
+		given(properties.getIntProperty("queries.balances.maxBatchSize")).willReturn(i + 20);
+		given(properties.getIntProperty("receipts.subscriptions.maxPerConnection")).willReturn(i + 21);
+		given(properties.getIntProperty("receipts.subscriptions.maxPending")).willReturn(i + 22);
+		given(properties.getIntProperty("sigs.orderPlans.maxEntries")).willReturn(i + 23);
+		given(properties.getIntProperty("hedera.preparedTxns.maxEntries")).willReturn(i + 24);
+		given(properties.getBooleanProperty("hedera.recordStream.compressFiles")).willReturn(i % 2 == 0);
+		given(properties.getBooleanProperty("hedera.handle.batchBySecond")).willReturn(i % 2 == 1);
+		given(properties.getBooleanProperty("hedera.handle.trackConflictFreeGroups")).willReturn(i % 2 == 0);
 	}
 
 	static String logDir(int num) {
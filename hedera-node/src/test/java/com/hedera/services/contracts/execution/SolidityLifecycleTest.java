@@ -22,6 +22,8 @@ package com.hedera.services.contracts.execution;
 
 import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.context.properties.PropertySource;
+import com.hedera.services.contracts.sources.LedgerAccountsSource;
+import com.hedera.services.stats.MiscRunningAvgs;
 import com.hedera.test.utils.IdUtils;
 import com.hederahashgraph.api.proto.java.ContractFunctionResult;
 import com.hederahashgraph.api.proto.java.ContractID;
@@ -37,6 +39,7 @@ import org.mockito.InOrder;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalDouble;
 
 import static com.hedera.services.contracts.execution.SolidityLifecycle.OVERSIZE_RESULT_ERROR_MSG_TPL;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.CONTRACT_EXECUTION_EXCEPTION;
@@ -58,6 +61,8 @@ class SolidityLifecycleTest {
 	GlobalDynamicProperties properties;
 	SolidityExecutor executor;
 	ServicesRepositoryRoot root;
+	LedgerAccountsSource accountSource;
+	MiscRunningAvgs runningAvgs;
 
 	SolidityLifecycle subject;
 
@@ -78,7 +83,11 @@ class SolidityLifecycleTest {
 		root = mock(ServicesRepositoryRoot.class);
 		given(root.flushStorageCacheIfTotalSizeLessThan(maxStorageKb)).willReturn(true);
 
-		subject = new SolidityLifecycle(properties);
+		accountSource = mock(LedgerAccountsSource.class);
+		given(accountSource.endCallScope()).willReturn(OptionalDouble.empty());
+		runningAvgs = mock(MiscRunningAvgs.class);
+
+		subject = new SolidityLifecycle(properties, accountSource, runningAvgs);
 	}
 
 	@Test
@@ -148,14 +157,16 @@ class SolidityLifecycleTest {
 	@Test
 	public void happyPathRuns() {
 		// setup:
-		InOrder inOrder = inOrder(root, executor);
+		InOrder inOrder = inOrder(accountSource, root, executor);
 
 		givenNoCreation();
+		given(accountSource.endCallScope()).willReturn(OptionalDouble.of(0.5));
 
 		// when:
 		var result = subject.run(executor, root);
 
 		// then:
+		inOrder.verify(accountSource).beginCallScope();
 		inOrder.verify(executor).init();
 		inOrder.verify(executor).execute();
 		inOrder.verify(executor).go();
@@ -163,11 +174,24 @@ class SolidityLifecycleTest {
 		// and:
 		inOrder.verify(root).flushStorageCacheIfTotalSizeLessThan(maxStorageKb);
 		inOrder.verify(root).flush();
+		inOrder.verify(accountSource).endCallScope();
+		verify(runningAvgs).recordEvmAccountCacheHitRatio(0.5);
 		// and:
 		Assertions.assertEquals(expected, result.getKey());
 		Assertions.assertEquals(ResponseCodeEnum.SUCCESS, result.getValue());
 	}
 
+	@Test
+	public void endsCallScopeEvenIfExecutionFails() {
+		willThrow(IllegalStateException.class).given(executor).go();
+
+		// expect:
+		Assertions.assertThrows(IllegalStateException.class, () -> subject.run(executor, root));
+		// and:
+		verify(accountSource).endCallScope();
+		verify(runningAvgs, never()).recordEvmAccountCacheHitRatio(anyDouble());
+	}
+
 	@Test
 	public void errorsOutIfCannotPersist() {
 		givenNoCreation();
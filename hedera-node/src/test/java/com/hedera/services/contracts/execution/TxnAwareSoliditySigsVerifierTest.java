@@ -24,20 +24,25 @@ import com.hedera.services.context.TransactionContext;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.keys.SyncActivationCheck;
 import com.hedera.services.sigs.verification.SyncVerifier;
+import com.hedera.services.stats.MiscRunningAvgs;
 import com.hedera.services.utils.PlatformTxnAccessor;
 import com.hedera.test.factories.scenarios.TxnHandlingScenario;
 import com.hedera.test.utils.IdUtils;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.legacy.core.jproto.JKey;
+import com.swirlds.common.crypto.TransactionSignature;
 import com.swirlds.fcmap.FCMap;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
+import static com.hedera.services.sigs.factories.PlatformSigFactory.createEd25519;
+import static com.hedera.test.factories.sigs.SigWrappers.asValid;
 import static org.mockito.BDDMockito.*;
 
 class TxnAwareSoliditySigsVerifierTest {
@@ -55,6 +60,7 @@ class TxnAwareSoliditySigsVerifierTest {
 	TransactionContext txnCtx;
 	SyncActivationCheck areActive;
 	FCMap<MerkleEntityId, MerkleAccount> accounts;
+	MiscRunningAvgs runningAvgs;
 
 	TxnAwareSoliditySigsVerifier subject;
 
@@ -84,8 +90,9 @@ class TxnAwareSoliditySigsVerifierTest {
 		given(accounts.get(MerkleEntityId.fromAccountId(smartContract))).willReturn(contract);
 
 		areActive = mock(SyncActivationCheck.class);
+		runningAvgs = mock(MiscRunningAvgs.class);
 
-		subject = new TxnAwareSoliditySigsVerifier(syncVerifier, txnCtx, areActive, () -> accounts);
+		subject = new TxnAwareSoliditySigsVerifier(syncVerifier, txnCtx, areActive, () -> accounts, runningAvgs);
 	}
 
 	@Test
@@ -149,4 +156,57 @@ class TxnAwareSoliditySigsVerifierTest {
 		// then:
 		Assertions.assertTrue(flag);
 	}
+
+	@Test
+	public void reusesSigsVerifiedDuringExpansion() {
+		// setup:
+		byte[] data = "Not really a Hedera transaction!".getBytes();
+		var reusable = createEd25519("first-pk".getBytes(), "first-sig".getBytes(), data);
+		var fresh = createEd25519("second-pk".getBytes(), "second-sig".getBytes(), data);
+		var unknownSigs = new ArrayList<>(List.of(reusable, fresh));
+		// and:
+		var expandedSigs = asValid(List.of(
+				createEd25519("first-pk".getBytes(), "first-sig".getBytes(), data),
+				createEd25519("second-pk".getBytes(), "second-sig".getBytes(), "Different data!".getBytes())));
+
+		// when:
+		subject.verifyReusingExpanded(unknownSigs, expandedSigs);
+
+		// then:
+		Assertions.assertSame(expandedSigs.get(0), unknownSigs.get(0));
+		Assertions.assertSame(fresh, unknownSigs.get(1));
+		verify(syncVerifier).verifySync(List.of(fresh));
+		verify(runningAvgs).recordContractSigLookup(true);
+		verify(runningAvgs).recordContractSigLookup(false);
+	}
+
+	@Test
+	public void skipsSyncVerifyIfAllSigsWereExpanded() {
+		// setup:
+		byte[] data = "Not really a Hedera transaction!".getBytes();
+		TransactionSignature sig = createEd25519("pk".getBytes(), "sig".getBytes(), data);
+		var unknownSigs = new ArrayList<>(List.of(sig));
+
+		// when:
+		subject.verifyReusingExpanded(unknownSigs, asValid(List.of(sig)));
+
+		// then:
+		verify(syncVerifier, never()).verifySync(any());
+	}
+
+	@Test
+	public void ignoresExpandedSigsWithUnknownStatus() {
+		// setup:
+		byte[] data = "Not really a Hedera transaction!".getBytes();
+		TransactionSignature sig = createEd25519("pk".getBytes(), "sig".getBytes(), data);
+		var unknownSigs = new ArrayList<>(List.of(sig));
+
+		// when:
+		subject.verifyReusingExpanded(
+				unknownSigs,
+				List.of(createEd25519("pk".getBytes(), "sig".getBytes(), data)));
+
+		// then:
+		verify(syncVerifier).verifySync(List.of(sig));
+	}
 }
@@ -246,4 +246,117 @@ class LedgerAccountsSourceTest {
 		verify(txnLedger).set(target, PROXY, EntityId.ofNullableAccountId(proxy));
 		verify(txnLedger).set(target, MEMO, "");
 	}
+
+	@Test
+	public void cachesReadsWithinCallScope() {
+		// setup:
+		var account = accountWith(balance, expiry, false);
+
+		given(ledger.exists(target)).willReturn(true);
+		given(ledger.get(target)).willReturn(account);
+
+		// when:
+		subject.beginCallScope();
+		var first = subject.get(key);
+		var second = subject.get(key);
+		var hitRatio = subject.endCallScope();
+
+		// then:
+		assertNotSame(first, second);
+		assertEquals(BigInteger.valueOf(balance), second.getBalance());
+		assertEquals(13257, second.getAccountNum());
+		verify(ledger, times(1)).get(target);
+		assertEquals(0.5, hitRatio.getAsDouble());
+	}
+
+	@Test
+	public void cachesMissingAccountsWithinCallScope() {
+		given(ledger.exists(target)).willReturn(false);
+
+		// when:
+		subject.beginCallScope();
+		subject.get(key);
+
+		// then:
+		assertNull(subject.get(key));
+		verify(ledger, times(1)).exists(target);
+	}
+
+	@Test
+	public void readsThroughOutsideCallScope() {
+		// setup:
+		var account = accountWith(balance, expiry, false);
+
+		given(ledger.exists(target)).willReturn(true);
+		given(ledger.get(target)).willReturn(account);
+
+		// when:
+		subject.beginCallScope();
+		subject.get(key);
+		subject.endCallScope();
+		subject.get(key);
+
+		// then:
+		verify(ledger, times(2)).get(target);
+	}
+
+	@Test
+	public void hasNoHitRatioWithoutReads() {
+		// when:
+		subject.beginCallScope();
+
+		// then:
+		assertTrue(subject.endCallScope().isEmpty());
+	}
+
+	@Test
+	public void skipsCleanPutWithinCallScope() {
+		// setup:
+		var account = accountWith(balance, expiry, false);
+
+		given(ledger.exists(target)).willReturn(true);
+		given(ledger.get(target)).willReturn(account);
+
+		// given:
+		subject.beginCallScope();
+		var evmState = subject.get(key);
+
+		// when:
+		subject.put(key, evmState);
+
+		// then:
+		verify(ledger, never()).adjustBalance(any(), anyLong());
+		verify(ledger, never()).customize(any(), any());
+	}
+
+	@Test
+	public void writesDirtyPutWithinCallScopeAndRereads() {
+		// setup:
+		var account = accountWith(balance, expiry, false);
+
+		given(ledger.exists(target)).willReturn(true);
+		given(ledger.get(target)).willReturn(account);
+		given(ledger.getBalance(target)).willReturn(balance);
+
+		// given:
+		subject.beginCallScope();
+		var evmState = subject.get(key);
+		evmState.setBalance(BigInteger.valueOf(balance + 1));
+
+		// when:
+		subject.put(key, evmState);
+		subject.get(key);
+
+		// then:
+		verify(ledger).adjustBalance(target, 1L);
+		verify(ledger, times(2)).get(target);
+	}
+
+	private MerkleAccount accountWith(long balance, long expiry, boolean deleted) {
+		MerkleAccount account = mock(MerkleAccount.class);
+		given(account.getBalance()).willReturn(balance);
+		given(account.getExpiry()).willReturn(expiry);
+		given(account.isDeleted()).willReturn(deleted);
+		return account;
+	}
 }
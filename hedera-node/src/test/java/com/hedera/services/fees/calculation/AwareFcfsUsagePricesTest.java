@@ -227,6 +227,32 @@ class AwareFcfsUsagePricesTest {
 		assertEquals(nextCryptoTransferUsagePrices, actual);
 	}
 
+	@Test
+	public void installsCompiledSchedulesWithoutReadingFile() {
+		// given:
+		var compiled = CompiledUsagePrices.from(feeSchedules.toByteArray()).get();
+
+		// when:
+		subject.installPriceSchedules(compiled);
+
+		// then:
+		assertEquals(feeSchedules, subject.feeSchedules);
+		assertEquals(
+				currentCryptoTransferUsagePrices,
+				subject.pricesGiven(CryptoTransfer, Timestamp.newBuilder().setSeconds(currentExpiry - 1).build()));
+		assertEquals(
+				nextCryptoTransferUsagePrices,
+				subject.pricesGiven(CryptoTransfer, Timestamp.newBuilder().setSeconds(currentExpiry + 1).build()));
+		// and:
+		verify(hfs, never()).cat(any());
+	}
+
+	@Test
+	public void compilesNothingFromInvalidBytes() {
+		// expect:
+		assertTrue(CompiledUsagePrices.from("NONSENSE".getBytes()).isEmpty());
+	}
+
 	@Test
 	public void loadsGoodScheduleUneventfully() throws Exception {
 		// setup:
@@ -0,0 +1,201 @@
+package com.hedera.services.fees.calculation;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.protobuf.ByteString;
+import com.hedera.services.context.primitives.StateView;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.fees.calculation.consensus.txns.SubmitMessageResourceUsage;
+import com.hedera.services.utils.TxnAccessor;
+import com.hedera.test.utils.IdUtils;
+import com.hederahashgraph.api.proto.java.ConsensusSubmitMessageTransactionBody;
+import com.hederahashgraph.api.proto.java.FeeData;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import com.hederahashgraph.fee.SigValueObj;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.times;
+import static org.mockito.BDDMockito.verify;
+
+class StateIndependentUsageCacheTest {
+	TransactionID txnId = TransactionID.newBuilder()
+			.setAccountID(IdUtils.asAccount("0.0.2"))
+			.setTransactionValidStart(Timestamp.newBuilder().setSeconds(1_234_567L))
+			.build();
+	TransactionBody txn = TransactionBody.newBuilder().setTransactionID(txnId).build();
+	byte[] txnBytes = txn.toByteArray();
+	SigValueObj sigUsage = new SigValueObj(3, 2, 192);
+	FeeData firstUsage = FeeData.newBuilder().setNodedata(FeeData.getDefaultInstance().getNodedata()).build();
+	FeeData secondUsage = FeeData.getDefaultInstance();
+
+	StateView view;
+	TxnAccessor accessor;
+	GlobalDynamicProperties dynamicProperties;
+	TxnResourceUsageEstimator estimator;
+
+	StateIndependentUsageCache subject;
+
+	@BeforeEach
+	private void setup() throws Exception {
+		view = mock(StateView.class);
+		accessor = mock(TxnAccessor.class);
+		given(accessor.getTxn()).willReturn(txn);
+		given(accessor.getTxnId()).willReturn(txnId);
+		given(accessor.getTxnBytes()).willReturn(txnBytes);
+		dynamicProperties = mock(GlobalDynamicProperties.class);
+		estimator = mock(TxnResourceUsageEstimator.class);
+		given(estimator.isStateIndependent()).willReturn(true);
+		given(estimator.usageGiven(txn, sigUsage, view)).willReturn(firstUsage, secondUsage);
+
+		subject = new StateIndependentUsageCache(2, dynamicProperties);
+	}
+
+	@Test
+	public void reusesUsageForSameInputs() throws Exception {
+		// given:
+		var first = subject.usageGiven(accessor, estimator, sigUsage, view);
+
+		// when:
+		var second = subject.usageGiven(accessor, estimator, sigUsage, view);
+
+		// then:
+		assertSame(firstUsage, first);
+		assertSame(firstUsage, second);
+		verify(estimator, times(1)).usageGiven(txn, sigUsage, view);
+	}
+
+	@Test
+	public void neverCachesStateDependentUsage() throws Exception {
+		given(estimator.isStateIndependent()).willReturn(false);
+
+		// when:
+		subject.usageGiven(accessor, estimator, sigUsage, view);
+		var second = subject.usageGiven(accessor, estimator, sigUsage, view);
+
+		// then:
+		assertSame(secondUsage, second);
+		assertEquals(0, subject.size());
+	}
+
+	@Test
+	public void reEstimatesAfterPropertiesReload() throws Exception {
+		given(dynamicProperties.generation()).willReturn(1L, 2L);
+
+		// when:
+		subject.usageGiven(accessor, estimator, sigUsage, view);
+		var second = subject.usageGiven(accessor, estimator, sigUsage, view);
+
+		// then:
+		assertSame(secondUsage, second);
+	}
+
+	@Test
+	public void reEstimatesForDifferentSigUsage() throws Exception {
+		// setup:
+		var otherSigUsage = new SigValueObj(3, 1, 192);
+
+		given(estimator.usageGiven(txn, otherSigUsage, view)).willReturn(secondUsage);
+
+		// when:
+		subject.usageGiven(accessor, estimator, sigUsage, view);
+		var second = subject.usageGiven(accessor, estimator, otherSigUsage, view);
+
+		// then:
+		assertSame(secondUsage, second);
+	}
+
+	@Test
+	public void reEstimatesForDifferentBodyWithSameId() throws Exception {
+		// setup:
+		var otherTxn = txn.toBuilder().setMemo("Something else").build();
+		var otherAccessor = mock(TxnAccessor.class);
+		given(otherAccessor.getTxn()).willReturn(otherTxn);
+		given(otherAccessor.getTxnId()).willReturn(txnId);
+		given(otherAccessor.getTxnBytes()).willReturn(otherTxn.toByteArray());
+
+		given(estimator.usageGiven(otherTxn, sigUsage, view)).willReturn(secondUsage);
+
+		// when:
+		subject.usageGiven(accessor, estimator, sigUsage, view);
+		var second = subject.usageGiven(otherAccessor, estimator, sigUsage, view);
+
+		// then:
+		assertSame(secondUsage, second);
+	}
+
+	@Test
+	public void evictsEldestBeyondCapacity() throws Exception {
+		// setup:
+		var otherAccessors = new TxnAccessor[2];
+		for (int i = 0; i < otherAccessors.length; i++) {
+			var otherTxn = txn.toBuilder()
+					.setTransactionID(txnId.toBuilder().setTransactionValidStart(Timestamp.newBuilder().setSeconds(i)))
+					.build();
+			otherAccessors[i] = mock(TxnAccessor.class);
+			given(otherAccessors[i].getTxn()).willReturn(otherTxn);
+			given(otherAccessors[i].getTxnId()).willReturn(otherTxn.getTransactionID());
+			given(otherAccessors[i].getTxnBytes()).willReturn(otherTxn.toByteArray());
+		}
+
+		// when:
+		subject.usageGiven(accessor, estimator, sigUsage, view);
+		subject.usageGiven(otherAccessors[0], estimator, sigUsage, view);
+		subject.usageGiven(otherAccessors[1], estimator, sigUsage, view);
+		var again = subject.usageGiven(accessor, estimator, sigUsage, view);
+
+		// then:
+		assertEquals(2, subject.size());
+		assertSame(secondUsage, again);
+	}
+
+	@Test
+	public void givesSameUsageAsUncachedEstimator() throws Exception {
+		// setup:
+		var submitEstimator = new SubmitMessageResourceUsage();
+		var submitTxn = txn.toBuilder()
+				.setConsensusSubmitMessage(ConsensusSubmitMessageTransactionBody.newBuilder()
+						.setTopicID(IdUtils.asTopic("0.0.1234"))
+						.setMessage(ByteString.copyFromUtf8("A message")))
+				.build();
+		given(accessor.getTxn()).willReturn(submitTxn);
+		given(accessor.getTxnBytes()).willReturn(submitTxn.toByteArray());
+		// and:
+		var sameAccessor = mock(TxnAccessor.class);
+		given(sameAccessor.getTxn()).willReturn(submitTxn);
+		given(sameAccessor.getTxnId()).willReturn(txnId);
+		given(sameAccessor.getTxnBytes()).willReturn(submitTxn.toByteArray());
+
+		// when:
+		var cachedUsage = subject.usageGiven(accessor, submitEstimator, sigUsage, view);
+		var reusedUsage = subject.usageGiven(sameAccessor, submitEstimator, sigUsage, view);
+
+		// then:
+		assertEquals(submitEstimator.usageGiven(submitTxn, sigUsage, view), cachedUsage);
+		assertSame(cachedUsage, reusedUsage);
+	}
+}
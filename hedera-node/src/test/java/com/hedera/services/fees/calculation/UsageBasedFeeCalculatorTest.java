@@ -20,6 +20,7 @@ package com.hedera.services.fees.calculation;
  * ‍
  */
 
+import com.hedera.services.config.MockGlobalDynamicProps;
 import com.hedera.services.context.primitives.StateView;
 import com.hedera.services.fees.HbarCentExchange;
 import com.hedera.services.legacy.core.jproto.JKey;
@@ -68,6 +69,7 @@ import static org.mockito.BDDMockito.any;
 import static org.mockito.BDDMockito.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.times;
 import static org.mockito.BDDMockito.verify;
 import static org.mockito.BDDMockito.willThrow;
 
@@ -130,7 +132,8 @@ class UsageBasedFeeCalculatorTest {
 				exchange,
 				usagePrices,
 				List.of(incorrectQueryEstimator, correctQueryEstimator),
-				txnUsageEstimators);
+				txnUsageEstimators,
+				new StateIndependentUsageCache(new MockGlobalDynamicProps()));
 	}
 
 	@Test
@@ -409,6 +412,39 @@ class UsageBasedFeeCalculatorTest {
 		assertEquals(fees.getServiceFee(), expectedFees.getServiceFee());
 	}
 
+	@Test
+	public void reusesStateIndependentUsageEstimatedBeforeConsensus() throws Exception {
+		// setup:
+		SigValueObj expectedSigUsage = new SigValueObj(
+				FeeBuilder.getSignatureCount(signedTxn),
+				9,
+				FeeBuilder.getSignatureSize(signedTxn));
+		FeeObject expectedFees = FeeBuilder.getFeeObject(currentPrices, resourceUsage, currentRate);
+
+		given(correctOpEstimator.applicableTo(accessor.getTxn())).willReturn(true);
+		given(correctOpEstimator.isStateIndependent()).willReturn(true);
+		given(txnUsageEstimators.apply(CryptoCreate)).willReturn(List.of(correctOpEstimator));
+		given(correctOpEstimator.usageGiven(
+				argThat(accessor.getTxn()::equals),
+				argThat(factory.apply(expectedSigUsage)),
+				argThat(view::equals))).willReturn(resourceUsage);
+		given(exchange.rate(at)).willReturn(currentRate);
+		given(exchange.activeRate()).willReturn(currentRate);
+		given(usagePrices.pricesGiven(CryptoCreate, at)).willReturn(currentPrices);
+
+		// given:
+		subject.estimateFee(accessor, payerKey, view, at);
+
+		// when:
+		FeeObject fees = subject.computeFee(new SignedTxnAccessor(signedTxn), payerKey, view);
+
+		// then:
+		verify(correctOpEstimator, times(1)).usageGiven(any(), any(), any());
+		assertEquals(fees.getNodeFee(), expectedFees.getNodeFee());
+		assertEquals(fees.getNetworkFee(), expectedFees.getNetworkFee());
+		assertEquals(fees.getServiceFee(), expectedFees.getServiceFee());
+	}
+
 	private Function<SigValueObj, ArgumentMatcher<SigValueObj>> factory = expectedSigUsage -> sigUsage ->
 			expectedSigUsage.getSignatureSize() == sigUsage.getSignatureSize()
 					&& expectedSigUsage.getPayerAcctSigCount() == sigUsage.getPayerAcctSigCount()
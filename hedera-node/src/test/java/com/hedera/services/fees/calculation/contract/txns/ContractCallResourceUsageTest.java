@@ -58,6 +58,12 @@ class ContractCallResourceUsageTest {
 		assertFalse(subject.applicableTo(nonContractCallTxn));
 	}
 
+	@Test
+	public void isNotStateIndependent() {
+		// expect:
+		assertFalse(subject.isStateIndependent());
+	}
+
 	@Test
 	public void delegatesToCorrectEstimate() throws Exception {
 		// when:
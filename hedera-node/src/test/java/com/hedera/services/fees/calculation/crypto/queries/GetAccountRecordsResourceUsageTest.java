@@ -37,6 +37,7 @@ import com.hederahashgraph.fee.CryptoFeeBuilder;
 import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.swirlds.fcmap.FCMap;
+import com.swirlds.fcqueue.FCQueue;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -65,8 +66,10 @@ class GetAccountRecordsResourceUsageTest {
 	@BeforeEach
 	private void setup() throws Throwable {
 		aValue = MerkleAccountFactory.newAccount().get();
-		aValue.records().offer(recordOne());
-		aValue.records().offer(recordTwo());
+		FCQueue<ExpirableTxnRecord> records = new FCQueue<>();
+		records.offer(recordOne());
+		records.offer(recordTwo());
+		aValue.setRecords(records);
 		usageEstimator = mock(CryptoFeeBuilder.class);
 		accounts = mock(FCMap.class);
 		nodeProps = mock(NodeLocalProperties.class);
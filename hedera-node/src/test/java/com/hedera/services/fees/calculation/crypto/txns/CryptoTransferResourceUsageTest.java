@@ -87,6 +87,12 @@ class CryptoTransferResourceUsageTest {
 		assertFalse(subject.applicableTo(nonCryptoTransferTxn));
 	}
 
+	@Test
+	public void declaresStateIndependence() {
+		// expect:
+		assertTrue(subject.isStateIndependent());
+	}
+
 	@Test
 	public void delegatesToCorrectEstimate() throws Exception {
 		// expect:
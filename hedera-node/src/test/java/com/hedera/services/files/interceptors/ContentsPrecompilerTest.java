@@ -0,0 +1,193 @@
+package com.hedera.services.files.interceptors;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class ContentsPrecompilerTest {
+	private List<Runnable> pending;
+	private Executor deferred;
+	private List<String> compiled;
+
+	private ContentsPrecompiler<String> subject;
+
+	@BeforeEach
+	private void setup() {
+		pending = new ArrayList<>();
+		deferred = pending::add;
+		compiled = new ArrayList<>();
+
+		subject = new ContentsPrecompiler<>("test contents", this::compileUtf8, deferred);
+	}
+
+	@Test
+	public void compilesSynchronouslyWithoutSpeculation() {
+		// when:
+		var result = subject.compile("abc".getBytes());
+
+		// then:
+		assertEquals(Optional.of("ABC"), result);
+		assertEquals(1, subject.synchronousCompiles());
+		assertEquals(0, subject.precompiledHits());
+	}
+
+	@Test
+	public void reusesMatchingSpeculation() {
+		// given:
+		subject.anticipateOverwrite("abc".getBytes());
+		pending.forEach(Runnable::run);
+
+		// when:
+		var result = subject.compile("abc".getBytes());
+
+		// then:
+		assertEquals(Optional.of("ABC"), result);
+		assertEquals(List.of("abc"), compiled);
+		assertEquals(1, subject.precompiledHits());
+		assertEquals(0, subject.synchronousCompiles());
+	}
+
+	@Test
+	public void ignoresStaleSpeculation() {
+		// given:
+		subject.anticipateOverwrite("abc".getBytes());
+		pending.forEach(Runnable::run);
+
+		// when:
+		var result = subject.compile("abd".getBytes());
+
+		// then:
+		assertEquals(Optional.of("ABD"), result);
+		assertEquals(1, subject.synchronousCompiles());
+		assertEquals(0, subject.precompiledHits());
+	}
+
+	@Test
+	public void anticipatesAppendsToLastObservedContents() {
+		// given:
+		subject.observe("ab".getBytes());
+		subject.anticipateAppend("c".getBytes());
+		pending.forEach(Runnable::run);
+
+		// when:
+		var result = subject.compile("abc".getBytes());
+
+		// then:
+		assertEquals(Optional.of("ABC"), result);
+		assertEquals(1, subject.precompiledHits());
+	}
+
+	@Test
+	public void remembersLastSynchronousCompile() {
+		// given:
+		subject.compile("abc".getBytes());
+
+		// when:
+		var result = subject.compile("abc".getBytes());
+
+		// then:
+		assertEquals(Optional.of("ABC"), result);
+		assertEquals(List.of("abc"), compiled);
+		assertEquals(1, subject.precompiledHits());
+		assertTrue(subject.lastCompileNanos() >= 0);
+	}
+
+	@Test
+	public void compilesSynchronouslyIfSpeculationWasDiscarded() {
+		// setup:
+		var pool = mock(ThreadPoolExecutor.class);
+		Runnable newer = () -> {};
+
+		subject.anticipateOverwrite("abc".getBytes());
+		// and:
+		given(pool.getQueue()).willReturn(new ArrayBlockingQueue<>(1, false, List.of(pending.get(0))));
+
+		// when:
+		ContentsPrecompiler.discardOldest(newer, pool);
+		pending.forEach(Runnable::run);
+		// and:
+		var result = subject.compile("abc".getBytes());
+
+		// then:
+		verify(pool).execute(newer);
+		assertEquals(Optional.of("ABC"), result);
+		assertEquals(List.of("abc"), compiled);
+		assertEquals(1, subject.synchronousCompiles());
+		assertEquals(0, subject.precompiledHits());
+	}
+
+	@Test
+	public void discardsNothingOnceShutDown() {
+		// setup:
+		var pool = mock(ThreadPoolExecutor.class);
+		Runnable newer = () -> {};
+
+		given(pool.isShutdown()).willReturn(true);
+
+		// when:
+		ContentsPrecompiler.discardOldest(newer, pool);
+
+		// then:
+		verify(pool, never()).getQueue();
+		verify(pool, never()).execute(newer);
+	}
+
+	@Test
+	public void speculationExecutorQueuesAtMostOne() {
+		// given:
+		var executor = (ThreadPoolExecutor) ContentsPrecompiler.newSpeculationExecutor(Executors.defaultThreadFactory());
+
+		// expect:
+		assertEquals(1, executor.getMaximumPoolSize());
+		assertEquals(1, executor.getQueue().remainingCapacity());
+
+		// cleanup:
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void propagatesInvalidContents() {
+		// expect:
+		assertTrue(subject.compile(ContentsPrecompiler.NO_CONTENTS).isEmpty());
+	}
+
+	private Optional<String> compileUtf8(byte[] contents) {
+		var s = new String(contents);
+		compiled.add(s);
+		return s.isEmpty() ? Optional.empty() : Optional.of(s.toUpperCase());
+	}
+}
@@ -20,10 +20,17 @@ package com.hedera.services.files.interceptors;
  * ‍
  */
 
-import com.hedera.services.fees.FeeCalculator;
+import com.google.protobuf.ByteString;
+import com.hedera.services.fees.calculation.CompiledUsagePrices;
+import com.hedera.services.fees.calculation.UsagePricesProvider;
 import com.hedera.services.legacy.core.jproto.JContractIDKey;
 import com.hedera.services.files.HFileMeta;
+import com.hedera.services.utils.PlatformTxnAccessor;
+import com.hederahashgraph.api.proto.java.FileAppendTransactionBody;
 import com.hederahashgraph.api.proto.java.FileID;
+import com.hederahashgraph.api.proto.java.FileUpdateTransactionBody;
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import com.hederahashgraph.api.proto.java.TransactionBody;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -37,8 +44,13 @@ import java.util.Arrays;
 import static com.hedera.services.files.interceptors.FeeSchedulesManager.OK_FOR_NOW_VERDICT;
 import static com.hedera.services.files.interceptors.FeeSchedulesManager.YES_VERDICT;
 import static com.hedera.test.utils.IdUtils.asFile;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.FileAppend;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.FileUpdate;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.any;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.mock;
 import static org.mockito.BDDMockito.never;
 import static org.mockito.BDDMockito.verify;
@@ -53,7 +65,8 @@ class FeeSchedulesManagerTest {
 	FileID feeSchedule = asFile("0.0.111");
 	FileID otherFile = asFile("0.0.911");
 
-	FeeCalculator fees;
+	UsagePricesProvider usagePrices;
+	ContentsPrecompiler<CompiledUsagePrices> precompiler;
 
 	FeeSchedulesManager subject;
 
@@ -70,9 +83,10 @@ class FeeSchedulesManagerTest {
 				new JContractIDKey(1, 2, 3),
 				Instant.now().getEpochSecond());
 
-		fees = mock(FeeCalculator.class);
+		usagePrices = mock(UsagePricesProvider.class);
+		precompiler = new ContentsPrecompiler<>("fee schedules", CompiledUsagePrices::from, Runnable::run);
 
-		subject = new FeeSchedulesManager(new MockFileNumbers(), fees);
+		subject = new FeeSchedulesManager(new MockFileNumbers(), usagePrices, precompiler);
 	}
 
 	@Test
@@ -105,7 +119,79 @@ class FeeSchedulesManagerTest {
 		subject.postUpdate(feeSchedule, validBytes);
 
 		// then:
-		verify(fees).init();
+		verify(usagePrices).installPriceSchedules(any());
+	}
+
+	@Test
+	public void reusesCompiledSchedulesFromPreUpdate() {
+		// given:
+		subject.preUpdate(feeSchedule, validBytes);
+
+		// when:
+		subject.postUpdate(feeSchedule, validBytes);
+
+		// then:
+		verify(usagePrices).installPriceSchedules(any());
+		assertEquals(1, precompiler.synchronousCompiles());
+		assertEquals(1, precompiler.precompiledHits());
+	}
+
+	@Test
+	public void usesSchedulesAnticipatedFromUpdate() {
+		// given:
+		var accessor = accessorWith(FileUpdate, TransactionBody.newBuilder()
+				.setFileUpdate(FileUpdateTransactionBody.newBuilder()
+						.setFileID(feeSchedule)
+						.setContents(ByteString.copyFrom(validBytes))));
+
+		// when:
+		subject.anticipate(accessor);
+		var verdict = subject.preUpdate(feeSchedule, validBytes);
+
+		// then:
+		assertEquals(YES_VERDICT, verdict);
+		assertEquals(0, precompiler.synchronousCompiles());
+		assertEquals(1, precompiler.precompiledHits());
+	}
+
+	@Test
+	public void usesSchedulesAnticipatedFromAppendToLastKnownContents() {
+		// setup:
+		var rest = Arrays.copyOfRange(validBytes, invalidBytes.length, validBytes.length);
+		var accessor = accessorWith(FileAppend, TransactionBody.newBuilder()
+				.setFileAppend(FileAppendTransactionBody.newBuilder()
+						.setFileID(feeSchedule)
+						.setContents(ByteString.copyFrom(rest))));
+
+		// given:
+		subject.postUpdate(feeSchedule, invalidBytes);
+
+		// when:
+		subject.anticipate(accessor);
+		subject.postUpdate(feeSchedule, validBytes);
+
+		// then:
+		verify(usagePrices).installPriceSchedules(any());
+		assertEquals(1, precompiler.precompiledHits());
+	}
+
+	@Test
+	public void ignoresIrrelevantTxnsInPreHandle() {
+		// given:
+		var otherUpdate = accessorWith(FileUpdate, TransactionBody.newBuilder()
+				.setFileUpdate(FileUpdateTransactionBody.newBuilder()
+						.setFileID(otherFile)
+						.setContents(ByteString.copyFrom(validBytes))));
+		var transfer = accessorWith(CryptoTransfer, TransactionBody.getDefaultInstance().toBuilder());
+
+		// when:
+		subject.anticipate(otherUpdate);
+		subject.anticipate(transfer);
+		subject.preUpdate(feeSchedule, validBytes);
+
+		// then:
+		assertEquals(0, precompiler.precompiledHits());
+		assertEquals(1, precompiler.synchronousCompiles());
 	}
 
 	@Test
@@ -114,7 +200,7 @@ class FeeSchedulesManagerTest {
 		subject.postUpdate(feeSchedule, invalidBytes);
 
 		// then:
-		verify(fees, never()).init();
+		verify(usagePrices, never()).installPriceSchedules(any());
 	}
 
 	@Test
@@ -123,7 +209,7 @@ class FeeSchedulesManagerTest {
 		subject.postUpdate(otherFile, validBytes);
 
 		// then:
-		verify(fees, never()).init();
+		verify(usagePrices, never()).installPriceSchedules(any());
 	}
 
 	@Test
@@ -145,4 +231,14 @@ class FeeSchedulesManagerTest {
 		// expect:
 		assertEquals(YES_VERDICT, subject.preAttrChange(feeSchedule, attr));
 	}
+
+	private PlatformTxnAccessor accessorWith(
+			HederaFunctionality function,
+			TransactionBody.Builder txn
+	) {
+		var accessor = mock(PlatformTxnAccessor.class);
+		given(accessor.getFunction()).willReturn(function);
+		given(accessor.getTxn()).willReturn(txn.build());
+		return accessor;
+	}
 }
@@ -0,0 +1,224 @@
+package com.hedera.services.grpc;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.context.primitives.SignedStateViews;
+import com.hedera.services.context.primitives.StateView;
+import com.hedera.services.queries.answering.QueryExecutors;
+import com.hedera.services.queries.crypto.GetAccountBalancesAnswer;
+import com.hedera.services.stats.HapiOpCounters;
+import com.hedera.services.stats.HapiOpLatencies;
+import com.hedera.services.stream.proto.AllAccountBalances;
+import com.hedera.services.stream.proto.SingleAccountBalances;
+import com.hedera.services.throttling.FunctionalityThrottling;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static com.hedera.services.grpc.AccountBalancesService.GET_BALANCES_METHOD;
+import static com.hedera.services.grpc.AccountBalancesService.SERVICE_NAME;
+import static com.hedera.services.utils.MiscUtils.asTimestamp;
+import static com.hedera.test.utils.IdUtils.asAccount;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoGetAccountBalance;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.BDDMockito.any;
+import static org.mockito.BDDMockito.anyBoolean;
+import static org.mockito.BDDMockito.anyInt;
+import static org.mockito.BDDMockito.anyLong;
+import static org.mockito.BDDMockito.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.times;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.BDDMockito.willAnswer;
+
+class AccountBalancesServiceTest {
+	int maxBatchSize = 2;
+	Instant consensusTime = Instant.ofEpochSecond(1_234_567L, 890);
+	AllAccountBalances request = AllAccountBalances.newBuilder()
+			.addAllAccounts(SingleAccountBalances.newBuilder().setAccountID(asAccount("0.0.2")))
+			.addAllAccounts(SingleAccountBalances.newBuilder().setAccountID(asAccount("0.0.3")))
+			.build();
+	SingleAccountBalances balances = SingleAccountBalances.newBuilder()
+			.setAccountID(asAccount("0.0.2"))
+			.setHbarBalance(1_234L)
+			.build();
+
+	StateView view;
+	QueryExecutors executors;
+	SignedStateViews stateViews;
+	SignedStateViews.Snapshot snapshot;
+	GetAccountBalancesAnswer balancesAnswer;
+	FunctionalityThrottling throttles;
+	HapiOpCounters opCounters;
+	HapiOpLatencies opLatencies;
+	StreamObserver<AllAccountBalances> observer;
+
+	AccountBalancesService subject;
+
+	@BeforeEach
+	private void setup() {
+		view = mock(StateView.class);
+		snapshot = mock(SignedStateViews.Snapshot.class);
+		given(snapshot.view()).willReturn(view);
+		given(snapshot.consensusTime()).willReturn(Optional.of(consensusTime));
+		stateViews = mock(SignedStateViews.class);
+		given(stateViews.reserveLatest()).willReturn(snapshot);
+		executors = mock(QueryExecutors.class);
+		willAnswer(invocation -> {
+			((Runnable) invocation.getArgument(1)).run();
+			return true;
+		}).given(executors).trySubmit(anyBoolean(), any());
+		balancesAnswer = mock(GetAccountBalancesAnswer.class);
+		throttles = mock(FunctionalityThrottling.class);
+		given(throttles.maxBatchSize(CryptoGetAccountBalance)).willReturn(Integer.MAX_VALUE);
+		opCounters = mock(HapiOpCounters.class);
+		opLatencies = mock(HapiOpLatencies.class);
+		observer = mock(StreamObserver.class);
+
+		subject = new AccountBalancesService(
+				maxBatchSize, executors, stateViews, balancesAnswer, throttles, opCounters, opLatencies);
+	}
+
+	@Test
+	public void definesUnaryGetBalancesMethod() {
+		// when:
+		var definition = subject.definition();
+
+		// then:
+		assertEquals(SERVICE_NAME, definition.getServiceDescriptor().getName());
+		assertNotNull(definition.getMethod(GET_BALANCES_METHOD.getFullMethodName()));
+	}
+
+	@Test
+	public void answersFromReservedSnapshotOnFreeExecutor() {
+		given(balancesAnswer.answerGiven(request, view))
+				.willReturn(AllAccountBalances.newBuilder().addAllAccounts(balances));
+		// and:
+		var expected = AllAccountBalances.newBuilder()
+				.setConsensusTimestamp(asTimestamp(consensusTime))
+				.addAllAccounts(balances)
+				.build();
+
+		// when:
+		subject.getAccountBalances(request, observer);
+
+		// then:
+		verify(throttles).shouldThrottle(CryptoGetAccountBalance, 2);
+		verify(executors).trySubmit(eq(true), any());
+		verify(observer).onNext(expected);
+		verify(observer).onCompleted();
+		verify(snapshot).close();
+		// and:
+		verify(opCounters, times(2)).countReceived(CryptoGetAccountBalance);
+		verify(opCounters, times(1)).countAnswered(CryptoGetAccountBalance);
+		verify(opLatencies).recordIngested(eq(CryptoGetAccountBalance), anyLong());
+	}
+
+	@Test
+	public void rejectsEmptyBatch() {
+		// when:
+		subject.getAccountBalances(AllAccountBalances.getDefaultInstance(), observer);
+
+		// then:
+		assertFailedWith(Status.Code.INVALID_ARGUMENT);
+		verify(throttles, never()).shouldThrottle(any(), anyInt());
+	}
+
+	@Test
+	public void rejectsOversizedBatch() {
+		// given:
+		var oversized = request.toBuilder().addAllAccounts(balances).build();
+
+		// when:
+		subject.getAccountBalances(oversized, observer);
+
+		// then:
+		assertFailedWith(Status.Code.INVALID_ARGUMENT);
+		verify(throttles, never()).shouldThrottle(any(), anyInt());
+	}
+
+	@Test
+	public void rejectsBatchBiggerThanBucketCanEverGrant() {
+		given(throttles.maxBatchSize(CryptoGetAccountBalance)).willReturn(1);
+
+		// when:
+		subject.getAccountBalances(request, observer);
+
+		// then:
+		assertFailedWith(Status.Code.INVALID_ARGUMENT);
+		verify(throttles, never()).shouldThrottle(any(), anyInt());
+		verify(opLatencies).recordIngested(eq(CryptoGetAccountBalance), anyLong());
+	}
+
+	@Test
+	public void rejectsThrottledBatch() {
+		given(throttles.shouldThrottle(CryptoGetAccountBalance, 2)).willReturn(true);
+
+		// when:
+		subject.getAccountBalances(request, observer);
+
+		// then:
+		assertFailedWith(Status.Code.RESOURCE_EXHAUSTED);
+		verify(executors, never()).trySubmit(anyBoolean(), any());
+	}
+
+	@Test
+	public void rejectsBatchIfExecutorFull() {
+		given(executors.trySubmit(anyBoolean(), any())).willReturn(false);
+
+		// when:
+		subject.getAccountBalances(request, observer);
+
+		// then:
+		assertFailedWith(Status.Code.RESOURCE_EXHAUSTED);
+		verify(stateViews, never()).reserveLatest();
+	}
+
+	@Test
+	public void failsInternallyOnSurprise() {
+		given(balancesAnswer.answerGiven(request, view)).willThrow(IllegalStateException.class);
+
+		// when:
+		subject.getAccountBalances(request, observer);
+
+		// then:
+		assertFailedWith(Status.Code.INTERNAL);
+		verify(observer, never()).onNext(any());
+		verify(snapshot).close();
+		verify(opCounters, never()).countAnswered(any());
+		verify(opLatencies).recordIngested(eq(CryptoGetAccountBalance), anyLong());
+	}
+
+	private void assertFailedWith(Status.Code code) {
+		ArgumentCaptor<Throwable> captor = ArgumentCaptor.forClass(Throwable.class);
+		verify(observer).onError(captor.capture());
+		assertEquals(code, ((StatusRuntimeException) captor.getValue()).getStatus().getCode());
+	}
+}
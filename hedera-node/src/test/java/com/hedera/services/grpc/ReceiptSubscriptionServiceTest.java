@@ -0,0 +1,122 @@
+package com.hedera.services.grpc;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.records.ReceiptSubscriptions;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import com.hederahashgraph.api.proto.java.TransactionRecord;
+import io.grpc.Attributes;
+import io.grpc.Context;
+import io.grpc.Grpc;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.hedera.services.grpc.ReceiptSubscriptionService.REMOTE_ADDR;
+import static com.hedera.services.grpc.ReceiptSubscriptionService.REMOTE_ADDR_INTERCEPTOR;
+import static com.hedera.services.grpc.ReceiptSubscriptionService.SERVICE_NAME;
+import static com.hedera.services.grpc.ReceiptSubscriptionService.SUBSCRIBE_METHOD;
+import static com.hedera.test.utils.IdUtils.asAccount;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.verify;
+
+class ReceiptSubscriptionServiceTest {
+	TransactionID txnId = TransactionID.newBuilder().setAccountID(asAccount("0.0.2")).build();
+
+	ReceiptSubscriptions subscriptions;
+	ReceiptSubscriptions.Stream stream;
+	StreamObserver<TransactionRecord> receiptObserver;
+
+	ReceiptSubscriptionService subject;
+
+	@BeforeEach
+	private void setup() {
+		subscriptions = mock(ReceiptSubscriptions.class);
+		stream = mock(ReceiptSubscriptions.Stream.class);
+		receiptObserver = mock(StreamObserver.class);
+		given(subscriptions.newStream(null, receiptObserver)).willReturn(stream);
+
+		subject = new ReceiptSubscriptionService(subscriptions);
+	}
+
+	@Test
+	public void definesBidiStreamingSubscribeMethod() {
+		// when:
+		var definition = subject.definition();
+
+		// then:
+		assertEquals(SERVICE_NAME, definition.getServiceDescriptor().getName());
+		assertNotNull(definition.getMethod(SUBSCRIBE_METHOD.getFullMethodName()));
+		assertEquals(MethodDescriptor.MethodType.BIDI_STREAMING, SUBSCRIBE_METHOD.getType());
+	}
+
+	@Test
+	public void delegatesClientEventsToStream() {
+		// given:
+		var txnIdObserver = subject.subscribeToReceipts(receiptObserver);
+
+		// when:
+		txnIdObserver.onNext(txnId);
+		txnIdObserver.onCompleted();
+		txnIdObserver.onError(new IllegalStateException());
+
+		// then:
+		verify(stream).subscribe(txnId);
+		verify(stream).halfClose();
+		verify(stream).cancel();
+	}
+
+	@Test
+	public void keysStreamByCallerTransport() {
+		// setup:
+		var remoteAddr = new InetSocketAddress("127.0.0.1", 50211);
+		ServerCall<TransactionID, TransactionRecord> call = mock(ServerCall.class);
+		AtomicReference<Object> seen = new AtomicReference<>();
+		// and:
+		given(call.getAttributes()).willReturn(Attributes.newBuilder()
+				.set(Grpc.TRANSPORT_ATTR_REMOTE_ADDR, remoteAddr)
+				.build());
+		given(subscriptions.newStream(remoteAddr, receiptObserver)).willReturn(stream);
+
+		// when:
+		REMOTE_ADDR_INTERCEPTOR.interceptCall(call, new Metadata(), (ignore, headers) -> {
+			seen.set(REMOTE_ADDR.get());
+			subject.subscribeToReceipts(receiptObserver).onNext(txnId);
+			return new ServerCall.Listener<>() { };
+		});
+
+		// then:
+		assertSame(remoteAddr, seen.get());
+		assertNull(REMOTE_ADDR.get(Context.current()));
+		verify(stream).subscribe(txnId);
+	}
+}
@@ -20,12 +20,16 @@ package com.hedera.services.keys;
  * ‍
  */
 
+import com.hedera.services.sigs.order.HederaSigningOrder;
+import com.hedera.services.sigs.order.SigningOrderPlan;
 import com.hedera.services.utils.SignedTxnAccessor;
 import com.hedera.test.factories.keys.KeyTree;
 import com.hedera.test.factories.sigs.SigWrappers;
+import com.hedera.services.legacy.core.jproto.JEd25519Key;
 import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.legacy.core.jproto.JKeyList;
 import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import com.swirlds.common.Transaction;
 import com.swirlds.common.crypto.TransactionSignature;
 import com.swirlds.common.crypto.VerificationStatus;
 import org.junit.jupiter.api.AfterEach;
@@ -36,6 +40,8 @@ import org.junit.jupiter.api.Test;
 
 import static com.hedera.services.keys.HederaKeyActivation.ONLY_IF_SIG_IS_VALID;
 import static com.hedera.services.keys.HederaKeyActivation.aproposPkToSigMapFrom;
+import static com.hedera.services.keys.HederaKeyActivation.payerSigIsActive;
+import static com.hedera.services.sigs.Rationalization.IN_HANDLE_SUMMARY_FACTORY;
 import static com.hedera.services.keys.HederaKeyActivation.scopedPkToSigMapFrom;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -129,6 +135,26 @@ public class HederaKeyActivationTest {
 		verify(nonScheduleFactory).apply(sigs);
 	}
 
+	@Test
+	void payerActivationUsesMemoizedPlanIfPresent() {
+		// setup:
+		JKey payerKey = new JEd25519Key(pk);
+		var plan = new SigningOrderPlan(0L, List.of(payerKey), List.of(), 1);
+		var platformTxn = mock(Transaction.class);
+		var keyOrder = mock(HederaSigningOrder.class);
+		SignedTxnAccessor accessor = mock(SignedTxnAccessor.class);
+
+		given(platformTxn.getSignatures()).willReturn(List.of(VALID_SIG));
+		given(accessor.getPlatformTxn()).willReturn(platformTxn);
+		given(accessor.getFunction()).willReturn(HederaFunctionality.CryptoTransfer);
+		given(accessor.getSigningOrderPlan()).willReturn(plan);
+
+		// expect:
+		assertTrue(payerSigIsActive(accessor, keyOrder, IN_HANDLE_SUMMARY_FACTORY));
+		// and:
+		verify(keyOrder, never()).keysForPayer(any(), any());
+	}
+
 	@Test
 	void scopedMapCreationDetectsMatter() {
 		// setup:
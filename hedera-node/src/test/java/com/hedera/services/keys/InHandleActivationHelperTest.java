@@ -24,6 +24,7 @@ import com.hedera.services.legacy.core.jproto.JEd25519Key;
 import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.legacy.crypto.SignatureStatus;
 import com.hedera.services.sigs.order.HederaSigningOrder;
+import com.hedera.services.sigs.order.SigningOrderPlan;
 import com.hedera.services.sigs.order.SigningOrderResult;
 import com.hedera.services.utils.PlatformTxnAccessor;
 import com.hedera.test.utils.IdUtils;
@@ -191,6 +192,26 @@ class InHandleActivationHelperTest {
 		verify(keyOrderer, times(1)).keysForOtherParties(any(), any());
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void usesMemoizedPlanKeysWithoutRelisting() {
+		// setup:
+		BiPredicate<JKey, TransactionSignature> tests = (BiPredicate<JKey, TransactionSignature>) mock(BiPredicate.class);
+		var plan = new SigningOrderPlan(0L, List.of(other), List.of(other), 2);
+
+		given(accessor.getSigningOrderPlan()).willReturn(plan);
+		given(sigsFnSource.apply(any())).willReturn(nonScheduleSigsFn);
+		given(activation.test(other, nonScheduleSigsFn, tests, DEFAULT_ACTIVATION_CHARACTERISTICS)).willReturn(true);
+
+		// when:
+		boolean ans = subject.areOtherPartiesActive(tests);
+
+		// then:
+		assertTrue(ans);
+		// and:
+		verify(keyOrderer, never()).keysForOtherParties(any(), any());
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	public void usesExpectedKeysForScheduled() {
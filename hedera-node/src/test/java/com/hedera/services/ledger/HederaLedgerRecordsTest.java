@@ -20,6 +20,7 @@ package com.hedera.services.ledger;
  * ‍
  */
 
+import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.submerkle.ExpirableTxnRecord;
 import com.swirlds.fcqueue.FCQueue;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,8 +32,11 @@ import java.util.stream.Collectors;
 import static com.hedera.services.ledger.properties.AccountProperty.RECORDS;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.mock;
 import static org.mockito.BDDMockito.verify;
 
 public class HederaLedgerRecordsTest extends BaseHederaLedgerTest {
@@ -68,4 +72,49 @@ public class HederaLedgerRecordsTest extends BaseHederaLedgerTest {
 						.collect(Collectors.toList()),
 				contains(100L, 50L, 200L, 311L, 1_000L));
 	}
+
+	@Test
+	public void addsFirstPayerRecordToNewQueue() {
+		// setup:
+		FCQueue<ExpirableTxnRecord> immutableEmpty = MerkleAccount.IMMUTABLE_EMPTY_FCQ;
+		addPayerRecords(misc, immutableEmpty);
+		// and:
+		ExpirableTxnRecord newRecord = asExpirableRecords(1_000L).peek();
+
+		// when:
+		subject.addRecord(misc, newRecord);
+
+		// then:
+		ArgumentCaptor<FCQueue> captor = ArgumentCaptor.forClass(FCQueue.class);
+		verify(accountsLedger).set(
+				argThat(misc::equals),
+				argThat(RECORDS::equals),
+				captor.capture());
+		// and:
+		assertNotSame(immutableEmpty, captor.getValue());
+		assertTrue(immutableEmpty.isEmpty());
+		assertThat(
+				((FCQueue<ExpirableTxnRecord>) captor.getValue())
+						.stream()
+						.map(ExpirableTxnRecord::getExpiry)
+						.collect(Collectors.toList()),
+				contains(1_000L));
+	}
+
+	@Test
+	public void neverReplacesAnAttachedQueue() {
+		// setup:
+		FCQueue<ExpirableTxnRecord> attached = mock(FCQueue.class);
+		ExpirableTxnRecord newRecord = asExpirableRecords(1_000L).peek();
+		given(attached.isImmutable()).willReturn(true);
+		given(attached.peek()).willReturn(newRecord);
+		addPayerRecords(misc, attached);
+
+		// when:
+		subject.addRecord(misc, newRecord);
+
+		// then:
+		verify(attached).offer(newRecord);
+		verify(accountsLedger).set(misc, RECORDS, attached);
+	}
 }
@@ -0,0 +1,170 @@
+package com.hedera.services.ledger;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hederahashgraph.api.proto.java.AccountAmount;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.TransferList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.hedera.test.utils.IdUtils.asAccount;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NetTransfersTest {
+	AccountID a = asAccount("0.0.2");
+	AccountID b = asAccount("0.0.3");
+	AccountID c = asAccount("0.0.4");
+	AccountID otherRealmA = asAccount("0.1.2");
+
+	NetTransfers subject;
+
+	@BeforeEach
+	private void setup() {
+		subject = new NetTransfers(2);
+	}
+
+	@Test
+	public void nettsAndOrdersCanonically() {
+		// when:
+		subject.adjust(c, -10L);
+		subject.adjust(otherRealmA, 4L);
+		subject.adjust(a, 5L);
+		subject.adjust(b, 1L);
+		subject.adjust(c, 1L);
+		subject.adjust(b, -1L);
+
+		// then:
+		assertEquals(xfers(a, 5L, otherRealmA, 4L, c, -9L), subject.toTransferList());
+		assertTrue(subject.isNetZero());
+		assertEquals(4, subject.size());
+	}
+
+	@Test
+	public void reusesCanonicalListUntilAdjusted() {
+		// given:
+		subject.adjust(a, 1L);
+		subject.adjust(b, -1L);
+
+		// when:
+		var first = subject.toTransferList();
+		var second = subject.toTransferList();
+		subject.adjust(a, 0L);
+		var third = subject.toTransferList();
+
+		// then:
+		assertSame(first, second);
+		assertNotSame(first, third);
+		assertEquals(first, third);
+	}
+
+	@Test
+	public void forgetsAccounts() {
+		// given:
+		subject.adjust(a, 1L);
+		subject.adjust(b, -1L);
+		subject.toTransferList();
+
+		// when:
+		subject.forget(b);
+		subject.forget(c);
+
+		// then:
+		assertEquals(xfers(a, 1L), subject.toTransferList());
+		assertFalse(subject.isNetZero());
+	}
+
+	@Test
+	public void clearsEverything() {
+		// given:
+		subject.adjust(a, 1L);
+		subject.adjust(b, 2L);
+		subject.adjust(c, 3L);
+
+		// when:
+		subject.clear();
+		subject.adjust(b, 7L);
+
+		// then:
+		assertEquals(xfers(b, 7L), subject.toTransferList());
+		assertEquals(1, subject.size());
+	}
+
+	@Test
+	public void wrapsOverflowingNetLikeLongAddition() {
+		// given:
+		subject.adjust(a, Long.MAX_VALUE);
+
+		// when:
+		subject.adjust(a, 1L);
+
+		// then:
+		assertEquals(xfers(a, Long.MIN_VALUE), subject.toTransferList());
+	}
+
+	@Test
+	public void netZeroIsExact() {
+		// when:
+		subject.adjust(a, Long.MAX_VALUE);
+		subject.adjust(b, 2L);
+		subject.adjust(c, -Long.MAX_VALUE);
+		// then:
+		assertFalse(subject.isNetZero());
+
+		// and when:
+		subject.adjust(otherRealmA, -2L);
+		// then:
+		assertTrue(subject.isNetZero());
+	}
+
+	@Test
+	public void sortsManyAccountsIntoCanonicalOrder() {
+		// given:
+		var expected = TransferList.newBuilder();
+		for (long num = 1_000L; num < 1_200L; num++) {
+			expected.addAccountAmounts(AccountAmount.newBuilder()
+					.setAccountID(AccountID.newBuilder().setAccountNum(num))
+					.setAmount(num));
+		}
+
+		// when:
+		for (long num = 1_199L; num >= 1_000L; num--) {
+			subject.adjust(AccountID.newBuilder().setAccountNum(num).build(), num);
+		}
+
+		// then:
+		assertEquals(expected.build(), subject.toTransferList());
+	}
+
+	private TransferList xfers(Object... idsAndAmounts) {
+		var list = TransferList.newBuilder();
+		for (int i = 0; i < idsAndAmounts.length; i += 2) {
+			list.addAccountAmounts(AccountAmount.newBuilder()
+					.setAccountID((AccountID) idsAndAmounts[i])
+					.setAmount((long) idsAndAmounts[i + 1]));
+		}
+		return list.build();
+	}
+}
@@ -29,6 +29,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
+import java.util.function.Consumer;
 
 import static com.hedera.services.ledger.accounts.BackingTokenRels.asTokenRel;
 import static com.hedera.services.ledger.accounts.BackingTokenRels.readableTokenRel;
@@ -140,6 +141,22 @@ class BackingTokenRelsTest {
 		assertTrue(subject.cache.isEmpty());
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void notifiesChangeObserverWithAccountOfEveryWrittenRel() {
+		// setup:
+		Consumer<AccountID> observer = mock(Consumer.class);
+		subject = new BackingTokenRels(() -> rels, observer);
+
+		// when:
+		subject.put(asTokenRel(c, ct), cValue);
+		subject.remove(asTokenRel(a, at));
+
+		// then:
+		verify(observer).accept(c);
+		verify(observer).accept(a);
+	}
+
 	@Test
 	public void syncsFromInjectedMap() {
 		// expect:
@@ -33,6 +33,7 @@ import org.mockito.InOrder;
 
 import java.util.Collections;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.BDDMockito.*;
@@ -244,6 +245,27 @@ class FCMapBackingAccountsTest {
 		inOrder.verify(map).replace(dKey, dValue);
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void notifiesChangeObserverOfEveryWrite() {
+		// setup:
+		Consumer<AccountID> observer = mock(Consumer.class);
+		subject = new FCMapBackingAccounts(() -> map, observer);
+		subject.existingAccounts.add(a);
+
+		given(map.getForModify(aKey)).willReturn(aValue);
+
+		// when:
+		subject.getRef(a);
+		subject.flushMutableRefs();
+		subject.put(b, bValue);
+		subject.remove(a);
+
+		// then:
+		verify(observer, times(2)).accept(a);
+		verify(observer).accept(b);
+	}
+
 	@Test
 	public void returnsExpectedIds() {
 		// setup:
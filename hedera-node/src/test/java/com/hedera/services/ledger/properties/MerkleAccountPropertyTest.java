@@ -121,8 +121,10 @@ public class MerkleAccountPropertyTest {
 				.customizing(new MerkleAccount());
 		account.setTokens(origTokens);
 		account.setBalance(origBalance);
-		account.records().offer(origPayerRecords.get(0));
-		account.records().offer(origPayerRecords.get(1));
+		FCQueue<ExpirableTxnRecord> records = new FCQueue<>();
+		records.offer(origPayerRecords.get(0));
+		records.offer(origPayerRecords.get(1));
+		account.setRecords(records);
 		// and:
 		var unfrozenTokenId = IdUtils.tokenWith(123);
 		var frozenTokenId = IdUtils.tokenWith(321);
@@ -46,6 +46,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
@@ -229,6 +230,17 @@ public class TxnReceiptTest {
     );
   }
 
+  @Test
+  public void memoizesGrpcForm() {
+    final var receipt = new TxnReceipt();
+    receipt.status = "OK";
+
+    final var first = receipt.toGrpc();
+
+    assertAll(() -> assertEquals(TxnReceipt.convert(receipt), first),
+            () -> assertSame(first, receipt.toGrpc())
+    );
+  }
 
   @Test
   public void equalsDefaults() {
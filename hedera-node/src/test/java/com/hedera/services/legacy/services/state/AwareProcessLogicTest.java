@@ -21,8 +21,13 @@ package com.hedera.services.legacy.services.state;
  */
 
 import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.hedera.services.context.NodeInfo;
 import com.hedera.services.context.ServicesContext;
 import com.hedera.services.context.TransactionContext;
+import com.hedera.services.context.domain.trackers.IssEventInfo;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.context.properties.NodeLocalProperties;
 import com.hedera.services.fees.FeeCalculator;
 import com.hedera.services.fees.charging.TxnFeeChargingPolicy;
 import com.hedera.services.files.HederaFs;
@@ -34,12 +39,17 @@ import com.hedera.services.records.TxnIdRecentHistory;
 import com.hedera.services.security.ops.SystemOpAuthorization;
 import com.hedera.services.security.ops.SystemOpPolicies;
 import com.hedera.services.sigs.order.HederaSigningOrder;
+import com.hedera.services.sigs.order.SigningOrderPlans;
 import com.hedera.services.sigs.order.SigningOrderResult;
+import com.hedera.services.state.expiry.ExpiryManager;
 import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.stats.HapiOpLatencies;
 import com.hedera.services.stats.MiscRunningAvgs;
 import com.hedera.services.stats.MiscSpeedometers;
 import com.hedera.services.stream.RecordStreamManager;
 import com.hedera.services.stream.RecordStreamObject;
+import com.hedera.services.txns.ConflictFreeGroups;
+import com.hedera.services.txns.PreparedTxns;
 import com.hedera.services.txns.TransitionLogicLookup;
 import com.hedera.services.txns.validation.OptionValidator;
 import com.hedera.services.utils.PlatformTxnAccessor;
@@ -51,8 +61,6 @@ import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.hederahashgraph.api.proto.java.TransactionID;
 import com.hederahashgraph.api.proto.java.TransactionRecord;
-import com.swirlds.common.Address;
-import com.swirlds.common.AddressBook;
 import com.swirlds.common.Transaction;
 import com.swirlds.common.crypto.RunningHash;
 import org.apache.logging.log4j.LogManager;
@@ -72,13 +80,19 @@ import static org.mockito.BDDMockito.*;
 class AwareProcessLogicTest {
 	Logger mockLog;
 	Transaction platformTxn;
-	AddressBook book;
+	NodeInfo nodeInfo;
 	ServicesContext ctx;
 	TransactionContext txnCtx;
 	TransactionBody txnBody;
 	TransactionBody nonMockTxnBody;
 	SmartContractRequestHandler contracts;
 	HederaFs hfs;
+	ExpiryManager expiries;
+	AccountRecordsHistorian historian;
+	SigningOrderPlans signingOrderPlans;
+	NodeLocalProperties nodeLocalProperties;
+	MiscRunningAvgs runningAvgs;
+	PreparedTxns preparedTxns;
 
 	AwareProcessLogic subject;
 
@@ -87,10 +101,10 @@ class AwareProcessLogicTest {
 		final Transaction txn = mock(Transaction.class);
 		final PlatformTxnAccessor txnAccessor = mock(PlatformTxnAccessor.class);
 		final HederaLedger ledger = mock(HederaLedger.class);
-		final AccountRecordsHistorian historian = mock(AccountRecordsHistorian.class);
+		historian = mock(AccountRecordsHistorian.class);
 		final HederaSigningOrder keyOrder = mock(HederaSigningOrder.class);
 		final SigningOrderResult orderResult = mock(SigningOrderResult.class);
-		final MiscRunningAvgs runningAvgs = mock(MiscRunningAvgs.class);
+		runningAvgs = mock(MiscRunningAvgs.class);
 		final MiscSpeedometers speedometers = mock(MiscSpeedometers.class);
 		final FeeCalculator fees = mock(FeeCalculator.class);
 		final TxnIdRecentHistory recentHistory = mock(TxnIdRecentHistory.class);
@@ -102,6 +116,10 @@ class AwareProcessLogicTest {
 		final SystemOpPolicies policies = mock(SystemOpPolicies.class);
 		final TransitionLogicLookup lookup = mock(TransitionLogicLookup.class);
 		hfs = mock(HederaFs.class);
+		expiries = mock(ExpiryManager.class);
+		signingOrderPlans = mock(SigningOrderPlans.class);
+		nodeLocalProperties = mock(NodeLocalProperties.class);
+		final IssEventInfo issEventInfo = mock(IssEventInfo.class);
 
 		given(histories.get(any())).willReturn(recentHistory);
 
@@ -119,14 +137,11 @@ class AwareProcessLogicTest {
 
 		AwareProcessLogic.log = mockLog;
 
-		var zeroStakeAddress = mock(Address.class);
-		given(zeroStakeAddress.getStake()).willReturn(0L);
-		var stakedAddress = mock(Address.class);
-		given(stakedAddress.getStake()).willReturn(1L);
-		book = mock(AddressBook.class);
-		given(book.getAddress(1)).willReturn(stakedAddress);
-		given(book.getAddress(666L)).willReturn(zeroStakeAddress);
-		given(ctx.addressBook()).willReturn(book);
+		nodeInfo = mock(NodeInfo.class);
+		given(nodeInfo.isZeroStake(1)).willReturn(false);
+		given(nodeInfo.isZeroStake(666L)).willReturn(true);
+		given(nodeInfo.isAccountInLedger(anyLong())).willReturn(true);
+		given(ctx.nodeInfo()).willReturn(nodeInfo);
 		given(ctx.ledger()).willReturn(ledger);
 		given(ctx.txnCtx()).willReturn(txnCtx);
 		given(ctx.recordsHistorian()).willReturn(historian);
@@ -140,8 +155,16 @@ class AwareProcessLogicTest {
 		given(ctx.txnChargingPolicy()).willReturn(policy);
 		given(ctx.systemOpPolicies()).willReturn(policies);
 		given(ctx.transitionLogic()).willReturn(lookup);
+		preparedTxns = new PreparedTxns(16, lookup, mock(GlobalDynamicProperties.class));
+		given(ctx.preparedTxns()).willReturn(preparedTxns);
 		given(ctx.hfs()).willReturn(hfs);
 		given(ctx.contracts()).willReturn(contracts);
+		given(ctx.expiries()).willReturn(expiries);
+		given(ctx.signingOrderPlans()).willReturn(signingOrderPlans);
+		given(ctx.nodeLocalProperties()).willReturn(nodeLocalProperties);
+		given(ctx.issEventInfo()).willReturn(issEventInfo);
+		given(ctx.opLatencies()).willReturn(mock(HapiOpLatencies.class));
+		given(nodeLocalProperties.shouldBatchHandleBySecond()).willReturn(true);
 
 		given(txnCtx.accessor()).willReturn(txnAccessor);
 		given(txnCtx.submittingNodeAccount()).willReturn(accountID);
@@ -197,6 +220,69 @@ class AwareProcessLogicTest {
 		verify(mockLog).warn(argThat((String s) -> s.startsWith("Ignoring a transaction submitted by zero-stake")));
 	}
 
+	@Test
+	public void reusesAccessorPreparedBeforeConsensus() throws InvalidProtocolBufferException {
+		// setup:
+		var now = Instant.now();
+		var then = now.minusMillis(1L);
+
+		given(ctx.consensusTimeOfLastHandledTxn()).willReturn(then);
+		// and:
+		preparedTxns.prepare(platformTxn);
+
+		// when:
+		subject.incorporateConsensusTxn(platformTxn, now, 666);
+
+		// then:
+		verify(runningAvgs).recordPreparedTxnLookup(true);
+	}
+
+	@Test
+	public void countsUnpreparedAccessor() {
+		// setup:
+		var now = Instant.now();
+		var then = now.minusMillis(1L);
+
+		given(ctx.consensusTimeOfLastHandledTxn()).willReturn(then);
+
+		// when:
+		subject.incorporateConsensusTxn(platformTxn, now, 666);
+
+		// then:
+		verify(runningAvgs).recordPreparedTxnLookup(false);
+	}
+
+	@Test
+	public void observesConflictFreeGroupsIfTracking() {
+		// setup:
+		var now = Instant.now();
+		var groups = mock(ConflictFreeGroups.class);
+
+		given(ctx.consensusTimeOfLastHandledTxn()).willReturn(now.minusMillis(1L));
+		given(ctx.conflictFreeGroups()).willReturn(groups);
+		given(nodeLocalProperties.shouldTrackConflictFreeGroups()).willReturn(true);
+
+		// when:
+		subject.incorporateConsensusTxn(platformTxn, now, 1);
+
+		// then:
+		verify(groups).observe(any(), argThat(now::equals));
+	}
+
+	@Test
+	public void doesNotObserveConflictFreeGroupsByDefault() {
+		// setup:
+		var now = Instant.now();
+
+		given(ctx.consensusTimeOfLastHandledTxn()).willReturn(now.minusMillis(1L));
+
+		// when:
+		subject.incorporateConsensusTxn(platformTxn, now, 1);
+
+		// then:
+		verify(ctx, never()).conflictFreeGroups();
+	}
+
 	@Test
 	public void shortCircuitsWithErrorOnNonIncreasingConsensusTime() {
 		// setup:
@@ -229,6 +315,78 @@ class AwareProcessLogicTest {
 		verify(mockLog).warn(argThat((String s) -> s.startsWith("Ignoring a transaction submitted by zero-stake")));
 	}
 
+	@Test
+	public void housekeepsOnlyOncePerConsensusSecondWhenBatching() {
+		// setup:
+		var first = Instant.ofEpochSecond(1_234_567L, 1);
+		var second = first.plusNanos(1_000);
+
+		given(expiries.purgeExpiredEntitiesAt(first.getEpochSecond())).willReturn(true);
+
+		// when:
+		subject.advanceDataDrivenClockTo(first);
+		subject.advanceDataDrivenClockTo(second);
+
+		// then:
+		verify(ctx).updateConsensusTimeOfLastHandledTxn(first);
+		verify(ctx).updateConsensusTimeOfLastHandledTxn(second);
+		verify(historian, times(1)).purgeExpiredRecords();
+		verify(expiries, times(1)).purgeExpiredEntitiesAt(first.getEpochSecond());
+		verify(signingOrderPlans, times(1)).advanceVersion();
+		verify(ctx, times(1)).consensusTimeOfLastHandledTxn();
+	}
+
+	@Test
+	public void housekeepsAgainInNewConsensusSecond() {
+		// setup:
+		var first = Instant.ofEpochSecond(1_234_567L, 999_999_999);
+		var second = first.plusNanos(1);
+
+		// when:
+		subject.advanceDataDrivenClockTo(first);
+		subject.advanceDataDrivenClockTo(second);
+
+		// then:
+		verify(historian, times(2)).purgeExpiredRecords();
+		verify(expiries).purgeExpiredEntitiesAt(first.getEpochSecond());
+		verify(expiries).purgeExpiredEntitiesAt(second.getEpochSecond());
+		verify(signingOrderPlans, never()).advanceVersion();
+	}
+
+	@Test
+	public void keepsPurgingRecordsWithinSecondWhileBacklogged() {
+		// setup:
+		var first = Instant.ofEpochSecond(1_234_567L, 1);
+		var second = first.plusNanos(1_000);
+
+		given(expiries.hasExpiredRecordsBacklog()).willReturn(true);
+
+		// when:
+		subject.advanceDataDrivenClockTo(first);
+		subject.advanceDataDrivenClockTo(second);
+
+		// then:
+		verify(historian, times(2)).purgeExpiredRecords();
+		verify(expiries, times(1)).purgeExpiredEntitiesAt(first.getEpochSecond());
+	}
+
+	@Test
+	public void housekeepsForEveryTxnWithoutBatching() {
+		// setup:
+		var first = Instant.ofEpochSecond(1_234_567L, 1);
+		var second = first.plusNanos(1_000);
+
+		given(nodeLocalProperties.shouldBatchHandleBySecond()).willReturn(false);
+
+		// when:
+		subject.advanceDataDrivenClockTo(first);
+		subject.advanceDataDrivenClockTo(second);
+
+		// then:
+		verify(historian, times(2)).purgeExpiredRecords();
+		verify(expiries, times(2)).purgeExpiredEntitiesAt(first.getEpochSecond());
+	}
+
 	@Test
 	public void addForStreamingTest() {
 		//setup:
@@ -236,8 +394,7 @@ class AwareProcessLogicTest {
 		when(ctx.recordStreamManager()).thenReturn(recordStreamManager);
 
 		//when:
-		subject.addForStreaming(mock(com.hederahashgraph.api.proto.java.Transaction.class),
-				mock(TransactionRecord.class), Instant.now());
+		subject.addForStreaming(mock(PlatformTxnAccessor.class), mock(TransactionRecord.class), Instant.now());
 		//then:
 		verify(ctx).updateRecordRunningHash(any(RunningHash.class));
 		verify(recordStreamManager).addRecordStreamObject(any(RecordStreamObject.class));
@@ -214,7 +214,7 @@ public class SmartContractRequestHandlerMiscTest {
             exchange,
             TEST_USAGE_PRICES,
             () -> repository,
-            SolidityLifecycleFactory.newTestInstance(),
+            SolidityLifecycleFactory.newTestInstance(ledgerSource),
             ignore -> true,
             null,
             new MockGlobalDynamicProps());
@@ -192,7 +192,7 @@ public class SmartContractRequestHandlerPayableTest {
             exchange,
             TestUsagePricesProvider.TEST_USAGE_PRICES,
             () -> repository,
-            SolidityLifecycleFactory.newTestInstance(),
+            SolidityLifecycleFactory.newTestInstance(ledgerSource),
             ignore -> true,
             null,
             new MockGlobalDynamicProps());
@@ -197,7 +197,7 @@ public class SmartContractRequestHandlerStorageTest {
             exchange,
             TestUsagePricesProvider.TEST_USAGE_PRICES,
             () -> repository,
-            SolidityLifecycleFactory.newTestInstance(),
+            SolidityLifecycleFactory.newTestInstance(ledgerSource),
             ignore -> true,
             null,
             new MockGlobalDynamicProps());
@@ -35,6 +35,7 @@ import com.hederahashgraph.api.proto.java.TransactionRecord;
 import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.state.submerkle.ExpirableTxnRecord;
 import com.swirlds.fcmap.FCMap;
+import com.swirlds.fcqueue.FCQueue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -82,8 +83,10 @@ class AnswerFunctionsTest {
 	@BeforeEach
 	private void setup() {
 		payerAccount = MerkleAccountFactory.newAccount().get();
-		payerAccount.records().offer(recordOne());
-		payerAccount.records().offer(targetRecord);
+		FCQueue<ExpirableTxnRecord> records = new FCQueue<>();
+		records.offer(recordOne());
+		records.offer(targetRecord);
+		payerAccount.setRecords(records);
 
 		accounts = mock(FCMap.class);
 		given(accounts.get(MerkleEntityId.fromAccountId(asAccount(target)))).willReturn(payerAccount);
@@ -0,0 +1,135 @@
+package com.hedera.services.queries.answering;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.common.util.concurrent.MoreExecutors;
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.stats.MiscRunningAvgs;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.any;
+import static org.mockito.BDDMockito.anyDouble;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.BDDMockito.willThrow;
+
+class QueryExecutorsTest {
+	ExecutorService freeQueries;
+	ExecutorService paidQueries;
+	MiscRunningAvgs runningAvgs;
+
+	QueryExecutors subject;
+
+	@BeforeEach
+	private void setup() {
+		freeQueries = mock(ExecutorService.class);
+		paidQueries = mock(ExecutorService.class);
+		runningAvgs = mock(MiscRunningAvgs.class);
+
+		subject = new QueryExecutors(freeQueries, paidQueries, runningAvgs);
+	}
+
+	@Test
+	public void routesFreeAndPaidQueriesToSeparatePools() {
+		// when:
+		subject.trySubmit(true, () -> {});
+		// then:
+		verify(freeQueries).execute(any());
+		verify(paidQueries, never()).execute(any());
+
+		// and when:
+		subject.trySubmit(false, () -> {});
+		// then:
+		verify(paidQueries).execute(any());
+	}
+
+	@Test
+	public void rejectsQueriesWhenPoolIsSaturated() {
+		willThrow(RejectedExecutionException.class).given(paidQueries).execute(any());
+
+		// expect:
+		assertFalse(subject.trySubmit(false, () -> {}));
+	}
+
+	@Test
+	public void recordsQueueWaitBeforeRunningQuery() {
+		// setup:
+		var ran = new AtomicBoolean();
+
+		// given:
+		subject = new QueryExecutors(
+				MoreExecutors.newDirectExecutorService(),
+				MoreExecutors.newDirectExecutorService(),
+				runningAvgs);
+
+		// when:
+		var accepted = subject.trySubmit(true, () -> ran.set(true));
+
+		// then:
+		assertTrue(accepted);
+		assertTrue(ran.get());
+		verify(runningAvgs).recordQueryQueueWaitMs(anyDouble());
+	}
+
+	@Test
+	public void poolsFromPropertiesAreBounded() throws InterruptedException {
+		// setup:
+		var properties = mock(NodeLocalProperties.class);
+		var started = new CountDownLatch(1);
+		var release = new CountDownLatch(1);
+		Runnable blocking = () -> {
+			started.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException ignore) {
+				Thread.currentThread().interrupt();
+			}
+		};
+
+		given(properties.queryFreeThreads()).willReturn(1);
+		given(properties.queryPaidThreads()).willReturn(1);
+		given(properties.queryExecutorQueueCapacity()).willReturn(1);
+		// and:
+		subject = new QueryExecutors(properties, runningAvgs);
+
+		// when:
+		assertTrue(subject.trySubmit(true, blocking));
+		started.await();
+		assertTrue(subject.trySubmit(true, () -> {}));
+
+		// then:
+		assertFalse(subject.trySubmit(true, () -> {}));
+		assertTrue(subject.trySubmit(false, () -> {}));
+
+		// cleanup:
+		release.countDown();
+	}
+}
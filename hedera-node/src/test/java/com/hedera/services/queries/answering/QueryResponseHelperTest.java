@@ -20,9 +20,12 @@ package com.hedera.services.queries.answering;
  * ‍
  */
 
+import com.google.common.util.concurrent.MoreExecutors;
 import com.hedera.services.queries.AnswerFlow;
 import com.hedera.services.queries.AnswerService;
 import com.hedera.services.stats.HapiOpCounters;
+import com.hedera.services.stats.HapiOpLatencies;
+import com.hedera.services.stats.MiscRunningAvgs;
 import com.hederahashgraph.api.proto.java.Query;
 import com.hederahashgraph.api.proto.java.Response;
 import io.grpc.stub.StreamObserver;
@@ -30,13 +33,22 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
 
+import static com.hedera.services.context.primitives.StateView.EMPTY_VIEW;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenGetInfo;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TransactionGetReceipt;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.BUSY;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_TRANSACTION_START;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
+import static org.mockito.BDDMockito.any;
+import static org.mockito.BDDMockito.anyDouble;
+import static org.mockito.BDDMockito.anyLong;
+import static org.mockito.BDDMockito.argThat;
+import static org.mockito.BDDMockito.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.inOrder;
 import static org.mockito.BDDMockito.mock;
 import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.verify;
 
 class QueryResponseHelperTest {
 	Query query = Query.getDefaultInstance();
@@ -47,7 +59,10 @@ class QueryResponseHelperTest {
 	AnswerFlow answerFlow;
 	AnswerService answer;
 	HapiOpCounters opCounters;
+	HapiOpLatencies opLatencies;
 	StreamObserver<Response> observer;
+	MiscRunningAvgs runningAvgs;
+	QueryExecutors executors;
 
 	QueryResponseHelper subject;
 
@@ -55,18 +70,24 @@ class QueryResponseHelperTest {
 	private void setup() {
 		answerFlow = mock(AnswerFlow.class);
 		opCounters = mock(HapiOpCounters.class);
+		opLatencies = mock(HapiOpLatencies.class);
 		answer = mock(AnswerService.class);
 		observer = mock(StreamObserver.class);
 		okResponse = mock(Response.class);
 		notOkResponse = mock(Response.class);
+		runningAvgs = mock(MiscRunningAvgs.class);
+		executors = new QueryExecutors(
+				MoreExecutors.newDirectExecutorService(),
+				MoreExecutors.newDirectExecutorService(),
+				runningAvgs);
 
-		subject = new QueryResponseHelper(answerFlow, opCounters);
+		subject = new QueryResponseHelper(answerFlow, opCounters, opLatencies, executors);
 	}
 
 	@Test
 	public void helpsWithAnswerHappyPath() {
 		// setup:
-		InOrder inOrder = inOrder(answerFlow, opCounters, observer);
+		InOrder inOrder = inOrder(answerFlow, opCounters, observer, opLatencies);
 
 		given(answerFlow.satisfyUsing(answer, query)).willReturn(okResponse);
 		given(answer.extractValidityFrom(okResponse)).willReturn(OK);
@@ -80,12 +101,13 @@ class QueryResponseHelperTest {
 		inOrder.verify(observer).onNext(okResponse);
 		inOrder.verify(observer).onCompleted();
 		inOrder.verify(opCounters).countAnswered(TokenGetInfo);
+		inOrder.verify(opLatencies).recordIngested(argThat(TokenGetInfo::equals), anyLong());
 	}
 
 	@Test
 	public void helpsWithAnswerUnhappyPath() {
 		// setup:
-		InOrder inOrder = inOrder(answerFlow, opCounters, observer);
+		InOrder inOrder = inOrder(answerFlow, opCounters, observer, opLatencies);
 
 		given(answerFlow.satisfyUsing(answer, query)).willReturn(notOkResponse);
 		given(answer.extractValidityFrom(okResponse)).willReturn(INVALID_TRANSACTION_START);
@@ -99,5 +121,44 @@ class QueryResponseHelperTest {
 		inOrder.verify(observer).onNext(notOkResponse);
 		inOrder.verify(observer).onCompleted();
 		inOrder.verify(opCounters, never()).countAnswered(TokenGetInfo);
+		inOrder.verify(opLatencies).recordIngested(argThat(TokenGetInfo::equals), anyLong());
+	}
+
+	@Test
+	public void answersBusyIfExecutorsAreSaturated() {
+		// setup:
+		InOrder inOrder = inOrder(answerFlow, opCounters, observer, opLatencies);
+		executors = mock(QueryExecutors.class);
+		Response busyResponse = mock(Response.class);
+
+		given(answer.requiresNodePayment(query)).willReturn(false);
+		given(executors.trySubmit(eq(true), any())).willReturn(false);
+		given(answer.responseGiven(query, EMPTY_VIEW, BUSY, 0L)).willReturn(busyResponse);
+		given(answer.extractValidityFrom(busyResponse)).willReturn(BUSY);
+		// and:
+		subject = new QueryResponseHelper(answerFlow, opCounters, opLatencies, executors);
+
+		// when:
+		subject.answer(query, observer, answer, TransactionGetReceipt);
+
+		// then:
+		inOrder.verify(opCounters).countReceived(TransactionGetReceipt);
+		inOrder.verify(answerFlow, never()).satisfyUsing(answer, query);
+		inOrder.verify(observer).onNext(busyResponse);
+		inOrder.verify(observer).onCompleted();
+		inOrder.verify(opCounters, never()).countAnswered(TransactionGetReceipt);
+		inOrder.verify(opLatencies).recordIngested(argThat(TransactionGetReceipt::equals), anyLong());
+	}
+
+	@Test
+	public void recordsQueueWaitOfExecutedQueries() {
+		given(answerFlow.satisfyUsing(answer, query)).willReturn(okResponse);
+		given(answer.extractValidityFrom(okResponse)).willReturn(OK);
+
+		// when:
+		subject.answer(query, observer, answer, TokenGetInfo);
+
+		// then:
+		verify(runningAvgs).recordQueryQueueWaitMs(anyDouble());
 	}
 }
@@ -22,6 +22,7 @@ package com.hedera.services.queries.answering;
 
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoGetStakers;
 
+import com.hedera.services.context.primitives.SignedStateViews;
 import com.hedera.services.context.primitives.StateView;
 import com.hedera.services.fees.FeeCalculator;
 import com.hedera.services.fees.calculation.UsagePricesProvider;
@@ -45,7 +46,6 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.Optional;
-import java.util.function.Supplier;
 
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.*;
 import static com.hederahashgraph.api.proto.java.ResponseType.ANSWER_ONLY;
@@ -81,7 +81,8 @@ class StakedAnswerFlowTest {
 	FeeCalculator fees;
 	TransactionHandler legacyHandler;
 	StateView view;
-	Supplier<StateView> stateViews;
+	SignedStateViews stateViews;
+	SignedStateViews.Snapshot snapshot;
 	UsagePricesProvider resourceCosts;
 	FunctionalityThrottling throttles;
 	PlatformSubmissionManager submissionManager;
@@ -99,7 +100,10 @@ class StakedAnswerFlowTest {
 		view = mock(StateView.class);
 		throttles = mock(FunctionalityThrottling.class);
 		legacyHandler = mock(TransactionHandler.class);
-		stateViews = () -> view;
+		snapshot = mock(SignedStateViews.Snapshot.class);
+		given(snapshot.view()).willReturn(view);
+		stateViews = mock(SignedStateViews.class);
+		given(stateViews.reserveLatest()).willReturn(snapshot);
 		resourceCosts = mock(UsagePricesProvider.class);
 		usagePrices = mock(FeeData.class);
 		submissionManager = mock(PlatformSubmissionManager.class);
@@ -110,6 +114,22 @@ class StakedAnswerFlowTest {
 		subject = new StakedAnswerFlow(fees, legacyHandler, stateViews, resourceCosts, throttles, submissionManager);
 	}
 
+	@Test
+	public void answersFromReservedSnapshotAndReleasesIt() {
+		given(service.extractPaymentFrom(query)).willReturn(Optional.of(userAccessor));
+		given(throttles.shouldThrottle(CryptoGetStakers)).willReturn(false);
+		given(service.canonicalFunction()).willReturn(CryptoGetStakers);
+		given(legacyHandler.validateQuery(query, false)).willReturn(INVALID_ACCOUNT_ID);
+		given(service.responseGiven(query, view, INVALID_ACCOUNT_ID)).willReturn(response);
+
+		// when:
+		Response actual = subject.satisfyUsing(service, query);
+
+		// then:
+		assertEquals(response, actual);
+		verify(snapshot).close();
+	}
+
 	@Test
 	public void doesntThrottleExemptAccounts() {
 		// setup:
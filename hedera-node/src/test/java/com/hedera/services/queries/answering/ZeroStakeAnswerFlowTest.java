@@ -20,6 +20,7 @@ package com.hedera.services.queries.answering;
  * ‍
  */
 
+import com.hedera.services.context.primitives.SignedStateViews;
 import com.hedera.services.context.primitives.StateView;
 import com.hedera.services.legacy.handler.TransactionHandler;
 import com.hedera.services.queries.AnswerService;
@@ -30,8 +31,6 @@ import com.hederahashgraph.api.proto.java.Response;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.util.function.Supplier;
-
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoGetStakers;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.ACCOUNT_IS_NOT_GENESIS_ACCOUNT;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.BUSY;
@@ -48,7 +47,8 @@ class ZeroStakeAnswerFlowTest {
 
 	TransactionHandler legacyHandler;
 	StateView view;
-	Supplier<StateView> stateViews;
+	SignedStateViews stateViews;
+	SignedStateViews.Snapshot snapshot;
 	FunctionalityThrottling throttles;
 
 	Query query = Query.getDefaultInstance();
@@ -62,7 +62,10 @@ class ZeroStakeAnswerFlowTest {
 		view = mock(StateView.class);
 		throttles = mock(FunctionalityThrottling.class);
 		legacyHandler = mock(TransactionHandler.class);
-		stateViews = () -> view;
+		snapshot = mock(SignedStateViews.Snapshot.class);
+		given(snapshot.view()).willReturn(view);
+		stateViews = mock(SignedStateViews.class);
+		given(stateViews.reserveLatest()).willReturn(snapshot);
 
 		service = mock(AnswerService.class);
 		response = mock(Response.class);
@@ -80,6 +83,7 @@ class ZeroStakeAnswerFlowTest {
 
 		// then:
 		assertEquals(response, actual);
+		verify(snapshot).close();
 	}
 
 	@Test
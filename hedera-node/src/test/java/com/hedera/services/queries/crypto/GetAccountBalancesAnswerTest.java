@@ -0,0 +1,183 @@
+package com.hedera.services.queries.crypto;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.context.primitives.StateView;
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.state.merkle.MerkleEntityAssociation;
+import com.hedera.services.state.merkle.MerkleTokenRelStatus;
+import com.hedera.services.store.schedule.ScheduleStore;
+import com.hedera.services.store.tokens.TokenStore;
+import com.hedera.services.stream.proto.AllAccountBalances;
+import com.hedera.services.stream.proto.SingleAccountBalances;
+import com.hedera.services.stream.proto.TokenUnitBalance;
+import com.hedera.services.txns.validation.OptionValidator;
+import com.hedera.test.factories.accounts.MerkleAccountFactory;
+import com.hedera.test.utils.IdUtils;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.TokenID;
+import com.swirlds.fcmap.FCMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.hedera.services.state.merkle.MerkleEntityAssociation.fromAccountTokenRel;
+import static com.hedera.services.state.merkle.MerkleEntityId.fromAccountId;
+import static com.hedera.test.utils.IdUtils.asAccount;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.ACCOUNT_DELETED;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_ACCOUNT_ID;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.mock;
+
+class GetAccountBalancesAnswerTest {
+	long aBalance = 1_234L;
+	long bBalance = 2_345L;
+	long aTokenBalance = 345L;
+	long bTokenBalance = 456L;
+	AccountID a = asAccount("0.0.1234");
+	AccountID b = asAccount("0.0.1235");
+	AccountID missing = asAccount("0.0.1236");
+	AccountID deleted = asAccount("0.0.1237");
+	TokenID aToken = IdUtils.asToken("0.0.3");
+	TokenID bToken = IdUtils.asToken("0.0.4");
+	TokenID unassociatedToken = IdUtils.asToken("0.0.5");
+	MerkleAccount aAccount = MerkleAccountFactory.newAccount()
+			.balance(aBalance)
+			.tokens(aToken, bToken)
+			.get();
+	MerkleAccount bAccount = MerkleAccountFactory.newAccount()
+			.balance(bBalance)
+			.get();
+
+	FCMap accounts;
+	FCMap<MerkleEntityAssociation, MerkleTokenRelStatus> tokenRels;
+	StateView view;
+	OptionValidator optionValidator;
+
+	GetAccountBalancesAnswer subject;
+
+	@BeforeEach
+	private void setup() {
+		tokenRels = new FCMap<>();
+		tokenRels.put(fromAccountTokenRel(a, aToken), new MerkleTokenRelStatus(aTokenBalance, false, true));
+		tokenRels.put(fromAccountTokenRel(a, bToken), new MerkleTokenRelStatus(bTokenBalance, false, true));
+
+		accounts = mock(FCMap.class);
+		given(accounts.get(fromAccountId(a))).willReturn(aAccount);
+		given(accounts.get(fromAccountId(b))).willReturn(bAccount);
+
+		view = new StateView(
+				mock(TokenStore.class),
+				mock(ScheduleStore.class),
+				StateView.EMPTY_TOPICS_SUPPLIER,
+				() -> accounts,
+				StateView.EMPTY_STORAGE_SUPPLIER,
+				() -> tokenRels,
+				null,
+				mock(NodeLocalProperties.class));
+
+		optionValidator = mock(OptionValidator.class);
+		given(optionValidator.queryableAccountStatus(any(), any())).willReturn(INVALID_ACCOUNT_ID);
+		given(optionValidator.queryableAccountStatus(a, accounts)).willReturn(OK);
+		given(optionValidator.queryableAccountStatus(b, accounts)).willReturn(OK);
+		given(optionValidator.queryableAccountStatus(deleted, accounts)).willReturn(ACCOUNT_DELETED);
+
+		subject = new GetAccountBalancesAnswer(optionValidator);
+	}
+
+	@Test
+	public void answersAllTokensOfEachAccountByDefault() {
+		// setup:
+		var expected = AllAccountBalances.newBuilder()
+				.addAllAccounts(SingleAccountBalances.newBuilder()
+						.setAccountID(a)
+						.setHbarBalance(aBalance)
+						.addTokenUnitBalances(unitBalance(aToken, aTokenBalance))
+						.addTokenUnitBalances(unitBalance(bToken, bTokenBalance)))
+				.addAllAccounts(SingleAccountBalances.newBuilder()
+						.setAccountID(b)
+						.setHbarBalance(bBalance))
+				.build();
+
+		// when:
+		var answer = subject.answerGiven(requestFor(a, b), view).build();
+
+		// then:
+		assertEquals(expected, answer);
+	}
+
+	@Test
+	public void answersOnlyRequestedAssociatedTokens() {
+		// setup:
+		var request = AllAccountBalances.newBuilder()
+				.addAllAccounts(SingleAccountBalances.newBuilder()
+						.setAccountID(a)
+						.addTokenUnitBalances(TokenUnitBalance.newBuilder().setTokenId(bToken))
+						.addTokenUnitBalances(TokenUnitBalance.newBuilder().setTokenId(unassociatedToken)))
+				.build();
+		var expected = AllAccountBalances.newBuilder()
+				.addAllAccounts(SingleAccountBalances.newBuilder()
+						.setAccountID(a)
+						.setHbarBalance(aBalance)
+						.addTokenUnitBalances(unitBalance(bToken, bTokenBalance)))
+				.build();
+
+		// when:
+		var answer = subject.answerGiven(request, view).build();
+
+		// then:
+		assertEquals(expected, answer);
+	}
+
+	@Test
+	public void omitsUnqueryableAccounts() {
+		// setup:
+		var expected = AllAccountBalances.newBuilder()
+				.addAllAccounts(SingleAccountBalances.newBuilder()
+						.setAccountID(b)
+						.setHbarBalance(bBalance))
+				.build();
+
+		// when:
+		var answer = subject.answerGiven(requestFor(missing, b, deleted), view).build();
+
+		// then:
+		assertEquals(expected, answer);
+	}
+
+	private AllAccountBalances requestFor(AccountID... ids) {
+		var request = AllAccountBalances.newBuilder();
+		for (AccountID id : ids) {
+			request.addAllAccounts(SingleAccountBalances.newBuilder().setAccountID(id));
+		}
+		return request.build();
+	}
+
+	private TokenUnitBalance unitBalance(TokenID tId, long balance) {
+		return TokenUnitBalance.newBuilder()
+				.setTokenId(tId)
+				.setBalance(balance)
+				.build();
+	}
+}
@@ -38,6 +38,7 @@ import com.hederahashgraph.api.proto.java.Transaction;
 import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.state.submerkle.ExpirableTxnRecord;
 import com.swirlds.fcmap.FCMap;
+import com.swirlds.fcqueue.FCQueue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoGetAccountRecords;
@@ -81,8 +82,10 @@ class GetAccountRecordsAnswerTest {
 				.autoRenewPeriod(1_000_000L)
 				.expirationTime(9_999_999L)
 				.get();
-		payerAccount.records().offer(recordOne());
-		payerAccount.records().offer(recordTwo());
+		FCQueue<ExpirableTxnRecord> records = new FCQueue<>();
+		records.offer(recordOne());
+		records.offer(recordTwo());
+		payerAccount.setRecords(records);
 
 		accounts = mock(FCMap.class);
 		given(accounts.get(MerkleEntityId.fromAccountId(asAccount(target)))).willReturn(payerAccount);
@@ -0,0 +1,437 @@
+package com.hedera.services.records;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import com.hederahashgraph.api.proto.java.TransactionReceipt;
+import com.hederahashgraph.api.proto.java.TransactionRecord;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static com.hedera.services.records.ReceiptSubscriptions.BUSY_RECEIPT;
+import static com.hedera.services.records.RecordCache.UNKNOWN_RECEIPT;
+import static com.hedera.test.utils.IdUtils.asAccount;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.SUCCESS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.any;
+import static org.mockito.BDDMockito.anyLong;
+import static org.mockito.BDDMockito.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.times;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.BDDMockito.willAnswer;
+
+class ReceiptSubscriptionsTest {
+	int maxPerStream = 2;
+	int maxPerConnection = 3;
+	int maxPending = 4;
+	Object connection = new Object();
+	Object otherConnection = new Object();
+	long timeoutMs = 1_000L;
+	TransactionID txnIdA = TransactionID.newBuilder().setAccountID(asAccount("0.0.2")).build();
+	TransactionID txnIdB = TransactionID.newBuilder().setAccountID(asAccount("0.0.3")).build();
+	TransactionID txnIdC = TransactionID.newBuilder().setAccountID(asAccount("0.0.4")).build();
+	TransactionReceipt successReceipt = TransactionReceipt.newBuilder().setStatus(SUCCESS).build();
+
+	RecordCache recordCache;
+	ScheduledFuture timeout;
+	ScheduledExecutorService pushes;
+	StreamObserver<TransactionRecord> observer;
+
+	ReceiptSubscriptions subject;
+
+	@BeforeEach
+	private void setup() {
+		recordCache = mock(RecordCache.class);
+		timeout = mock(ScheduledFuture.class);
+		pushes = mock(ScheduledExecutorService.class);
+		given(pushes.schedule(any(Runnable.class), anyLong(), any())).willReturn(timeout);
+		willAnswer(invocation -> {
+			((Runnable) invocation.getArgument(0)).run();
+			return null;
+		}).given(pushes).execute(any());
+		observer = mock(StreamObserver.class);
+
+		subject = new ReceiptSubscriptions(
+				maxPerStream, maxPerConnection, maxPending, timeoutMs, recordCache, pushes);
+	}
+
+	@Test
+	public void pushesReceiptOncePostConsensus() {
+		// given:
+		var stream = subject.newStream(connection, observer);
+		stream.subscribe(txnIdA);
+		// and:
+		given(recordCache.getPriorityReceipt(txnIdA)).willReturn(successReceipt);
+
+		// when:
+		subject.notifyPostConsensus(txnIdA);
+
+		// then:
+		verify(observer).onNext(recordWith(txnIdA, successReceipt));
+		verify(timeout).cancel(false);
+		assertEquals(0, subject.numPending());
+		assertEquals(0, stream.numOutstanding());
+	}
+
+	@Test
+	public void pushesKnownReceiptImmediately() {
+		given(recordCache.getPriorityReceipt(txnIdA)).willReturn(successReceipt);
+		// and:
+		var stream = subject.newStream(connection, observer);
+
+		// when:
+		stream.subscribe(txnIdA);
+
+		// then:
+		verify(observer).onNext(recordWith(txnIdA, successReceipt));
+		assertEquals(0, subject.numPending());
+	}
+
+	@Test
+	public void waitsForConsensusIfReceiptStillUnknown() {
+		given(recordCache.getPriorityReceipt(txnIdA)).willReturn(UNKNOWN_RECEIPT);
+		// and:
+		var stream = subject.newStream(connection, observer);
+
+		// when:
+		stream.subscribe(txnIdA);
+
+		// then:
+		verify(observer, never()).onNext(any());
+		assertEquals(1, subject.numPending());
+		assertEquals(1, stream.numOutstanding());
+	}
+
+	@Test
+	public void pushesUnknownReceiptOnTimeout() {
+		// setup:
+		ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+
+		// given:
+		var stream = subject.newStream(connection, observer);
+		stream.subscribe(txnIdA);
+		verify(pushes).schedule(captor.capture(), eq(timeoutMs), eq(TimeUnit.MILLISECONDS));
+
+		// when:
+		captor.getValue().run();
+		// and:
+		subject.notifyPostConsensus(txnIdA);
+
+		// then:
+		verify(observer, times(1)).onNext(recordWith(txnIdA, UNKNOWN_RECEIPT));
+		verify(recordCache, times(1)).getPriorityReceipt(txnIdA);
+		assertEquals(0, subject.numPending());
+	}
+
+	@Test
+	public void registersNothingIfTimedOutBeforeRegistration() {
+		// setup:
+		willAnswer(invocation -> {
+			((Runnable) invocation.getArgument(0)).run();
+			return timeout;
+		}).given(pushes).schedule(any(Runnable.class), anyLong(), any());
+
+		// given:
+		var stream = subject.newStream(connection, observer);
+
+		// when:
+		stream.subscribe(txnIdA);
+		// and:
+		subject.notifyPostConsensus(txnIdA);
+
+		// then:
+		verify(observer, times(1)).onNext(any());
+		verify(observer).onNext(recordWith(txnIdA, UNKNOWN_RECEIPT));
+		verify(pushes, never()).execute(any());
+		assertEquals(0, subject.numPending());
+		assertEquals(0, stream.numOutstanding());
+	}
+
+	@Test
+	public void defaultPusherDropsCancelledTimeouts() {
+		// setup:
+		var properties = mock(NodeLocalProperties.class);
+
+		// given:
+		subject = new ReceiptSubscriptions(properties, recordCache);
+
+		// expect:
+		assertTrue(((ScheduledThreadPoolExecutor) subject.pushes).getRemoveOnCancelPolicy());
+
+		// cleanup:
+		subject.pushes.shutdownNow();
+	}
+
+	@Test
+	public void answersBusyOverTheStreamBound() {
+		// given:
+		var stream = subject.newStream(connection, observer);
+		stream.subscribe(txnIdA);
+		stream.subscribe(txnIdB);
+
+		// when:
+		stream.subscribe(txnIdC);
+
+		// then:
+		verify(observer).onNext(recordWith(txnIdC, BUSY_RECEIPT));
+		assertEquals(2, subject.numPending());
+	}
+
+	@Test
+	public void answersBusyOverTheConnectionBoundAcrossStreams() {
+		// given:
+		var stream = subject.newStream(connection, observer);
+		stream.subscribe(txnIdA);
+		stream.subscribe(txnIdB);
+		// and:
+		var otherStream = subject.newStream(connection, observer);
+		otherStream.subscribe(txnIdA);
+
+		// when:
+		otherStream.subscribe(txnIdC);
+
+		// then:
+		verify(observer).onNext(recordWith(txnIdC, BUSY_RECEIPT));
+		assertEquals(3, subject.numPending(connection));
+		assertEquals(1, otherStream.numOutstanding());
+	}
+
+	@Test
+	public void answersBusyOverTheGlobalBound() {
+		// given:
+		var stream = subject.newStream(connection, observer);
+		stream.subscribe(txnIdA);
+		stream.subscribe(txnIdB);
+		// and:
+		var otherStream = subject.newStream(otherConnection, observer);
+		otherStream.subscribe(txnIdA);
+		otherStream.subscribe(txnIdB);
+
+		// when:
+		subject.newStream(otherConnection, observer).subscribe(txnIdC);
+
+		// then:
+		verify(observer).onNext(recordWith(txnIdC, BUSY_RECEIPT));
+		assertEquals(maxPending, subject.numPending());
+		assertEquals(2, subject.numPending(otherConnection));
+	}
+
+	@Test
+	public void releasesConnectionBoundOnceAnswered() {
+		// given:
+		var stream = subject.newStream(connection, observer);
+		stream.subscribe(txnIdA);
+		// and:
+		given(recordCache.getPriorityReceipt(txnIdA)).willReturn(successReceipt);
+
+		// when:
+		subject.notifyPostConsensus(txnIdA);
+
+		// then:
+		assertEquals(0, subject.numPending(connection));
+	}
+
+	@Test
+	public void failsUnreadStreamInsteadOfBufferingBusy() {
+		// setup:
+		ServerCallStreamObserver<TransactionRecord> callObserver = mock(ServerCallStreamObserver.class);
+		ArgumentCaptor<Throwable> captor = ArgumentCaptor.forClass(Throwable.class);
+
+		// given:
+		var stream = subject.newStream(connection, callObserver);
+		stream.subscribe(txnIdA);
+		stream.subscribe(txnIdB);
+		// and:
+		given(callObserver.isReady()).willReturn(false);
+
+		// when:
+		stream.subscribe(txnIdC);
+		stream.subscribe(txnIdC);
+
+		// then:
+		verify(callObserver, never()).onNext(any());
+		verify(callObserver).onError(captor.capture());
+		assertSame(Status.Code.RESOURCE_EXHAUSTED, ((StatusRuntimeException) captor.getValue()).getStatus().getCode());
+		assertEquals(0, subject.numPending());
+		assertEquals(0, subject.numPending(connection));
+	}
+
+	@Test
+	public void answersBusyToReadyCallStream() {
+		// setup:
+		ServerCallStreamObserver<TransactionRecord> callObserver = mock(ServerCallStreamObserver.class);
+
+		// given:
+		var stream = subject.newStream(connection, callObserver);
+		stream.subscribe(txnIdA);
+		stream.subscribe(txnIdB);
+		// and:
+		given(callObserver.isReady()).willReturn(true);
+
+		// when:
+		stream.subscribe(txnIdC);
+
+		// then:
+		verify(callObserver).onNext(recordWith(txnIdC, BUSY_RECEIPT));
+		verify(callObserver, never()).onError(any());
+	}
+
+	@Test
+	public void usesSharedKeyForUnknownConnection() {
+		// given:
+		var stream = subject.newStream(null, observer);
+
+		// when:
+		stream.subscribe(txnIdA);
+
+		// then:
+		assertEquals(1, subject.numPending(ReceiptSubscriptions.UNKNOWN_CONNECTION));
+	}
+
+	@Test
+	public void completesHalfClosedStreamOnceAllAnswered() {
+		// given:
+		var stream = subject.newStream(connection, observer);
+		stream.subscribe(txnIdA);
+		stream.subscribe(txnIdB);
+		// and:
+		given(recordCache.getPriorityReceipt(txnIdB)).willReturn(successReceipt);
+
+		// when:
+		stream.halfClose();
+		// and:
+		subject.notifyPostConsensus(txnIdB);
+
+		// then:
+		verify(observer, never()).onCompleted();
+
+		// and when:
+		given(recordCache.getPriorityReceipt(txnIdA)).willReturn(successReceipt);
+		subject.notifyPostConsensus(txnIdA);
+
+		// then:
+		verify(observer).onCompleted();
+	}
+
+	@Test
+	public void ignoresSubscriptionsAfterHalfClose() {
+		// given:
+		var stream = subject.newStream(connection, observer);
+		stream.halfClose();
+
+		// when:
+		stream.subscribe(txnIdA);
+
+		// then:
+		verify(observer).onCompleted();
+		assertEquals(0, subject.numPending());
+	}
+
+	@Test
+	public void cancelDropsOutstandingSubscriptions() {
+		// given:
+		var stream = subject.newStream(connection, observer);
+		stream.subscribe(txnIdA);
+		stream.subscribe(txnIdB);
+
+		// when:
+		stream.cancel();
+		// and:
+		subject.notifyPostConsensus(txnIdA);
+
+		// then:
+		verify(timeout, times(2)).cancel(false);
+		verify(observer, never()).onNext(any());
+		verify(observer, never()).onCompleted();
+		assertEquals(0, subject.numPending());
+	}
+
+	@Test
+	public void notifyIsNoopWithoutSubscriptions() {
+		// when:
+		subject.notifyPostConsensus(txnIdA);
+
+		// then:
+		verify(pushes, never()).execute(any());
+		verify(recordCache, never()).getPriorityReceipt(any());
+	}
+
+	@Test
+	public void pushesToEverySubscribedStream() {
+		// setup:
+		StreamObserver<TransactionRecord> otherObserver = mock(StreamObserver.class);
+
+		// given:
+		subject.newStream(connection, observer).subscribe(txnIdA);
+		subject.newStream(connection, otherObserver).subscribe(txnIdA);
+		// and:
+		given(recordCache.getPriorityReceipt(txnIdA)).willReturn(successReceipt);
+
+		// when:
+		subject.notifyPostConsensus(txnIdA);
+
+		// then:
+		verify(observer).onNext(recordWith(txnIdA, successReceipt));
+		verify(otherObserver).onNext(recordWith(txnIdA, successReceipt));
+		assertEquals(0, subject.numPending());
+	}
+
+	@Test
+	public void stopsPushingToBrokenStream() {
+		given(recordCache.getPriorityReceipt(any())).willReturn(successReceipt);
+		willAnswer(invocation -> {
+			throw new IllegalStateException();
+		}).given(observer).onNext(any());
+		// and:
+		var stream = subject.newStream(connection, observer);
+		stream.subscribe(txnIdA);
+
+		// when:
+		stream.subscribe(txnIdB);
+
+		// then:
+		verify(observer, times(1)).onNext(any());
+		assertEquals(0, subject.numPending());
+	}
+
+	private TransactionRecord recordWith(TransactionID txnId, TransactionReceipt receipt) {
+		return TransactionRecord.newBuilder()
+				.setTransactionID(txnId)
+				.setReceipt(receipt)
+				.build();
+	}
+}
@@ -49,6 +49,7 @@ import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import static com.hedera.services.utils.MiscUtils.asTimestamp;
 import static com.hedera.services.utils.PlatformTxnAccessor.uncheckedAccessorFor;
@@ -304,6 +305,22 @@ class RecordCacheTest {
 		verify(history).observe(record, aRecord.getReceipt().getStatus());
 	}
 
+	@Test
+	public void notifiesReceiptListenerPostConsensus() {
+		// setup:
+		Consumer<TransactionID> receiptListener = mock(Consumer.class);
+		TxnIdRecentHistory history = mock(TxnIdRecentHistory.class);
+		subject = new RecordCache(ctx, receiptCache, histories, receiptListener);
+
+		given(histories.computeIfAbsent(argThat(txnIdA::equals), any())).willReturn(history);
+
+		// when:
+		subject.setPostConsensus(txnIdA, SUCCESS, record);
+
+		// then:
+		verify(receiptListener).accept(txnIdA);
+	}
+
 	@Test
 	public void managesFailInvalidRecordsAsExpected() {
 		// setup:
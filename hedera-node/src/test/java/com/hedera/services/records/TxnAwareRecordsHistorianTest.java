@@ -178,7 +178,7 @@ public class TxnAwareRecordsHistorianTest {
 		subject.purgeExpiredRecords();
 
 		// expect:
-		verify(expiries).purgeExpiredRecordsAt(nows, ledger);
+		verify(expiries).purgeExpiredRecordsAt(nows);
 	}
 
 	private void setupForReview() {
@@ -24,6 +24,7 @@ import com.hedera.services.sigs.factories.BodySigningSigFactory;
 import com.hedera.services.sigs.factories.PlatformSigFactory;
 import com.hedera.services.sigs.order.HederaSigningOrder;
 import com.hedera.services.sigs.order.SigStatusOrderResultFactory;
+import com.hedera.services.sigs.order.SigningOrderPlans;
 import com.hedera.services.sigs.order.SigningOrderResult;
 import com.hedera.services.sigs.sourcing.PubKeyToSigBytes;
 import com.hedera.services.sigs.sourcing.PubKeyToSigBytesProvider;
@@ -48,6 +49,9 @@ import org.junit.jupiter.api.Test;
 import static com.hedera.test.factories.keys.NodeFactory.ed25519;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.*;
 import static com.hedera.services.sigs.HederaToPlatformSigOps.*;
@@ -144,6 +148,106 @@ public class HederaToPlatformSigOpsTest {
 		assertEquals(expectedSigsWithNoErrors(), platformTxn.getPlatformTxn().getSignatures());
 	}
 
+	@Test
+	public void offersPlanForFullySuccessfulExpansion() throws Exception {
+		// setup:
+		var plans = new SigningOrderPlans(16);
+
+		// given:
+		wellBehavedOrdersAndSigSourcesPreHandle();
+
+		// when:
+		expandIn(platformTxn, keyOrdering, sigBytesProvider, BodySigningSigFactory::new, plans);
+
+		// then:
+		var plan = plans.claim(platformTxn.getHash());
+		assertNotNull(plan);
+		assertEquals(payerKey, plan.getPayerKeys());
+		assertEquals(otherKeys, plan.getOtherPartyKeys());
+		assertEquals(3, plan.getExpandedSigs());
+	}
+
+	@Test
+	public void doesntOfferPlanIfSigCreationFailed() throws Exception {
+		// setup:
+		var plans = new SigningOrderPlans(16);
+
+		given(keyOrdering.keysForPayer(platformTxn.getTxn(), PRE_HANDLE_SUMMARY_FACTORY))
+				.willReturn(new SigningOrderResult<>(payerKey));
+		given(keyOrdering.keysForOtherParties(platformTxn.getTxn(), PRE_HANDLE_SUMMARY_FACTORY))
+				.willReturn(new SigningOrderResult<>(otherKeys));
+		// and:
+		given(payerSigBytes.sigBytesFor(any())).willReturn("1".getBytes());
+		given(othersSigBytes.sigBytesFor(any()))
+				.willReturn("2".getBytes())
+				.willThrow(KeySignatureCountMismatchException.class);
+
+		// when:
+		expandIn(platformTxn, keyOrdering, sigBytesProvider, BodySigningSigFactory::new, plans);
+
+		// then:
+		assertNull(plans.claim(platformTxn.getHash()));
+	}
+
+	@Test
+	public void rationalizesWithCurrentPlanWithoutRelistingKeys() throws Exception {
+		// setup:
+		var plans = new SigningOrderPlans(16);
+
+		// given:
+		wellBehavedOrdersAndSigSourcesPreHandle();
+		expandIn(platformTxn, keyOrdering, sigBytesProvider, BodySigningSigFactory::new, plans);
+
+		// when:
+		SignatureStatus status = rationalizeIn(
+				platformTxn,
+				ALWAYS_VALID,
+				keyOrdering,
+				sigBytesProvider,
+				BodySigningSigFactory::new,
+				plans);
+
+		// then:
+		assertEquals(syncSuccessStatus.toString(), status.toString());
+		assertEquals(expectedSigsWithNoErrors(), platformTxn.getPlatformTxn().getSignatures());
+		assertTrue(allVerificationStatusesAre(VerificationStatus.VALID::equals));
+		// and:
+		verify(keyOrdering, never()).keysForPayer(platformTxn.getTxn(), IN_HANDLE_SUMMARY_FACTORY);
+		verify(keyOrdering, never()).keysForOtherParties(platformTxn.getTxn(), IN_HANDLE_SUMMARY_FACTORY);
+		assertSame(otherKeys, platformTxn.getSigningOrderPlan().getOtherPartyKeys());
+	}
+
+	@Test
+	public void relistsKeysIfPlanIsStale() throws Exception {
+		// setup:
+		var plans = new SigningOrderPlans(16);
+
+		// given:
+		wellBehavedOrdersAndSigSourcesPreHandle();
+		expandIn(platformTxn, keyOrdering, sigBytesProvider, BodySigningSigFactory::new, plans);
+		// and:
+		plans.advanceVersion();
+		wellBehavedOrdersAndSigSourcesInHandle();
+
+		// when:
+		SignatureStatus status = rationalizeIn(
+				platformTxn,
+				ALWAYS_VALID,
+				keyOrdering,
+				sigBytesProvider,
+				BodySigningSigFactory::new,
+				plans);
+
+		// then:
+		assertEquals(syncSuccessStatus.toString(), status.toString());
+		verify(keyOrdering).keysForPayer(platformTxn.getTxn(), IN_HANDLE_SUMMARY_FACTORY);
+		verify(keyOrdering).keysForOtherParties(platformTxn.getTxn(), IN_HANDLE_SUMMARY_FACTORY);
+		// and:
+		var memo = platformTxn.getSigningOrderPlan();
+		assertEquals(plans.currentVersion(), memo.getVersion());
+		assertEquals(payerKey.get(0), memo.getPayerKey());
+	}
+
 	@Test
 	public void returnsImmediatelyOnPayerKeyOrderFailure() {
 		given(keyOrdering.keysForPayer(platformTxn.getTxn(), PRE_HANDLE_SUMMARY_FACTORY))
@@ -98,6 +98,27 @@ public class PlatformSigFactoryTest {
 		assertTrue(varyingMaterialEquals(a, b));
 	}
 
+	@Test
+	public void differentDataMeansUnequalMaterial() {
+		// given:
+		var a = createEd25519(pk, sig, data);
+		var b = createEd25519(pk, sig, differentData);
+
+		// expect:
+		assertFalse(allMaterialEquals(a, b));
+	}
+
+	@Test
+	public void equalMaterialIsEqual() {
+		// given:
+		var a = createEd25519(pk, sig, data);
+		var b = createEd25519(pk, sig, data);
+
+		// expect:
+		assertTrue(allMaterialEquals(a, b));
+		assertFalse(allMaterialEquals(a, createEd25519(pk, differentSig, data)));
+	}
+
 	@Test
 	public void differentLensAreUnequal() {
 		// setup:
@@ -0,0 +1,134 @@
+package com.hedera.services.sigs.order;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.protobuf.ByteString;
+import com.hedera.services.legacy.core.jproto.JKey;
+import com.hedera.test.factories.keys.KeyTree;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.hedera.test.factories.keys.NodeFactory.ed25519;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoUpdate;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.ScheduleSign;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenMint;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class SigningOrderPlansTest {
+	ByteString aHash = ByteString.copyFromUtf8("aHash");
+	ByteString bHash = ByteString.copyFromUtf8("bHash");
+	ByteString cHash = ByteString.copyFromUtf8("cHash");
+	List<JKey> payerKeys;
+	List<JKey> otherKeys;
+
+	SigningOrderPlans subject;
+
+	@BeforeEach
+	private void setup() throws Throwable {
+		payerKeys = List.of(KeyTree.withRoot(ed25519()).asJKey());
+		otherKeys = List.of(KeyTree.withRoot(ed25519()).asJKey());
+
+		subject = new SigningOrderPlans(2);
+	}
+
+	@Test
+	public void claimsCurrentPlanOnlyOnce() {
+		// given:
+		var plan = new SigningOrderPlan(subject.currentVersion(), payerKeys, otherKeys, 2);
+		subject.offer(aHash, plan);
+
+		// expect:
+		assertSame(plan, subject.claim(aHash));
+		assertNull(subject.claim(aHash));
+		assertEquals(0, subject.size());
+	}
+
+	@Test
+	public void doesntReturnStalePlan() {
+		// given:
+		subject.offer(aHash, new SigningOrderPlan(subject.currentVersion(), payerKeys, otherKeys, 2));
+
+		// when:
+		subject.advanceVersion();
+
+		// then:
+		assertNull(subject.claim(aHash));
+		assertEquals(0, subject.size());
+	}
+
+	@Test
+	public void onlyAdvancesVersionForFunctionsThatMayChangeSigMetadata() {
+		// when:
+		subject.advanceVersionIfAffectedBy(CryptoTransfer);
+		subject.advanceVersionIfAffectedBy(TokenMint);
+		// then:
+		assertEquals(0L, subject.currentVersion());
+
+		// and when:
+		subject.advanceVersionIfAffectedBy(CryptoUpdate);
+		subject.advanceVersionIfAffectedBy(ScheduleSign);
+		// then:
+		assertEquals(2L, subject.currentVersion());
+	}
+
+	@Test
+	public void evictsEldestPlanBeyondCapacity() {
+		// given:
+		var version = subject.currentVersion();
+
+		// when:
+		subject.offer(aHash, new SigningOrderPlan(version, payerKeys, otherKeys, 2));
+		subject.offer(bHash, new SigningOrderPlan(version, payerKeys, otherKeys, 2));
+		subject.offer(cHash, new SigningOrderPlan(version, payerKeys, otherKeys, 2));
+
+		// then:
+		assertEquals(2, subject.size());
+		assertNull(subject.claim(aHash));
+	}
+
+	@Test
+	public void noPlansKeepsNothing() {
+		// when:
+		SigningOrderPlans.NO_PLANS.offer(aHash, new SigningOrderPlan(0L, payerKeys, otherKeys, 2));
+
+		// then:
+		assertEquals(0, SigningOrderPlans.NO_PLANS.size());
+		assertNull(SigningOrderPlans.NO_PLANS.claim(aHash));
+	}
+
+	@Test
+	public void planToStringWorks() {
+		// given:
+		var plan = new SigningOrderPlan(1L, payerKeys, otherKeys, 2);
+
+		// expect:
+		assertEquals(
+				"SigningOrderPlan{version=1, payerKeys=" + payerKeys
+						+ ", otherPartyKeys=" + otherKeys + ", expandedSigs=2}",
+				plan.toString());
+		assertSame(payerKeys.get(0), plan.getPayerKey());
+	}
+}
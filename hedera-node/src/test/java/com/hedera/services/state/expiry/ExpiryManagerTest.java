@@ -20,7 +20,7 @@ package com.hedera.services.state.expiry;
  * ‍
  */
 
-import com.hedera.services.ledger.HederaLedger;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.legacy.core.jproto.TxnReceipt;
 import com.hedera.services.records.RecordCache;
 import com.hedera.services.records.TxnIdRecentHistory;
@@ -31,6 +31,7 @@ import com.hedera.services.state.submerkle.EntityId;
 import com.hedera.services.state.submerkle.ExpirableTxnRecord;
 import com.hedera.services.state.submerkle.RichInstant;
 import com.hedera.services.state.submerkle.TxnId;
+import com.hedera.services.stats.MiscRunningAvgs;
 import com.hedera.services.store.schedule.ScheduleStore;
 import com.hedera.test.utils.IdUtils;
 import com.hederahashgraph.api.proto.java.AccountID;
@@ -38,10 +39,10 @@ import com.hederahashgraph.api.proto.java.ScheduleID;
 import com.hederahashgraph.api.proto.java.TransactionID;
 import com.hederahashgraph.api.proto.java.TransactionReceipt;
 import com.swirlds.fcmap.FCMap;
+import com.swirlds.fcqueue.FCQueue;
 import javafx.util.Pair;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InOrder;
 
 import java.time.Instant;
 import java.util.Arrays;
@@ -56,10 +57,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.argThat;
-import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.BDDMockito.inOrder;
 import static org.mockito.BDDMockito.mock;
 import static org.mockito.BDDMockito.verify;
 import static org.mockito.Mockito.times;
@@ -77,7 +76,8 @@ class ExpiryManagerTest {
 	Pair<Long, Consumer<EntityId>> expiringEntity;
 
 	RecordCache recordCache;
-	HederaLedger ledger;
+	MiscRunningAvgs runningAvgs;
+	GlobalDynamicProperties dynamicProperties;
 	FCMap<MerkleEntityId, MerkleAccount> accounts;
 	FCMap<MerkleEntityId, MerkleSchedule> schedules;
 	Map<TransactionID, TxnIdRecentHistory> txnHistories;
@@ -95,36 +95,105 @@ class ExpiryManagerTest {
 
 		scheduleStore = mock(ScheduleStore.class);
 
-		ledger = mock(HederaLedger.class);
+		runningAvgs = mock(MiscRunningAvgs.class);
+		dynamicProperties = mock(GlobalDynamicProperties.class);
+		given(dynamicProperties.maxRecordPurgesPerTxn()).willReturn(1_000);
 
 		entityIdConsumer = mock(Consumer.class);
 		expiringEntity = mock(Pair.class);
 		given(expiringEntity.getKey()).willReturn(schedule.getScheduleNum());
 		given(expiringEntity.getValue()).willReturn(entityIdConsumer);
 
-		subject = new ExpiryManager(recordCache, txnHistories, scheduleStore, schedules);
+		subject = new ExpiryManager(
+				recordCache, txnHistories, scheduleStore, schedules, () -> accounts, dynamicProperties, runningAvgs);
 	}
 
 	@Test
 	public void purgesRecordsAsExpected() {
-		// setup:
-		InOrder inOrder = inOrder(ledger);
-
 		givenAccount(a, aPayer);
 		givenAccount(b, bPayer);
 		// given:
 		subject.restartTrackingFrom(accounts);
 
 		// when:
-		subject.purgeExpiredRecordsAt(33, ledger);
+		subject.purgeExpiredRecordsAt(33);
 
 		// then:
-		inOrder.verify(ledger).purgeExpiredRecords(
-				argThat(asAccount(b)::equals),
-				longThat(l -> l == 33),
-				any());
+		assertTrue(accounts.get(new MerkleEntityId(0, 0, b)).records().isEmpty());
+		assertEquals(1, accounts.get(new MerkleEntityId(0, 0, a)).records().size());
+		assertFalse(txnHistories.containsKey(txnIdOf(33).toGrpc()));
+		assertFalse(subject.hasExpiredRecordsBacklog());
 		// and:
 		verify(recordCache).forgetAnyOtherExpiredHistory(33);
+		verify(runningAvgs).recordExpiredRecordsPurgeMs(anyDouble());
+		verify(runningAvgs).recordExpiredRecordsBacklogSecs(0);
+	}
+
+	@Test
+	public void carriesBacklogBeyondBudgetToNextPurge() {
+		givenAccount(a, new long[] { 10, 20, 30 });
+		givenAccount(b, new long[] { 15 });
+		// and:
+		given(dynamicProperties.maxRecordPurgesPerTxn()).willReturn(2);
+		// given:
+		subject.restartTrackingFrom(accounts);
+
+		// when:
+		subject.purgeExpiredRecordsAt(40);
+
+		// then:
+		assertEquals(1, accounts.get(new MerkleEntityId(0, 0, a)).records().size());
+		assertEquals(1, accounts.get(new MerkleEntityId(0, 0, b)).records().size());
+		assertTrue(subject.hasExpiredRecordsBacklog());
+		verify(runningAvgs).recordExpiredRecordsBacklogSecs(30);
+
+		// and when:
+		subject.purgeExpiredRecordsAt(41);
+
+		// then:
+		assertTrue(accounts.get(new MerkleEntityId(0, 0, a)).records().isEmpty());
+		assertTrue(accounts.get(new MerkleEntityId(0, 0, b)).records().isEmpty());
+
+		// and when:
+		subject.purgeExpiredRecordsAt(42);
+
+		// then:
+		assertFalse(subject.hasExpiredRecordsBacklog());
+		assertTrue(subject.payerExpiries.allExpiries.isEmpty());
+	}
+
+	@Test
+	public void countsStalePayerExpiriesAgainstBudget() {
+		givenAccount(a, new long[] { 10, 20, 30 });
+		givenAccount(b, new long[] { 35 });
+		// and:
+		given(dynamicProperties.maxRecordPurgesPerTxn()).willReturn(3);
+		// given:
+		subject.restartTrackingFrom(accounts);
+		// and:
+		subject.purgeExpiredRecordsAt(40);
+		given(dynamicProperties.maxRecordPurgesPerTxn()).willReturn(2);
+
+		// when:
+		subject.purgeExpiredRecordsAt(40);
+
+		// then:
+		assertTrue(accounts.get(new MerkleEntityId(0, 0, a)).records().isEmpty());
+		assertEquals(1, accounts.get(new MerkleEntityId(0, 0, b)).records().size());
+		assertTrue(subject.hasExpiredRecordsBacklog());
+	}
+
+	@Test
+	public void skipsPayersNoLongerInState() {
+		// given:
+		subject.trackRecord(asAccount(a), 33);
+
+		// when:
+		subject.purgeExpiredRecordsAt(33);
+
+		// then:
+		assertTrue(subject.payerExpiries.allExpiries.isEmpty());
+		assertFalse(subject.hasExpiredRecordsBacklog());
 	}
 
 	@Test
@@ -135,12 +204,15 @@ class ExpiryManagerTest {
 		subject.restartEntitiesTrackingFrom();
 
 		// when:
-		subject.purgeExpiredEntitiesAt(expiry);
+		var anyExpired = subject.purgeExpiredEntitiesAt(expiry);
 
 		// then:
+		assertTrue(anyExpired);
 		verify(scheduleStore).expire(entityId);
 		// and:
 		assertTrue(subject.entityExpiries.allExpiries.isEmpty());
+		// and:
+		assertFalse(subject.purgeExpiredEntitiesAt(expiry));
 	}
 
 	private AccountID asAccount(long num) {
@@ -155,7 +227,8 @@ class ExpiryManagerTest {
 		txnHistories = mock(Map.class);
 
 		// given:
-		subject = new ExpiryManager(recordCache, txnHistories, scheduleStore, schedules);
+		subject = new ExpiryManager(
+				recordCache, txnHistories, scheduleStore, schedules, () -> accounts, dynamicProperties, runningAvgs);
 		// and:
 		subject.trackRecord(payer, oldExpiry);
 		// and:
@@ -220,9 +293,11 @@ class ExpiryManagerTest {
 
 	private void givenAccount(long num, long[] payerExpiries) {
 		var account = new MerkleAccount();
+		FCQueue<ExpirableTxnRecord> records = new FCQueue<>();
 		for (long t : payerExpiries) {
-			account.records().offer(withExpiry(t));
+			records.offer(withExpiry(t));
 		}
+		account.setRecords(records);
 		var id = new MerkleEntityId(0, 0, num);
 		accounts.put(id, account);
 	}
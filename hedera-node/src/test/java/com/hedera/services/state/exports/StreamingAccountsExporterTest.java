@@ -0,0 +1,146 @@
+package com.hedera.services.state.exports;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.state.merkle.MerkleEntityId;
+import com.hedera.test.factories.accounts.MerkleAccountFactory;
+import com.hedera.test.factories.scenarios.TxnHandlingScenario;
+import com.hederahashgraph.api.proto.java.Key;
+import com.swirlds.fcmap.FCMap;
+import org.apache.commons.codec.binary.Hex;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static com.hedera.services.state.merkle.MerkleEntityId.fromAccountId;
+import static com.hedera.test.utils.IdUtils.asAccount;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StreamingAccountsExporterTest {
+	private static final String TMP_JSON_LINES_LOC = "src/test/resources/currentAccounts.jsonl";
+	private static final String TMP_BINARY_LOC = "src/test/resources/currentAccounts.bin";
+
+	Key aKey;
+	MerkleAccount withProxy, withoutProxy;
+	FCMap<MerkleEntityId, MerkleAccount> accounts;
+
+	StreamingAccountsExporter subject = new StreamingAccountsExporter();
+
+	@BeforeEach
+	private void setup() throws Exception {
+		aKey = TxnHandlingScenario.MISC_ACCOUNT_KT.asKey();
+		withProxy = MerkleAccountFactory.newAccount()
+				.balance(123L)
+				.proxy(asAccount("0.0.5"))
+				.receiverSigRequired(true)
+				.autoRenewPeriod(7776000L)
+				.accountKeys(aKey)
+				.get();
+		withoutProxy = MerkleAccountFactory.newAccount()
+				.balance(456L)
+				.autoRenewPeriod(7776001L)
+				.accountKeys(aKey)
+				.get();
+
+		accounts = new FCMap<>();
+		accounts.put(fromAccountId(asAccount("0.0.1001")), withProxy);
+		accounts.put(fromAccountId(asAccount("0.0.1002")), withoutProxy);
+	}
+
+	@Test
+	public void throwsOnInvalidLoc() {
+		// expect:
+		assertThrows(IOException.class, () ->
+				subject.toFile(accounts, "not/a/location", AccountsExportFormat.JSON_LINES));
+		assertThrows(IOException.class, () ->
+				subject.toFile(accounts, "not/a/location", AccountsExportFormat.BINARY));
+	}
+
+	@Test
+	public void writesOneJsonObjectPerLine() throws Exception {
+		// setup:
+		var keyHex = Hex.encodeHexString(aKey.toByteArray());
+
+		// when:
+		subject.toFile(accounts, TMP_JSON_LINES_LOC, AccountsExportFormat.JSON_LINES);
+		// and:
+		List<String> lines = Files.readAllLines(Paths.get(TMP_JSON_LINES_LOC));
+
+		// then:
+		assertEquals(2, lines.size());
+		assertTrue(lines.contains("{\"shardID\":0,\"realmID\":0,\"accountNum\":1001,\"initialBalance\":123," +
+				"\"proxyShardNum\":0,\"proxyRealmNum\":0,\"proxyAccountNum\":5,\"receiverSigRequired\":true," +
+				"\"autoRenewPeriod\":7776000,\"key\":\"" + keyHex + "\"}"));
+		assertTrue(lines.contains("{\"shardID\":0,\"realmID\":0,\"accountNum\":1002,\"initialBalance\":456," +
+				"\"proxyShardNum\":0,\"proxyRealmNum\":0,\"proxyAccountNum\":0,\"receiverSigRequired\":false," +
+				"\"autoRenewPeriod\":7776001,\"key\":\"" + keyHex + "\"}"));
+	}
+
+	@Test
+	public void writesVersionedBinaryRecords() throws Exception {
+		// when:
+		subject.toFile(accounts, TMP_BINARY_LOC, AccountsExportFormat.BINARY);
+
+		// then:
+		try (DataInputStream in = new DataInputStream(Files.newInputStream(Paths.get(TMP_BINARY_LOC)))) {
+			assertEquals(StreamingAccountsExporter.BINARY_FORMAT_VERSION, in.readInt());
+			assertEquals(2, in.readInt());
+			long balanceSum = 0;
+			for (int i = 0; i < 2; i++) {
+				assertEquals(0L, in.readLong());
+				assertEquals(0L, in.readLong());
+				var num = in.readLong();
+				var balance = in.readLong();
+				balanceSum += balance;
+				assertEquals(0L, in.readLong());
+				assertEquals(0L, in.readLong());
+				assertEquals(num == 1001L ? 5L : 0L, in.readLong());
+				assertEquals(num == 1001L, in.readBoolean());
+				assertEquals(num == 1001L ? 7776000L : 7776001L, in.readLong());
+				var key = new byte[in.readInt()];
+				in.readFully(key);
+				assertEquals(aKey, Key.parseFrom(key));
+			}
+			assertEquals(579L, balanceSum);
+			assertEquals(-1, in.read());
+		}
+	}
+
+	@AfterAll
+	public static void cleanup() {
+		for (String loc : List.of(TMP_JSON_LINES_LOC, TMP_BINARY_LOC)) {
+			var f = new File(loc);
+			if (f.exists()) {
+				f.delete();
+			}
+		}
+	}
+}
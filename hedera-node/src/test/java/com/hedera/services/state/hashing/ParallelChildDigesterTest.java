@@ -0,0 +1,171 @@
+package com.hedera.services.state.hashing;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.swirlds.common.crypto.CryptoFactory;
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.merkle.MerkleNode;
+import org.apache.commons.lang3.tuple.Triple;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.BDDMockito.willThrow;
+
+class ParallelChildDigesterTest {
+	MerkleNode a, b, hashed;
+	Consumer<MerkleNode> digest;
+	DoubleConsumer aTiming, bTiming;
+	ExecutorService pool;
+	Logger mockLog;
+
+	ParallelChildDigester subject;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	private void setup() {
+		a = mock(MerkleNode.class);
+		b = mock(MerkleNode.class);
+		hashed = mock(MerkleNode.class);
+		given(hashed.getHash()).willReturn(mock(Hash.class));
+
+		digest = mock(Consumer.class);
+		aTiming = mock(DoubleConsumer.class);
+		bTiming = mock(DoubleConsumer.class);
+		ParallelChildDigester.merkleDigest = digest;
+		mockLog = mock(Logger.class);
+		ParallelChildDigester.log = mockLog;
+
+		pool = ParallelChildDigester.newPool();
+		subject = new ParallelChildDigester(() -> pool);
+	}
+
+	@AfterEach
+	public void cleanup() throws InterruptedException {
+		ParallelChildDigester.merkleDigest = CryptoFactory.getInstance()::digestTreeSync;
+		ParallelChildDigester.log = LogManager.getLogger(ParallelChildDigester.class);
+		pool.shutdownNow();
+		pool.awaitTermination(1, TimeUnit.SECONDS);
+	}
+
+	@Test
+	public void digestsUnhashedChildrenLogsTimesAndShutsDownPool() {
+		// when:
+		subject.digest(List.of(
+				Triple.of("a", a, aTiming),
+				Triple.of("b", b, bTiming),
+				Triple.of("hashed", hashed, aTiming)));
+
+		// then:
+		verify(digest).accept(a);
+		verify(digest).accept(b);
+		verify(digest, never()).accept(hashed);
+		// and:
+		verify(aTiming).accept(anyDouble());
+		verify(bTiming).accept(anyDouble());
+		// and:
+		verify(mockLog).info(
+				eq("Digested state children concurrently (millis) :: {}"),
+				(Object) argThat(times -> times.toString().matches("a=\\d+, b=\\d+")));
+		// and:
+		assertTrue(pool.isShutdown());
+	}
+
+	@Test
+	public void toleratesMissingChildren() {
+		// when:
+		subject.digest(List.of(Triple.of("a", null, aTiming)));
+
+		// then:
+		verify(digest, never()).accept(any());
+		verify(mockLog, never()).info(any(String.class), (Object) any());
+		assertTrue(pool.isShutdown());
+	}
+
+	@Test
+	public void leavesFailedChildrenForRootDigest() {
+		willThrow(IllegalStateException.class).given(digest).accept(a);
+
+		// when:
+		subject.digest(List.of(Triple.of("a", a, aTiming), Triple.of("b", b, bTiming)));
+
+		// then:
+		verify(digest).accept(b);
+		verify(aTiming, never()).accept(anyDouble());
+		verify(mockLog).error(
+				eq("Digesting state child '{}' failed, the root digest will re-hash it"),
+				eq("a"),
+				any(IllegalStateException.class));
+		verify(mockLog).info(
+				eq("Digested state children concurrently (millis) :: {}"),
+				(Object) argThat(times -> times.toString().matches("a=FAILED, b=\\d+")));
+	}
+
+	@Test
+	public void propagatesInterruptionAndShutsDownPool() {
+		// setup:
+		ParallelChildDigester.merkleDigest = node -> {
+			try {
+				Thread.sleep(10_000L);
+			} catch (InterruptedException ignore) {
+				Thread.currentThread().interrupt();
+			}
+		};
+
+		// given:
+		Thread.currentThread().interrupt();
+
+		// expect:
+		assertThrows(IllegalStateException.class, () -> subject.digest(List.of(Triple.of("a", a, aTiming))));
+		assertTrue(Thread.interrupted());
+		assertTrue(pool.isShutdown());
+	}
+
+	@Test
+	public void defaultPoolIsCreatedPerDigest() {
+		// given:
+		subject = new ParallelChildDigester();
+
+		// when:
+		subject.digest(List.of(Triple.of("a", a, aTiming)));
+
+		// then:
+		verify(digest).accept(a);
+	}
+}
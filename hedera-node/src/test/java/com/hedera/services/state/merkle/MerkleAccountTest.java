@@ -42,6 +42,7 @@ import static org.hamcrest.Matchers.instanceOf;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -162,12 +163,15 @@ public class MerkleAccountTest {
 		// expect;
 		assertEquals(
 				MerkleAccount.ChildIndices.NUM_081_CHILDREN,
-				subject.getMinimumChildCount(MerkleAccount.MERKLE_VERSION - 2));
+				subject.getMinimumChildCount(MerkleAccount.RELEASE_081_VERSION));
 		assertEquals(
 				MerkleAccount.ChildIndices.NUM_090_ALPHA_CHILDREN,
-				subject.getMinimumChildCount(MerkleAccount.MERKLE_VERSION - 1));
+				subject.getMinimumChildCount(MerkleAccount.RELEASE_090_ALPHA_VERSION));
 		assertEquals(
 				MerkleAccount.ChildIndices.NUM_090_CHILDREN,
+				subject.getMinimumChildCount(MerkleAccount.RELEASE_090_VERSION));
+		assertEquals(
+				MerkleAccount.ChildIndices.NUM_0130_MIN_CHILDREN,
 				subject.getMinimumChildCount(MerkleAccount.MERKLE_VERSION));
 		assertEquals(MerkleAccount.MERKLE_VERSION, subject.getVersion());
 		assertEquals(MerkleAccount.RUNTIME_CONSTRUCTABLE_ID, subject.getClassId());
@@ -264,6 +268,138 @@ public class MerkleAccountTest {
 		assertEquals(payerRecords, copy.records());
 	}
 
+	@Test
+	public void newAccountIsOnlyItsState() {
+		// given:
+		subject = new MerkleAccount();
+
+		// expect:
+		assertEquals(MerkleAccount.ChildIndices.NUM_0130_MIN_CHILDREN, subject.getNumberOfChildren());
+		assertSame(IMMUTABLE_EMPTY_FCQ, subject.records());
+		assertEquals(0, subject.tokens().numAssociations());
+		assertFalse(subject.hasEmptyChildren());
+	}
+
+	@Test
+	public void attachesRecordsOnlyWhileNonEmpty() {
+		// setup:
+		FCQueue<ExpirableTxnRecord> records = new FCQueue<>();
+		records.offer(new ExpirableTxnRecord());
+
+		// given:
+		subject = new MerkleAccount(List.of(state));
+
+		// when:
+		subject.setRecords(records);
+
+		// then:
+		assertEquals(2, subject.getNumberOfChildren());
+		assertSame(records, subject.records());
+
+		// and when:
+		records.poll();
+		subject.setRecords(records);
+
+		// then:
+		assertEquals(1, subject.getNumberOfChildren());
+		assertSame(IMMUTABLE_EMPTY_FCQ, subject.records());
+		assertSame(state, subject.state());
+	}
+
+	@Test
+	public void attachesTokensOnlyWhileNonEmpty() {
+		// setup:
+		var emptyTokens = mock(MerkleAccountTokens.class);
+		given(tokens.numAssociations()).willReturn(2);
+		given(payerRecords.isEmpty()).willReturn(false);
+
+		// given:
+		subject = new MerkleAccount(List.of(state, payerRecords));
+
+		// when:
+		subject.setTokens(tokens);
+
+		// then:
+		assertEquals(3, subject.getNumberOfChildren());
+		assertSame(payerRecords, subject.records());
+		assertSame(tokens, subject.tokens());
+
+		// and when:
+		subject.setTokens(emptyTokens);
+
+		// then:
+		assertEquals(2, subject.getNumberOfChildren());
+		assertSame(payerRecords, subject.records());
+		assertNotSame(tokens, subject.tokens());
+	}
+
+	@Test
+	public void replacesAttachedTokensInPlace() {
+		// setup:
+		var newTokens = mock(MerkleAccountTokens.class);
+		given(newTokens.numAssociations()).willReturn(1);
+
+		// given:
+		subject = new MerkleAccount(List.of(state, tokens));
+
+		// when:
+		subject.setTokens(newTokens);
+
+		// then:
+		assertEquals(2, subject.getNumberOfChildren());
+		assertSame(newTokens, subject.tokens());
+		assertSame(IMMUTABLE_EMPTY_FCQ, subject.records());
+	}
+
+	@Test
+	public void copiesOnlyAttachedChildren() {
+		// given:
+		subject = new MerkleAccount(List.of(state, tokens));
+
+		// when:
+		var copy = subject.copy();
+
+		// then:
+		verify(tokens).copy();
+		assertEquals(2, copy.getNumberOfChildren());
+		assertEquals(state, copy.state());
+		assertSame(IMMUTABLE_EMPTY_FCQ, copy.records());
+	}
+
+	@Test
+	public void detachesEmptyChildrenOfRelease090Layout() {
+		// given:
+		subject = new MerkleAccount(List.of(state, new FCQueue<ExpirableTxnRecord>(), new MerkleAccountTokens()));
+
+		// expect:
+		assertTrue(subject.hasEmptyChildren());
+
+		// when:
+		subject.detachEmptyChildren();
+
+		// then:
+		assertFalse(subject.hasEmptyChildren());
+		assertEquals(MerkleAccount.ChildIndices.NUM_0130_MIN_CHILDREN, subject.getNumberOfChildren());
+		assertSame(state, subject.state());
+	}
+
+	@Test
+	public void keepsNonEmptyChildrenOfRelease090Layout() {
+		given(payerRecords.isEmpty()).willReturn(false);
+		given(tokens.numAssociations()).willReturn(3);
+
+		// expect:
+		assertFalse(subject.hasEmptyChildren());
+
+		// when:
+		subject.detachEmptyChildren();
+
+		// then:
+		assertEquals(MerkleAccount.ChildIndices.NUM_0130_MAX_CHILDREN, subject.getNumberOfChildren());
+		assertSame(payerRecords, subject.records());
+		assertSame(tokens, subject.tokens());
+	}
+
 	@Test
 	public void throwsOnNegativeBalance() {
 		// expect:
@@ -309,6 +445,24 @@ public class MerkleAccountTest {
 		assertThat(subject.getChild(RELEASE_090_ASSOCIATED_TOKENS), instanceOf(MerkleAccountTokens.class));
 	}
 
+	@Test
+	public void initializeLeavesRelease0130StatesAlone() {
+		// setup:
+		var accountState = new MerkleAccountState();
+		var accountTokens = new MerkleAccountTokens();
+
+		// given:
+		subject.addDeserializedChildren(List.of(accountState, accountTokens), MerkleAccount.MERKLE_VERSION);
+
+		// when:
+		subject.initialize(null);
+
+		// then:
+		assertEquals(2, subject.getNumberOfChildren());
+		assertSame(accountState, subject.state());
+		assertSame(accountTokens, subject.getChild(1));
+	}
+
 	@Test
 	public void isMutableAfterCopy() {
 		subject.copy();
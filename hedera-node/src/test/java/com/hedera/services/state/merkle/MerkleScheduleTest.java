@@ -22,6 +22,7 @@ package com.hedera.services.state.merkle;
 
 import com.hedera.services.legacy.core.jproto.JEd25519Key;
 import com.hedera.services.legacy.core.jproto.JKey;
+import com.hedera.services.legacy.proto.utils.CommonUtils;
 import com.hedera.services.state.serdes.DomainSerdes;
 import com.hedera.services.state.serdes.IoReadingFunction;
 import com.hedera.services.state.serdes.IoWritingConsumer;
@@ -47,11 +48,13 @@ import static com.hedera.services.state.merkle.MerkleSchedule.UPPER_BOUND_MEMO_U
 import static com.hedera.services.state.merkle.MerkleTopic.serdes;
 import static com.hedera.services.utils.MiscUtils.describe;
 import static com.swirlds.common.CommonUtils.hex;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
@@ -411,6 +414,37 @@ public class MerkleScheduleTest {
 		assertEquals(subject, copySubject);
 	}
 
+	@Test
+	public void copyKeepsNotaryAndDigest() {
+		// given:
+		subject.witnessValidEd25519Signature(fpk);
+		subject.witnessValidEd25519Signature(spk);
+		var digest = subject.transactionBodyDigest();
+
+		// when:
+		var copySubject = subject.copy();
+
+		// then:
+		assertTrue(copySubject.hasValidEd25519Signature(fpk));
+		assertTrue(copySubject.hasValidEd25519Signature(spk));
+		assertFalse(copySubject.hasValidEd25519Signature(tpk));
+		assertEquals(List.of(fpk, spk), copySubject.signatories());
+		assertSame(digest, copySubject.transactionBodyDigest());
+		// and:
+		assertTrue(copySubject.witnessValidEd25519Signature(tpk));
+		assertFalse(subject.hasValidEd25519Signature(tpk));
+	}
+
+	@Test
+	public void digestIsSha384OfBodyAndMemoized() {
+		// when:
+		var digest = subject.transactionBodyDigest();
+
+		// then:
+		assertArrayEquals(CommonUtils.noThrowSha384HashOf(transactionBody), digest);
+		assertSame(digest, subject.transactionBodyDigest());
+	}
+
 	private void setOptionalElements(MerkleSchedule schedule) {
 		schedule.setMemo(entityMemo);
 		schedule.setPayer(payer);
@@ -20,30 +20,102 @@ package com.hedera.services.state.migrations;
  * ‍
  */
 
+import com.hedera.services.ServicesState;
 import com.hedera.services.context.ServicesContext;
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.state.merkle.MerkleAccountState;
+import com.hedera.services.state.merkle.MerkleAccountTokens;
+import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.state.migration.StdStateMigrations;
+import com.hedera.services.state.submerkle.ExpirableTxnRecord;
 import com.hedera.services.utils.Pause;
+import com.swirlds.fcmap.FCMap;
+import com.swirlds.fcqueue.FCQueue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.mock;
 
 public class StdStateMigrationsTest {
+	MerkleEntityId idle = new MerkleEntityId(0, 0, 1_234);
+	MerkleEntityId payer = new MerkleEntityId(0, 0, 2_345);
+
 	Pause pause;
 	ServicesContext ctx;
+	FCMap<MerkleEntityId, MerkleAccount> accounts;
 	StdStateMigrations subject;
 
 	@BeforeEach
 	private void setup() {
+		accounts = new FCMap<>();
 		ctx = mock(ServicesContext.class);
+		given(ctx.accounts()).willReturn(accounts);
+		given(ctx.savedStateVersion()).willReturn(ServicesState.RELEASE_0130_VERSION - 1);
 		pause = mock(Pause.class);
 		subject = new StdStateMigrations(pause);
 	}
 
 	@Test
-	public void isNoop() {
-		// expect:
-		assertDoesNotThrow(() -> subject.runAllFor(ctx));
+	public void detachesEmptyChildrenFromRelease090Accounts() {
+		// setup:
+		FCQueue<ExpirableTxnRecord> payerRecords = new FCQueue<>();
+		payerRecords.offer(new ExpirableTxnRecord());
+
+		// given:
+		accounts.put(idle, new MerkleAccount(List.of(
+				new MerkleAccountState(), new FCQueue<ExpirableTxnRecord>(), new MerkleAccountTokens())));
+		accounts.put(payer, new MerkleAccount(List.of(
+				new MerkleAccountState(), payerRecords, new MerkleAccountTokens())));
+
+		// when:
+		subject.runAllFor(ctx);
+
+		// then:
+		assertFalse(accounts.get(idle).hasEmptyChildren());
+		assertEquals(1, accounts.get(idle).getNumberOfChildren());
+		// and:
+		assertFalse(accounts.get(payer).hasEmptyChildren());
+		assertEquals(2, accounts.get(payer).getNumberOfChildren());
+		assertEquals(1, accounts.get(payer).records().size());
+	}
+
+	@Test
+	public void skipsCompactionForStatesSavedSinceRelease0130() {
+		// setup:
+		var account = new MerkleAccount(List.of(
+				new MerkleAccountState(), new FCQueue<ExpirableTxnRecord>(), new MerkleAccountTokens()));
+
+		given(ctx.savedStateVersion()).willReturn(ServicesState.RELEASE_0130_VERSION);
+		// and:
+		accounts.put(idle, account);
+
+		// when:
+		subject.runAllFor(ctx);
+
+		// then:
+		assertSame(account, accounts.get(idle));
+		assertTrue(accounts.get(idle).hasEmptyChildren());
+	}
+
+	@Test
+	public void leavesCompactAccountsAlone() {
+		// setup:
+		var account = new MerkleAccount();
+
+		// given:
+		accounts.put(idle, account);
+
+		// when:
+		subject.runAllFor(ctx);
+
+		// then:
+		assertSame(account, accounts.get(idle));
 	}
 }
@@ -319,6 +319,18 @@ class ExpirableTxnRecordTest {
 		assertEquals(subject, ExpirableTxnRecord.fromGprc(subject.asGrpc()));
 	}
 
+	@Test
+	public void memoizesGrpcForm() {
+		// when:
+		var first = subject.asGrpc();
+
+		// then:
+		assertSame(first, subject.asGrpc());
+		assertSame(first.getReceipt(), subject.getReceipt().toGrpc());
+		// and:
+		assertEquals(subjectRecordWithTokenTransfersAndScheduleRef().asGrpc(), first);
+	}
+
 	@Test
 	public void objectContractWorks() {
 		// given:
@@ -0,0 +1,54 @@
+package com.hedera.services.stats;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.swirlds.common.StatEntry;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class GaugeFactoryTest {
+	GaugeFactory subject = new GaugeFactory() { };
+
+	@Test
+	public void constructsExpectedEntry() {
+		// setup:
+		var name = "MyOpP99Ms";
+		var desc = "Happy thoughts";
+		Supplier<Object> pretend = () -> 1.23;
+
+		// when:
+		StatEntry gauge = subject.from(name, desc, pretend);
+
+		// then:
+		assertEquals("app", gauge.category);
+		assertEquals(name, gauge.name);
+		assertEquals(desc, gauge.desc);
+		assertEquals("%,13.3f", gauge.format);
+		assertNull(gauge.buffered);
+		assertNull(gauge.init);
+		assertSame(pretend, gauge.supplier);
+	}
+}
@@ -0,0 +1,146 @@
+package com.hedera.services.stats;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import com.swirlds.common.Platform;
+import com.swirlds.common.StatEntry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.function.Supplier;
+
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.NONE;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenGetInfo;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.any;
+import static org.mockito.BDDMockito.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.Mockito.mock;
+
+class HapiOpLatenciesTest {
+	Platform platform;
+	GaugeFactory factory;
+
+	HapiOpLatencies subject;
+
+	@BeforeEach
+	public void setup() throws Exception {
+		HapiOpLatencies.allFunctions = () -> new HederaFunctionality[] {
+				CryptoTransfer,
+				TokenGetInfo,
+				NONE
+		};
+
+		platform = mock(Platform.class);
+		factory = mock(GaugeFactory.class);
+
+		subject = new HapiOpLatencies(factory, HederaFunctionality::toString);
+	}
+
+	@AfterEach
+	public void cleanup() {
+		HapiOpLatencies.allFunctions = HederaFunctionality.class::getEnumConstants;
+	}
+
+	@Test
+	public void beginsRationally() {
+		// expect:
+		assertTrue(subject.ingestedOps.containsKey(CryptoTransfer));
+		assertTrue(subject.preHandledTxns.containsKey(CryptoTransfer));
+		assertTrue(subject.handledTxns.containsKey(CryptoTransfer));
+		// and:
+		assertTrue(subject.ingestedOps.containsKey(TokenGetInfo));
+		assertFalse(subject.preHandledTxns.containsKey(TokenGetInfo));
+		assertFalse(subject.handledTxns.containsKey(TokenGetInfo));
+		// and:
+		assertFalse(subject.ingestedOps.containsKey(NONE));
+		assertFalse(subject.preHandledTxns.containsKey(NONE));
+		assertFalse(subject.handledTxns.containsKey(NONE));
+	}
+
+	@Test
+	public void registersExpectedStatEntries() {
+		// setup:
+		StatEntry xferHdlP99 = mock(StatEntry.class);
+		StatEntry infoIngP50 = mock(StatEntry.class);
+		ArgumentCaptor<Supplier<Object>> captor = ArgumentCaptor.forClass(Supplier.class);
+		// and:
+		var xferHdlP99Name = String.format(ServicesStatsConfig.LATENCY_HANDLED_NAME_TPL, "CryptoTransfer", 99);
+		var xferHdlP99Desc = String.format(ServicesStatsConfig.LATENCY_HANDLED_DESC_TPL, "CryptoTransfer", 99);
+		var infoIngP50Name = String.format(ServicesStatsConfig.LATENCY_INGESTED_NAME_TPL, "TokenGetInfo", 50);
+		var infoIngP50Desc = String.format(ServicesStatsConfig.LATENCY_INGESTED_DESC_TPL, "TokenGetInfo", 50);
+
+		given(factory.from(any(), any(), any())).willReturn(mock(StatEntry.class));
+		given(factory.from(
+				argThat(xferHdlP99Name::equals),
+				argThat(xferHdlP99Desc::equals),
+				captor.capture())).willReturn(xferHdlP99);
+		given(factory.from(
+				argThat(infoIngP50Name::equals),
+				argThat(infoIngP50Desc::equals),
+				any())).willReturn(infoIngP50);
+
+		// when:
+		subject.registerWith(platform);
+		// and:
+		subject.recordHandled(CryptoTransfer, 2_000_000L);
+		subject.updateAll();
+
+		// then:
+		verify(platform).addAppStatEntry(xferHdlP99);
+		verify(platform).addAppStatEntry(infoIngP50);
+		assertEquals("CryptoTransferHdlP99Ms", xferHdlP99Name);
+		// and:
+		assertEquals(2.0, (double) captor.getValue().get(), 0.13);
+	}
+
+	@Test
+	public void recordsIntoExpectedHistograms() {
+		// when:
+		subject.recordIngested(TokenGetInfo, 1_000_000L);
+		subject.recordPreHandled(CryptoTransfer, 3_000_000L);
+		subject.recordHandled(CryptoTransfer, 5_000_000L);
+		// and:
+		subject.updateAll();
+
+		// then:
+		assertEquals(1.0, subject.ingestedOps.get(TokenGetInfo).p50Ms(), 0.07);
+		assertEquals(3.0, subject.preHandledTxns.get(CryptoTransfer).p50Ms(), 0.2);
+		assertEquals(5.0, subject.handledTxns.get(CryptoTransfer).p50Ms(), 0.32);
+		assertEquals(0.0, subject.ingestedOps.get(CryptoTransfer).p50Ms());
+	}
+
+	@Test
+	public void ignoredOpsAreNoops() {
+		// expect:
+		assertDoesNotThrow(() -> subject.recordIngested(NONE, 1L));
+		assertDoesNotThrow(() -> subject.recordPreHandled(TokenGetInfo, 1L));
+		assertDoesNotThrow(() -> subject.recordHandled(NONE, 1L));
+	}
+}
@@ -0,0 +1,84 @@
+package com.hedera.services.stats;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import org.junit.jupiter.api.Test;
+
+import static com.hedera.services.stats.LatencyHistogram.NUM_BUCKETS;
+import static com.hedera.services.stats.LatencyHistogram.indexOf;
+import static com.hedera.services.stats.LatencyHistogram.midpointOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+	LatencyHistogram subject = new LatencyHistogram();
+
+	@Test
+	public void bucketsAreLinearThenLogarithmic() {
+		// expect:
+		assertEquals(0, indexOf(-1L));
+		assertEquals(31, indexOf(31L));
+		assertEquals(32, indexOf(32L));
+		assertEquals(32, indexOf(33L));
+		assertEquals(47, indexOf(63L));
+		assertEquals(48, indexOf(64L));
+		assertEquals(NUM_BUCKETS - 1, indexOf(Long.MAX_VALUE));
+		// and:
+		assertEquals(31.0, midpointOf(31));
+		assertEquals(33.0, midpointOf(32));
+		assertEquals(66.0, midpointOf(48));
+	}
+
+	@Test
+	public void bucketMidpointsAreWithinSixPercent() {
+		for (long micros = 32; micros < 1L << 30; micros = micros * 3 / 2) {
+			// when:
+			var midpoint = midpointOf(indexOf(micros));
+
+			// then:
+			assertTrue(Math.abs(midpoint - micros) / micros <= 0.0625, "Imprecise for " + micros);
+		}
+	}
+
+	@Test
+	public void samplesPercentilesOfLatestInterval() {
+		// given:
+		for (int i = 0; i < 98; i++) {
+			subject.recordNanos(10_000L);
+		}
+		subject.recordNanos(5_000_000L);
+		subject.recordNanos(5_000_000L);
+
+		// when:
+		subject.sample();
+
+		// then:
+		assertEquals(0.010, subject.p50Ms(), 0.001);
+		assertEquals(5.0, subject.p99Ms(), 0.32);
+
+		// and when:
+		subject.sample();
+
+		// then:
+		assertEquals(0.0, subject.p50Ms());
+		assertEquals(0.0, subject.p99Ms());
+	}
+}
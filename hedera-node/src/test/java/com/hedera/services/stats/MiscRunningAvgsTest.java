@@ -59,6 +59,18 @@ class MiscRunningAvgsTest {
 		StatEntry waitMs = mock(StatEntry.class);
 		StatEntry queueSizes = mock(StatEntry.class);
 		StatEntry submitSizes = mock(StatEntry.class);
+		StatEntry projectionHits = mock(StatEntry.class);
+		StatEntry purgeMs = mock(StatEntry.class);
+		StatEntry backlogSecs = mock(StatEntry.class);
+		StatEntry preparedHits = mock(StatEntry.class);
+		StatEntry syntaxHits = mock(StatEntry.class);
+		StatEntry contractSigs = mock(StatEntry.class);
+		StatEntry evmAccountHits = mock(StatEntry.class);
+		StatEntry groupSize = mock(StatEntry.class);
+		StatEntry signedStateAgeMs = mock(StatEntry.class);
+		StatEntry queryWaitMs = mock(StatEntry.class);
+		StatEntry accountsHashMs = mock(StatEntry.class);
+		StatEntry scheduleTxsHashMs = mock(StatEntry.class);
 
 		given(factory.from(
 				argThat(MiscRunningAvgs.Names.ACCOUNT_LOOKUP_RETRIES::equals),
@@ -76,6 +88,54 @@ class MiscRunningAvgsTest {
 				argThat(MiscRunningAvgs.Names.HANDLED_SUBMIT_MESSAGE_SIZE::equals),
 				argThat(MiscRunningAvgs.Descriptions.HANDLED_SUBMIT_MESSAGE_SIZE::equals),
 				argThat(subject.handledSubmitMessageSize::equals))).willReturn(submitSizes);
+		given(factory.from(
+				argThat(MiscRunningAvgs.Names.QUERY_PROJECTION_HIT_RATE::equals),
+				argThat(MiscRunningAvgs.Descriptions.QUERY_PROJECTION_HIT_RATE::equals),
+				argThat(subject.queryProjectionHits::equals))).willReturn(projectionHits);
+		given(factory.from(
+				argThat(MiscRunningAvgs.Names.EXPIRED_RECORDS_PURGE_MS::equals),
+				argThat(MiscRunningAvgs.Descriptions.EXPIRED_RECORDS_PURGE_MS::equals),
+				argThat(subject.expiredRecordsPurgeMs::equals))).willReturn(purgeMs);
+		given(factory.from(
+				argThat(MiscRunningAvgs.Names.EXPIRED_RECORDS_BACKLOG_SECS::equals),
+				argThat(MiscRunningAvgs.Descriptions.EXPIRED_RECORDS_BACKLOG_SECS::equals),
+				argThat(subject.expiredRecordsBacklogSecs::equals))).willReturn(backlogSecs);
+		given(factory.from(
+				argThat(MiscRunningAvgs.Names.PREPARED_TXN_HIT_RATE::equals),
+				argThat(MiscRunningAvgs.Descriptions.PREPARED_TXN_HIT_RATE::equals),
+				argThat(subject.preparedTxnHits::equals))).willReturn(preparedHits);
+		given(factory.from(
+				argThat(MiscRunningAvgs.Names.PRE_CHECKED_SYNTAX_HIT_RATE::equals),
+				argThat(MiscRunningAvgs.Descriptions.PRE_CHECKED_SYNTAX_HIT_RATE::equals),
+				argThat(subject.preCheckedSyntaxHits::equals))).willReturn(syntaxHits);
+		given(factory.from(
+				argThat(MiscRunningAvgs.Names.CONTRACT_SIGS_FROM_EXPANSION_RATE::equals),
+				argThat(MiscRunningAvgs.Descriptions.CONTRACT_SIGS_FROM_EXPANSION_RATE::equals),
+				argThat(subject.contractSigsFromExpansion::equals))).willReturn(contractSigs);
+		given(factory.from(
+				argThat(MiscRunningAvgs.Names.EVM_ACCOUNT_CACHE_HIT_RATIO::equals),
+				argThat(MiscRunningAvgs.Descriptions.EVM_ACCOUNT_CACHE_HIT_RATIO::equals),
+				argThat(subject.evmAccountCacheHits::equals))).willReturn(evmAccountHits);
+		given(factory.from(
+				argThat(MiscRunningAvgs.Names.CONFLICT_FREE_GROUP_SIZE::equals),
+				argThat(MiscRunningAvgs.Descriptions.CONFLICT_FREE_GROUP_SIZE::equals),
+				argThat(subject.conflictFreeGroupSize::equals))).willReturn(groupSize);
+		given(factory.from(
+				argThat(MiscRunningAvgs.Names.QUERY_SIGNED_STATE_AGE_MS::equals),
+				argThat(MiscRunningAvgs.Descriptions.QUERY_SIGNED_STATE_AGE_MS::equals),
+				argThat(subject.querySignedStateAgeMs::equals))).willReturn(signedStateAgeMs);
+		given(factory.from(
+				argThat(MiscRunningAvgs.Names.QUERY_QUEUE_WAIT_MS::equals),
+				argThat(MiscRunningAvgs.Descriptions.QUERY_QUEUE_WAIT_MS::equals),
+				argThat(subject.queryQueueWaitMs::equals))).willReturn(queryWaitMs);
+		given(factory.from(
+				argThat(MiscRunningAvgs.Names.ACCOUNTS_HASH_MS::equals),
+				argThat(MiscRunningAvgs.Descriptions.ACCOUNTS_HASH_MS::equals),
+				argThat(subject.accountsHashMs::equals))).willReturn(accountsHashMs);
+		given(factory.from(
+				argThat(MiscRunningAvgs.Names.SCHEDULE_TXS_HASH_MS::equals),
+				argThat(MiscRunningAvgs.Descriptions.SCHEDULE_TXS_HASH_MS::equals),
+				argThat(subject.scheduleTxsHashMs::equals))).willReturn(scheduleTxsHashMs);
 
 		// when:
 		subject.registerWith(platform);
@@ -85,6 +145,18 @@ class MiscRunningAvgsTest {
 		verify(platform).addAppStatEntry(waitMs);
 		verify(platform).addAppStatEntry(queueSizes);
 		verify(platform).addAppStatEntry(submitSizes);
+		verify(platform).addAppStatEntry(projectionHits);
+		verify(platform).addAppStatEntry(purgeMs);
+		verify(platform).addAppStatEntry(backlogSecs);
+		verify(platform).addAppStatEntry(preparedHits);
+		verify(platform).addAppStatEntry(syntaxHits);
+		verify(platform).addAppStatEntry(contractSigs);
+		verify(platform).addAppStatEntry(evmAccountHits);
+		verify(platform).addAppStatEntry(groupSize);
+		verify(platform).addAppStatEntry(signedStateAgeMs);
+		verify(platform).addAppStatEntry(queryWaitMs);
+		verify(platform).addAppStatEntry(accountsHashMs);
+		verify(platform).addAppStatEntry(scheduleTxsHashMs);
 	}
 
 	@Test
@@ -94,22 +166,88 @@ class MiscRunningAvgsTest {
 		StatsRunningAverage waitMs = mock(StatsRunningAverage.class);
 		StatsRunningAverage queueSize = mock(StatsRunningAverage.class);
 		StatsRunningAverage submitSizes = mock(StatsRunningAverage.class);
+		StatsRunningAverage projectionHits = mock(StatsRunningAverage.class);
+		StatsRunningAverage purgeMs = mock(StatsRunningAverage.class);
+		StatsRunningAverage backlogSecs = mock(StatsRunningAverage.class);
+		StatsRunningAverage preparedHits = mock(StatsRunningAverage.class);
+		StatsRunningAverage syntaxHits = mock(StatsRunningAverage.class);
+		StatsRunningAverage contractSigs = mock(StatsRunningAverage.class);
+		StatsRunningAverage evmAccountHits = mock(StatsRunningAverage.class);
+		StatsRunningAverage groupSize = mock(StatsRunningAverage.class);
+		StatsRunningAverage signedStateAgeMs = mock(StatsRunningAverage.class);
+		StatsRunningAverage queryWaitMs = mock(StatsRunningAverage.class);
+		StatsRunningAverage accountsHashMs = mock(StatsRunningAverage.class);
+		StatsRunningAverage storageHashMs = mock(StatsRunningAverage.class);
+		StatsRunningAverage topicsHashMs = mock(StatsRunningAverage.class);
+		StatsRunningAverage tokensHashMs = mock(StatsRunningAverage.class);
+		StatsRunningAverage tokenAssociationsHashMs = mock(StatsRunningAverage.class);
+		StatsRunningAverage scheduleTxsHashMs = mock(StatsRunningAverage.class);
 		// and:
 		subject.accountLookupRetries = retries;
 		subject.accountRetryWaitMs = waitMs;
 		subject.handledSubmitMessageSize = submitSizes;
 		subject.writeQueueSizeRecordStream = queueSize;
+		subject.queryProjectionHits = projectionHits;
+		subject.expiredRecordsPurgeMs = purgeMs;
+		subject.expiredRecordsBacklogSecs = backlogSecs;
+		subject.preparedTxnHits = preparedHits;
+		subject.preCheckedSyntaxHits = syntaxHits;
+		subject.contractSigsFromExpansion = contractSigs;
+		subject.evmAccountCacheHits = evmAccountHits;
+		subject.conflictFreeGroupSize = groupSize;
+		subject.querySignedStateAgeMs = signedStateAgeMs;
+		subject.queryQueueWaitMs = queryWaitMs;
+		subject.accountsHashMs = accountsHashMs;
+		subject.storageHashMs = storageHashMs;
+		subject.topicsHashMs = topicsHashMs;
+		subject.tokensHashMs = tokensHashMs;
+		subject.tokenAssociationsHashMs = tokenAssociationsHashMs;
+		subject.scheduleTxsHashMs = scheduleTxsHashMs;
 
 		// when:
 		subject.recordAccountLookupRetries(1);
 		subject.recordAccountRetryWaitMs(2.0);
 		subject.recordHandledSubmitMessageSize(3);
 		subject.writeQueueSizeRecordStream(4);
+		subject.recordQueryProjectionLookup(true);
+		subject.recordQueryProjectionLookup(false);
+		subject.recordExpiredRecordsPurgeMs(11.0);
+		subject.recordExpiredRecordsBacklogSecs(12);
+		subject.recordPreparedTxnLookup(true);
+		subject.recordPreCheckedSyntaxLookup(false);
+		subject.recordContractSigLookup(true);
+		subject.recordEvmAccountCacheHitRatio(0.75);
+		subject.recordConflictFreeGroupSize(3);
+		subject.recordQuerySignedStateAgeMs(1_500.0);
+		subject.recordQueryQueueWaitMs(2.5);
+		subject.recordAccountsHashMs(5.0);
+		subject.recordStorageHashMs(6.0);
+		subject.recordTopicsHashMs(7.0);
+		subject.recordTokensHashMs(8.0);
+		subject.recordTokenAssociationsHashMs(9.0);
+		subject.recordScheduleTxsHashMs(10.0);
 
 		// then:
 		verify(retries).recordValue(1.0);
 		verify(waitMs).recordValue(2.0);
 		verify(submitSizes).recordValue(3.0);
 		verify(queueSize).recordValue(4.0);
+		verify(projectionHits).recordValue(1.0);
+		verify(projectionHits).recordValue(0.0);
+		verify(purgeMs).recordValue(11.0);
+		verify(backlogSecs).recordValue(12.0);
+		verify(preparedHits).recordValue(1.0);
+		verify(syntaxHits).recordValue(0.0);
+		verify(contractSigs).recordValue(1.0);
+		verify(evmAccountHits).recordValue(0.75);
+		verify(groupSize).recordValue(3.0);
+		verify(signedStateAgeMs).recordValue(1_500.0);
+		verify(queryWaitMs).recordValue(2.5);
+		verify(accountsHashMs).recordValue(5.0);
+		verify(storageHashMs).recordValue(6.0);
+		verify(topicsHashMs).recordValue(7.0);
+		verify(tokensHashMs).recordValue(8.0);
+		verify(tokenAssociationsHashMs).recordValue(9.0);
+		verify(scheduleTxsHashMs).recordValue(10.0);
 	}
 }
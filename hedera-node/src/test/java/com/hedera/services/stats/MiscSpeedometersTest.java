@@ -28,9 +28,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.mockito.BDDMockito.any;
+import static org.mockito.BDDMockito.anyDouble;
 import static org.mockito.BDDMockito.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.never;
 import static org.mockito.BDDMockito.verify;
 
 class MiscSpeedometersTest {
@@ -104,13 +106,38 @@ class MiscSpeedometersTest {
 		// when:
 		subject.cycleAccountLookupRetries();
 		subject.cycleAsyncVerifications();
+		subject.cycleAsyncVerifications();
 		subject.cycleSyncVerifications();
 		subject.cyclePlatformTxnRejections();
+		// and:
+		subject.updateAll();
 
 		// then:
 		verify(retries).update(1.0);
 		verify(rejections).update(1.0);
 		verify(sync).update(1.0);
-		verify(async).update(1.0);
+		verify(async).update(2.0);
+	}
+
+	@Test
+	public void onlyCyclesSpeedometersOnUpdate() {
+		// setup:
+		StatsSpeedometer retries = mock(StatsSpeedometer.class);
+		// and:
+		subject.accountLookupRetries = retries;
+
+		// when:
+		subject.cycleAccountLookupRetries();
+
+		// then:
+		verify(retries, never()).update(anyDouble());
+
+		// and when:
+		subject.updateAll();
+		subject.updateAll();
+
+		// then:
+		verify(retries).update(1.0);
+		verify(retries).update(0.0);
 	}
 }
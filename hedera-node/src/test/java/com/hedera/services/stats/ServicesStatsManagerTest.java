@@ -48,6 +48,7 @@ class ServicesStatsManagerTest {
 	MiscRunningAvgs runningAvgs;
 	MiscSpeedometers miscSpeedometers;
 	HapiOpSpeedometers speedometers;
+	HapiOpLatencies latencies;
 	NodeLocalProperties properties;
 
 	ServicesStatsManager subject;
@@ -66,10 +67,12 @@ class ServicesStatsManagerTest {
 		runningAvgs = mock(MiscRunningAvgs.class);
 		speedometers = mock(HapiOpSpeedometers.class);
 		miscSpeedometers = mock(MiscSpeedometers.class);
+		latencies = mock(HapiOpLatencies.class);
 		properties = mock(NodeLocalProperties.class);
 		given(properties.statsHapiOpsSpeedometerUpdateIntervalMs()).willReturn(updateIntervalMs);
 
-		subject = new ServicesStatsManager(counters, runningAvgs, miscSpeedometers, speedometers, properties);
+		subject = new ServicesStatsManager(
+				counters, runningAvgs, miscSpeedometers, speedometers, latencies, properties);
 	}
 
 
@@ -100,6 +103,7 @@ class ServicesStatsManagerTest {
 		verify(speedometers).registerWith(platform);
 		verify(miscSpeedometers).registerWith(platform);
 		verify(runningAvgs).registerWith(platform);
+		verify(latencies).registerWith(platform);
 		verify(platform).appStatInit();
 		// and:
 		verify(thread).start();
@@ -109,5 +113,7 @@ class ServicesStatsManagerTest {
 		// then:
 		verify(pause).forMs(updateIntervalMs);
 		verify(speedometers).updateAll();
+		verify(miscSpeedometers).updateAll();
+		verify(latencies).updateAll();
 	}
 }
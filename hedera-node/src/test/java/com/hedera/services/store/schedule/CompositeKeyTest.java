@@ -20,7 +20,9 @@ package com.hedera.services.store.schedule;
  * ‍
  */
 
+import com.hedera.services.state.merkle.MerkleSchedule;
 import com.hedera.services.state.submerkle.EntityId;
+import com.hedera.services.state.submerkle.RichInstant;
 import com.hedera.test.utils.IdUtils;
 import com.hedera.test.utils.TxnUtils;
 import com.hederahashgraph.api.proto.java.AccountID;
@@ -37,7 +39,7 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 public class CompositeKeyTest {
 
 	byte[] transactionBody;
-	int transactionBodyHashCode;
+	byte[] transactionBodyDigest;
 	Key adminKey = SCHEDULE_ADMIN_KT.asKey();
 	AccountID payerId = IdUtils.asAccount("1.2.456");
 	String entityMemo = "Some memo here";
@@ -45,13 +47,13 @@ public class CompositeKeyTest {
 	@BeforeEach
 	public void setup() {
 		transactionBody = TxnUtils.randomUtf8Bytes(100);
-		transactionBodyHashCode = Arrays.hashCode(transactionBody);
+		transactionBodyDigest = CompositeKey.bodyDigestOf(transactionBody);
 	}
 
 	@Test
 	public void sameInstanceEquals() {
 		// given:
-		var key = new CompositeKey(transactionBodyHashCode, EntityId.ofNullableAccountId(payerId), adminKey, entityMemo);
+		var key = new CompositeKey(transactionBodyDigest, EntityId.ofNullableAccountId(payerId), adminKey, entityMemo);
 
 		assertEquals(key, key);
 	}
@@ -59,8 +61,8 @@ public class CompositeKeyTest {
 	@Test
 	public void equalsAndHashCodeAreSymmetric() {
 		// given:
-		var key = new CompositeKey(transactionBodyHashCode, EntityId.ofNullableAccountId(payerId), adminKey, entityMemo);
-		var key2 = new CompositeKey(transactionBodyHashCode, EntityId.ofNullableAccountId(payerId), adminKey, entityMemo);
+		var key = new CompositeKey(transactionBodyDigest, EntityId.ofNullableAccountId(payerId), adminKey, entityMemo);
+		var key2 = new CompositeKey(transactionBodyDigest, EntityId.ofNullableAccountId(payerId), adminKey, entityMemo);
 
 		assertEquals(key, key2);
 		assertEquals(key.hashCode(), key2.hashCode());
@@ -69,8 +71,8 @@ public class CompositeKeyTest {
 	@Test
 	public void defaultKeyInstanceWorks() {
 		// given:
-		var key1 = new CompositeKey(transactionBodyHashCode, EntityId.ofNullableAccountId(payerId), adminKey, entityMemo);
-		var key2 = new CompositeKey(transactionBodyHashCode, EntityId.ofNullableAccountId(payerId), Key.getDefaultInstance(), entityMemo);
+		var key1 = new CompositeKey(transactionBodyDigest, EntityId.ofNullableAccountId(payerId), adminKey, entityMemo);
+		var key2 = new CompositeKey(transactionBodyDigest, EntityId.ofNullableAccountId(payerId), Key.getDefaultInstance(), entityMemo);
 
 		assertNotEquals(key1, key2);
 	}
@@ -78,9 +80,41 @@ public class CompositeKeyTest {
 	@Test
 	public void equalsWorksWithAnotherObj() {
 		// given:
-		var key = new CompositeKey(transactionBodyHashCode, EntityId.ofNullableAccountId(payerId), adminKey, entityMemo);
+		var key = new CompositeKey(transactionBodyDigest, EntityId.ofNullableAccountId(payerId), adminKey, entityMemo);
 
 		assertNotEquals(key, new Object());
 	}
 
+	@Test
+	public void bodiesWithSameArraysHashCodeAreDistinguished() {
+		// setup:
+		byte[] aBody = new byte[] { 0, 31 };
+		byte[] bBody = new byte[] { 1, 0 };
+
+		// given:
+		var aKey = new CompositeKey(
+				CompositeKey.bodyDigestOf(aBody), EntityId.ofNullableAccountId(payerId), adminKey, entityMemo);
+		var bKey = new CompositeKey(
+				CompositeKey.bodyDigestOf(bBody), EntityId.ofNullableAccountId(payerId), adminKey, entityMemo);
+
+		// expect:
+		assertEquals(Arrays.hashCode(aBody), Arrays.hashCode(bBody));
+		assertNotEquals(aKey, bKey);
+	}
+
+	@Test
+	public void fromMerkleScheduleUsesBodyDigest() {
+		// given:
+		var schedule = new MerkleSchedule(transactionBody, EntityId.ofNullableAccountId(payerId), new RichInstant(1, 2));
+		schedule.setPayer(EntityId.ofNullableAccountId(payerId));
+		schedule.setMemo(entityMemo);
+
+		// when:
+		var key = CompositeKey.fromMerkleSchedule(schedule);
+
+		// then:
+		assertEquals(
+				new CompositeKey(transactionBodyDigest, EntityId.ofNullableAccountId(payerId), CompositeKey.UNUSED_KEY, entityMemo),
+				key);
+	}
 }
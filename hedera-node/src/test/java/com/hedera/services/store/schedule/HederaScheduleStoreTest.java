@@ -42,7 +42,6 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
 
-import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.Optional;
 import java.util.Set;
@@ -86,7 +85,7 @@ public class HederaScheduleStoreTest {
 
     byte[] transactionBody;
     String entityMemo;
-    int transactionBodyHashCode;
+    byte[] transactionBodyDigest;
     RichInstant schedulingTXValidStart;
     RichInstant consensusTime;
     Key adminKey;
@@ -108,7 +107,7 @@ public class HederaScheduleStoreTest {
     public void setup() {
         transactionBody = TxnUtils.randomUtf8Bytes(SIGNATURE_BYTES);
         entityMemo = "Some memo here";
-        transactionBodyHashCode = Arrays.hashCode(transactionBody);
+        transactionBodyDigest = CompositeKey.bodyDigestOf(transactionBody);
         schedulingTXValidStart = new RichInstant(123, 456);
         consensusTime = new RichInstant(expectedExpiry, 0);
         adminKey = SCHEDULE_ADMIN_KT.asKey();
@@ -425,7 +424,7 @@ public class HederaScheduleStoreTest {
     public void getsScheduleID() {
         // given:
         CompositeKey txKey = new CompositeKey(
-                transactionBodyHashCode,
+                transactionBodyDigest,
                 EntityId.ofNullableAccountId(payerId),
                 adminKey,
                 entityMemo);
@@ -0,0 +1,79 @@
+package com.hedera.services.store.schedule;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.state.merkle.MerkleEntityId;
+import com.hedera.services.state.merkle.MerkleSchedule;
+import com.hedera.test.utils.IdUtils;
+import com.hederahashgraph.api.proto.java.ScheduleID;
+import com.swirlds.fcmap.FCMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.mock;
+
+class ReadOnlyScheduleStoreTest {
+	ScheduleID present = IdUtils.asSchedule("0.0.1234");
+	ScheduleID missing = IdUtils.asSchedule("0.0.4321");
+	MerkleSchedule schedule = mock(MerkleSchedule.class);
+	FCMap<MerkleEntityId, MerkleSchedule> schedules;
+
+	ReadOnlyScheduleStore subject;
+
+	@BeforeEach
+	private void setup() {
+		schedules = mock(FCMap.class);
+		given(schedules.containsKey(MerkleEntityId.fromScheduleId(present))).willReturn(true);
+		given(schedules.get(MerkleEntityId.fromScheduleId(present))).willReturn(schedule);
+
+		subject = new ReadOnlyScheduleStore(() -> schedules);
+	}
+
+	@Test
+	public void looksUpSchedulesInGivenMap() {
+		// expect:
+		assertTrue(subject.exists(present));
+		assertFalse(subject.exists(missing));
+		assertSame(schedule, subject.get(present));
+		assertEquals(present, subject.resolve(present));
+		assertEquals(ScheduleStore.MISSING_SCHEDULE, subject.resolve(missing));
+		assertThrows(IllegalArgumentException.class, () -> subject.get(missing));
+	}
+
+	@Test
+	public void allButLookupsAndSetAreUnsupported() {
+		// expect:
+		assertThrows(UnsupportedOperationException.class, () -> subject.delete(null));
+		assertThrows(UnsupportedOperationException.class, () -> subject.markAsExecuted(null));
+		assertThrows(UnsupportedOperationException.class, () -> subject.lookupScheduleId(null, null, null, null));
+		assertThrows(UnsupportedOperationException.class, subject::commitCreation);
+		// and:
+		assertDoesNotThrow(() -> subject.setAccountsLedger(null));
+		assertDoesNotThrow(() -> subject.setHederaLedger(null));
+	}
+}
@@ -1633,6 +1633,26 @@ class HederaTokenStoreTest {
 		assertEquals(Set.of(created, misc), subject.knownTreasuries.get(treasury));
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void notifiesChangeObserverOnApplyAndCommit() {
+		// setup:
+		Consumer<TokenID> observer = mock(Consumer.class);
+		var change = mock(Consumer.class);
+		subject.setChangeObserver(observer);
+		// and:
+		subject.pendingId = created;
+		subject.pendingCreation = token;
+
+		// when:
+		subject.apply(misc, change);
+		subject.commitCreation();
+
+		// then:
+		verify(observer).accept(misc);
+		verify(observer).accept(created);
+	}
+
 	@Test
 	public void happyPathWorksWithAutoRenew() {
 		// setup:
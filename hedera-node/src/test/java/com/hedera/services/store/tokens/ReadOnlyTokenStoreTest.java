@@ -0,0 +1,80 @@
+package com.hedera.services.store.tokens;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.state.merkle.MerkleEntityId;
+import com.hedera.services.state.merkle.MerkleToken;
+import com.hedera.test.utils.IdUtils;
+import com.hederahashgraph.api.proto.java.TokenID;
+import com.swirlds.fcmap.FCMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.mock;
+
+class ReadOnlyTokenStoreTest {
+	TokenID present = IdUtils.asToken("0.0.1234");
+	TokenID missing = IdUtils.asToken("0.0.4321");
+	MerkleToken token = mock(MerkleToken.class);
+	FCMap<MerkleEntityId, MerkleToken> tokens;
+
+	ReadOnlyTokenStore subject;
+
+	@BeforeEach
+	private void setup() {
+		tokens = mock(FCMap.class);
+		given(tokens.containsKey(MerkleEntityId.fromTokenId(present))).willReturn(true);
+		given(tokens.get(MerkleEntityId.fromTokenId(present))).willReturn(token);
+
+		subject = new ReadOnlyTokenStore(() -> tokens);
+	}
+
+	@Test
+	public void looksUpTokensInGivenMap() {
+		// expect:
+		assertTrue(subject.exists(present));
+		assertFalse(subject.exists(missing));
+		assertSame(token, subject.get(present));
+		assertEquals(present, subject.resolve(present));
+		assertEquals(TokenStore.MISSING_TOKEN, subject.resolve(missing));
+		assertThrows(IllegalArgumentException.class, () -> subject.get(missing));
+	}
+
+	@Test
+	public void allButLookupsAndSetAreUnsupported() {
+		// expect:
+		assertThrows(UnsupportedOperationException.class, () -> subject.freeze(null, null));
+		assertThrows(UnsupportedOperationException.class, () -> subject.adjustBalance(null, null, 0));
+		assertThrows(UnsupportedOperationException.class, () -> subject.createProvisionally(null, null, 0));
+		assertThrows(UnsupportedOperationException.class, () -> subject.update(null, 0));
+		assertThrows(UnsupportedOperationException.class, subject::commitCreation);
+		// and:
+		assertDoesNotThrow(() -> subject.setAccountsLedger(null));
+		assertDoesNotThrow(() -> subject.setHederaLedger(null));
+	}
+}
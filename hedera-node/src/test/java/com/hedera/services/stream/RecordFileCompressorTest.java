@@ -0,0 +1,103 @@
+package com.hedera.services.stream;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+
+class RecordFileCompressorTest {
+	private static final String COMPLETE = "2021-01-12T19_44_28.960705001Z";
+	private static final String IN_PROGRESS = "2021-01-12T19_44_30.442332000Z";
+
+	@TempDir
+	Path recordsDir;
+
+	@Test
+	void compressesOnlyRecordFilesWithSigs() throws IOException {
+		// given:
+		byte[] contents = "Not exactly a record file".getBytes();
+		var complete = write(COMPLETE + ".rcd", contents);
+		write(COMPLETE + ".rcd_sig", new byte[] { 1, 2, 3 });
+		var inProgress = write(IN_PROGRESS + ".rcd", contents);
+		// and:
+		var subject = new RecordFileCompressor(recordsDir.toString());
+
+		// when:
+		int numCompressed = subject.compressCompletedFiles();
+
+		// then:
+		assertEquals(1, numCompressed);
+		assertFalse(complete.exists());
+		assertTrue(inProgress.exists());
+		assertTrue(recordsDir.resolve(COMPLETE + ".rcd_sig").toFile().exists());
+		// and:
+		var compressed = recordsDir.resolve(COMPLETE + ".rcd.gz").toFile();
+		assertArrayEquals(contents, decompressed(compressed));
+		assertFalse(recordsDir.resolve(IN_PROGRESS + ".rcd.gz").toFile().exists());
+	}
+
+	@Test
+	void recognizesOnlyRecordFilesAsCompletable() throws IOException {
+		// given:
+		var sig = write(COMPLETE + ".rcd_sig", new byte[0]);
+		var complete = write(COMPLETE + ".rcd", new byte[0]);
+		var subject = new RecordFileCompressor(recordsDir.toString());
+
+		// expect:
+		assertTrue(subject.isCompleted(complete));
+		assertFalse(subject.isCompleted(sig));
+		assertFalse(subject.isCompleted(recordsDir.toFile()));
+	}
+
+	@Test
+	void compressesNothingInMissingDir() {
+		// given:
+		var subject = new RecordFileCompressor(recordsDir.resolve("nowhere").toString());
+
+		// expect:
+		assertEquals(0, subject.compressCompletedFiles());
+		assertDoesNotThrow(subject::run);
+	}
+
+	private File write(String name, byte[] contents) throws IOException {
+		return Files.write(recordsDir.resolve(name), contents).toFile();
+	}
+
+	private byte[] decompressed(File file) throws IOException {
+		try (InputStream in = new GZIPInputStream(new FileInputStream(file))) {
+			return in.readAllBytes();
+		}
+	}
+}
@@ -116,6 +116,30 @@ public class RecordStreamManagerTest {
 		assertNotNull(enableStreamingInstance.getHashCalculator(), INITIALIZE_NOT_NULL);
 		assertEquals(0, enableStreamingInstance.getHashQueueSize(), INITIALIZE_QUEUE_EMPTY);
 		assertEquals(0, enableStreamingInstance.getWriteQueueSize(), INITIALIZE_QUEUE_EMPTY);
+		assertNull(enableStreamingInstance.getCompressionExecutor(),
+				"When record file compression is disabled, compressionExecutor should be null");
+	}
+
+	@Test
+	public void startsCompressorWhenEnabled() {
+		// given:
+		NodeLocalProperties compressingProps = mock(NodeLocalProperties.class);
+		given(compressingProps.isRecordStreamEnabled()).willReturn(true);
+		given(compressingProps.shouldCompressRecordFiles()).willReturn(true);
+		configProps(compressingProps);
+
+		// when:
+		var subject = new RecordStreamManager(
+				platform,
+				runningAvgsMock,
+				compressingProps,
+				recordStreamDir,
+				INITIAL_RANDOM_HASH);
+
+		// then:
+		assertNotNull(subject.getCompressionExecutor());
+		// cleanup:
+		subject.getCompressionExecutor().shutdownNow();
 	}
 
 	@Test
@@ -129,6 +129,28 @@ public class RecordStreamObjectTest {
 		}
 	}
 
+	@Test
+	public void serializesKnownTransactionBytesVerbatim() throws IOException {
+		// given:
+		var withBytes = new RecordStreamObject(
+				realObject.getTransactionRecord(),
+				realObject.getTransaction(),
+				realObject.getTransaction().toByteArray(),
+				realObject.getTimestamp());
+
+		// expect:
+		Assert.assertArrayEquals(serialized(realObject), serialized(withBytes));
+	}
+
+	private static byte[] serialized(RecordStreamObject object) throws IOException {
+		try (ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+			 SerializableDataOutputStream out = new SerializableDataOutputStream(byteArrayOutputStream)) {
+			object.serialize(out);
+			out.flush();
+			return byteArrayOutputStream.toByteArray();
+		}
+	}
+
 	private static RecordStreamObject getRecordStreamObject() {
 		final Instant consensusTimestamp = Instant.now();
 		final AccountID.Builder accountID = AccountID.newBuilder().setAccountNum(3);
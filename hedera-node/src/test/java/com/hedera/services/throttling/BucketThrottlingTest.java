@@ -261,6 +261,56 @@ class BucketThrottlingTest {
 		verify(test).isAvailable();
 	}
 
+	@Test
+	void throttlesBatchAsUnit() {
+		// setup:
+		var test = mock(CapacityTest.class);
+		subject.capacities = new EnumMap<>(HederaFunctionality.class);
+
+		given(test.isAvailable(3)).willReturn(false);
+		// and:
+		subject.capacities.put(txn, test);
+
+		// when:
+		var flag = subject.shouldThrottle(txn, 3);
+
+		// then:
+		assertTrue(flag);
+		verify(test).isAvailable(3);
+	}
+
+	@Test
+	void delegatesMaxBatchSize() {
+		// setup:
+		var test = mock(CapacityTest.class);
+		subject.capacities = new EnumMap<>(HederaFunctionality.class);
+
+		given(test.maxBatchSize()).willReturn(7);
+		// and:
+		subject.capacities.put(txn, test);
+
+		// expect:
+		assertEquals(7, subject.maxBatchSize(txn));
+	}
+
+	@Test
+	void noBatchWithoutCapacityTest() {
+		// setup:
+		subject.capacities = new EnumMap<>(HederaFunctionality.class);
+
+		// expect:
+		assertEquals(0, subject.maxBatchSize(txn));
+	}
+
+	@Test
+	void throttlesBatchByDefault() {
+		// setup:
+		subject.capacities = new EnumMap<>(HederaFunctionality.class);
+
+		// expect:
+		assertTrue(subject.shouldThrottle(txn, 3));
+	}
+
 	@Test
 	void throttlesByDefault() {
 		// setup:
@@ -100,6 +100,46 @@ class BucketThrottleTest {
 		assertTrue(subject.hasAvailableCapacity(amount));
 	}
 
+	@Test
+	void batchNeverReconfiguresPrimary() {
+		// given:
+		var primary = new Throttle(1.0, 2.0);
+		subject = new BucketThrottle("T", primary);
+
+		// when:
+		var avail = subject.hasAvailableBatchCapacity(3.0);
+
+		// then:
+		Assertions.assertFalse(avail);
+		Assertions.assertSame(primary, subject.primary);
+	}
+
+	@Test
+	void batchUsesOverflowIfAvailable() {
+		// setup:
+		subject.setOverflow(overflow);
+
+		given(p.allow(amount)).willReturn(false);
+		given(o.allow(amount)).willReturn(true);
+
+		// expect:
+		assertTrue(subject.hasAvailableBatchCapacity(amount));
+	}
+
+	@Test
+	void batchCapacityIsLargestInOverflowChain() {
+		// setup:
+		subject.setOverflow(overflow);
+		overflow.setOverflow(spillover);
+
+		given(p.getCapacity()).willReturn(1.0);
+		given(o.getCapacity()).willReturn(3.0);
+		given(s.getCapacity()).willReturn(2.0);
+
+		// expect:
+		assertEquals(3.0, subject.batchCapacity());
+	}
+
 	@Test
 	public void representsExpected() {
 		givenRealThrottles();
@@ -57,6 +57,36 @@ class CapacityTestTest {
 		verify(bucket, times(2)).hasAvailableCapacity(req);
 	}
 
+	@Test
+	public void delegatesBatchAsExpected() {
+		given(bucket.hasAvailableBatchCapacity(3 * req)).willReturn(true);
+
+		// when:
+		boolean flag = subject.isAvailable(3);
+
+		// then:
+		assertTrue(flag);
+		// and:
+		verify(bucket).hasAvailableBatchCapacity(3 * req);
+	}
+
+	@Test
+	public void maxBatchSizeIsWholeUsesOfBatchCapacity() {
+		given(bucket.batchCapacity()).willReturn(3.5 * req);
+
+		// expect:
+		assertEquals(3, subject.maxBatchSize());
+	}
+
+	@Test
+	public void maxBatchSizeIsUnboundedIfFree() {
+		// given:
+		subject = new CapacityTest(0.0, bucket);
+
+		// expect:
+		assertEquals(Integer.MAX_VALUE, subject.maxBatchSize());
+	}
+
 	@Test
 	void toStringWorks() {
 		// setup:
@@ -0,0 +1,169 @@
+package com.hedera.services.txns;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.stats.MiscRunningAvgs;
+import com.hedera.services.store.tokens.TokenStore;
+import com.hedera.services.utils.SignedTxnAccessor;
+import com.hedera.services.utils.TxnAccessor;
+import com.hedera.test.utils.IdUtils;
+import com.hederahashgraph.api.proto.java.AccountAmount;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.ConsensusSubmitMessageTransactionBody;
+import com.hederahashgraph.api.proto.java.CryptoCreateTransactionBody;
+import com.hederahashgraph.api.proto.java.CryptoTransferTransactionBody;
+import com.hederahashgraph.api.proto.java.Transaction;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import com.hederahashgraph.api.proto.java.TransferList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.times;
+import static org.mockito.BDDMockito.verify;
+
+class ConflictFreeGroupsTest {
+	Instant now = Instant.ofEpochSecond(1_234_567L, 890);
+	AccountID node = IdUtils.asAccount("0.0.3");
+	AccountID funding = IdUtils.asAccount("0.0.98");
+
+	MiscRunningAvgs runningAvgs;
+	GlobalDynamicProperties dynamicProperties;
+	TokenStore tokenStore;
+
+	ConflictFreeGroups subject;
+
+	@BeforeEach
+	private void setup() {
+		runningAvgs = mock(MiscRunningAvgs.class);
+		dynamicProperties = mock(GlobalDynamicProperties.class);
+		given(dynamicProperties.fundingAccount()).willReturn(funding);
+		tokenStore = mock(TokenStore.class);
+
+		subject = new ConflictFreeGroups(runningAvgs, dynamicProperties, tokenStore);
+	}
+
+	@Test
+	public void groupsDisjointTransfers() throws Exception {
+		// when:
+		subject.observe(transfer("0.0.1001", "0.0.2001"), now);
+		subject.observe(transfer("0.0.1002", "0.0.2002"), now.plusNanos(1));
+		subject.observe(submit("0.0.1003", "0.0.3001"), now.plusNanos(2));
+
+		// then:
+		assertEquals(3, subject.currentGroupSize());
+		verify(runningAvgs, never()).recordConflictFreeGroupSize(anyInt());
+	}
+
+	@Test
+	public void creditsToSameReceiverCloseGroup() throws Exception {
+		// when:
+		subject.observe(transfer("0.0.1001", "0.0.2001"), now);
+		subject.observe(transfer("0.0.1002", "0.0.2001"), now.plusNanos(1));
+
+		// then:
+		verify(runningAvgs).recordConflictFreeGroupSize(1);
+		assertEquals(1, subject.currentGroupSize());
+	}
+
+	@Test
+	public void debitOfCreditedAccountClosesGroup() throws Exception {
+		// when:
+		subject.observe(transfer("0.0.1001", "0.0.2001"), now);
+		subject.observe(transfer("0.0.1002", "0.0.2002"), now.plusNanos(1));
+		subject.observe(transfer("0.0.2001", "0.0.2003"), now.plusNanos(2));
+
+		// then:
+		verify(runningAvgs).recordConflictFreeGroupSize(2);
+		assertEquals(1, subject.currentGroupSize());
+	}
+
+	@Test
+	public void samePayerClosesGroup() throws Exception {
+		// when:
+		subject.observe(transfer("0.0.1001", "0.0.2001"), now);
+		subject.observe(submit("0.0.1001", "0.0.3001"), now.plusNanos(1));
+
+		// then:
+		verify(runningAvgs).recordConflictFreeGroupSize(1);
+	}
+
+	@Test
+	public void newConsensusSecondClosesGroup() throws Exception {
+		// when:
+		subject.observe(transfer("0.0.1001", "0.0.2001"), now);
+		subject.observe(transfer("0.0.1002", "0.0.2002"), now.plusSeconds(1));
+
+		// then:
+		verify(runningAvgs).recordConflictFreeGroupSize(1);
+	}
+
+	@Test
+	public void exclusiveTxnIsGroupOfItsOwn() throws Exception {
+		// when:
+		subject.observe(transfer("0.0.1001", "0.0.2001"), now);
+		subject.observe(create("0.0.1002"), now.plusNanos(1));
+		subject.observe(transfer("0.0.1003", "0.0.2003"), now.plusNanos(2));
+
+		// then:
+		verify(runningAvgs, times(2)).recordConflictFreeGroupSize(1);
+		assertEquals(1, subject.currentGroupSize());
+	}
+
+	private TxnAccessor transfer(String from, String to) throws Exception {
+		return accessorFor(from, TransactionBody.newBuilder()
+				.setCryptoTransfer(CryptoTransferTransactionBody.newBuilder()
+						.setTransfers(TransferList.newBuilder()
+								.addAccountAmounts(adjust(from, -1))
+								.addAccountAmounts(adjust(to, +1)))));
+	}
+
+	private TxnAccessor submit(String payer, String topic) throws Exception {
+		return accessorFor(payer, TransactionBody.newBuilder()
+				.setConsensusSubmitMessage(ConsensusSubmitMessageTransactionBody.newBuilder()
+						.setTopicID(IdUtils.asTopic(topic))));
+	}
+
+	private TxnAccessor create(String payer) throws Exception {
+		return accessorFor(payer, TransactionBody.newBuilder()
+				.setCryptoCreateAccount(CryptoCreateTransactionBody.getDefaultInstance()));
+	}
+
+	private TxnAccessor accessorFor(String payer, TransactionBody.Builder txn) throws Exception {
+		var body = txn
+				.setTransactionID(TransactionID.newBuilder().setAccountID(IdUtils.asAccount(payer)))
+				.setNodeAccountID(node)
+				.build();
+		return new SignedTxnAccessor(Transaction.newBuilder().setBodyBytes(body.toByteString()).build());
+	}
+
+	private AccountAmount adjust(String account, long amount) {
+		return AccountAmount.newBuilder().setAccountID(IdUtils.asAccount(account)).setAmount(amount).build();
+	}
+}
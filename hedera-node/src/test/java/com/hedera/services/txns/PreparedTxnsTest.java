@@ -0,0 +1,278 @@
+package com.hedera.services.txns;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.sigs.order.SigningOrderPlan;
+import com.hedera.test.factories.txns.PlatformTxnFactory;
+import com.hederahashgraph.api.proto.java.ConsensusSubmitMessageTransactionBody;
+import com.hederahashgraph.api.proto.java.CryptoTransferTransactionBody;
+import com.hederahashgraph.api.proto.java.FileUpdateTransactionBody;
+import com.hederahashgraph.api.proto.java.SignatureMap;
+import com.hederahashgraph.api.proto.java.SignaturePair;
+import com.hederahashgraph.api.proto.java.SignedTransaction;
+import com.hederahashgraph.api.proto.java.Transaction;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static com.hedera.services.legacy.proto.utils.CommonUtils.noThrowSha384HashOf;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.ConsensusSubmitMessage;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.FileUpdate;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_ACCOUNT_AMOUNTS;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.verify;
+
+class PreparedTxnsTest {
+	long generation = 7L;
+	byte[] message = "Hello, world!".getBytes();
+	SignatureMap sigMap = SignatureMap.newBuilder()
+			.addSigPair(SignaturePair.newBuilder()
+					.setPubKeyPrefix(ByteString.copyFromUtf8("a"))
+					.setEd25519(ByteString.copyFromUtf8("not-really-a-sig")))
+			.build();
+	TransactionBody transfer = TransactionBody.newBuilder()
+			.setCryptoTransfer(CryptoTransferTransactionBody.getDefaultInstance())
+			.build();
+	TransactionBody submit = TransactionBody.newBuilder()
+			.setConsensusSubmitMessage(ConsensusSubmitMessageTransactionBody.newBuilder()
+					.setMessage(ByteString.copyFrom(message)))
+			.build();
+	TransactionBody update = TransactionBody.newBuilder()
+			.setFileUpdate(FileUpdateTransactionBody.getDefaultInstance())
+			.build();
+
+	TransitionLogic logic;
+	TransitionLogicLookup lookup;
+	GlobalDynamicProperties dynamicProperties;
+
+	PreparedTxns subject;
+
+	@BeforeEach
+	public void setup() {
+		logic = mock(TransitionLogic.class);
+		given(logic.syntaxCheck()).willReturn(ignore -> INVALID_ACCOUNT_AMOUNTS);
+		lookup = mock(TransitionLogicLookup.class);
+		given(lookup.lookupFor(any(), any())).willReturn(Optional.of(logic));
+		dynamicProperties = mock(GlobalDynamicProperties.class);
+		given(dynamicProperties.generation()).willReturn(generation);
+
+		subject = new PreparedTxns(2, lookup, dynamicProperties);
+	}
+
+	@Test
+	public void preparesConsensusIndependentWork() throws InvalidProtocolBufferException {
+		// given:
+		var platformTxn = platformTxnWith(transfer);
+
+		// when:
+		var accessor = subject.prepare(platformTxn);
+
+		// then:
+		var artifacts = accessor.getPreHandleArtifacts();
+		assertEquals(generation, artifacts.getPropertiesGeneration());
+		assertSame(logic, artifacts.getLogic().get());
+		assertEquals(INVALID_ACCOUNT_AMOUNTS, artifacts.getSyntaxVerdict());
+		assertNull(artifacts.getSubmitMessageHash());
+		// and:
+		verify(lookup).lookupFor(CryptoTransfer, transfer);
+		assertEquals(1, accessor.numSigPairs());
+		assertEquals(sigMap.getSerializedSize(), accessor.sigMapSize());
+		assertEquals(1, subject.size());
+	}
+
+	@Test
+	public void hashesSubmittedMessage() throws InvalidProtocolBufferException {
+		// when:
+		var accessor = subject.prepare(platformTxnWith(submit));
+
+		// then:
+		verify(lookup).lookupFor(ConsensusSubmitMessage, submit);
+		assertArrayEquals(noThrowSha384HashOf(message), accessor.getPreHandleArtifacts().getSubmitMessageHash());
+	}
+
+	@Test
+	public void leavesConsensusDependentSyntaxCheckForHandle() throws InvalidProtocolBufferException {
+		// when:
+		var accessor = subject.prepare(platformTxnWith(update));
+
+		// then:
+		verify(lookup).lookupFor(FileUpdate, update);
+		verify(logic, never()).syntaxCheck();
+		assertNull(accessor.getPreHandleArtifacts().getSyntaxVerdict());
+		assertNull(subject.currentSyntaxVerdictFor(accessor));
+	}
+
+	@Test
+	public void claimsPreparedAccessorWithoutStalePlan() throws InvalidProtocolBufferException {
+		// setup:
+		var platformTxn = platformTxnWith(transfer);
+
+		// given:
+		var prepared = subject.prepare(platformTxn);
+		prepared.setSigningOrderPlan(new SigningOrderPlan(0L, Collections.emptyList(), Collections.emptyList(), 0));
+
+		// when:
+		var accessor = subject.accessorFor(platformTxn);
+
+		// then:
+		assertSame(prepared, accessor);
+		assertTrue(subject.wasPrepared(accessor));
+		assertNull(accessor.getSigningOrderPlan());
+		assertEquals(0, subject.size());
+	}
+
+	@Test
+	public void parsesAnewIfNotPrepared() throws InvalidProtocolBufferException {
+		// setup:
+		var platformTxn = platformTxnWith(transfer);
+
+		// when:
+		var accessor = subject.accessorFor(platformTxn);
+
+		// then:
+		assertFalse(subject.wasPrepared(accessor));
+		assertEquals(transfer, accessor.getTxn());
+	}
+
+	@Test
+	public void parsesAnewIfContentsChanged() throws InvalidProtocolBufferException {
+		// setup:
+		var platformTxn = mock(com.swirlds.common.Transaction.class);
+		given(platformTxn.getContents())
+				.willReturn(signedTxnWith(transfer).toByteArray())
+				.willReturn(signedTxnWith(submit).toByteArray());
+
+		// given:
+		var prepared = subject.prepare(platformTxn);
+
+		// when:
+		var accessor = subject.accessorFor(platformTxn);
+
+		// then:
+		assertNotSame(prepared, accessor);
+		assertEquals(submit, accessor.getTxn());
+	}
+
+	@Test
+	public void neverHandsOverAccessorPreparedForContentEqualTxn() throws InvalidProtocolBufferException {
+		// setup:
+		var first = platformTxnWith(transfer);
+		var second = platformTxnWith(transfer);
+
+		// given:
+		subject.prepare(first);
+		var preparedForSecond = subject.prepare(second);
+
+		// when:
+		var firstAccessor = subject.accessorFor(first);
+		var secondAccessor = subject.accessorFor(second);
+
+		// then:
+		assertFalse(subject.wasPrepared(firstAccessor));
+		assertSame(first, firstAccessor.getPlatformTxn());
+		// and:
+		assertSame(preparedForSecond, secondAccessor);
+		assertSame(second, secondAccessor.getPlatformTxn());
+		assertEquals(0, subject.size());
+	}
+
+	@Test
+	public void evictsEldestBeyondCapacity() throws InvalidProtocolBufferException {
+		// given:
+		var first = platformTxnWith(transfer);
+		subject.prepare(first);
+		subject.prepare(platformTxnWith(submit));
+		subject.prepare(platformTxnWith(update));
+
+		// when:
+		var accessor = subject.accessorFor(first);
+
+		// then:
+		assertEquals(2, subject.size());
+		assertFalse(subject.wasPrepared(accessor));
+	}
+
+	@Test
+	public void reusesLogicAndCurrentSyntaxVerdict() throws InvalidProtocolBufferException {
+		// given:
+		var accessor = subject.prepare(platformTxnWith(transfer));
+
+		// expect:
+		assertSame(logic, subject.transitionLogicFor(accessor).get());
+		assertEquals(INVALID_ACCOUNT_AMOUNTS, subject.currentSyntaxVerdictFor(accessor));
+		verify(lookup).lookupFor(any(), any());
+	}
+
+	@Test
+	public void ignoresSyntaxVerdictFromOldGeneration() throws InvalidProtocolBufferException {
+		// given:
+		var accessor = subject.prepare(platformTxnWith(transfer));
+		given(dynamicProperties.generation()).willReturn(generation + 1);
+
+		// expect:
+		assertNull(subject.currentSyntaxVerdictFor(accessor));
+	}
+
+	@Test
+	public void looksUpLogicForUnpreparedAccessor() throws InvalidProtocolBufferException {
+		// given:
+		var accessor = subject.accessorFor(platformTxnWith(transfer));
+
+		// when:
+		var found = subject.transitionLogicFor(accessor);
+
+		// then:
+		assertSame(logic, found.get());
+		assertNull(subject.currentSyntaxVerdictFor(accessor));
+		verify(lookup).lookupFor(CryptoTransfer, transfer);
+	}
+
+	private com.swirlds.common.Transaction platformTxnWith(TransactionBody body) {
+		return PlatformTxnFactory.from(signedTxnWith(body));
+	}
+
+	private Transaction signedTxnWith(TransactionBody body) {
+		return Transaction.newBuilder()
+				.setSignedTransactionBytes(SignedTransaction.newBuilder()
+						.setBodyBytes(body.toByteString())
+						.setSigMap(sigMap)
+						.build()
+						.toByteString())
+				.build();
+	}
+}
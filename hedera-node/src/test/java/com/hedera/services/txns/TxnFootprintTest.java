@@ -0,0 +1,210 @@
+package com.hedera.services.txns;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.state.merkle.MerkleToken;
+import com.hedera.services.state.submerkle.EntityId;
+import com.hedera.services.store.tokens.TokenStore;
+import com.hedera.services.utils.SignedTxnAccessor;
+import com.hedera.services.utils.TxnAccessor;
+import com.hedera.test.utils.IdUtils;
+import com.hederahashgraph.api.proto.java.AccountAmount;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.ConsensusSubmitMessageTransactionBody;
+import com.hederahashgraph.api.proto.java.CryptoCreateTransactionBody;
+import com.hederahashgraph.api.proto.java.CryptoTransferTransactionBody;
+import com.hederahashgraph.api.proto.java.TokenBurnTransactionBody;
+import com.hederahashgraph.api.proto.java.TokenID;
+import com.hederahashgraph.api.proto.java.TokenMintTransactionBody;
+import com.hederahashgraph.api.proto.java.TokenTransferList;
+import com.hederahashgraph.api.proto.java.Transaction;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import com.hederahashgraph.api.proto.java.TransferList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.mock;
+
+class TxnFootprintTest {
+	AccountID payer = IdUtils.asAccount("0.0.1234");
+	AccountID node = IdUtils.asAccount("0.0.3");
+	AccountID funding = IdUtils.asAccount("0.0.98");
+	AccountID receiver = IdUtils.asAccount("0.0.5678");
+	AccountID treasury = IdUtils.asAccount("0.0.4321");
+	TokenID token = IdUtils.asToken("0.0.777");
+
+	TokenStore tokenStore;
+
+	@BeforeEach
+	private void setup() {
+		var merkleToken = mock(MerkleToken.class);
+		given(merkleToken.treasury()).willReturn(EntityId.ofNullableAccountId(treasury));
+		tokenStore = mock(TokenStore.class);
+		given(tokenStore.exists(token)).willReturn(true);
+		given(tokenStore.get(token)).willReturn(merkleToken);
+	}
+
+	@Test
+	public void transferTouchesEveryAdjustedAccount() throws Exception {
+		// given:
+		var accessor = accessorFor(TransactionBody.newBuilder()
+				.setCryptoTransfer(CryptoTransferTransactionBody.newBuilder()
+						.setTransfers(TransferList.newBuilder()
+								.addAccountAmounts(adjust(payer, -100))
+								.addAccountAmounts(adjust(receiver, +100)))));
+
+		// when:
+		var footprint = TxnFootprint.of(accessor, funding, tokenStore);
+
+		// then:
+		assertFalse(footprint.isExclusive());
+		assertEquals(Set.of(id(payer), id(receiver)), footprint.getTouched());
+		assertEquals(Set.of(id(node), id(funding)), footprint.getCredited());
+	}
+
+	@Test
+	public void touchedAccountsAreNeverAlsoCredited() throws Exception {
+		// given:
+		var accessor = accessorFor(TransactionBody.newBuilder()
+				.setCryptoTransfer(CryptoTransferTransactionBody.newBuilder()
+						.setTransfers(TransferList.newBuilder()
+								.addAccountAmounts(adjust(payer, -100))
+								.addAccountAmounts(adjust(funding, +100)))));
+
+		// when:
+		var footprint = TxnFootprint.of(accessor, funding, tokenStore);
+
+		// then:
+		assertEquals(Set.of(id(payer), id(funding)), footprint.getTouched());
+		assertEquals(Set.of(id(node)), footprint.getCredited());
+	}
+
+	@Test
+	public void tokenTransferTouchesTokenAndAllParties() throws Exception {
+		// given:
+		var accessor = accessorFor(TransactionBody.newBuilder()
+				.setCryptoTransfer(CryptoTransferTransactionBody.newBuilder()
+						.addTokenTransfers(TokenTransferList.newBuilder()
+								.setToken(token)
+								.addTransfers(adjust(payer, -1))
+								.addTransfers(adjust(receiver, +1)))));
+
+		// when:
+		var footprint = TxnFootprint.of(accessor, funding, tokenStore);
+
+		// then:
+		assertEquals(
+				Set.of(id(payer), id(receiver), EntityId.ofNullableTokenId(token)),
+				footprint.getTouched());
+	}
+
+	@Test
+	public void supplyChangesTouchTokenAndTreasury() throws Exception {
+		// given:
+		var mint = accessorFor(TransactionBody.newBuilder()
+				.setTokenMint(TokenMintTransactionBody.newBuilder().setToken(token)));
+		var burn = accessorFor(TransactionBody.newBuilder()
+				.setTokenBurn(TokenBurnTransactionBody.newBuilder().setToken(token)));
+
+		// expect:
+		assertEquals(
+				Set.of(id(payer), id(treasury), EntityId.ofNullableTokenId(token)),
+				TxnFootprint.of(mint, funding, tokenStore).getTouched());
+		assertEquals(
+				Set.of(id(payer), id(treasury), EntityId.ofNullableTokenId(token)),
+				TxnFootprint.of(burn, funding, tokenStore).getTouched());
+	}
+
+	@Test
+	public void supplyChangeOfMissingTokenTouchesOnlyToken() throws Exception {
+		// setup:
+		var missing = IdUtils.asToken("0.0.778");
+
+		// given:
+		var mint = accessorFor(TransactionBody.newBuilder()
+				.setTokenMint(TokenMintTransactionBody.newBuilder().setToken(missing)));
+
+		// expect:
+		assertEquals(
+				Set.of(id(payer), EntityId.ofNullableTokenId(missing)),
+				TxnFootprint.of(mint, funding, tokenStore).getTouched());
+	}
+
+	@Test
+	public void submitTouchesTopic() throws Exception {
+		// setup:
+		var topic = IdUtils.asTopic("0.0.888");
+
+		// given:
+		var accessor = accessorFor(TransactionBody.newBuilder()
+				.setConsensusSubmitMessage(ConsensusSubmitMessageTransactionBody.newBuilder()
+						.setTopicID(topic)));
+
+		// when:
+		var footprint = TxnFootprint.of(accessor, funding, tokenStore);
+
+		// then:
+		assertEquals(Set.of(id(payer), EntityId.ofNullableTopicId(topic)), footprint.getTouched());
+	}
+
+	@Test
+	public void entityCreationIsExclusive() throws Exception {
+		// given:
+		var accessor = accessorFor(TransactionBody.newBuilder()
+				.setCryptoCreateAccount(CryptoCreateTransactionBody.getDefaultInstance()));
+
+		// expect:
+		assertSame(TxnFootprint.EXCLUSIVE, TxnFootprint.of(accessor, funding, tokenStore));
+	}
+
+	@Test
+	public void triggeredTxnIsExclusive() {
+		// given:
+		var accessor = mock(TxnAccessor.class);
+		given(accessor.isTriggeredTxn()).willReturn(true);
+
+		// expect:
+		assertSame(TxnFootprint.EXCLUSIVE, TxnFootprint.of(accessor, funding, tokenStore));
+	}
+
+	private TxnAccessor accessorFor(TransactionBody.Builder txn) throws Exception {
+		var body = txn
+				.setTransactionID(TransactionID.newBuilder().setAccountID(payer))
+				.setNodeAccountID(node)
+				.build();
+		return new SignedTxnAccessor(Transaction.newBuilder().setBodyBytes(body.toByteString()).build());
+	}
+
+	private AccountAmount adjust(AccountID account, long amount) {
+		return AccountAmount.newBuilder().setAccountID(account).setAmount(amount).build();
+	}
+
+	private EntityId id(AccountID account) {
+		return EntityId.ofNullableAccountId(account);
+	}
+}
@@ -24,6 +24,7 @@ import com.google.protobuf.ByteString;
 import com.hedera.services.context.TransactionContext;
 import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.state.merkle.MerkleTopic;
+import com.hedera.services.txns.PreHandleArtifacts;
 import com.hedera.services.txns.validation.OptionValidator;
 import com.hedera.services.utils.MiscUtils;
 import com.hedera.services.utils.PlatformTxnAccessor;
@@ -38,7 +39,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
+import java.util.Optional;
 
+import static com.hedera.services.legacy.proto.utils.CommonUtils.noThrowSha384HashOf;
 import static com.hedera.test.utils.IdUtils.asTopic;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_CHUNK_NUMBER;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_CHUNK_TRANSACTION_ID;
@@ -118,6 +121,27 @@ class SubmitMessageTransitionLogicTest {
 		verify(transactionContext).setStatus(SUCCESS);
 	}
 
+	@Test
+	public void usesMessageHashComputedBeforeConsensusIfPresent() {
+		// given:
+		givenValidTransactionContext();
+		given(accessor.getPreHandleArtifacts()).willReturn(new PreHandleArtifacts(
+				0L,
+				Optional.of(subject),
+				OK,
+				noThrowSha384HashOf("valid message".getBytes())));
+
+		// when:
+		subject.doStateTransition();
+
+		// then:
+		var topic = topics.get(MerkleEntityId.fromTopicId(asTopic(TOPIC_ID)));
+		assertEquals(1L, topic.getSequenceNumber());
+		assertEquals("c44860f057eca2ea865821f5211420afe231dc2a485c277405d14f8421bb97f4a34ddd53db84bcf064045d10e7fca822",
+				MiscUtils.commonsBytesToHex(topic.getRunningHash()));
+		verify(transactionContext).setStatus(SUCCESS);
+	}
+
 	@Test
 	public void failsWithEmptyMessage() {
 		// given:
@@ -21,6 +21,7 @@ package com.hedera.services.txns.submission;
  */
 
 import com.hedera.services.stats.HapiOpCounters;
+import com.hedera.services.stats.HapiOpLatencies;
 import com.hedera.services.txns.SubmissionFlow;
 import com.hederahashgraph.api.proto.java.Transaction;
 import com.hederahashgraph.api.proto.java.TransactionResponse;
@@ -31,6 +32,8 @@ import org.mockito.InOrder;
 
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
+import static org.mockito.BDDMockito.anyLong;
+import static org.mockito.BDDMockito.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.inOrder;
 import static org.mockito.BDDMockito.mock;
@@ -43,6 +46,7 @@ class TxnResponseHelperTest {
 
 	SubmissionFlow submissionFlow;
 	HapiOpCounters opCounters;
+	HapiOpLatencies opLatencies;
 	StreamObserver<TransactionResponse> observer;
 	TxnResponseHelper subject;
 
@@ -50,18 +54,19 @@ class TxnResponseHelperTest {
 	private void setup() {
 		submissionFlow = mock(SubmissionFlow.class);
 		opCounters = mock(HapiOpCounters.class);
+		opLatencies = mock(HapiOpLatencies.class);
 		observer = mock(StreamObserver.class);
 		okResponse = mock(TransactionResponse.class);
 		given(okResponse.getNodeTransactionPrecheckCode()).willReturn(OK);
 		notOkResponse = mock(TransactionResponse.class);
 
-		subject = new TxnResponseHelper(submissionFlow, opCounters);
+		subject = new TxnResponseHelper(submissionFlow, opCounters, opLatencies);
 	}
 
 	@Test
 	public void helpsWithSubmitHappyPath() {
 		// setup:
-		InOrder inOrder = inOrder(submissionFlow, opCounters, observer);
+		InOrder inOrder = inOrder(submissionFlow, opCounters, observer, opLatencies);
 
 		given(submissionFlow.submit(txn)).willReturn(okResponse);
 
@@ -74,12 +79,13 @@ class TxnResponseHelperTest {
 		inOrder.verify(observer).onNext(okResponse);
 		inOrder.verify(observer).onCompleted();
 		inOrder.verify(opCounters).countSubmitted(CryptoTransfer);
+		inOrder.verify(opLatencies).recordIngested(argThat(CryptoTransfer::equals), anyLong());
 	}
 
 	@Test
 	public void helpsWithSubmitUnhappyPath() {
 		// setup:
-		InOrder inOrder = inOrder(submissionFlow, opCounters, observer);
+		InOrder inOrder = inOrder(submissionFlow, opCounters, observer, opLatencies);
 
 		given(submissionFlow.submit(txn)).willReturn(notOkResponse);
 
@@ -92,5 +98,6 @@ class TxnResponseHelperTest {
 		inOrder.verify(observer).onNext(notOkResponse);
 		inOrder.verify(observer).onCompleted();
 		inOrder.verify(opCounters, never()).countSubmitted(CryptoTransfer);
+		inOrder.verify(opLatencies).recordIngested(argThat(CryptoTransfer::equals), anyLong());
 	}
 }
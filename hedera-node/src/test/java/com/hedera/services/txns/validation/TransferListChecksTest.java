@@ -0,0 +1,85 @@
+package com.hedera.services.txns.validation;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hederahashgraph.api.proto.java.AccountAmount;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.TransferList;
+import org.junit.jupiter.api.Test;
+
+import static com.hedera.test.utils.IdUtils.asAccount;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TransferListChecksTest {
+	AccountID a = asAccount("0.0.2");
+	AccountID b = asAccount("0.0.3");
+	AccountID c = asAccount("0.0.4");
+	AccountID otherRealmA = asAccount("0.1.2");
+
+	@Test
+	public void recognizesNetZero() {
+		// expect:
+		assertTrue(TransferListChecks.isNetZeroAdjustment(TransferList.getDefaultInstance()));
+		assertTrue(TransferListChecks.isNetZeroAdjustment(xfers(a, -5L, b, 3L, c, 2L)));
+		assertFalse(TransferListChecks.isNetZeroAdjustment(xfers(a, -5L, b, 3L, c, 1L)));
+	}
+
+	@Test
+	public void isExactDespiteOverflow() {
+		// expect:
+		assertTrue(TransferListChecks.isNetZeroAdjustment(
+				xfers(a, Long.MAX_VALUE, b, Long.MAX_VALUE, c, -Long.MAX_VALUE, a, -Long.MAX_VALUE)));
+		assertFalse(TransferListChecks.isNetZeroAdjustment(
+				xfers(a, Long.MAX_VALUE, b, Long.MAX_VALUE, c, 2L)));
+		assertFalse(TransferListChecks.isNetZeroAdjustment(
+				xfers(a, Long.MIN_VALUE, b, Long.MIN_VALUE)));
+	}
+
+	@Test
+	public void sumsOnlyFirstNAmounts() {
+		// given:
+		long[] amounts = { 1L, -1L, 5L };
+
+		// expect:
+		assertTrue(TransferListChecks.isNetZero(2, i -> amounts[i]));
+		assertFalse(TransferListChecks.isNetZero(3, i -> amounts[i]));
+	}
+
+	@Test
+	public void detectsRepeatedAccounts() {
+		// expect:
+		assertFalse(TransferListChecks.hasRepeatedAccount(TransferList.getDefaultInstance()));
+		assertFalse(TransferListChecks.hasRepeatedAccount(xfers(a, -1L)));
+		assertFalse(TransferListChecks.hasRepeatedAccount(xfers(c, -1L, a, 1L, otherRealmA, 0L)));
+		assertTrue(TransferListChecks.hasRepeatedAccount(xfers(c, -1L, a, 1L, b, 0L, c, 0L)));
+	}
+
+	private TransferList xfers(Object... idsAndAmounts) {
+		var list = TransferList.newBuilder();
+		for (int i = 0; i < idsAndAmounts.length; i += 2) {
+			list.addAccountAmounts(AccountAmount.newBuilder()
+					.setAccountID((AccountID) idsAndAmounts[i])
+					.setAmount((long) idsAndAmounts[i + 1]));
+		}
+		return list.build();
+	}
+}
@@ -38,6 +38,7 @@ import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.Transaction;
 import com.hederahashgraph.api.proto.java.TransactionRecord;
 import com.swirlds.fcmap.FCMap;
+import com.swirlds.fcqueue.FCQueue;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
@@ -607,7 +608,12 @@ public class RecordStreamCmp {
 					}
 
 					var accountAgain = backingAccounts.getRef(txnPayer);
-					accountAgain.records().offer(new ExpirableTxnRecord());
+					var recordsAgain = accountAgain.records();
+					if (recordsAgain.isImmutable()) {
+						recordsAgain = new FCQueue<>();
+					}
+					recordsAgain.offer(new ExpirableTxnRecord());
+					accountAgain.setRecords(recordsAgain);
 
 					backingAccounts.flushMutableRefs();
 				} catch (ConcurrentModificationException cme) {
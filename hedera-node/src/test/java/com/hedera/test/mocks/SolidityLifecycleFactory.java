@@ -22,9 +22,13 @@ package com.hedera.test.mocks;
 
 import com.hedera.services.config.MockGlobalDynamicProps;
 import com.hedera.services.contracts.execution.SolidityLifecycle;
+import com.hedera.services.contracts.sources.LedgerAccountsSource;
+import com.hedera.services.stats.MiscRunningAvgs;
+
+import static org.mockito.Mockito.mock;
 
 public class SolidityLifecycleFactory {
-	public static SolidityLifecycle newTestInstance() {
-		return new SolidityLifecycle(new MockGlobalDynamicProps());
+	public static SolidityLifecycle newTestInstance(LedgerAccountsSource accountSource) {
+		return new SolidityLifecycle(new MockGlobalDynamicProps(), accountSource, mock(MiscRunningAvgs.class));
 	}
 }
@@ -27,6 +27,7 @@ import com.hedera.services.context.properties.PropertySource;
 import com.hedera.services.context.properties.StandardizedPropertySources;
 import com.hedera.services.fees.FeeCalculator;
 import com.hedera.services.fees.HbarCentExchange;
+import com.hedera.services.fees.calculation.StateIndependentUsageCache;
 import com.hedera.services.fees.calculation.TxnResourceUsageEstimator;
 import com.hedera.services.fees.calculation.UsageBasedFeeCalculator;
 import com.hedera.services.fees.calculation.consensus.queries.GetTopicInfoResourceUsage;
@@ -122,7 +123,8 @@ public enum TestFeesFactory {
 						/* Consensus */
 						new GetTopicInfoResourceUsage()
 				),
-				txnUsageFn(cryptoOpsUsage, fileOpsUsage, fileFees, cryptoFees, contractFees)
+				txnUsageFn(cryptoOpsUsage, fileOpsUsage, fileFees, cryptoFees, contractFees),
+				new StateIndependentUsageCache(new MockGlobalDynamicProps())
 		);
 	}
 
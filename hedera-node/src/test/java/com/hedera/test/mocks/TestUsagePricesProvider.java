@@ -22,6 +22,7 @@ package com.hedera.test.mocks;
 
 import com.google.common.io.Files;
 import com.hedera.services.fees.bootstrap.JsonToProtoSerdeTest;
+import com.hedera.services.fees.calculation.CompiledUsagePrices;
 import com.hedera.services.fees.calculation.UsagePricesProvider;
 import com.hederahashgraph.api.proto.java.CurrentAndNextFeeSchedule;
 import com.hederahashgraph.api.proto.java.FeeData;
@@ -61,6 +62,11 @@ public enum TestUsagePricesProvider implements UsagePricesProvider {
 		}
 	}
 
+	@Override
+	public void installPriceSchedules(CompiledUsagePrices compiled) {
+		throw new UnsupportedOperationException();
+	}
+
 	@Override
 	public FeeData activePrices() {
 		throw new UnsupportedOperationException();
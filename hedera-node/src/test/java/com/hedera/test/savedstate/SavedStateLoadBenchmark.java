@@ -0,0 +1,205 @@
+package com.hedera.test.savedstate;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.ServicesState;
+import com.hedera.services.context.ServicesContext;
+import com.swirlds.common.Address;
+import com.swirlds.common.AddressBook;
+import com.swirlds.common.NodeId;
+import com.swirlds.common.Platform;
+import com.swirlds.common.constructable.ConstructableRegistry;
+import com.swirlds.common.crypto.CryptoFactory;
+import com.swirlds.common.merkle.io.MerkleDataInputStream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static com.hedera.services.context.SingletonContextsManager.CONTEXTS;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Times the phases a node goes through when it restarts (or reconnects) from a saved
+ * state, on a synthetic state described by the properties file named by the
+ * {@code synthetic.state.spec} system property (or the {@link SyntheticStateSpec} defaults).
+ *
+ * <p>The state is generated to {@code synthetic.state.path} (default
+ * {@code synthetic-state.swh}) on the first run, with its spec written next to it in a
+ * {@code .spec} file; later runs re-use the state only if their spec is the same, and
+ * otherwise generate it again.
+ *
+ * <p>{@link #comparesAccountLayouts()} instead generates the same state in both the release
+ * 0.9.0 account layout and the compact one, and reports the heap, first hash time, and saved
+ * size of each; for a multi-million-account comparison, set {@code accounts.count} in the spec
+ * and give the JVM a heap to match.
+ */
+@Disabled
+public class SavedStateLoadBenchmark {
+	private static final Logger log = LogManager.getLogger(SavedStateLoadBenchmark.class);
+
+	private static final long SELF_ID = 0L;
+	private static final String SELF_ACCOUNT = "0.0.3";
+
+	@Test
+	public void timesSavedStateLoad() throws Exception {
+		ConstructableRegistry.registerConstructables("com.swirlds");
+		ConstructableRegistry.registerConstructables("com.hedera.services");
+
+		var spec = spec();
+		var path = Paths.get(System.getProperty("synthetic.state.path", "synthetic-state.swh"));
+		var specPath = path.resolveSibling(path.getFileName() + ".spec");
+		if (!isGeneratedFrom(spec, path, specPath)) {
+			log.info("Generating {} at {}", spec, path);
+			long start = System.nanoTime();
+			Files.deleteIfExists(specPath);
+			SyntheticStateGenerator.writeTo(new SyntheticStateGenerator(spec).generate(), path);
+			Files.writeString(specPath, spec.toString());
+			log.info("  -> Generated {} bytes in {}ms", Files.size(path), millisSince(start));
+		}
+
+		long start = System.nanoTime();
+		ServicesState state;
+		try (var in = new MerkleDataInputStream(Files.newInputStream(path), false)) {
+			state = in.readMerkleTree(Integer.MAX_VALUE);
+		}
+		long deserializeMs = millisSince(start);
+
+		start = System.nanoTime();
+		CryptoFactory.getInstance().digestTreeSync(state);
+		long hashMs = millisSince(start);
+		System.gc();
+		long heapUsed = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+
+		start = System.nanoTime();
+		state.init(platform(), addressBook());
+		long initMs = millisSince(start);
+
+		ServicesContext ctx = CONTEXTS.lookup(SELF_ID);
+		start = System.nanoTime();
+		ctx.backingAccounts().rebuildFromSources();
+		long accountsRebuildMs = millisSince(start);
+		start = System.nanoTime();
+		ctx.backingTokenRels().rebuildFromSources();
+		long tokenRelsRebuildMs = millisSince(start);
+		start = System.nanoTime();
+		ctx.recordsHistorian().reviewExistingRecords();
+		long recordsReviewMs = millisSince(start);
+		start = System.nanoTime();
+		ctx.expiries().restartEntitiesTrackingFrom();
+		long expiriesRestartMs = millisSince(start);
+
+		log.info("Loaded {} accounts, {} token rels, {} topics, {} blobs, {} schedules ({} bytes, {} heap bytes used)",
+				state.accounts().size(),
+				state.tokenAssociations().size(),
+				state.topics().size(),
+				state.storage().size(),
+				state.scheduleTxs().size(),
+				Files.size(path),
+				heapUsed);
+		log.info("  -> Deserialize          :: {}ms", deserializeMs);
+		log.info("  -> First hash           :: {}ms ({})", hashMs, state.getHash());
+		log.info("  -> ServicesState.init   :: {}ms", initMs);
+		log.info("  -> Rebuild accounts     :: {}ms", accountsRebuildMs);
+		log.info("  -> Rebuild token rels   :: {}ms", tokenRelsRebuildMs);
+		log.info("  -> Review records       :: {}ms", recordsReviewMs);
+		log.info("  -> Restart expiries     :: {}ms", expiriesRestartMs);
+
+		CONTEXTS.clear();
+	}
+
+	@Test
+	public void comparesAccountLayouts() throws Exception {
+		ConstructableRegistry.registerConstructables("com.swirlds");
+		ConstructableRegistry.registerConstructables("com.hedera.services");
+
+		for (boolean useRelease090Layout : new boolean[] { true, false }) {
+			var spec = spec();
+			spec.useRelease090AccountLayout = useRelease090Layout;
+
+			long heapBefore = heapUsedAfterGc();
+			var state = new SyntheticStateGenerator(spec).generate();
+			long heapUsed = heapUsedAfterGc() - heapBefore;
+
+			long start = System.nanoTime();
+			CryptoFactory.getInstance().digestTreeSync(state);
+			long hashMs = millisSince(start);
+
+			var path = Files.createTempFile("synthetic-state", ".swh");
+			SyntheticStateGenerator.writeTo(state, path);
+			long savedBytes = Files.size(path);
+			Files.delete(path);
+
+			log.info("{} account layout for {} accounts",
+					useRelease090Layout ? "Release 0.9.0" : "Compact",
+					state.accounts().size());
+			log.info("  -> Heap bytes used      :: {}", heapUsed);
+			log.info("  -> First hash           :: {}ms", hashMs);
+			log.info("  -> Saved bytes          :: {}", savedBytes);
+		}
+	}
+
+	private boolean isGeneratedFrom(SyntheticStateSpec spec, Path path, Path specPath) throws Exception {
+		if (!Files.exists(path) || !Files.exists(specPath)) {
+			return false;
+		}
+		var savedSpec = Files.readString(specPath);
+		if (!savedSpec.equals(spec.toString())) {
+			log.info("Spec changed since {} was generated from {}", path, savedSpec);
+			return false;
+		}
+		return true;
+	}
+
+	private SyntheticStateSpec spec() throws Exception {
+		var specLoc = System.getProperty("synthetic.state.spec");
+		return (specLoc == null) ? new SyntheticStateSpec() : SyntheticStateSpec.fromPropertiesAt(specLoc);
+	}
+
+	private long heapUsedAfterGc() {
+		System.gc();
+		return Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+	}
+
+	private Platform platform() {
+		var platform = mock(Platform.class);
+		given(platform.getSelfId()).willReturn(new NodeId(false, SELF_ID));
+		return platform;
+	}
+
+	private AddressBook addressBook() {
+		var address = mock(Address.class);
+		given(address.getMemo()).willReturn(SELF_ACCOUNT);
+		var book = mock(AddressBook.class);
+		given(book.getAddress(SELF_ID)).willReturn(address);
+		given(book.getSize()).willReturn(1);
+		return book;
+	}
+
+	private static long millisSince(long start) {
+		return (System.nanoTime() - start) / 1_000_000L;
+	}
+}
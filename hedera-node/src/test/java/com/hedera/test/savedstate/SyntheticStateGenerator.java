@@ -0,0 +1,359 @@
+package com.hedera.test.savedstate;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.ServicesState;
+import com.hedera.services.exceptions.NegativeAccountBalanceException;
+import com.hedera.services.files.HFileMeta;
+import com.hedera.services.files.store.FcBlobsBytesStore;
+import com.hedera.services.legacy.core.jproto.JEd25519Key;
+import com.hedera.services.legacy.core.jproto.JKey;
+import com.hedera.services.legacy.core.jproto.JKeyList;
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.state.merkle.MerkleAccountState;
+import com.hedera.services.state.merkle.MerkleAccountTokens;
+import com.hedera.services.state.merkle.MerkleBlobMeta;
+import com.hedera.services.state.merkle.MerkleDiskFs;
+import com.hedera.services.state.merkle.MerkleEntityAssociation;
+import com.hedera.services.state.merkle.MerkleEntityId;
+import com.hedera.services.state.merkle.MerkleNetworkContext;
+import com.hedera.services.state.merkle.MerkleOptionalBlob;
+import com.hedera.services.state.merkle.MerkleSchedule;
+import com.hedera.services.state.merkle.MerkleToken;
+import com.hedera.services.state.merkle.MerkleTokenRelStatus;
+import com.hedera.services.state.merkle.MerkleTopic;
+import com.hedera.services.state.submerkle.EntityId;
+import com.hedera.services.state.submerkle.ExchangeRates;
+import com.hedera.services.state.submerkle.ExpirableTxnRecord;
+import com.hedera.services.state.submerkle.RichInstant;
+import com.hedera.services.state.submerkle.SequenceNumber;
+import com.hedera.services.stream.RecordsRunningHashLeaf;
+import com.hederahashgraph.api.proto.java.AccountAmount;
+import com.hederahashgraph.api.proto.java.CryptoTransferTransactionBody;
+import com.hederahashgraph.api.proto.java.FileID;
+import com.hederahashgraph.api.proto.java.TokenID;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import com.hederahashgraph.api.proto.java.TransferList;
+import com.swirlds.common.AddressBook;
+import com.swirlds.common.crypto.DigestType;
+import com.swirlds.common.crypto.ImmutableHash;
+import com.swirlds.common.crypto.RunningHash;
+import com.swirlds.common.merkle.MerkleNode;
+import com.swirlds.common.merkle.io.MerkleDataOutputStream;
+import com.swirlds.fcmap.FCMap;
+import com.swirlds.fcqueue.FCQueue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+
+import static com.hedera.services.contracts.sources.AddressKeyedMapFactory.bytecodeMapFrom;
+import static com.hedera.services.contracts.sources.AddressKeyedMapFactory.storageMapFrom;
+import static com.hedera.services.files.DataMapFactory.dataMapFrom;
+import static com.hedera.services.files.MetadataMapFactory.metaMapFrom;
+import static com.hedera.services.utils.EntityIdUtils.asSolidityAddress;
+
+/**
+ * Builds a {@link ServicesState} directly from a {@link SyntheticStateSpec}, with the same
+ * Merkle children (in the same order) as a state saved by a running node; and writes it
+ * in the form a signed state file holds it, so it can be loaded by
+ * {@code MerkleDataInputStream.readMerkleTree}.
+ *
+ * <p>Entity numbers are assigned in blocks starting from {@code 0.0.1001}: first accounts,
+ * then tokens, topics, files, contracts, and schedules. The same spec (and seed) always
+ * gives the same state.
+ *
+ * <p>Token relationships keep the ledger's invariants: each token's treasury is associated
+ * to it, and the balances of a token's relationships sum to its total supply.
+ */
+public class SyntheticStateGenerator {
+	private static final long FIRST_ENTITY_NUM = 1_001L;
+	private static final long EXPIRY = Instant.parse("2030-01-01T00:00:00Z").getEpochSecond();
+	private static final long AUTO_RENEW_SECS = 7_776_000L;
+	private static final Instant LAST_HANDLED_TIME = Instant.parse("2021-03-01T00:00:00Z");
+
+	private final SyntheticStateSpec spec;
+	private final SplittableRandom r;
+
+	private long nextNum = FIRST_ENTITY_NUM;
+
+	public SyntheticStateGenerator(SyntheticStateSpec spec) {
+		this.spec = spec;
+		this.r = new SplittableRandom(spec.seed);
+	}
+
+	public ServicesState generate() throws NegativeAccountBalanceException {
+		FCMap<MerkleEntityId, MerkleAccount> accounts = new FCMap<>();
+		FCMap<MerkleEntityId, MerkleToken> tokens = new FCMap<>();
+		FCMap<MerkleEntityAssociation, MerkleTokenRelStatus> tokenRels = new FCMap<>();
+		FCMap<MerkleEntityId, MerkleTopic> topics = new FCMap<>();
+		FCMap<MerkleBlobMeta, MerkleOptionalBlob> storage = new FCMap<>();
+		FCMap<MerkleEntityId, MerkleSchedule> schedules = new FCMap<>();
+
+		long firstAccount = nextNum;
+		addAccounts(accounts);
+		long firstToken = nextNum;
+		var treasuries = addTokens(tokens, firstAccount);
+		addAssociations(accounts, tokens, tokenRels, firstAccount, firstToken, treasuries);
+		addTopics(topics);
+		var blobs = new FcBlobsBytesStore(MerkleOptionalBlob::new, () -> storage);
+		addFiles(blobs);
+		addContracts(accounts, blobs);
+		addSchedules(schedules, firstAccount);
+
+		var runningHash = new byte[DigestType.SHA_384.digestLength()];
+		r.nextBytes(runningHash);
+		List<MerkleNode> children = List.of(
+				new AddressBook(),
+				new MerkleNetworkContext(
+						RichInstant.fromJava(LAST_HANDLED_TIME),
+						new SequenceNumber(nextNum),
+						new ExchangeRates()),
+				topics,
+				storage,
+				accounts,
+				tokens,
+				tokenRels,
+				new MerkleDiskFs(),
+				schedules,
+				new RecordsRunningHashLeaf(new RunningHash(new ImmutableHash(runningHash))));
+		return new ServicesState(children);
+	}
+
+	public static void writeTo(ServicesState state, Path path) throws IOException {
+		try (var out = new MerkleDataOutputStream(Files.newOutputStream(path), false)) {
+			out.writeMerkleTree(state);
+		}
+	}
+
+	private void addAccounts(FCMap<MerkleEntityId, MerkleAccount> accounts) throws NegativeAccountBalanceException {
+		for (int i = 0; i < spec.numAccounts; i++) {
+			var account = newAccount();
+			account.setBalance(r.nextLong(spec.maxAccountBalance + 1));
+			accounts.put(idFor(nextNum++), account);
+		}
+	}
+
+	private long[] addTokens(FCMap<MerkleEntityId, MerkleToken> tokens, long firstAccount) {
+		var treasuries = new long[spec.numTokens];
+		for (int i = 0; i < spec.numTokens; i++) {
+			var treasury = firstAccount + r.nextInt(Math.max(1, spec.numAccounts));
+			treasuries[i] = treasury;
+			/* The total supply is set once all the token's relationships have balances. */
+			var token = new MerkleToken(
+					EXPIRY,
+					0L,
+					r.nextInt(9),
+					"T" + i,
+					"Token " + i,
+					false,
+					true,
+					new EntityId(0, 0, treasury));
+			token.setAdminKey(newKey());
+			token.setSupplyKey(newKey());
+			token.setAutoRenewPeriod(AUTO_RENEW_SECS);
+			token.setAutoRenewAccount(new EntityId(0, 0, treasury));
+			tokens.put(idFor(nextNum++), token);
+		}
+		return treasuries;
+	}
+
+	private void addAssociations(
+			FCMap<MerkleEntityId, MerkleAccount> accounts,
+			FCMap<MerkleEntityId, MerkleToken> tokens,
+			FCMap<MerkleEntityAssociation, MerkleTokenRelStatus> tokenRels,
+			long firstAccount,
+			long firstToken,
+			long[] treasuries
+	) {
+		if (spec.numTokens == 0 || spec.numAccounts == 0) {
+			return;
+		}
+		Map<Long, List<Long>> treasuryOf = new HashMap<>();
+		for (int i = 0; i < spec.numTokens; i++) {
+			treasuryOf.computeIfAbsent(treasuries[i], ignore -> new ArrayList<>()).add(firstToken + i);
+		}
+
+		/* Token indices in order of popularity; a draw only ever swaps within the not-yet-drawn
+		suffix, and the swaps are undone after each account, so every draw sees the same order. */
+		var byPopularity = new int[spec.numTokens];
+		for (int i = 0; i < spec.numTokens; i++) {
+			byPopularity[i] = i;
+		}
+		int maxPerAccount = Math.min(spec.maxAssociationsPerAccount, spec.numTokens);
+		var swaps = new int[maxPerAccount];
+		var heldBalances = new long[spec.numTokens];
+		for (long num = firstAccount; num < firstAccount + spec.numAccounts; num++) {
+			int n = spec.associationsPerAccount.sample(r, maxPerAccount);
+			var tokenNums = new TreeSet<>(treasuryOf.getOrDefault(num, List.of()));
+			for (int k = 0; k < n; k++) {
+				swaps[k] = k + spec.tokenPopularity.sample(r, spec.numTokens - 1 - k);
+				swap(byPopularity, k, swaps[k]);
+				tokenNums.add(firstToken + byPopularity[k]);
+			}
+			for (int k = n - 1; k >= 0; k--) {
+				swap(byPopularity, k, swaps[k]);
+			}
+			if (tokenNums.isEmpty()) {
+				continue;
+			}
+			var ids = new TreeSet<TokenID>((a, b) -> Long.compare(a.getTokenNum(), b.getTokenNum()));
+			for (long tokenNum : tokenNums) {
+				ids.add(TokenID.newBuilder().setTokenNum(tokenNum).build());
+				int i = (int) (tokenNum - firstToken);
+				if (treasuries[i] == num) {
+					continue;
+				}
+				long balance = r.nextLong(1_000_000L);
+				heldBalances[i] += balance;
+				tokenRels.put(
+						new MerkleEntityAssociation(0, 0, num, 0, 0, tokenNum),
+						new MerkleTokenRelStatus(balance, false, true));
+			}
+			var account = accounts.getForModify(idFor(num));
+			var associated = account.tokens();
+			associated.associateAll(ids);
+			account.setTokens(associated);
+			accounts.replace(idFor(num), account);
+		}
+
+		for (int i = 0; i < spec.numTokens; i++) {
+			long tokenNum = firstToken + i;
+			long treasuryBalance = r.nextLong(1_000_000_000L);
+			tokenRels.put(
+					new MerkleEntityAssociation(0, 0, treasuries[i], 0, 0, tokenNum),
+					new MerkleTokenRelStatus(treasuryBalance, false, true));
+			var token = tokens.getForModify(idFor(tokenNum));
+			token.adjustTotalSupplyBy(treasuryBalance + heldBalances[i]);
+			tokens.replace(idFor(tokenNum), token);
+		}
+	}
+
+	private static void swap(int[] a, int i, int j) {
+		int tmp = a[i];
+		a[i] = a[j];
+		a[j] = tmp;
+	}
+
+	private void addTopics(FCMap<MerkleEntityId, MerkleTopic> topics) {
+		for (int i = 0; i < spec.numTopics; i++) {
+			var topic = new MerkleTopic(
+					"Topic " + i,
+					newKey(),
+					newKey(),
+					AUTO_RENEW_SECS,
+					null,
+					new RichInstant(EXPIRY, 0));
+			topics.put(idFor(nextNum++), topic);
+		}
+	}
+
+	private void addFiles(FcBlobsBytesStore blobs) {
+		var metadata = metaMapFrom(blobs);
+		var data = dataMapFrom(blobs);
+		for (int i = 0; i < spec.numFiles; i++) {
+			var fid = FileID.newBuilder().setFileNum(nextNum++).build();
+			metadata.put(fid, new HFileMeta(false, new JKeyList(List.of(newKey())), EXPIRY));
+			data.put(fid, randomBytes(spec.fileBytes.sample(r, spec.maxFileBytes)));
+		}
+	}
+
+	private void addContracts(
+			FCMap<MerkleEntityId, MerkleAccount> accounts,
+			FcBlobsBytesStore blobs
+	) throws NegativeAccountBalanceException {
+		var bytecode = bytecodeMapFrom(blobs);
+		var storage = storageMapFrom(blobs);
+		for (int i = 0; i < spec.numContracts; i++) {
+			long num = nextNum++;
+			var contract = newAccount();
+			contract.setSmartContract(true);
+			contract.setBalance(r.nextLong(spec.maxAccountBalance + 1));
+			accounts.put(idFor(num), contract);
+
+			var address = asSolidityAddress(0, 0, num);
+			bytecode.put(address, randomBytes(1 + r.nextInt(spec.maxBytecodeBytes)));
+			int storageBytes = spec.contractStorageBytes.sample(r, spec.maxContractStorageBytes);
+			if (storageBytes > 0) {
+				storage.put(address, randomBytes(storageBytes));
+			}
+		}
+	}
+
+	private void addSchedules(FCMap<MerkleEntityId, MerkleSchedule> schedules, long firstAccount) {
+		for (int i = 0; i < spec.numSchedules; i++) {
+			var payer = new EntityId(0, 0, firstAccount + r.nextInt(Math.max(1, spec.numAccounts)));
+			var body = TransactionBody.newBuilder()
+					.setCryptoTransfer(CryptoTransferTransactionBody.newBuilder()
+							.setTransfers(TransferList.newBuilder()
+									.addAccountAmounts(AccountAmount.newBuilder()
+											.setAccountID(payer.toGrpcAccountId())
+											.setAmount(-1L))
+									.addAccountAmounts(AccountAmount.newBuilder()
+											.setAccountID(payer.toGrpcAccountId())
+											.setAmount(+1L))))
+					.setMemo("Scheduled " + i)
+					.build();
+			var schedule = new MerkleSchedule(
+					body.toByteArray(),
+					payer,
+					RichInstant.fromJava(LAST_HANDLED_TIME));
+			schedule.setPayer(payer);
+			schedule.setAdminKey(newKey());
+			schedule.setExpiry(LAST_HANDLED_TIME.getEpochSecond() + 1_800L);
+			schedules.put(idFor(nextNum++), schedule);
+		}
+	}
+
+	private MerkleAccount newAccount() {
+		var account = spec.useRelease090AccountLayout
+				? new MerkleAccount(List.of(
+						new MerkleAccountState(),
+						new FCQueue<ExpirableTxnRecord>(),
+						new MerkleAccountTokens()))
+				: new MerkleAccount();
+		account.setKey(newKey());
+		account.setExpiry(EXPIRY);
+		account.setAutoRenewSecs(AUTO_RENEW_SECS);
+		return account;
+	}
+
+	private JKey newKey() {
+		return new JEd25519Key(randomBytes(32));
+	}
+
+	private byte[] randomBytes(int n) {
+		var bytes = new byte[n];
+		r.nextBytes(bytes);
+		return bytes;
+	}
+
+	private MerkleEntityId idFor(long num) {
+		return new MerkleEntityId(0, 0, num);
+	}
+}
@@ -0,0 +1,92 @@
+package com.hedera.test.savedstate;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.ServicesState;
+import com.hedera.services.state.merkle.MerkleEntityAssociation;
+import com.hedera.services.state.merkle.MerkleEntityId;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SyntheticStateGeneratorTest {
+	@Test
+	public void associatesEveryTokenWhenAllAreDrawnConstantly() throws Exception {
+		// given:
+		var spec = tokensOnlySpec("CONSTANT", "CONSTANT");
+
+		// when:
+		var state = new SyntheticStateGenerator(spec).generate();
+
+		// then:
+		for (var account : state.accounts().values()) {
+			assertEquals(spec.numTokens, account.tokens().numAssociations());
+		}
+		assertKeepsTokenInvariants(state);
+	}
+
+	@Test
+	public void keepsTokenInvariantsWithSkewedPopularity() throws Exception {
+		// given:
+		var spec = tokensOnlySpec("UNIFORM", "SKEWED");
+
+		// when:
+		var state = new SyntheticStateGenerator(spec).generate();
+
+		// then:
+		assertKeepsTokenInvariants(state);
+	}
+
+	private void assertKeepsTokenInvariants(ServicesState state) {
+		Map<Long, Long> balanceSums = new HashMap<>();
+		state.tokenAssociations().forEach((key, status) -> {
+			var rel = key.asAccountTokenRel();
+			var accountTokens = state.accounts().get(MerkleEntityId.fromAccountId(rel.getLeft())).tokens();
+			assertTrue(accountTokens.includes(rel.getRight()));
+			balanceSums.merge(rel.getRight().getTokenNum(), status.getBalance(), Long::sum);
+		});
+		state.tokens().forEach((id, token) -> {
+			var treasury = token.treasury();
+			var treasuryRel = new MerkleEntityAssociation(0, 0, treasury.num(), 0, 0, id.getNum());
+			assertTrue(state.tokenAssociations().containsKey(treasuryRel));
+			assertEquals(token.totalSupply(), (long) balanceSums.get(id.getNum()));
+		});
+	}
+
+	private SyntheticStateSpec tokensOnlySpec(String perAccount, String popularity) {
+		var props = new Properties();
+		props.setProperty("accounts.count", "50");
+		props.setProperty("tokens.count", "5");
+		props.setProperty("associations.perAccount.max", "5");
+		props.setProperty("associations.perAccount.distribution", perAccount);
+		props.setProperty("associations.tokenPopularity.distribution", popularity);
+		props.setProperty("topics.count", "0");
+		props.setProperty("files.count", "0");
+		props.setProperty("contracts.count", "0");
+		props.setProperty("schedules.count", "0");
+		return SyntheticStateSpec.from(props);
+	}
+}
@@ -0,0 +1,149 @@
+package com.hedera.test.savedstate;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.SplittableRandom;
+
+/**
+ * The entity counts and size distributions of a synthetic {@link com.hedera.services.ServicesState}.
+ * Any property not given in the (optional) properties file keeps its default here; for example,
+ * <pre>
+ *   accounts.count=1000000
+ *   associations.perAccount.max=20
+ *   associations.perAccount.distribution=SKEWED
+ *   contracts.storageBytes.distribution=SKEWED
+ * </pre>
+ */
+public class SyntheticStateSpec {
+	/**
+	 * How a per-entity quantity is drawn from the range {@code [0, max]}.
+	 */
+	public enum Distribution {
+		/* Always the max. */
+		CONSTANT,
+		/* Uniformly at random. */
+		UNIFORM,
+		/* Heavy-tailed; most entities get a small value, a few get close to the max. */
+		SKEWED;
+
+		public int sample(SplittableRandom r, int max) {
+			switch (this) {
+				case CONSTANT:
+					return max;
+				case UNIFORM:
+					return r.nextInt(max + 1);
+				default:
+					return (int) (max * Math.pow(r.nextDouble(), 4));
+			}
+		}
+	}
+
+	long seed = 42L;
+
+	int numAccounts = 100_000;
+	long maxAccountBalance = 1_000_000_000_000L;
+	boolean useRelease090AccountLayout = false;
+
+	int numTokens = 1_000;
+	int maxAssociationsPerAccount = 10;
+	Distribution associationsPerAccount = Distribution.UNIFORM;
+	/* Where in the not-yet-drawn tokens (most popular first) each of an account's tokens is drawn. */
+	Distribution tokenPopularity = Distribution.SKEWED;
+
+	int numTopics = 10_000;
+
+	int numFiles = 1_000;
+	int maxFileBytes = 4_096;
+	Distribution fileBytes = Distribution.UNIFORM;
+
+	int numContracts = 1_000;
+	int maxBytecodeBytes = 8_192;
+	int maxContractStorageBytes = 16_384;
+	Distribution contractStorageBytes = Distribution.SKEWED;
+
+	int numSchedules = 1_000;
+
+	public static SyntheticStateSpec fromPropertiesAt(String loc) throws IOException {
+		var props = new Properties();
+		try (InputStream in = Files.newInputStream(Path.of(loc))) {
+			props.load(in);
+		}
+		return from(props);
+	}
+
+	public static SyntheticStateSpec from(Properties props) {
+		var spec = new SyntheticStateSpec();
+		spec.seed = Long.parseLong(props.getProperty("seed", "" + spec.seed));
+
+		spec.numAccounts = intFrom(props, "accounts.count", spec.numAccounts);
+		spec.maxAccountBalance = Long.parseLong(
+				props.getProperty("accounts.balance.max", "" + spec.maxAccountBalance));
+		spec.useRelease090AccountLayout = Boolean.parseBoolean(
+				props.getProperty("accounts.release090Layout", "" + spec.useRelease090AccountLayout));
+
+		spec.numTokens = intFrom(props, "tokens.count", spec.numTokens);
+		spec.maxAssociationsPerAccount = intFrom(props, "associations.perAccount.max", spec.maxAssociationsPerAccount);
+		spec.associationsPerAccount = distFrom(
+				props, "associations.perAccount.distribution", spec.associationsPerAccount);
+		spec.tokenPopularity = distFrom(props, "associations.tokenPopularity.distribution", spec.tokenPopularity);
+
+		spec.numTopics = intFrom(props, "topics.count", spec.numTopics);
+
+		spec.numFiles = intFrom(props, "files.count", spec.numFiles);
+		spec.maxFileBytes = intFrom(props, "files.bytes.max", spec.maxFileBytes);
+		spec.fileBytes = distFrom(props, "files.bytes.distribution", spec.fileBytes);
+
+		spec.numContracts = intFrom(props, "contracts.count", spec.numContracts);
+		spec.maxBytecodeBytes = intFrom(props, "contracts.bytecodeBytes.max", spec.maxBytecodeBytes);
+		spec.maxContractStorageBytes = intFrom(props, "contracts.storageBytes.max", spec.maxContractStorageBytes);
+		spec.contractStorageBytes = distFrom(
+				props, "contracts.storageBytes.distribution", spec.contractStorageBytes);
+
+		spec.numSchedules = intFrom(props, "schedules.count", spec.numSchedules);
+		return spec;
+	}
+
+	private static int intFrom(Properties props, String name, int defaultValue) {
+		return Integer.parseInt(props.getProperty(name, "" + defaultValue));
+	}
+
+	private static Distribution distFrom(Properties props, String name, Distribution defaultValue) {
+		return Distribution.valueOf(props.getProperty(name, defaultValue.name()));
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+				"SyntheticStateSpec{seed=%d, accounts=%d (balance<=%d, release090Layout=%s), tokens=%d, " +
+						"associations/account<=%d (%s, popularity %s), topics=%d, files=%d (<=%dB %s), " +
+						"contracts=%d (bytecode<=%dB, storage<=%dB %s), schedules=%d}",
+				seed, numAccounts, maxAccountBalance, useRelease090AccountLayout, numTokens,
+				maxAssociationsPerAccount, associationsPerAccount, tokenPopularity, numTopics,
+				numFiles, maxFileBytes, fileBytes,
+				numContracts, maxBytecodeBytes, maxContractStorageBytes, contractStorageBytes,
+				numSchedules);
+	}
+}
@@ -28,8 +28,10 @@ import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.service.proto.java.ConsensusServiceGrpc;
 import com.hederahashgraph.service.proto.java.CryptoServiceGrpc;
 import com.hederahashgraph.service.proto.java.CryptoServiceGrpc.CryptoServiceBlockingStub;
+import com.hederahashgraph.service.proto.java.CryptoServiceGrpc.CryptoServiceFutureStub;
 import com.hederahashgraph.service.proto.java.FileServiceGrpc;
 import com.hederahashgraph.service.proto.java.FileServiceGrpc.FileServiceBlockingStub;
+import com.hederahashgraph.service.proto.java.FileServiceGrpc.FileServiceFutureStub;
 import com.hederahashgraph.service.proto.java.FreezeServiceGrpc;
 import com.hederahashgraph.service.proto.java.FreezeServiceGrpc.FreezeServiceBlockingStub;
 import com.hederahashgraph.service.proto.java.NetworkServiceGrpc;
@@ -37,10 +39,13 @@ import com.hederahashgraph.service.proto.java.ScheduleServiceGrpc;
 import com.hederahashgraph.service.proto.java.ScheduleServiceGrpc.ScheduleServiceBlockingStub;
 import com.hederahashgraph.service.proto.java.SmartContractServiceGrpc;
 import com.hederahashgraph.service.proto.java.SmartContractServiceGrpc.SmartContractServiceBlockingStub;
+import com.hederahashgraph.service.proto.java.SmartContractServiceGrpc.SmartContractServiceFutureStub;
 import com.hederahashgraph.service.proto.java.ConsensusServiceGrpc.ConsensusServiceBlockingStub;
+import com.hederahashgraph.service.proto.java.ConsensusServiceGrpc.ConsensusServiceFutureStub;
 import com.hederahashgraph.service.proto.java.NetworkServiceGrpc.NetworkServiceBlockingStub;
 import com.hederahashgraph.service.proto.java.TokenServiceGrpc;
 import com.hederahashgraph.service.proto.java.TokenServiceGrpc.TokenServiceBlockingStub;
+import io.grpc.Channel;
 import io.grpc.ManagedChannel;
 import io.grpc.netty.GrpcSslContexts;
 import io.grpc.netty.NegotiationType;
@@ -69,6 +74,11 @@ public class HapiApiClients {
 	private static Map<String, ScheduleServiceBlockingStub> schedSvcStubs = new HashMap<>();
 	private static Map<String, ConsensusServiceBlockingStub> consSvcStubs = new HashMap<>();
 	private static Map<String, SmartContractServiceBlockingStub> scSvcStubs = new HashMap<>();
+	/* Non-blocking stubs over the same channels, for open-loop load generation */
+	private static Map<String, FileServiceFutureStub> fileSvcFutureStubs = new HashMap<>();
+	private static Map<String, CryptoServiceFutureStub> cryptoSvcFutureStubs = new HashMap<>();
+	private static Map<String, ConsensusServiceFutureStub> consSvcFutureStubs = new HashMap<>();
+	private static Map<String, SmartContractServiceFutureStub> scSvcFutureStubs = new HashMap<>();
 
 	private final AccountID defaultNode;
 	private final List<NodeConnectInfo> nodes;
@@ -121,6 +131,10 @@ public class HapiApiClients {
 			cryptoSvcStubs.put(uri, CryptoServiceGrpc.newBlockingStub(channel));
 			freezeSvcStubs.put(uri, FreezeServiceGrpc.newBlockingStub(channel));
 			networkSvcStubs.put(uri, NetworkServiceGrpc.newBlockingStub(channel));
+			fileSvcFutureStubs.put(uri, FileServiceGrpc.newFutureStub(channel));
+			cryptoSvcFutureStubs.put(uri, CryptoServiceGrpc.newFutureStub(channel));
+			consSvcFutureStubs.put(uri, ConsensusServiceGrpc.newFutureStub(channel));
+			scSvcFutureStubs.put(uri, SmartContractServiceGrpc.newFutureStub(channel));
 		}
 	}
 
@@ -192,6 +206,26 @@ public class HapiApiClients {
 		return schedSvcStubs.get(stubId(nodeId, useTls));
 	}
 
+	public FileServiceFutureStub getFileSvcFutureStub(AccountID nodeId, boolean useTls) {
+		return fileSvcFutureStubs.get(stubId(nodeId, useTls));
+	}
+
+	public CryptoServiceFutureStub getCryptoSvcFutureStub(AccountID nodeId, boolean useTls) {
+		return cryptoSvcFutureStubs.get(stubId(nodeId, useTls));
+	}
+
+	public ConsensusServiceFutureStub getConsSvcFutureStub(AccountID nodeId, boolean useTls) {
+		return consSvcFutureStubs.get(stubId(nodeId, useTls));
+	}
+
+	public SmartContractServiceFutureStub getScSvcFutureStub(AccountID nodeId, boolean useTls) {
+		return scSvcFutureStubs.get(stubId(nodeId, useTls));
+	}
+
+	public Channel getChannel(AccountID nodeId, boolean useTls) {
+		return channels.get(stubId(nodeId, useTls));
+	}
+
 	private String stubId(AccountID nodeId, boolean useTls) {
 		return useTls ? tlsStubIds.get(nodeId) : stubIds.get(nodeId);
 	}
@@ -228,6 +262,10 @@ public class HapiApiClients {
 		cryptoSvcStubs.clear();
 		freezeSvcStubs.clear();
 		networkSvcStubs.clear();
+		fileSvcFutureStubs.clear();
+		cryptoSvcFutureStubs.clear();
+		consSvcFutureStubs.clear();
+		scSvcFutureStubs.clear();
 	}
 
 	public static void tearDown() {
@@ -124,6 +124,9 @@ public class LoadTest extends HapiApiSuite {
 						? hcsSubmitMessage::getAsInt : settings::getHcsSubmitMessageSize)
 				.setHCSSubmitMessageSizeVar(hcsSubmitMessageSizeVar.isPresent()
 						? hcsSubmitMessageSizeVar::getAsInt	: settings::getHcsSubmitMessageSizeVar)
+				.openLoop(settings::isOpenLoop)
+				.pollingReceiptsEvery(settings::getReceiptPollMs)
+				.reportingTo(settings::getLoadReportDir)
 				.lasting(
 						(testDurationMinutes.isPresent() ?
 								LoadTest::getTestDurationMinutes :
@@ -23,6 +23,7 @@ package com.hedera.services.bdd.spec.utilops;
 import com.google.common.base.Stopwatch;
 import com.hedera.services.bdd.spec.HapiApiSpec;
 import com.hedera.services.bdd.spec.HapiSpecOperation;
+import com.hedera.services.bdd.spec.utilops.load.OpenLoopLoadDriver;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -54,6 +55,8 @@ public class RunLoadTest extends UtilOp {
 	public static final int DEFAULT_TOTAL_TEST_TOKENS = 1;
 	public static final int DEFAULT_START_TEST_TREASURE_ACCT = 1001;
 	public static final int DEFAULT_TOTAL_TEST_TOKEN_ACCOUNTS = 2;
+	public static final int DEFAULT_RECEIPT_POLL_MS = 100;
+	public static final String DEFAULT_LOAD_REPORT_DIR = "load-reports";
 
 	private DoubleSupplier targetTps = () -> DEFAULT_TPS_TARGET;
 	private IntSupplier tpsTolerancePercentage = () -> DEFAULT_TPS_TOLERANCE_PERCENTAGE;
@@ -68,6 +71,9 @@ public class RunLoadTest extends UtilOp {
 	private IntSupplier totalTestTokens = () -> DEFAULT_TOTAL_TEST_TOKENS;
 	private IntSupplier testTreasureStartAccount = () -> DEFAULT_START_TEST_TREASURE_ACCT;
 	private IntSupplier totalTestTokenAccounts = () -> DEFAULT_TOTAL_TEST_TOKEN_ACCOUNTS;
+	private BooleanSupplier openLoop = () -> false;
+	private IntSupplier receiptPollMs = () -> DEFAULT_RECEIPT_POLL_MS;
+	private Supplier<String> loadReportDir = () -> DEFAULT_LOAD_REPORT_DIR;
 
 	private final Supplier<HapiSpecOperation[]> opSource;
 
@@ -128,6 +134,25 @@ public class RunLoadTest extends UtilOp {
 		return this;
 	}
 
+	/**
+	 * In open-loop mode, load is offered at the target TPS on a fixed schedule regardless of
+	 * response latency, and the "threads" setting sizes the pool that signs transactions.
+	 */
+	public RunLoadTest openLoop(BooleanSupplier openLoop) {
+		this.openLoop = openLoop;
+		return this;
+	}
+
+	public RunLoadTest pollingReceiptsEvery(IntSupplier receiptPollMs) {
+		this.receiptPollMs = receiptPollMs;
+		return this;
+	}
+
+	public RunLoadTest reportingTo(Supplier<String> loadReportDir) {
+		this.loadReportDir = loadReportDir;
+		return this;
+	}
+
 	public RunLoadTest lasting(LongSupplier duration, Supplier<TimeUnit> ofUnit) {
 		this.testDuration = duration;
 		this.ofUnit = ofUnit;
@@ -140,7 +165,24 @@ public class RunLoadTest extends UtilOp {
 
 	@Override
 	protected boolean submitOp(HapiApiSpec spec) {
-		return threadMode(spec);
+		return openLoop.getAsBoolean() ? openLoopMode(spec) : threadMode(spec);
+	}
+
+	protected boolean openLoopMode(HapiApiSpec spec) {
+		var driver = new OpenLoopLoadDriver(
+				spec,
+				opSource,
+				targetTps.getAsDouble(),
+				ofUnit.get().toNanos(testDuration.getAsLong()),
+				threads.getAsInt(),
+				receiptPollMs.getAsInt(),
+				loadReportDir.get());
+		var report = driver.run();
+		log.info("Open-loop load offered {} TPS, completed {} TPS, p99 receipt latency {}ms",
+				report.offeredTps(),
+				report.completedTps(),
+				report.receiptLatencies().getValueAtPercentile(99.0) / 1_000.0);
+		return false;
 	}
 
 	protected boolean threadMode(HapiApiSpec spec) {
@@ -0,0 +1,192 @@
+package com.hedera.services.bdd.spec.utilops.load;
+
+/*-
+ * ‌
+ * Hedera Services Test Clients
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
+import org.HdrHistogram.Histogram;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * The machine-readable outcome of an open-loop load run, written as one JSON file per run so that
+ * runs against different releases can be compared. Each latency summary also carries its full
+ * HdrHistogram in the standard compressed, base64-encoded form, so histograms from several runs
+ * (or several clients) can be decoded and merged later without loss.
+ */
+public class LoadReport {
+	private static final Logger log = LogManager.getLogger(LoadReport.class);
+
+	private static final double MICROS_PER_MILLI = 1_000.0;
+	private static final double[] PERCENTILES = { 50.0, 90.0, 99.0, 99.9 };
+
+	private final String spec;
+	private final Instant startedAt;
+	private final List<String> nodes;
+	private final double targetTps;
+	private final long pacedNanos;
+	private final long dispatched;
+	private final long unsupportedOps;
+	private final long submissionFailures;
+	private final long receiptTimeouts;
+	private final Map<ResponseCodeEnum, Long> precheckCounts;
+	private final Map<ResponseCodeEnum, Long> receiptCounts;
+	private final Histogram dispatchLags;
+	private final Histogram precheckLatencies;
+	private final Histogram receiptLatencies;
+
+	public LoadReport(
+			String spec,
+			Instant startedAt,
+			List<String> nodes,
+			double targetTps,
+			long pacedNanos,
+			long dispatched,
+			long unsupportedOps,
+			long submissionFailures,
+			long receiptTimeouts,
+			Map<ResponseCodeEnum, Long> precheckCounts,
+			Map<ResponseCodeEnum, Long> receiptCounts,
+			Histogram dispatchLags,
+			Histogram precheckLatencies,
+			Histogram receiptLatencies
+	) {
+		this.spec = spec;
+		this.startedAt = startedAt;
+		this.nodes = nodes;
+		this.targetTps = targetTps;
+		this.pacedNanos = pacedNanos;
+		this.dispatched = dispatched;
+		this.unsupportedOps = unsupportedOps;
+		this.submissionFailures = submissionFailures;
+		this.receiptTimeouts = receiptTimeouts;
+		this.precheckCounts = precheckCounts;
+		this.receiptCounts = receiptCounts;
+		this.dispatchLags = dispatchLags;
+		this.precheckLatencies = precheckLatencies;
+		this.receiptLatencies = receiptLatencies;
+	}
+
+	public double offeredTps() {
+		return perSec(dispatched);
+	}
+
+	public double completedTps() {
+		return perSec(receiptLatencies.getTotalCount());
+	}
+
+	public Histogram receiptLatencies() {
+		return receiptLatencies;
+	}
+
+	public Map<String, Object> asMap() {
+		Map<String, Object> report = new LinkedHashMap<>();
+		report.put("spec", spec);
+		report.put("startedAt", startedAt.toString());
+		report.put("nodes", nodes);
+		report.put("targetTps", targetTps);
+		report.put("durationSecs", pacedNanos / (double) SECONDS.toNanos(1));
+		report.put("dispatched", dispatched);
+		report.put("offeredTps", offeredTps());
+		report.put("completedTps", completedTps());
+		report.put("unsupportedOps", unsupportedOps);
+		report.put("submissionFailures", submissionFailures);
+		report.put("receiptTimeouts", receiptTimeouts);
+		report.put("precheckCounts", precheckCounts);
+		report.put("receiptCounts", receiptCounts);
+		Map<String, Object> latencies = new LinkedHashMap<>();
+		latencies.put("dispatchLag", summaryOf(dispatchLags));
+		latencies.put("precheck", summaryOf(precheckLatencies));
+		latencies.put("receipt", summaryOf(receiptLatencies));
+		report.put("latenciesMs", latencies);
+		return report;
+	}
+
+	public String toJson() throws IOException {
+		return new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(asMap());
+	}
+
+	/**
+	 * Writes this report as {@code <dir>/<spec>-<startedAt>.json}, logging instead of failing
+	 * the run if the report cannot be written.
+	 *
+	 * @param dir the report directory, created if missing
+	 * @return the report file, or null if it could not be written
+	 */
+	public Path writeTo(String dir) {
+		var name = String.format("%s-%s.json", spec, startedAt.toString().replace(":", "_"));
+		try {
+			var reportDir = Files.createDirectories(Paths.get(dir));
+			var reportFile = Files.writeString(reportDir.resolve(name), toJson());
+			log.info("Wrote open-loop load report to {}", reportFile);
+			return reportFile;
+		} catch (IOException e) {
+			log.warn("Unable to write open-loop load report {} to {}", name, dir, e);
+			return null;
+		}
+	}
+
+	static Map<String, Object> summaryOf(Histogram histogram) {
+		Map<String, Object> summary = new LinkedHashMap<>();
+		summary.put("count", histogram.getTotalCount());
+		summary.put("mean", histogram.getTotalCount() == 0 ? 0.0 : histogram.getMean() / MICROS_PER_MILLI);
+		for (double percentile : PERCENTILES) {
+			summary.put("p" + percentileLabel(percentile), millis(histogram.getValueAtPercentile(percentile)));
+		}
+		summary.put("max", millis(histogram.getMaxValue()));
+		summary.put("histogram", encoded(histogram));
+		return summary;
+	}
+
+	static String encoded(Histogram histogram) {
+		var buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+		int len = histogram.encodeIntoCompressedByteBuffer(buffer);
+		return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), len));
+	}
+
+	static double millis(long micros) {
+		return micros / MICROS_PER_MILLI;
+	}
+
+	private static String percentileLabel(double percentile) {
+		return percentile == Math.rint(percentile)
+				? String.valueOf((long) percentile)
+				: String.valueOf(percentile).replace(".", "");
+	}
+
+	private double perSec(long count) {
+		return pacedNanos == 0 ? 0.0 : count / (pacedNanos / (double) SECONDS.toNanos(1));
+	}
+}
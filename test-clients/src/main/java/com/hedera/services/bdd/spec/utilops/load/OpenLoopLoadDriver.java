@@ -0,0 +1,357 @@
+package com.hedera.services.bdd.spec.utilops.load;
+
+/*-
+ * ‌
+ * Hedera Services Test Clients
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.hedera.services.bdd.spec.HapiApiSpec;
+import com.hedera.services.bdd.spec.HapiPropertySource;
+import com.hedera.services.bdd.spec.HapiSpecOperation;
+import com.hedera.services.bdd.spec.infrastructure.HapiApiClients;
+import com.hedera.services.bdd.spec.props.NodeConnectInfo;
+import com.hedera.services.bdd.spec.transactions.HapiTxnOp;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import com.hederahashgraph.api.proto.java.Query;
+import com.hederahashgraph.api.proto.java.Response;
+import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
+import com.hederahashgraph.api.proto.java.Transaction;
+import com.hederahashgraph.api.proto.java.TransactionResponse;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static com.hedera.services.bdd.spec.HapiPropertySource.asAccountString;
+import static com.hedera.services.bdd.spec.queries.QueryUtils.txnReceiptQueryFor;
+import static com.hedera.services.bdd.spec.transactions.TxnUtils.extractTxnId;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.ConsensusCreateTopic;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.ConsensusSubmitMessage;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.ContractCall;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoCreate;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.FileCreate;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.UNKNOWN;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Offers load at a fixed rate, independent of how quickly the network answers. Each transaction
+ * has a scheduled send time on a fixed grid derived from the target TPS, and every latency is
+ * measured from that <i>scheduled</i> time; so a slow node or client shows up as latency, instead of
+ * as a quietly reduced offered load (the "coordinated omission" of closed-loop load generators).
+ *
+ * Transactions are signed on a pool of threads and submitted round-robin to every node in the
+ * address book through the non-blocking stubs in {@link HapiApiClients}; receipts are then polled,
+ * also asynchronously, from the submitting node. Latencies are kept in HdrHistograms.
+ */
+public class OpenLoopLoadDriver {
+	private static final Logger log = LogManager.getLogger(OpenLoopLoadDriver.class);
+
+	private static final int SIGNIFICANT_DIGITS = 3;
+	private static final long PROGRESS_INTERVAL_SECS = 10;
+	private static final long DRAIN_CHECK_MS = 50;
+
+	@FunctionalInterface
+	private interface AsyncCall {
+		ListenableFuture<TransactionResponse> submit(
+				HapiApiClients clients,
+				AccountID node,
+				boolean useTls,
+				Transaction txn);
+	}
+
+	private static final Map<HederaFunctionality, AsyncCall> ASYNC_CALLS = new EnumMap<>(HederaFunctionality.class);
+	static {
+		ASYNC_CALLS.put(CryptoTransfer, (c, node, tls, txn) -> c.getCryptoSvcFutureStub(node, tls).cryptoTransfer(txn));
+		ASYNC_CALLS.put(CryptoCreate, (c, node, tls, txn) -> c.getCryptoSvcFutureStub(node, tls).createAccount(txn));
+		ASYNC_CALLS.put(ConsensusSubmitMessage, (c, node, tls, txn) -> c.getConsSvcFutureStub(node, tls).submitMessage(txn));
+		ASYNC_CALLS.put(ConsensusCreateTopic, (c, node, tls, txn) -> c.getConsSvcFutureStub(node, tls).createTopic(txn));
+		ASYNC_CALLS.put(FileCreate, (c, node, tls, txn) -> c.getFileSvcFutureStub(node, tls).createFile(txn));
+		ASYNC_CALLS.put(ContractCall, (c, node, tls, txn) -> c.getScSvcFutureStub(node, tls).contractCallMethod(txn));
+	}
+
+	private final HapiApiSpec spec;
+	private final Supplier<HapiSpecOperation[]> opSource;
+	private final double targetTps;
+	private final long durationNanos;
+	private final int signingThreads;
+	private final long receiptPollMs;
+	private final String reportDir;
+
+	private final Recorder dispatchLags = new Recorder(SIGNIFICANT_DIGITS);
+	private final Recorder precheckLatencies = new Recorder(SIGNIFICANT_DIGITS);
+	private final Recorder receiptLatencies = new Recorder(SIGNIFICANT_DIGITS);
+	private final Histogram totalDispatchLags = new Histogram(SIGNIFICANT_DIGITS);
+	private final Histogram totalPrecheckLatencies = new Histogram(SIGNIFICANT_DIGITS);
+	private final Histogram totalReceiptLatencies = new Histogram(SIGNIFICANT_DIGITS);
+
+	private final Map<ResponseCodeEnum, LongAdder> precheckCounts = new ConcurrentHashMap<>();
+	private final Map<ResponseCodeEnum, LongAdder> receiptCounts = new ConcurrentHashMap<>();
+	private final LongAdder submissionFailures = new LongAdder();
+	private final LongAdder receiptTimeouts = new LongAdder();
+	private final LongAdder unsupportedOps = new LongAdder();
+	private final AtomicLong inFlight = new AtomicLong();
+
+	private boolean useTls;
+	private volatile long dispatched;
+	private List<AccountID> nodes;
+	private ExecutorService signers;
+	private ScheduledExecutorService poller;
+
+	public OpenLoopLoadDriver(
+			HapiApiSpec spec,
+			Supplier<HapiSpecOperation[]> opSource,
+			double targetTps,
+			long durationNanos,
+			int signingThreads,
+			long receiptPollMs,
+			String reportDir
+	) {
+		this.spec = spec;
+		this.opSource = opSource;
+		this.targetTps = targetTps;
+		this.durationNanos = durationNanos;
+		this.signingThreads = signingThreads;
+		this.receiptPollMs = receiptPollMs;
+		this.reportDir = reportDir;
+	}
+
+	public LoadReport run() {
+		useTls = spec.setup().getConfigTLS();
+		nodes = spec.setup().nodes().stream().map(NodeConnectInfo::getAccount).collect(toList());
+		signers = Executors.newFixedThreadPool(signingThreads, daemonThreadsNamed("open-loop-signer-%d"));
+		poller = Executors.newSingleThreadScheduledExecutor(daemonThreadsNamed("open-loop-poller-%d"));
+		poller.scheduleAtFixedRate(this::logProgress, PROGRESS_INTERVAL_SECS, PROGRESS_INTERVAL_SECS, SECONDS);
+
+		var startedAt = Instant.now();
+		long start = System.nanoTime();
+		pace(start);
+		long pacedNanos = System.nanoTime() - start;
+		awaitOutstanding();
+		signers.shutdownNow();
+		poller.shutdownNow();
+		collectIntervals();
+
+		var report = new LoadReport(
+				spec.getName(),
+				startedAt,
+				nodes.stream().map(HapiPropertySource::asAccountString).collect(toList()),
+				targetTps,
+				pacedNanos,
+				dispatched,
+				unsupportedOps.sum(),
+				submissionFailures.sum(),
+				receiptTimeouts.sum(),
+				sums(precheckCounts),
+				sums(receiptCounts),
+				totalDispatchLags,
+				totalPrecheckLatencies,
+				totalReceiptLatencies);
+		report.writeTo(reportDir);
+		return report;
+	}
+
+	private void pace(long start) {
+		long periodNanos = Math.max(1L, Math.round(SECONDS.toNanos(1) / targetTps));
+		Deque<HapiSpecOperation> pending = new ArrayDeque<>();
+		for (long n = 0; n * periodNanos < durationNanos; n++) {
+			long scheduledAt = start + n * periodNanos;
+			long wait;
+			while ((wait = scheduledAt - System.nanoTime()) > 0) {
+				LockSupport.parkNanos(wait);
+			}
+			var op = nextTxnOp(pending);
+			if (op == null) {
+				continue;
+			}
+			var node = nodes.get((int) (n % nodes.size()));
+			inFlight.incrementAndGet();
+			dispatched++;
+			signers.execute(() -> submit(op, node, scheduledAt));
+		}
+	}
+
+	private HapiTxnOp<?> nextTxnOp(Deque<HapiSpecOperation> pending) {
+		if (pending.isEmpty()) {
+			pending.addAll(Arrays.asList(opSource.get()));
+		}
+		while (!pending.isEmpty()) {
+			var op = pending.poll();
+			if (op instanceof HapiTxnOp && ASYNC_CALLS.containsKey(op.type())) {
+				return (HapiTxnOp<?>) op;
+			}
+			unsupportedOps.increment();
+		}
+		return null;
+	}
+
+	private void submit(HapiTxnOp<?> op, AccountID node, long scheduledAt) {
+		try {
+			op.setNode(asAccountString(node));
+			var txn = op.signedTxnFor(spec);
+			var receiptQuery = txnReceiptQueryFor(extractTxnId(txn));
+			dispatchLags.recordValue(microsSince(scheduledAt));
+			var response = ASYNC_CALLS.get(op.type()).submit(spec.clients(), node, useTls, txn);
+			Futures.addCallback(response, new FutureCallback<>() {
+				@Override
+				public void onSuccess(TransactionResponse result) {
+					onPrecheck(result.getNodeTransactionPrecheckCode(), node, receiptQuery, scheduledAt);
+				}
+
+				@Override
+				public void onFailure(Throwable t) {
+					submissionFailures.increment();
+					done();
+				}
+			}, directExecutor());
+		} catch (Throwable t) {
+			log.warn("Unable to submit {} to node {}", op, asAccountString(node), t);
+			submissionFailures.increment();
+			done();
+		}
+	}
+
+	private void onPrecheck(ResponseCodeEnum precheck, AccountID node, Query receiptQuery, long scheduledAt) {
+		precheckLatencies.recordValue(microsSince(scheduledAt));
+		increment(precheckCounts, precheck);
+		if (precheck != OK) {
+			done();
+			return;
+		}
+		long deadline = System.nanoTime() + MILLISECONDS.toNanos(spec.setup().statusWaitTimeoutMs());
+		pollLater(node, receiptQuery, scheduledAt, deadline);
+	}
+
+	private void pollReceipt(AccountID node, Query receiptQuery, long scheduledAt, long deadline) {
+		var stub = spec.clients().getCryptoSvcFutureStub(node, useTls);
+		Futures.addCallback(stub.getTransactionReceipts(receiptQuery), new FutureCallback<>() {
+			@Override
+			public void onSuccess(Response result) {
+				var answer = result.getTransactionGetReceipt();
+				var status = answer.getReceipt().getStatus();
+				if (answer.getHeader().getNodeTransactionPrecheckCode() != OK || status == UNKNOWN) {
+					pollLater(node, receiptQuery, scheduledAt, deadline);
+				} else {
+					receiptLatencies.recordValue(microsSince(scheduledAt));
+					increment(receiptCounts, status);
+					done();
+				}
+			}
+
+			@Override
+			public void onFailure(Throwable t) {
+				pollLater(node, receiptQuery, scheduledAt, deadline);
+			}
+		}, directExecutor());
+	}
+
+	private void pollLater(AccountID node, Query receiptQuery, long scheduledAt, long deadline) {
+		if (System.nanoTime() - deadline > 0) {
+			receiptTimeouts.increment();
+			done();
+			return;
+		}
+		try {
+			poller.schedule(() -> pollReceipt(node, receiptQuery, scheduledAt, deadline), receiptPollMs, MILLISECONDS);
+		} catch (RejectedExecutionException shutdown) {
+			receiptTimeouts.increment();
+			done();
+		}
+	}
+
+	private void done() {
+		inFlight.decrementAndGet();
+	}
+
+	private void awaitOutstanding() {
+		long deadline = System.nanoTime() + MILLISECONDS.toNanos(2 * spec.setup().statusWaitTimeoutMs());
+		while (inFlight.get() > 0 && System.nanoTime() - deadline < 0) {
+			try {
+				MILLISECONDS.sleep(DRAIN_CHECK_MS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+		}
+		if (inFlight.get() > 0) {
+			log.warn("Gave up waiting on {} in-flight transactions", inFlight.get());
+		}
+	}
+
+	private synchronized void logProgress() {
+		collectIntervals();
+		log.info("Open-loop load: {} dispatched, {} in flight, receipt latency p50={}ms p99={}ms max={}ms",
+				dispatched,
+				inFlight.get(),
+				LoadReport.millis(totalReceiptLatencies.getValueAtPercentile(50.0)),
+				LoadReport.millis(totalReceiptLatencies.getValueAtPercentile(99.0)),
+				LoadReport.millis(totalReceiptLatencies.getMaxValue()));
+	}
+
+	private synchronized void collectIntervals() {
+		totalDispatchLags.add(dispatchLags.getIntervalHistogram());
+		totalPrecheckLatencies.add(precheckLatencies.getIntervalHistogram());
+		totalReceiptLatencies.add(receiptLatencies.getIntervalHistogram());
+	}
+
+	private static long microsSince(long nanoTime) {
+		return Math.max(0L, NANOSECONDS.toMicros(System.nanoTime() - nanoTime));
+	}
+
+	private static void increment(Map<ResponseCodeEnum, LongAdder> counts, ResponseCodeEnum status) {
+		counts.computeIfAbsent(status, ignore -> new LongAdder()).increment();
+	}
+
+	private static Map<ResponseCodeEnum, Long> sums(Map<ResponseCodeEnum, LongAdder> counts) {
+		Map<ResponseCodeEnum, Long> sums = new EnumMap<>(ResponseCodeEnum.class);
+		counts.forEach((status, count) -> sums.put(status, count.sum()));
+		return sums;
+	}
+
+	private static ThreadFactory daemonThreadsNamed(String nameFormat) {
+		return new ThreadFactoryBuilder().setNameFormat(nameFormat).setDaemon(true).build();
+	}
+}
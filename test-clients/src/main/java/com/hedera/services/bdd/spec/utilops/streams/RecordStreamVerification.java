@@ -174,11 +174,19 @@ public class RecordStreamVerification extends UtilOp {
 				.stream()
 				.map(this::recordsDirFor)
 				.flatMap(this::uncheckedWalk)
-				.filter(path -> path.toString().endsWith(".rcd"))
+				.filter(path -> path.toString().endsWith(".rcd")
+						|| path.toString().endsWith(".rcd" + RecordFileParser.COMPRESSED_SUFFIX))
 				.map(this::basename)
+				.map(this::uncompressedName)
 				.collect(toSet());
 	}
 
+	private String uncompressedName(String name) {
+		return name.endsWith(RecordFileParser.COMPRESSED_SUFFIX)
+				? name.substring(0, name.length() - RecordFileParser.COMPRESSED_SUFFIX.length())
+				: name;
+	}
+
 	private String basename(Path p) {
 		return p.getName(p.getNameCount() - 1).toString();
 	}
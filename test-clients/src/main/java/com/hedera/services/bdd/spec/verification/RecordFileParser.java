@@ -26,21 +26,26 @@ import org.apache.commons.lang3.ArrayUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.security.MessageDigest;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 public class RecordFileParser {
 	private static final Logger log = LogManager.getLogger(RecordFileParser.class);
 
+	public static final String COMPRESSED_SUFFIX = ".gz";
+
 	private static final byte TYPE_PREV_HASH = 1;
 	private static final byte TYPE_RECORD = 2;
 
@@ -55,18 +60,25 @@ public class RecordFileParser {
 		}
 	}
 
+	/**
+	 * Parses the given record file; if it does not exist but a gzipped sibling does, parses that
+	 * instead. Hashes are always computed over the uncompressed content, which is what the node signs.
+	 *
+	 * @param file the (possibly compressed) record file
+	 * @return the parsed record file
+	 */
 	public static RecordFile parseFrom(File file) {
-		FileInputStream stream = null;
 		List<TxnHistory> histories = new LinkedList<>();
 		byte[] prevHash = null;
 
+		file = existingVariantOf(file);
 		if (!file.exists()) {
 			throw new IllegalArgumentException("No such file - " + file);
 		}
 
 		try {
-			stream = new FileInputStream(file);
-			DataInputStream dis = new DataInputStream(stream);
+			byte[] everything = uncompressedBytesOf(file);
+			DataInputStream dis = new DataInputStream(new ByteArrayInputStream(everything));
 
 			prevHash = new byte[48];
 			int record_format_version = dis.readInt();
@@ -111,7 +123,6 @@ public class RecordFileParser {
 
 			metaDigest.reset();
 			contentDigest.reset();
-			byte[] everything = Files.readAllBytes(file.toPath());
 			byte[] preface = Arrays.copyOfRange(everything, 0, 57);
 			byte[] bodyHash = contentDigest.digest(Arrays.copyOfRange(everything, 57, everything.length));
 			metaDigest.update(ArrayUtils.addAll(preface, bodyHash));
@@ -121,19 +132,28 @@ public class RecordFileParser {
 			log.error("Problem reading record file '{}'!", file, e);
 		} catch (Exception e) {
 			log.error("Problem parsing record file '{}'!", file, e);
-		} finally {
-			try {
-				if (stream != null) {
-					stream.close();
-				}
-			} catch (IOException ex) {
-				log.error("Exception in closing stream for '{}'!", file, ex);
-			}
 		}
 
 		return new RecordFile(prevHash, metaDigest.digest(), histories);
 	}
 
+	public static File existingVariantOf(File file) {
+		if (file.exists()) {
+			return file;
+		}
+		File compressed = new File(file.getPath() + COMPRESSED_SUFFIX);
+		return compressed.exists() ? compressed : file;
+	}
+
+	static byte[] uncompressedBytesOf(File file) throws IOException {
+		if (!file.getName().endsWith(COMPRESSED_SUFFIX)) {
+			return Files.readAllBytes(file.toPath());
+		}
+		try (InputStream in = new GZIPInputStream(new FileInputStream(file))) {
+			return in.readAllBytes();
+		}
+	}
+
 	private static byte[] asBytes(int number) {
 		ByteBuffer b = ByteBuffer.allocate(4);
 		b.putInt(number);
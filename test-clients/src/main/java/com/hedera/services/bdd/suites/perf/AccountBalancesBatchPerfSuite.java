@@ -0,0 +1,154 @@
+package com.hedera.services.bdd.suites.perf;
+
+/*-
+ * ‌
+ * Hedera Services Test Clients
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.bdd.spec.HapiApiSpec;
+import com.hedera.services.bdd.spec.HapiSpecOperation;
+import com.hedera.services.bdd.suites.HapiApiSuite;
+import com.hedera.services.stream.proto.AllAccountBalances;
+import com.hedera.services.stream.proto.SingleAccountBalances;
+import io.grpc.CallOptions;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.protobuf.ProtoUtils;
+import io.grpc.stub.ClientCalls;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.hedera.services.bdd.spec.HapiApiSpec.defaultHapiSpec;
+import static com.hedera.services.bdd.spec.queries.QueryVerbs.getAccountBalance;
+import static com.hedera.services.bdd.spec.transactions.TxnVerbs.cryptoCreate;
+import static com.hedera.services.bdd.spec.utilops.CustomSpecAssert.allRunFor;
+import static com.hedera.services.bdd.spec.utilops.UtilVerbs.inParallel;
+import static com.hedera.services.bdd.spec.utilops.UtilVerbs.withOpContext;
+
+/**
+ * Compares the per-account cost of looking up balances with one {@code getAccountBalance}
+ * query per account, against looking them up in batches with the node's
+ * {@code AccountBalancesService}.
+ *
+ * <p>Batches are kept well under a node's share of the query bucket (which shrinks as the
+ * network grows), and a throttled batch is retried after a short pause rather than failing
+ * the comparison; only the latency of answered batches is counted.
+ */
+public class AccountBalancesBatchPerfSuite extends HapiApiSuite {
+	private static final Logger log = LogManager.getLogger(AccountBalancesBatchPerfSuite.class);
+
+	private static final int NUM_ACCOUNTS = 1_000;
+	private static final int NUM_BATCH_REPS = 10;
+	private static final int BATCH_SIZE = 100;
+	private static final long THROTTLED_PAUSE_MS = 100L;
+
+	/* Mirrors the method defined by the node's AccountBalancesService. */
+	private static final MethodDescriptor<AllAccountBalances, AllAccountBalances> GET_BALANCES_METHOD =
+			MethodDescriptor.<AllAccountBalances, AllAccountBalances>newBuilder()
+					.setType(MethodDescriptor.MethodType.UNARY)
+					.setFullMethodName(MethodDescriptor.generateFullMethodName(
+							"proto.AccountBalancesService", "getAccountBalances"))
+					.setRequestMarshaller(ProtoUtils.marshaller(AllAccountBalances.getDefaultInstance()))
+					.setResponseMarshaller(ProtoUtils.marshaller(AllAccountBalances.getDefaultInstance()))
+					.build();
+
+	public static void main(String... args) {
+		new AccountBalancesBatchPerfSuite().runSuiteSync();
+	}
+
+	@Override
+	protected List<HapiApiSpec> getSpecsInSuite() {
+		return List.of(
+				batchedVsSingleBalances()
+		);
+	}
+
+	@Override
+	public boolean leaksState() {
+		return true;
+	}
+
+	HapiApiSpec batchedVsSingleBalances() {
+		return defaultHapiSpec("BatchedVsSingleBalances")
+				.given(
+						inParallel(asOpArray(NUM_ACCOUNTS, i -> cryptoCreate(account(i)).balance(i + 1L)))
+				).when().then(
+						withOpContext((spec, opLog) -> {
+							List<HapiSpecOperation> singles = IntStream.range(0, NUM_ACCOUNTS)
+									.mapToObj(i -> getAccountBalance(account(i)).noLogging())
+									.collect(Collectors.toList());
+							long start = System.nanoTime();
+							allRunFor(spec, singles);
+							long singleNanos = System.nanoTime() - start;
+
+							var channel = spec.clients().getChannel(
+									spec.setup().defaultNode(), spec.setup().getConfigTLS());
+							long batchNanos = 0;
+							int numAnswered = 0;
+							int numThrottled = 0;
+							for (int r = 0; r < NUM_BATCH_REPS; r++) {
+								for (int from = 0; from < NUM_ACCOUNTS; from += BATCH_SIZE) {
+									var request = AllAccountBalances.newBuilder();
+									for (int i = from; i < Math.min(from + BATCH_SIZE, NUM_ACCOUNTS); i++) {
+										request.addAllAccounts(SingleAccountBalances.newBuilder()
+												.setAccountID(spec.registry().getAccountID(account(i))));
+									}
+									while (true) {
+										start = System.nanoTime();
+										try {
+											var answer = ClientCalls.blockingUnaryCall(
+													channel, GET_BALANCES_METHOD, CallOptions.DEFAULT, request.build());
+											batchNanos += System.nanoTime() - start;
+											numAnswered += answer.getAllAccountsCount();
+											break;
+										} catch (StatusRuntimeException e) {
+											if (e.getStatus().getCode() != Status.Code.RESOURCE_EXHAUSTED) {
+												throw e;
+											}
+											numThrottled++;
+											Thread.sleep(THROTTLED_PAUSE_MS);
+										}
+									}
+								}
+							}
+
+							opLog.info(String.format(
+									"Single queries: %.1f us/account over %d accounts",
+									singleNanos / 1_000.0 / NUM_ACCOUNTS, NUM_ACCOUNTS));
+							opLog.info(String.format(
+									"Batched queries: %.1f us/account over %d reps in batches of %d (%d answered, %d throttled)",
+									batchNanos / 1_000.0 / (NUM_BATCH_REPS * NUM_ACCOUNTS),
+									NUM_BATCH_REPS, BATCH_SIZE, numAnswered, numThrottled));
+						})
+				);
+	}
+
+	private String account(int i) {
+		return "balanceTarget" + i;
+	}
+
+	@Override
+	protected Logger getResultsLogger() {
+		return log;
+	}
+}
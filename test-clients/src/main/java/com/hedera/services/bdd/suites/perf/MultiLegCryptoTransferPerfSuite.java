@@ -0,0 +1,136 @@
+package com.hedera.services.bdd.suites.perf;
+
+
+/*-
+ * ‌
+ * Hedera Services Test Clients
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+
+import com.hedera.services.bdd.spec.HapiApiSpec;
+import com.hedera.services.bdd.spec.HapiSpecSetup;
+import com.hedera.services.bdd.suites.HapiApiSuite;
+import com.hederahashgraph.api.proto.java.TransferList;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static com.hedera.services.bdd.spec.HapiApiSpec.defaultHapiSpec;
+import static com.hedera.services.bdd.spec.queries.QueryVerbs.getAccountBalance;
+import static com.hedera.services.bdd.spec.transactions.TxnVerbs.cryptoCreate;
+import static com.hedera.services.bdd.spec.transactions.TxnVerbs.cryptoTransfer;
+import static com.hedera.services.bdd.spec.transactions.crypto.HapiCryptoTransfer.tinyBarsFromTo;
+import static com.hedera.services.bdd.spec.utilops.UtilVerbs.finishThroughputObs;
+import static com.hedera.services.bdd.spec.utilops.UtilVerbs.inParallel;
+import static com.hedera.services.bdd.spec.utilops.UtilVerbs.overriding;
+import static com.hedera.services.bdd.spec.utilops.UtilVerbs.startThroughputObs;
+
+/**
+ * Measures {@code CryptoTransfer} throughput as the number of legs in each
+ * transfer list grows, to track the cost of netting and validating long lists.
+ */
+public class MultiLegCryptoTransferPerfSuite extends HapiApiSuite {
+	private static final Logger log = LogManager.getLogger(MultiLegCryptoTransferPerfSuite.class);
+
+	private static final int NUM_TRANSFERS = 5_000;
+	private static final int MAX_LEGS = 100;
+	private static final long INIT_BALANCE = 100_000_000_000L;
+
+	private static final String defaultMaxLen =
+			HapiSpecSetup.getDefaultNodeProps().get("ledger.transfers.maxLen");
+
+	public static void main(String... args) {
+		MultiLegCryptoTransferPerfSuite suite = new MultiLegCryptoTransferPerfSuite();
+		suite.setReportStats(true);
+		suite.runSuiteSync();
+	}
+
+	@Override
+	protected List<HapiApiSpec> getSpecsInSuite() {
+		return List.of(
+				suiteSetup(),
+				multiLegTransferPerf(2),
+				multiLegTransferPerf(10),
+				multiLegTransferPerf(MAX_LEGS),
+				suiteCleanup());
+	}
+
+	private HapiApiSpec suiteSetup() {
+		return defaultHapiSpec("suiteSetup")
+				.given().when().then(
+						overriding("ledger.transfers.maxLen", "" + MAX_LEGS)
+				);
+	}
+
+	private HapiApiSpec suiteCleanup() {
+		return defaultHapiSpec("suiteCleanup")
+				.given().when().then(
+						overriding("ledger.transfers.maxLen", defaultMaxLen)
+				);
+	}
+
+	@Override
+	public boolean leaksState() {
+		return true;
+	}
+
+	@Override
+	public boolean hasInterestingStats() {
+		return true;
+	}
+
+	private HapiApiSpec multiLegTransferPerf(int legs) {
+		final String sender = "sender" + legs;
+		final String receiverPrefix = "receiver" + legs + "-";
+		final int numReceivers = legs - 1;
+
+		return defaultHapiSpec(legs + "LegCryptoTransferPerf")
+				.given(
+						cryptoCreate(sender).balance(INIT_BALANCE),
+						inParallel(asOpArray(numReceivers, i -> cryptoCreate(receiverPrefix + i).balance(0L)))
+				).when(
+						startThroughputObs(legs + "LegTransferThroughput")
+								.msToSaturateQueues(50L),
+						inParallel(asOpArray(NUM_TRANSFERS, i ->
+								cryptoTransfer(legsFrom(sender, receiverPrefix, numReceivers))
+										.deferStatusResolution()
+										.hasAnyStatusAtAll()))
+				).then(
+						finishThroughputObs(legs + "LegTransferThroughput").gatedByQuery(() ->
+								getAccountBalance(receiverPrefix + (numReceivers - 1))
+										.hasTinyBars(NUM_TRANSFERS)
+										.noLogging()
+						).sleepMs(1_000L).expiryMs(300_000L)
+				);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Function<HapiApiSpec, TransferList>[] legsFrom(String sender, String receiverPrefix, int n) {
+		return IntStream.range(0, n)
+				.mapToObj(i -> tinyBarsFromTo(sender, receiverPrefix + i, 1L))
+				.toArray(Function[]::new);
+	}
+
+	@Override
+	protected Logger getResultsLogger() {
+		return log;
+	}
+}
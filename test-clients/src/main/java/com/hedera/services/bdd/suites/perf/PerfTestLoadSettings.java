@@ -40,6 +40,9 @@ public class PerfTestLoadSettings {
 	public static final int DEFAULT_TEST_TREASURE_START_ACCOUNT = 1001;
 	public static final int DEFAULT_TOTAL_CLIENTS = 1;
 	public static final int DEFAULT_MEMO_LENGTH = 25;
+	public static final boolean DEFAULT_OPEN_LOOP = false;
+	public static final int DEFAULT_RECEIPT_POLL_MS = 100;
+	public static final String DEFAULT_LOAD_REPORT_DIR = "load-reports";
 
 	private int tps = DEFAULT_TPS;
 	private int tolerancePercentage = DEFAULT_TOLERANCE_PERCENTAGE;
@@ -51,6 +54,12 @@ public class PerfTestLoadSettings {
 	private int hcsSubmitMessageSizeVar = DEFAULT_SUBMIT_MESSAGE_SIZE_VAR;
 	private int memoLength = DEFAULT_MEMO_LENGTH;
 
+	/** openLoop submits at the target rate from a schedule, independent of response latency,
+	 * instead of from closed-loop threads; latencies are then measured from the scheduled send time */
+	private boolean openLoop = DEFAULT_OPEN_LOOP;
+	private int receiptPollMs = DEFAULT_RECEIPT_POLL_MS;
+	private String loadReportDir = DEFAULT_LOAD_REPORT_DIR;
+
 	/** totalTestAccounts specifies how many Crypto accounts in the state file.  All of them
 	 * participate random crypto transfer perf test */
 	private int totalTestAccounts = DEFAULT_TOTAL_TEST_ACCOUNTS;
@@ -142,6 +151,15 @@ public class PerfTestLoadSettings {
 	public int getTotalTokens() {
 		return totalTestTokens;
 	}
+	public boolean isOpenLoop() {
+		return openLoop;
+	}
+	public int getReceiptPollMs() {
+		return receiptPollMs;
+	}
+	public String getLoadReportDir() {
+		return loadReportDir;
+	}
 	public int getTotalTestTokenAccounts() { return totalTestTokenAccounts; }
 	public int getTestTreasureStartAccount() { return testTreasureStartAccount; }
 	public int getIntProperty(String property, int defaultValue) {
@@ -205,6 +223,15 @@ public class PerfTestLoadSettings {
 		if (ciProps.has("memoLength")) {
 			memoLength = ciProps.getInteger("memoLength");
 		}
+		if (ciProps.has("openLoop")) {
+			openLoop = ciProps.getBoolean("openLoop");
+		}
+		if (ciProps.has("receiptPollMs")) {
+			receiptPollMs = ciProps.getInteger("receiptPollMs");
+		}
+		if (ciProps.has("loadReportDir")) {
+			loadReportDir = ciProps.get("loadReportDir");
+		}
 	}
 
 	@Override
@@ -225,6 +252,9 @@ public class PerfTestLoadSettings {
 				.add("submitMessageSize", hcsSubmitMessageSize)
 				.add("submitMessageSizeVar", hcsSubmitMessageSizeVar)
 				.add("memoLength", memoLength)
+				.add("openLoop", openLoop)
+				.add("receiptPollMs", receiptPollMs)
+				.add("loadReportDir", loadReportDir)
 				.toString();
 	}
 }